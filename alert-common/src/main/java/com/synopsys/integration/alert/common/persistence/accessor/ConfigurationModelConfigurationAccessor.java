@@ -9,6 +9,7 @@ package com.synopsys.integration.alert.common.persistence.accessor;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertConfigurationException;
@@ -24,6 +25,13 @@ public interface ConfigurationModelConfigurationAccessor {
 
     Optional<ConfigurationModel> getConfigurationById(Long id);
 
+    /**
+     * Resolves the names of many provider configurations at once, without loading the rest of each configuration.
+     * @param providerConfigIds The ids of the provider configurations
+     * @return the provider config names keyed by provider config id. Ids that do not belong to an existing provider configuration are omitted.
+     */
+    Map<Long, String> getProviderConfigNamesByIds(Collection<Long> providerConfigIds);
+
     List<ConfigurationModel> getConfigurationsByDescriptorKey(DescriptorKey descriptorKey);
 
     List<ConfigurationModel> getConfigurationsByDescriptorType(DescriptorType descriptorType);
@@ -0,0 +1,40 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.accessor;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+
+public interface IssueTrackerIssueIndexAccessor {
+    /**
+     * @param jobId         The job whose issues are indexed
+     * @param issueIdentity The identity of the issue within the job
+     * @param verifiedAfter Entries last verified before this time are treated as missing
+     */
+    Optional<IndexedIssueModel> findIssue(UUID jobId, String issueIdentity, OffsetDateTime verifiedAfter);
+
+    /**
+     * @param jobId             The job whose issues are indexed
+     * @param issueIdentities   The identities of the issues within the job
+     * @param verifiedAfter     Entries last verified before this time are treated as missing
+     * @return The entries found for any of the identities, in no particular order
+     */
+    List<IndexedIssueModel> findIssues(UUID jobId, Collection<String> issueIdentities, OffsetDateTime verifiedAfter);
+
+    void saveIssue(IndexedIssueModel indexedIssue);
+
+    void saveIssues(Collection<IndexedIssueModel> indexedIssues);
+
+    void deleteIssue(UUID jobId, String issueIdentity);
+
+}
@@ -13,6 +13,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 
@@ -25,12 +27,25 @@ public interface NotificationAccessor {
 
     List<AlertNotificationModel> findByCreatedAtBetween(OffsetDateTime startDate, OffsetDateTime endDate);
 
+    /**
+     * Retrieves a page of the notifications created between two dates using the last notification of the previous page as a cursor,
+     * so that a large date range can be read in bounded chunks. Notifications are ordered by creation time, then id.
+     * @param startDate            The start of the date range (inclusive)
+     * @param endDate              The end of the date range (inclusive)
+     * @param previousNotification The last notification of the previous page, or null to retrieve the first page
+     * @param pageSize             The maximum number of notifications to retrieve
+     * @return the notifications that follow the previous notification, or an empty list if there are no more notifications in the date range
+     */
+    List<AlertNotificationModel> findPageByCreatedAtBetween(OffsetDateTime startDate, OffsetDateTime endDate, @Nullable AlertNotificationModel previousNotification, int pageSize);
+
     List<AlertNotificationModel> findByCreatedAtBefore(OffsetDateTime date);
 
     List<AlertNotificationModel> findByCreatedAtBeforeDayOffset(int dayOffset);
 
     AlertPagedModel<AlertNotificationModel> getFirstPageOfNotificationsNotProcessed(int pageSize);
 
+    long countNotificationsNotProcessed();
+
     void setNotificationsProcessed(List<AlertNotificationModel> notifications);
 
     void setNotificationsProcessedById(Set<Long> notificationIds);
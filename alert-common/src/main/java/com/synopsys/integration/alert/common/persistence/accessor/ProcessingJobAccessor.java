@@ -7,10 +7,19 @@
  */
 package com.synopsys.integration.alert.common.persistence.accessor;
 
-import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
+import java.util.Collection;
+import java.util.List;
+
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
-import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
 
 public interface ProcessingJobAccessor {
-    AlertPagedModel<FilteredDistributionJobResponseModel> getMatchingEnabledJobsByFilteredNotifications(FilteredDistributionJobRequestModel filteredDistributionJobRequestModel, int pageOffset, int pageLimit);
+    /**
+     * @param notificationFilter The filterable values of a single notification
+     * @param frequencies        The distribution frequencies of the jobs to consider
+     * @return Every enabled job the notification applies to, ordered by the time the job was created.
+     */
+    List<FilteredDistributionJobResponseModel> getMatchingEnabledJobsByNotification(NotificationFilterModel notificationFilter, Collection<FrequencyType> frequencies);
+
 }
@@ -0,0 +1,56 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+
+public class IndexedIssueModel extends AlertSerializableModel {
+    private final UUID jobId;
+    private final String issueIdentity;
+    private final String issueId;
+    private final String issueKey;
+    private final OffsetDateTime lastVerified;
+
+    public IndexedIssueModel(
+        UUID jobId,
+        String issueIdentity,
+        String issueId,
+        String issueKey,
+        OffsetDateTime lastVerified
+    ) {
+        this.jobId = jobId;
+        this.issueIdentity = issueIdentity;
+        this.issueId = issueId;
+        this.issueKey = issueKey;
+        this.lastVerified = lastVerified;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public String getIssueIdentity() {
+        return issueIdentity;
+    }
+
+    public String getIssueId() {
+        return issueId;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public OffsetDateTime getLastVerified() {
+        return lastVerified;
+    }
+
+}
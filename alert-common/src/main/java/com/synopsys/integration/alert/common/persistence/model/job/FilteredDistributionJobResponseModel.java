@@ -7,8 +7,16 @@
  */
 package com.synopsys.integration.alert.common.persistence.model.job;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
 
 import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
@@ -25,6 +33,10 @@ public class FilteredDistributionJobResponseModel extends AlertSerializableModel
     private final boolean filterByProject;
     private final String projectNamePattern;
 
+    // Derived from the fields above so that filtering a notification does not have to compile the pattern or search the project details
+    private transient Pattern compiledProjectNamePattern;
+    private transient Set<String> projectNames;
+
     public FilteredDistributionJobResponseModel(
         UUID id,
         ProcessingType processingType,
@@ -47,6 +59,7 @@ public class FilteredDistributionJobResponseModel extends AlertSerializableModel
         this.vulnerabilitySeverityNames = vulnerabilitySeverityNames;
         this.filterByProject = filterByProject;
         this.projectNamePattern = projectNamePattern;
+        this.projectNames = collectProjectNames(projectDetails);
     }
 
     public UUID getId() {
@@ -89,4 +102,32 @@ public class FilteredDistributionJobResponseModel extends AlertSerializableModel
         return projectNamePattern;
     }
 
+    /**
+     * @return the compiled project name pattern, or empty if the job does not have one
+     * @throws PatternSyntaxException if the project name pattern is not a valid regular expression
+     */
+    public Optional<Pattern> getCompiledProjectNamePattern() {
+        if (null == compiledProjectNamePattern && null != projectNamePattern) {
+            compiledProjectNamePattern = Pattern.compile(projectNamePattern);
+        }
+        return Optional.ofNullable(compiledProjectNamePattern);
+    }
+
+    public Set<String> getProjectNames() {
+        if (null == projectNames) {
+            projectNames = collectProjectNames(projectDetails);
+        }
+        return projectNames;
+    }
+
+    private static Set<String> collectProjectNames(@Nullable List<BlackDuckProjectDetailsModel> projectDetails) {
+        if (null == projectDetails) {
+            return Set.of();
+        }
+        return projectDetails
+                   .stream()
+                   .map(BlackDuckProjectDetailsModel::getName)
+                   .collect(Collectors.toCollection(HashSet::new));
+    }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * alert-common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.common.persistence.model.job;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+
+/**
+ * The values of a single notification that determine which jobs it applies to.
+ * A vulnerability severity or policy filter is only evaluated when the corresponding value is present.
+ */
+public class NotificationFilterModel extends AlertSerializableModel {
+    private final Long providerConfigId;
+    private final String notificationType;
+    private final String projectName;
+    private final String policyName;
+    private final List<String> vulnerabilitySeverities;
+
+    public static NotificationFilterModel vulnerability(Long providerConfigId, String notificationType, @Nullable String projectName, List<String> vulnerabilitySeverities) {
+        return new NotificationFilterModel(providerConfigId, notificationType, projectName, null, vulnerabilitySeverities);
+    }
+
+    public static NotificationFilterModel policy(Long providerConfigId, String notificationType, @Nullable String projectName, String policyName) {
+        return new NotificationFilterModel(providerConfigId, notificationType, projectName, policyName, null);
+    }
+
+    public static NotificationFilterModel project(Long providerConfigId, String notificationType, @Nullable String projectName) {
+        return new NotificationFilterModel(providerConfigId, notificationType, projectName, null, null);
+    }
+
+    private NotificationFilterModel(Long providerConfigId, String notificationType, @Nullable String projectName, @Nullable String policyName, @Nullable List<String> vulnerabilitySeverities) {
+        this.providerConfigId = providerConfigId;
+        this.notificationType = notificationType;
+        this.projectName = projectName;
+        this.policyName = policyName;
+        this.vulnerabilitySeverities = vulnerabilitySeverities;
+    }
+
+    public Long getProviderConfigId() {
+        return providerConfigId;
+    }
+
+    public String getNotificationType() {
+        return notificationType;
+    }
+
+    public Optional<String> getProjectName() {
+        return Optional.ofNullable(projectName);
+    }
+
+    public Optional<String> getPolicyName() {
+        return Optional.ofNullable(policyName);
+    }
+
+    public Optional<List<String>> getVulnerabilitySeverities() {
+        return Optional.ofNullable(vulnerabilitySeverities);
+    }
+
+}
@@ -9,6 +9,7 @@ package com.synopsys.integration.alert.common.security;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.commons.codec.Charsets;
@@ -33,6 +34,9 @@ public class EncryptionUtility {
     private static final String SECRETS_ENCRYPTION_SALT = "ALERT_ENCRYPTION_GLOBAL_SALT";
     private final AlertProperties alertProperties;
     private final FilePersistenceUtil filePersistenceUtil;
+    // Deriving the key of an encryptor is deliberately expensive, so the encryptor for the current password and salt is kept until either changes
+    private volatile CachedEncryptor cachedEncryptor;
+    private CachedEncryptor lastDerivedEncryptor;
 
     @Autowired
     public EncryptionUtility(AlertProperties alertProperties, FilePersistenceUtil filePersistenceUtil) {
@@ -41,22 +45,22 @@ public class EncryptionUtility {
     }
 
     public String encrypt(String value) {
-        String password = getPassword();
-        String salt = getEncodedSalt();
-        if (StringUtils.isNotBlank(value) && StringUtils.isNotBlank(password) && StringUtils.isNotBlank(salt)) {
-            TextEncryptor encryptor = Encryptors.delux(password, salt);
-            return encryptor.encrypt(value);
+        if (StringUtils.isNotBlank(value)) {
+            Optional<TextEncryptor> encryptor = retrieveEncryptor();
+            if (encryptor.isPresent()) {
+                return encryptor.get().encrypt(value);
+            }
         }
         return StringUtils.EMPTY;
     }
 
     public String decrypt(String encryptedValue) {
         try {
-            String password = getPassword();
-            String salt = getEncodedSalt();
-            if (StringUtils.isNotBlank(encryptedValue) && StringUtils.isNotBlank(password) && StringUtils.isNotBlank(salt)) {
-                TextEncryptor decryptor = Encryptors.delux(password, salt);
-                return decryptor.decrypt(encryptedValue);
+            if (StringUtils.isNotBlank(encryptedValue)) {
+                Optional<TextEncryptor> decryptor = retrieveEncryptor();
+                if (decryptor.isPresent()) {
+                    return decryptor.get().decrypt(encryptedValue);
+                }
             }
         } catch (IllegalArgumentException | IllegalStateException | NullPointerException ex) {
             logger.error("Error decrypting value", ex);
@@ -64,6 +68,14 @@ public class EncryptionUtility {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * Forgets the encryptor derived from the current password and salt, so that the next value is encrypted or decrypted with the
+     * password and salt Alert is configured with at that time.
+     */
+    public synchronized void clearCachedEncryptor() {
+        cachedEncryptor = null;
+    }
+
     public boolean isInitialized() {
         return isPasswordSet() && isGlobalSaltSet();
     }
@@ -78,6 +90,7 @@ public class EncryptionUtility {
         }
         EncryptionFileData encryptionFileData = new EncryptionFileData(password, readGlobalSaltFromVolumeDataFile());
         filePersistenceUtil.writeJsonToFile(DATA_FILE_NAME, encryptionFileData);
+        clearCachedEncryptor();
     }
 
     public void updateSaltFieldInVolumeDataFile(String globalSalt) throws IOException {
@@ -86,6 +99,7 @@ public class EncryptionUtility {
         }
         EncryptionFileData encryptionFileData = new EncryptionFileData(readPasswordFromVolumeDataFile(), globalSalt);
         filePersistenceUtil.writeJsonToFile(DATA_FILE_NAME, encryptionFileData);
+        clearCachedEncryptor();
     }
 
     public void updateEncryptionFieldsInVolumeDataFile(String password, String globalSalt) throws IOException {
@@ -93,6 +107,29 @@ public class EncryptionUtility {
         updateSaltFieldInVolumeDataFile(globalSalt);
     }
 
+    private Optional<TextEncryptor> retrieveEncryptor() {
+        CachedEncryptor currentEncryptor = cachedEncryptor;
+        if (null != currentEncryptor) {
+            return Optional.of(currentEncryptor.getEncryptor());
+        }
+
+        synchronized (this) {
+            if (null == cachedEncryptor) {
+                String password = getPassword();
+                String salt = getEncodedSalt();
+                if (StringUtils.isBlank(password) || StringUtils.isBlank(salt)) {
+                    return Optional.empty();
+                }
+
+                if (null == lastDerivedEncryptor || !lastDerivedEncryptor.isDerivedFrom(password, salt)) {
+                    lastDerivedEncryptor = new CachedEncryptor(password, salt, Encryptors.delux(password, salt));
+                }
+                cachedEncryptor = lastDerivedEncryptor;
+            }
+            return Optional.of(cachedEncryptor.getEncryptor());
+        }
+    }
+
     private String getEncodedSalt() {
         if (isInitialized()) {
             byte[] saltBytes = getGlobalSalt().getBytes(Charsets.UTF_8);
@@ -183,6 +220,27 @@ public class EncryptionUtility {
         }
     }
 
+    private static class CachedEncryptor {
+        private final String password;
+        private final String encodedSalt;
+        private final TextEncryptor encryptor;
+
+        private CachedEncryptor(String password, String encodedSalt, TextEncryptor encryptor) {
+            this.password = password;
+            this.encodedSalt = encodedSalt;
+            this.encryptor = encryptor;
+        }
+
+        public TextEncryptor getEncryptor() {
+            return encryptor;
+        }
+
+        public boolean isDerivedFrom(String password, String encodedSalt) {
+            return Objects.equals(this.password, password) && Objects.equals(this.encodedSalt, encodedSalt);
+        }
+
+    }
+
     private static class EncryptionFileData implements Serializable {
         private static final long serialVersionUID = -2810887223126346010L;
         @Nullable
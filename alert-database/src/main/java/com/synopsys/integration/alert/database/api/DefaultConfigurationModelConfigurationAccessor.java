@@ -10,7 +10,9 @@ package com.synopsys.integration.alert.database.api;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -42,6 +44,7 @@ import com.synopsys.integration.alert.database.configuration.repository.DefinedF
 import com.synopsys.integration.alert.database.configuration.repository.DescriptorConfigRepository;
 import com.synopsys.integration.alert.database.configuration.repository.FieldValueRepository;
 import com.synopsys.integration.alert.database.configuration.repository.RegisteredDescriptorRepository;
+import com.synopsys.integration.alert.database.job.DistributionJobFilterIndexCache;
 import com.synopsys.integration.alert.descriptor.api.model.DescriptorKey;
 
 @Component
@@ -53,6 +56,7 @@ public class DefaultConfigurationModelConfigurationAccessor implements Configura
     private final ConfigContextRepository configContextRepository;
     private final FieldValueRepository fieldValueRepository;
     private final EncryptionUtility encryptionUtility;
+    private final DistributionJobFilterIndexCache jobFilterIndexCache;
 
     @Autowired
     public DefaultConfigurationModelConfigurationAccessor(
@@ -61,7 +65,8 @@ public class DefaultConfigurationModelConfigurationAccessor implements Configura
         DescriptorConfigRepository descriptorConfigsRepository,
         ConfigContextRepository configContextRepository,
         FieldValueRepository fieldValueRepository,
-        EncryptionUtility encryptionUtility
+        EncryptionUtility encryptionUtility,
+        DistributionJobFilterIndexCache jobFilterIndexCache
     ) {
         this.registeredDescriptorRepository = registeredDescriptorRepository;
         this.definedFieldRepository = definedFieldRepository;
@@ -69,6 +74,7 @@ public class DefaultConfigurationModelConfigurationAccessor implements Configura
         this.configContextRepository = configContextRepository;
         this.fieldValueRepository = fieldValueRepository;
         this.encryptionUtility = encryptionUtility;
+        this.jobFilterIndexCache = jobFilterIndexCache;
     }
 
     @Override
@@ -101,6 +107,26 @@ public class DefaultConfigurationModelConfigurationAccessor implements Configura
         return descriptorConfigsRepository.findById(id).map(this::createConfigModel);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> getProviderConfigNamesByIds(Collection<Long> providerConfigIds) {
+        if (providerConfigIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> providerConfigNames = new HashMap<>();
+        List<FieldValueEntity> providerConfigNameValues = definedFieldRepository.findFirstByKey(ProviderDescriptor.KEY_PROVIDER_CONFIG_NAME)
+                                                               .map(DefinedFieldEntity::getId)
+                                                               .map(fieldId -> fieldValueRepository.findAllByFieldIdAndConfigIdIn(fieldId, providerConfigIds))
+                                                               .orElse(List.of());
+        for (FieldValueEntity providerConfigNameValue : providerConfigNameValues) {
+            if (null != providerConfigNameValue.getValue()) {
+                providerConfigNames.putIfAbsent(providerConfigNameValue.getConfigId(), providerConfigNameValue.getValue());
+            }
+        }
+        return providerConfigNames;
+    }
+
     @Override
     public List<ConfigurationModel> getConfigurationsByDescriptorKey(DescriptorKey descriptorKey) {
         return descriptorConfigsRepository.findByDescriptorName(descriptorKey.getUniversalKey())
@@ -213,6 +239,8 @@ public class DefaultConfigurationModelConfigurationAccessor implements Configura
     public void deleteConfiguration(Long descriptorConfigId) {
         if (null != descriptorConfigId) {
             descriptorConfigsRepository.deleteById(descriptorConfigId);
+            // Deleting a provider config cascades to the jobs that use it
+            jobFilterIndexCache.invalidate();
         }
     }
 
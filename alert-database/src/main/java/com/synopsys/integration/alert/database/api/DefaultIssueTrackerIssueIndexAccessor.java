@@ -0,0 +1,100 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.api;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.synopsys.integration.alert.common.persistence.accessor.IssueTrackerIssueIndexAccessor;
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+import com.synopsys.integration.alert.database.issue.IssueTrackerIssueIndexEntity;
+import com.synopsys.integration.alert.database.issue.IssueTrackerIssueIndexEntityPK;
+import com.synopsys.integration.alert.database.issue.IssueTrackerIssueIndexRepository;
+
+@Component
+public class DefaultIssueTrackerIssueIndexAccessor implements IssueTrackerIssueIndexAccessor {
+    private final IssueTrackerIssueIndexRepository issueIndexRepository;
+
+    @Autowired
+    public DefaultIssueTrackerIssueIndexAccessor(IssueTrackerIssueIndexRepository issueIndexRepository) {
+        this.issueIndexRepository = issueIndexRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IndexedIssueModel> findIssue(UUID jobId, String issueIdentity, OffsetDateTime verifiedAfter) {
+        return issueIndexRepository.findByJobIdAndIssueIdentityAndLastVerifiedAfter(jobId, issueIdentity, verifiedAfter)
+                   .map(this::convertToModel);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<IndexedIssueModel> findIssues(UUID jobId, Collection<String> issueIdentities, OffsetDateTime verifiedAfter) {
+        if (issueIdentities.isEmpty()) {
+            return List.of();
+        }
+        return issueIndexRepository.findByJobIdAndIssueIdentityInAndLastVerifiedAfter(jobId, issueIdentities, verifiedAfter)
+                   .stream()
+                   .map(this::convertToModel)
+                   .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void saveIssue(IndexedIssueModel indexedIssue) {
+        issueIndexRepository.save(convertToEntity(indexedIssue));
+    }
+
+    @Override
+    @Transactional
+    public void saveIssues(Collection<IndexedIssueModel> indexedIssues) {
+        List<IssueTrackerIssueIndexEntity> entities = indexedIssues
+                                                          .stream()
+                                                          .map(this::convertToEntity)
+                                                          .collect(Collectors.toList());
+        issueIndexRepository.saveAll(entities);
+    }
+
+    @Override
+    @Transactional
+    public void deleteIssue(UUID jobId, String issueIdentity) {
+        IssueTrackerIssueIndexEntityPK primaryKey = new IssueTrackerIssueIndexEntityPK(jobId, issueIdentity);
+        if (issueIndexRepository.existsById(primaryKey)) {
+            issueIndexRepository.deleteById(primaryKey);
+        }
+    }
+
+    private IssueTrackerIssueIndexEntity convertToEntity(IndexedIssueModel indexedIssue) {
+        return new IssueTrackerIssueIndexEntity(
+            indexedIssue.getJobId(),
+            indexedIssue.getIssueIdentity(),
+            indexedIssue.getIssueId(),
+            indexedIssue.getIssueKey(),
+            indexedIssue.getLastVerified()
+        );
+    }
+
+    private IndexedIssueModel convertToModel(IssueTrackerIssueIndexEntity entity) {
+        return new IndexedIssueModel(
+            entity.getJobId(),
+            entity.getIssueIdentity(),
+            entity.getIssueId(),
+            entity.getIssueKey(),
+            entity.getLastVerified()
+        );
+    }
+
+}
@@ -11,12 +11,17 @@ import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,10 +30,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.synopsys.integration.alert.api.provider.ProviderDescriptor;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
-import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.util.DateUtils;
@@ -39,10 +42,17 @@ import com.synopsys.integration.alert.database.notification.NotificationEntity;
 @Component
 @Transactional
 public class DefaultNotificationAccessor implements NotificationAccessor {
+    private static final String DELETED_PROVIDER_CONFIG_NAME = "DELETED CONFIGURATION";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private final NotificationContentRepository notificationContentRepository;
     private final AuditEntryRepository auditEntryRepository;
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
 
+    private final AtomicLong loadedPageCount = new AtomicLong(0L);
+    private final AtomicLong pageProviderConfigNameLookupCount = new AtomicLong(0L);
+
     @Autowired
     public DefaultNotificationAccessor(
         NotificationContentRepository notificationContentRepository,
@@ -61,19 +71,16 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
             .map(this::fromModel)
             .collect(Collectors.toList());
 
-        return notificationContentRepository.saveAll(entitiesToSave)
-            .stream()
-            .map(this::toModel)
-            .collect(Collectors.toList());
+        return toModels(notificationContentRepository.saveAll(entitiesToSave));
     }
 
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public Page<AlertNotificationModel> findAll(PageRequest pageRequest, boolean onlyShowSentNotifications) {
         if (onlyShowSentNotifications) {
             Page<NotificationEntity> allSentNotifications = notificationContentRepository.findAllSentNotifications(pageRequest);
-            return allSentNotifications.map(this::toModel);
+            return toModels(allSentNotifications);
         }
-        return notificationContentRepository.findAll(pageRequest).map(this::toModel);
+        return toModels(notificationContentRepository.findAll(pageRequest));
     }
 
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
@@ -86,7 +93,7 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         } else {
             matchingNotifications = notificationContentRepository.findMatchingNotification(lcSearchTerm, pageRequest);
         }
-        return matchingNotifications.map(this::toModel);
+        return toModels(matchingNotifications);
     }
 
     @Override
@@ -98,7 +105,8 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
     @Override
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public Optional<AlertNotificationModel> findById(Long notificationId) {
-        return notificationContentRepository.findById(notificationId).map(this::toModel);
+        return notificationContentRepository.findById(notificationId)
+                   .map(entity -> toModel(entity, resolveProviderConfigNames(List.of(entity), false)));
     }
 
     @Override
@@ -108,6 +116,25 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         return toModels(byCreatedAtBetween);
     }
 
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public List<AlertNotificationModel> findPageByCreatedAtBetween(OffsetDateTime startDate, OffsetDateTime endDate, @Nullable AlertNotificationModel previousNotification, int pageSize) {
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        List<NotificationEntity> pageOfNotifications;
+        if (null == previousNotification) {
+            pageOfNotifications = notificationContentRepository.findFirstPageByCreatedAtBetween(startDate, endDate, pageRequest);
+        } else {
+            pageOfNotifications = notificationContentRepository.findNextPageByCreatedAtBetween(
+                startDate,
+                endDate,
+                previousNotification.getCreatedAt(),
+                previousNotification.getId(),
+                pageRequest
+            );
+        }
+        return toModels(pageOfNotifications, true);
+    }
+
     @Override
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<AlertNotificationModel> findByCreatedAtBefore(OffsetDateTime date) {
@@ -159,12 +186,16 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         int currentPage = 0;
         Sort.Order sortingOrder = Sort.Order.asc("providerCreationTime");
         PageRequest pageRequest = PageRequest.of(currentPage, pageSize, Sort.by(sortingOrder));
-        Page<AlertNotificationModel> pageOfNotifications = notificationContentRepository.findByProcessedFalseOrderByProviderCreationTimeAsc(pageRequest)
-            .map(this::toModel);
+        Page<AlertNotificationModel> pageOfNotifications = toModels(notificationContentRepository.findByProcessedFalseOrderByProviderCreationTimeAsc(pageRequest));
         List<AlertNotificationModel> alertNotificationModels = pageOfNotifications.getContent();
         return new AlertPagedModel<>(pageOfNotifications.getTotalPages(), currentPage, pageSize, alertNotificationModels);
     }
 
+    @Override
+    public long countNotificationsNotProcessed() {
+        return notificationContentRepository.countByProcessedFalse();
+    }
+
     @Override
     public void setNotificationsProcessed(List<AlertNotificationModel> notifications) {
         Set<Long> notificationIds = notifications
@@ -180,25 +211,68 @@ public class DefaultNotificationAccessor implements NotificationAccessor {
         notificationContentRepository.setProcessedByIds(notificationIds);
     }
 
+    public long getLoadedPageCount() {
+        return loadedPageCount.get();
+    }
+
+    /**
+     * @return the number of provider config name lookups issued while converting the pages of notifications loaded so far, divided by the number of those pages
+     */
+    public double getProviderConfigNameLookupsPerPage() {
+        long pageCount = loadedPageCount.get();
+        if (pageCount == 0L) {
+            return 0.0;
+        }
+        return (double) pageProviderConfigNameLookupCount.get() / pageCount;
+    }
+
+    private Page<AlertNotificationModel> toModels(Page<NotificationEntity> notificationEntities) {
+        Map<Long, String> providerConfigNames = resolveProviderConfigNames(notificationEntities.getContent(), true);
+        return notificationEntities.map(entity -> toModel(entity, providerConfigNames));
+    }
+
     private List<AlertNotificationModel> toModels(List<NotificationEntity> notificationEntities) {
+        return toModels(notificationEntities, false);
+    }
+
+    private List<AlertNotificationModel> toModels(List<NotificationEntity> notificationEntities, boolean pageOfNotifications) {
+        Map<Long, String> providerConfigNames = resolveProviderConfigNames(notificationEntities, pageOfNotifications);
         return notificationEntities
             .stream()
-            .map(this::toModel)
+            .map(entity -> toModel(entity, providerConfigNames))
             .collect(Collectors.toList());
     }
 
+    private Map<Long, String> resolveProviderConfigNames(List<NotificationEntity> notificationEntities, boolean pageOfNotifications) {
+        Set<Long> providerConfigIds = notificationEntities
+                                          .stream()
+                                          .map(NotificationEntity::getProviderConfigId)
+                                          .filter(Objects::nonNull)
+                                          .collect(Collectors.toSet());
+        Map<Long, String> providerConfigNames = Map.of();
+        int lookupCount = 0;
+        if (!providerConfigIds.isEmpty()) {
+            providerConfigNames = configurationModelConfigurationAccessor.getProviderConfigNamesByIds(providerConfigIds);
+            lookupCount++;
+        }
+
+        if (pageOfNotifications) {
+            long pageCount = loadedPageCount.incrementAndGet();
+            long lookupTotal = pageProviderConfigNameLookupCount.addAndGet(lookupCount);
+            logger.debug("Loaded a page of {} notifications with {} provider config name lookup(s), {} per page on average", notificationEntities.size(), lookupCount, (double) lookupTotal / pageCount);
+        }
+        return providerConfigNames;
+    }
+
     private NotificationEntity fromModel(AlertNotificationModel model) {
         return new NotificationEntity(model.getId(), model.getCreatedAt(), model.getProvider(), model.getProviderConfigId(), model.getProviderCreationTime(), model.getNotificationType(), model.getContent(), model.getProcessed());
     }
 
-    private AlertNotificationModel toModel(NotificationEntity entity) {
+    private AlertNotificationModel toModel(NotificationEntity entity, Map<Long, String> providerConfigNames) {
         Long providerConfigId = entity.getProviderConfigId();
-        String providerConfigName = "DELETED CONFIGURATION";
+        String providerConfigName = DELETED_PROVIDER_CONFIG_NAME;
         if (null != providerConfigId) {
-            providerConfigName = configurationModelConfigurationAccessor.getConfigurationById(providerConfigId)
-                .flatMap(field -> field.getField(ProviderDescriptor.KEY_PROVIDER_CONFIG_NAME))
-                .flatMap(ConfigurationFieldModel::getFieldValue)
-                .orElse(providerConfigName);
+            providerConfigName = providerConfigNames.getOrDefault(providerConfigId, DELETED_PROVIDER_CONFIG_NAME);
         }
         return new AlertNotificationModel(entity.getId(),
             providerConfigId,
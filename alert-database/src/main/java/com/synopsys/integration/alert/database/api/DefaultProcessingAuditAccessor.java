@@ -7,14 +7,13 @@
  */
 package com.synopsys.integration.alert.database.api;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -40,6 +39,9 @@ public class DefaultProcessingAuditAccessor implements ProcessingAuditAccessor {
     private final AuditEntryRepository auditEntryRepository;
     private final AuditNotificationRepository auditNotificationRepository;
 
+    private final AtomicLong auditRowsWritten = new AtomicLong(0L);
+    private final AtomicLong auditWriteNanos = new AtomicLong(0L);
+
     @Autowired
     public DefaultProcessingAuditAccessor(AuditEntryRepository auditEntryRepository, AuditNotificationRepository auditNotificationRepository) {
         this.auditEntryRepository = auditEntryRepository;
@@ -53,74 +55,93 @@ public class DefaultProcessingAuditAccessor implements ProcessingAuditAccessor {
             return;
         }
 
-        Map<Long, AuditEntryNotificationView> notificationIdToView = auditEntryRepository.findByJobIdAndNotificationIds(jobId, notificationIds)
-                                                                         .stream()
-                                                                         .collect(Collectors.toMap(AuditEntryNotificationView::getNotificationId, Function.identity()));
-
-        Set<AuditNotificationRelation> relationsToUpdate = new HashSet<>();
-        for (Long notificationId : notificationIds) {
-            AuditEntryEntity auditEntryToSave;
-            AuditEntryNotificationView view = notificationIdToView.get(notificationId);
-            if (null != view) {
-                auditEntryToSave = fromView(view);
-            } else {
-                auditEntryToSave = new AuditEntryEntity(jobId, DateUtils.createCurrentDateTimestamp(), null, AuditEntryStatus.PENDING.name(), null, null);
-            }
-
-            AuditEntryEntity savedAuditEntry = auditEntryRepository.save(auditEntryToSave);
-            logger.trace("Created audit entry: {}. For notification: {}", savedAuditEntry.getId(), notificationId);
+        long startNanos = System.nanoTime();
+        Set<Long> auditedNotificationIds = auditEntryRepository.findByJobIdAndNotificationIds(jobId, notificationIds)
+                                               .stream()
+                                               .map(AuditEntryNotificationView::getNotificationId)
+                                               .collect(Collectors.toSet());
+        List<Long> unauditedNotificationIds = notificationIds
+                                                  .stream()
+                                                  .filter(notificationId -> !auditedNotificationIds.contains(notificationId))
+                                                  .collect(Collectors.toList());
+        if (unauditedNotificationIds.isEmpty()) {
+            return;
+        }
 
-            AuditNotificationRelation auditNotificationRelation = new AuditNotificationRelation(savedAuditEntry.getId(), notificationId);
-            relationsToUpdate.add(auditNotificationRelation);
+        // The audit entry ids are allocated in blocks from the sequence, so these entries are inserted in batches rather than one at a time
+        OffsetDateTime timeCreated = DateUtils.createCurrentDateTimestamp();
+        List<AuditEntryEntity> auditEntriesToSave = new ArrayList<>(unauditedNotificationIds.size());
+        for (int i = 0; i < unauditedNotificationIds.size(); i++) {
+            auditEntriesToSave.add(new AuditEntryEntity(jobId, timeCreated, null, AuditEntryStatus.PENDING.name(), null, null));
         }
-        auditNotificationRepository.saveAll(relationsToUpdate);
+        List<AuditEntryEntity> savedAuditEntries = auditEntryRepository.saveAll(auditEntriesToSave);
+
+        List<AuditNotificationRelation> relationsToSave = new ArrayList<>(unauditedNotificationIds.size());
+        for (int i = 0; i < unauditedNotificationIds.size(); i++) {
+            Long auditEntryId = savedAuditEntries.get(i).getId();
+            Long notificationId = unauditedNotificationIds.get(i);
+            logger.trace("Created audit entry: {}. For notification: {}", auditEntryId, notificationId);
+            relationsToSave.add(new AuditNotificationRelation(auditEntryId, notificationId));
+        }
+        auditNotificationRepository.saveAll(relationsToSave);
+        recordAuditRowsWritten(savedAuditEntries.size() + relationsToSave.size(), startNanos);
     }
 
     @Override
     @Transactional
     public void setAuditEntrySuccess(UUID jobId, Set<Long> notificationIds) {
-        updateAuditEntries(jobId, notificationIds, auditEntry -> {
-            auditEntry.setStatus(AuditEntryStatus.SUCCESS.name());
-            auditEntry.setErrorMessage(null);
-            auditEntry.setErrorStackTrace(null);
-        });
+        updateAuditEntries(jobId, notificationIds, auditEntryIds -> auditEntryRepository.bulkUpdateStatus(auditEntryIds, AuditEntryStatus.SUCCESS.name(), DateUtils.createCurrentDateTimestamp(), null, null));
     }
 
     @Override
     @Transactional
     public void setAuditEntryFailure(UUID jobId, Set<Long> notificationIds, String errorMessage, @Nullable Throwable exception) {
-        updateAuditEntries(jobId, notificationIds, auditEntry -> {
-            auditEntry.setStatus(AuditEntryStatus.FAILURE.name());
-            auditEntry.setErrorMessage(errorMessage);
+        updateAuditEntries(jobId, notificationIds, auditEntryIds -> {
+            OffsetDateTime timeLastSent = DateUtils.createCurrentDateTimestamp();
             if (null != exception) {
                 String stackTraceString = createStackTraceString(exception);
-                auditEntry.setErrorStackTrace(stackTraceString);
+                return auditEntryRepository.bulkUpdateStatus(auditEntryIds, AuditEntryStatus.FAILURE.name(), timeLastSent, errorMessage, stackTraceString);
             }
+            return auditEntryRepository.bulkUpdateStatusRetainingStackTrace(auditEntryIds, AuditEntryStatus.FAILURE.name(), timeLastSent, errorMessage);
         });
     }
 
-    private void updateAuditEntries(UUID jobId, Set<Long> notificationIds, Consumer<AuditEntryEntity> auditFieldSetter) {
+    public long getAuditRowsWritten() {
+        return auditRowsWritten.get();
+    }
+
+    /**
+     * @return the number of audit rows written per second spent writing them
+     */
+    public double getAuditRowsWrittenPerSecond() {
+        long writeNanos = auditWriteNanos.get();
+        if (writeNanos == 0L) {
+            return 0.0;
+        }
+        return auditRowsWritten.get() / (writeNanos / 1_000_000_000.0);
+    }
+
+    private void updateAuditEntries(UUID jobId, Set<Long> notificationIds, ToIntFunction<List<Long>> auditEntryUpdater) {
         if (notificationIds.isEmpty()) {
             return;
         }
 
-        List<AuditEntryNotificationView> auditEntryNotificationViews = auditEntryRepository.findByJobIdAndNotificationIds(jobId, notificationIds);
-
-        List<AuditEntryEntity> updatedAuditEntries = new ArrayList<>(auditEntryNotificationViews.size());
-        for (AuditEntryNotificationView view : auditEntryNotificationViews) {
-            AuditEntryEntity auditEntryToSave = fromView(view);
-            auditEntryToSave.setTimeLastSent(DateUtils.createCurrentDateTimestamp());
-            auditFieldSetter.accept(auditEntryToSave);
-            updatedAuditEntries.add(auditEntryToSave);
-            logger.trace("Updated audit entry: {}.", auditEntryToSave.getId());
+        long startNanos = System.nanoTime();
+        List<Long> auditEntryIds = auditEntryRepository.findIdsByJobIdAndNotificationIds(jobId, notificationIds);
+        if (auditEntryIds.isEmpty()) {
+            return;
         }
-        auditEntryRepository.saveAll(updatedAuditEntries);
+
+        int updatedCount = auditEntryUpdater.applyAsInt(auditEntryIds);
+        logger.trace("Updated audit entries: {}.", auditEntryIds);
+        recordAuditRowsWritten(updatedCount, startNanos);
     }
 
-    private AuditEntryEntity fromView(AuditEntryNotificationView view) {
-        AuditEntryEntity auditEntry = new AuditEntryEntity(view.getJobId(), view.getTimeCreated(), view.getTimeLastSent(), view.getStatus(), view.getErrorMessage(), view.getErrorStackTrace());
-        auditEntry.setId(view.getId());
-        return auditEntry;
+    private void recordAuditRowsWritten(int rowCount, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        auditRowsWritten.addAndGet(rowCount);
+        auditWriteNanos.addAndGet(elapsedNanos);
+        logger.debug("Wrote {} audit rows in {}ms. Overall audit write rate: {} rows/s", rowCount, elapsedNanos / 1_000_000L, Math.round(getAuditRowsWrittenPerSecond()));
     }
 
     private String createStackTraceString(Throwable exception) {
@@ -7,83 +7,106 @@
  */
 package com.synopsys.integration.alert.database.api;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.enumeration.ProcessingType;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingJobAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.BlackDuckProjectDetailsModel;
-import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
 import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
-import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
 import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+import com.synopsys.integration.alert.database.job.DistributionJobFilterIndex;
+import com.synopsys.integration.alert.database.job.DistributionJobFilterIndexCache;
 import com.synopsys.integration.alert.database.job.DistributionJobRepository;
 import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsAccessor;
 import com.synopsys.integration.alert.database.job.blackduck.BlackDuckJobDetailsEntity;
 
 @Component
 public class DefaultProcessingJobAccessor implements ProcessingJobAccessor {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private final DistributionJobRepository distributionJobRepository;
     private final BlackDuckJobDetailsAccessor blackDuckJobDetailsAccessor;
+    private final DistributionJobFilterIndexCache jobFilterIndexCache;
 
     @Autowired
-    public DefaultProcessingJobAccessor(DistributionJobRepository distributionJobRepository, BlackDuckJobDetailsAccessor blackDuckJobDetailsAccessor) {
+    public DefaultProcessingJobAccessor(
+        DistributionJobRepository distributionJobRepository,
+        BlackDuckJobDetailsAccessor blackDuckJobDetailsAccessor,
+        DistributionJobFilterIndexCache jobFilterIndexCache
+    ) {
         this.distributionJobRepository = distributionJobRepository;
         this.blackDuckJobDetailsAccessor = blackDuckJobDetailsAccessor;
+        this.jobFilterIndexCache = jobFilterIndexCache;
     }
 
     @Override
-    public AlertPagedModel<FilteredDistributionJobResponseModel> getMatchingEnabledJobsByFilteredNotifications(FilteredDistributionJobRequestModel filteredDistributionJobRequestModel, int pageNumber, int pageLimit) {
-        List<String> frequencyTypes = filteredDistributionJobRequestModel.getFrequencyTypes()
+    @Transactional(readOnly = true)
+    public List<FilteredDistributionJobResponseModel> getMatchingEnabledJobsByNotification(NotificationFilterModel notificationFilter, Collection<FrequencyType> frequencies) {
+        List<String> frequencyNames = frequencies
             .stream()
             .map(Enum::name)
             .collect(Collectors.toList());
+        DistributionJobFilterIndex jobFilterIndex = jobFilterIndexCache.retrieveIndex(this::createJobFilterIndex);
+        return jobFilterIndex.findMatchingJobs(notificationFilter, frequencyNames);
+    }
 
-        Set<String> projectNames = filteredDistributionJobRequestModel.getProjectName();
-        Set<String> notificationTypes = filteredDistributionJobRequestModel.getNotificationTypes();
-
-        // If no policies and/or vulnerabilitySeverities exist the repository query expects a null to be passed
-        Set<String> policyNames = filteredDistributionJobRequestModel.getPolicyNames().isEmpty() ? null : filteredDistributionJobRequestModel.getPolicyNames();
-        Set<String> vulnerabilitySeverities = filteredDistributionJobRequestModel.getVulnerabilitySeverities().isEmpty() ? null : filteredDistributionJobRequestModel.getVulnerabilitySeverities();
-
-        PageRequest pageRequest = PageRequest.of(pageNumber, pageLimit);
-        Page<DistributionJobEntity> pageOfDistributionJobEntities = distributionJobRepository.findAndSortMatchingEnabledJobsByFilteredNotifications(
-            filteredDistributionJobRequestModel.getProviderConfigId(),
-            frequencyTypes,
-            notificationTypes,
-            projectNames,
-            policyNames,
-            vulnerabilitySeverities,
-            pageRequest
-        );
-
-        List<FilteredDistributionJobResponseModel> distributionJobResponseModels = pageOfDistributionJobEntities.getContent()
-            .stream()
-            .map(this::convertToFilteredDistributionJobResponseModel)
-            .collect(Collectors.toList());
-        return new AlertPagedModel<>(pageOfDistributionJobEntities.getTotalPages(), pageNumber, pageLimit, distributionJobResponseModels);
-
+    private DistributionJobFilterIndex createJobFilterIndex() {
+        DistributionJobFilterIndex.Builder indexBuilder = DistributionJobFilterIndex.builder();
+        List<DistributionJobEntity> enabledJobs = distributionJobRepository.findByEnabledTrueOrderByCreatedAtAsc();
+        if (!enabledJobs.isEmpty()) {
+            // Loads the filters of all the enabled jobs with one query per filter type rather than four queries per job
+            List<UUID> jobIds = enabledJobs
+                .stream()
+                .map(DistributionJobEntity::getJobId)
+                .collect(Collectors.toList());
+            Map<UUID, List<String>> notificationTypesByJob = blackDuckJobDetailsAccessor.retrieveNotificationTypesForJobs(jobIds);
+            Map<UUID, List<BlackDuckProjectDetailsModel>> projectDetailsByJob = blackDuckJobDetailsAccessor.retrieveProjectDetailsForJobs(jobIds);
+            Map<UUID, List<String>> policyNamesByJob = blackDuckJobDetailsAccessor.retrievePolicyNamesForJobs(jobIds);
+            Map<UUID, List<String>> vulnerabilitySeverityNamesByJob = blackDuckJobDetailsAccessor.retrieveVulnerabilitySeverityNamesForJobs(jobIds);
+
+            for (DistributionJobEntity jobEntity : enabledJobs) {
+                UUID jobId = jobEntity.getJobId();
+                Long providerConfigId = jobEntity.getBlackDuckJobDetails().getGlobalConfigId();
+                FilteredDistributionJobResponseModel filteredJob = convertToFilteredDistributionJobResponseModel(
+                    jobEntity,
+                    notificationTypesByJob.getOrDefault(jobId, List.of()),
+                    projectDetailsByJob.getOrDefault(jobId, List.of()),
+                    policyNamesByJob.getOrDefault(jobId, List.of()),
+                    vulnerabilitySeverityNamesByJob.getOrDefault(jobId, List.of())
+                );
+                indexBuilder.addJob(providerConfigId, jobEntity.getDistributionFrequency(), filteredJob);
+            }
+        }
+        DistributionJobFilterIndex jobFilterIndex = indexBuilder.build();
+        logger.debug("Indexed the filters of {} enabled job(s) into {} bucket(s)", enabledJobs.size(), jobFilterIndex.getBucketCount());
+        return jobFilterIndex;
     }
 
-    private FilteredDistributionJobResponseModel convertToFilteredDistributionJobResponseModel(DistributionJobEntity jobEntity) {
+    private FilteredDistributionJobResponseModel convertToFilteredDistributionJobResponseModel(
+        DistributionJobEntity jobEntity,
+        List<String> notificationTypes,
+        List<BlackDuckProjectDetailsModel> projectDetails,
+        List<String> policyNames,
+        List<String> vulnerabilitySeverityNames
+    ) {
         UUID jobId = jobEntity.getJobId();
         ProcessingType processingType = Enum.valueOf(ProcessingType.class, jobEntity.getProcessingType());
         String channelName = jobEntity.getChannelDescriptorName();
         String jobName = jobEntity.getName();
 
         BlackDuckJobDetailsEntity blackDuckJobDetails = jobEntity.getBlackDuckJobDetails();
-        List<String> notificationTypes = blackDuckJobDetailsAccessor.retrieveNotificationTypesForJob(jobId);
-        List<BlackDuckProjectDetailsModel> projectDetails = blackDuckJobDetailsAccessor.retrieveProjectDetailsForJob(jobId);
-        List<String> policyNames = blackDuckJobDetailsAccessor.retrievePolicyNamesForJob(jobId);
-        List<String> vulnerabilitySeverityNames = blackDuckJobDetailsAccessor.retrieveVulnerabilitySeverityNamesForJob(jobId);
-
         boolean filterByProject = blackDuckJobDetails.getFilterByProject();
         String projectNamePattern = blackDuckJobDetails.getProjectNamePattern();
 
@@ -39,6 +39,7 @@ import com.synopsys.integration.alert.common.persistence.model.job.details.Slack
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+import com.synopsys.integration.alert.database.job.DistributionJobFilterIndexCache;
 import com.synopsys.integration.alert.database.job.DistributionJobRepository;
 import com.synopsys.integration.alert.database.job.azure.boards.AzureBoardsJobDetailsEntity;
 import com.synopsys.integration.alert.database.job.azure.boards.DefaultAzureBoardsJobDetailsAccessor;
@@ -69,6 +70,7 @@ public class StaticJobAccessor implements JobAccessor {
     private final DefaultJiraServerJobDetailsAccessor jiraServerJobDetailsAccessor;
     private final DefaultMSTeamsJobDetailsAccessor msTeamsJobDetailsAccessor;
     private final DefaultSlackJobDetailsAccessor slackJobDetailsAccessor;
+    private final DistributionJobFilterIndexCache jobFilterIndexCache;
 
     // Temporary until all three tiers of the application have been updated to new Job models
     // BlackDuck is currently the only provider, so this is safe in the short-term while we transition to new models
@@ -84,6 +86,7 @@ public class StaticJobAccessor implements JobAccessor {
         DefaultJiraServerJobDetailsAccessor jiraServerJobDetailsAccessor,
         DefaultMSTeamsJobDetailsAccessor msTeamsJobDetailsAccessor,
         DefaultSlackJobDetailsAccessor slackJobDetailsAccessor,
+        DistributionJobFilterIndexCache jobFilterIndexCache,
         ProviderKey blackDuckProviderKey
     ) {
         this.distributionJobRepository = distributionJobRepository;
@@ -94,6 +97,7 @@ public class StaticJobAccessor implements JobAccessor {
         this.jiraServerJobDetailsAccessor = jiraServerJobDetailsAccessor;
         this.msTeamsJobDetailsAccessor = msTeamsJobDetailsAccessor;
         this.slackJobDetailsAccessor = slackJobDetailsAccessor;
+        this.jobFilterIndexCache = jobFilterIndexCache;
         this.blackDuckProviderKey = blackDuckProviderKey;
     }
 
@@ -171,6 +175,7 @@ public class StaticJobAccessor implements JobAccessor {
     @Transactional
     public void deleteJob(UUID jobId) {
         distributionJobRepository.deleteById(jobId);
+        jobFilterIndexCache.invalidate();
     }
 
     private DistributionJobModel createJobWithId(UUID jobId, DistributionJobRequestModel requestModel, OffsetDateTime createdAt, @Nullable OffsetDateTime lastUpdated) {
@@ -186,6 +191,7 @@ public class StaticJobAccessor implements JobAccessor {
             lastUpdated
         );
         DistributionJobEntity savedJobEntity = distributionJobRepository.save(jobToSave);
+        jobFilterIndexCache.invalidate();
         UUID savedJobId = savedJobEntity.getJobId();
 
         BlackDuckJobDetailsEntity savedBlackDuckJobDetails = blackDuckJobDetailsAccessor.saveBlackDuckJobDetails(savedJobId, requestModel);
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.audit;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +29,40 @@ public interface AuditEntryRepository extends JpaRepository<AuditEntryEntity, Lo
     )
     List<AuditEntryNotificationView> findByJobIdAndNotificationIds(@Param("jobId") UUID jobId, @Param("notificationIds") Collection<Long> notificationIds);
 
+    @Query(
+        "SELECT DISTINCT audit.id"
+            + " FROM AuditEntryEntity audit"
+            + " LEFT JOIN audit.auditNotificationRelations auditNotification"
+            + " WHERE audit.commonConfigId = :jobId"
+            + " AND auditNotification.notificationId IN :notificationIds"
+    )
+    List<Long> findIdsByJobIdAndNotificationIds(@Param("jobId") UUID jobId, @Param("notificationIds") Collection<Long> notificationIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuditEntryEntity audit"
+               + " SET audit.status = :status, audit.timeLastSent = :timeLastSent, audit.errorMessage = :errorMessage, audit.errorStackTrace = :errorStackTrace"
+               + " WHERE audit.id IN :auditEntryIds"
+    )
+    int bulkUpdateStatus(
+        @Param("auditEntryIds") Collection<Long> auditEntryIds,
+        @Param("status") String status,
+        @Param("timeLastSent") OffsetDateTime timeLastSent,
+        @Param("errorMessage") String errorMessage,
+        @Param("errorStackTrace") String errorStackTrace
+    );
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE AuditEntryEntity audit"
+               + " SET audit.status = :status, audit.timeLastSent = :timeLastSent, audit.errorMessage = :errorMessage"
+               + " WHERE audit.id IN :auditEntryIds"
+    )
+    int bulkUpdateStatusRetainingStackTrace(
+        @Param("auditEntryIds") Collection<Long> auditEntryIds,
+        @Param("status") String status,
+        @Param("timeLastSent") OffsetDateTime timeLastSent,
+        @Param("errorMessage") String errorMessage
+    );
+
     Optional<AuditEntryEntity> findFirstByCommonConfigIdOrderByTimeLastSentDesc(UUID commonConfigId);
 
     @Query("SELECT entity FROM AuditEntryEntity entity"
@@ -13,15 +13,19 @@ import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
 
+import org.springframework.data.domain.Persistable;
+
 import com.synopsys.integration.alert.database.DatabaseRelation;
 import com.synopsys.integration.alert.database.notification.NotificationEntity;
 
 @Entity
 @IdClass(AuditNotificationRelationPK.class)
 @Table(schema = "alert", name = "audit_notification_relation")
-public class AuditNotificationRelation extends DatabaseRelation {
+public class AuditNotificationRelation extends DatabaseRelation implements Persistable<AuditNotificationRelationPK> {
     @Id
     @Column(name = "audit_entry_id")
     private Long auditEntryId;
@@ -37,6 +41,9 @@ public class AuditNotificationRelation extends DatabaseRelation {
     @JoinColumn(name = "audit_entry_id", referencedColumnName = "id", insertable = false, updatable = false)
     private AuditEntryEntity auditEntryEntity;
 
+    // Relations have assigned ids, so this tells the repository to insert new relations without first selecting them
+    private transient boolean newRelation = false;
+
     public AuditNotificationRelation() {
     }
 
@@ -44,6 +51,26 @@ public class AuditNotificationRelation extends DatabaseRelation {
         super();
         this.auditEntryId = auditEntryId;
         this.notificationId = notificationId;
+        this.newRelation = true;
+    }
+
+    @Override
+    public AuditNotificationRelationPK getId() {
+        AuditNotificationRelationPK primaryKey = new AuditNotificationRelationPK();
+        primaryKey.setAuditEntryId(auditEntryId);
+        primaryKey.setNotificationId(notificationId);
+        return primaryKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRelation;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRelation = false;
     }
 
     public Long getAuditEntryId() {
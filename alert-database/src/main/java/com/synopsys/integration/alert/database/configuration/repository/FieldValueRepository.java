@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.configuration.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,6 @@ public interface FieldValueRepository extends JpaRepository<FieldValueEntity, Lo
 
     List<FieldValueEntity> findAllByFieldIdAndValue(Long fieldId, String value);
 
+    List<FieldValueEntity> findAllByFieldIdAndConfigIdIn(Long fieldId, Collection<Long> configIds);
+
 }
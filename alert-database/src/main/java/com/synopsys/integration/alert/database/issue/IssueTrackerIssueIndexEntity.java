@@ -0,0 +1,80 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.issue;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import com.synopsys.integration.alert.database.BaseEntity;
+
+@Entity
+@IdClass(IssueTrackerIssueIndexEntityPK.class)
+@Table(schema = "alert", name = "issue_tracker_issue_index")
+public class IssueTrackerIssueIndexEntity extends BaseEntity {
+    @Id
+    @Column(name = "job_id")
+    private UUID jobId;
+
+    @Id
+    @Column(name = "issue_identity")
+    private String issueIdentity;
+
+    @Column(name = "issue_id")
+    private String issueId;
+
+    @Column(name = "issue_key")
+    private String issueKey;
+
+    @Column(name = "last_verified")
+    private OffsetDateTime lastVerified;
+
+    public IssueTrackerIssueIndexEntity() {
+        // JPA requires default constructor definitions
+    }
+
+    public IssueTrackerIssueIndexEntity(
+        UUID jobId,
+        String issueIdentity,
+        String issueId,
+        String issueKey,
+        OffsetDateTime lastVerified
+    ) {
+        this.jobId = jobId;
+        this.issueIdentity = issueIdentity;
+        this.issueId = issueId;
+        this.issueKey = issueKey;
+        this.lastVerified = lastVerified;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public String getIssueIdentity() {
+        return issueIdentity;
+    }
+
+    public String getIssueId() {
+        return issueId;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public OffsetDateTime getLastVerified() {
+        return lastVerified;
+    }
+
+}
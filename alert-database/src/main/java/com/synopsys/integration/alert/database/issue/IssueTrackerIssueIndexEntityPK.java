@@ -0,0 +1,34 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.issue;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+public class IssueTrackerIssueIndexEntityPK implements Serializable {
+    private UUID jobId;
+    private String issueIdentity;
+
+    public IssueTrackerIssueIndexEntityPK() {
+        // JPA requires default constructor definitions
+    }
+
+    public IssueTrackerIssueIndexEntityPK(UUID jobId, String issueIdentity) {
+        this.jobId = jobId;
+        this.issueIdentity = issueIdentity;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public String getIssueIdentity() {
+        return issueIdentity;
+    }
+
+}
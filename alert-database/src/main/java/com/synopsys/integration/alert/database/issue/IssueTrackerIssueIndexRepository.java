@@ -0,0 +1,23 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.issue;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IssueTrackerIssueIndexRepository extends JpaRepository<IssueTrackerIssueIndexEntity, IssueTrackerIssueIndexEntityPK> {
+    Optional<IssueTrackerIssueIndexEntity> findByJobIdAndIssueIdentityAndLastVerifiedAfter(UUID jobId, String issueIdentity, OffsetDateTime verifiedAfter);
+
+    List<IssueTrackerIssueIndexEntity> findByJobIdAndIssueIdentityInAndLastVerifiedAfter(UUID jobId, Collection<String> issueIdentities, OffsetDateTime verifiedAfter);
+
+}
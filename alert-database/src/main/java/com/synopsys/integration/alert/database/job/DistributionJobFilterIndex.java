@@ -0,0 +1,276 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
+
+/**
+ * An immutable, in-memory view of the filters of every enabled job. Jobs are grouped by provider config, frequency, and notification type.
+ * Within each group, jobs that filter by project are hashed by project name and policy/severity filters are stored as bitsets so that a
+ * notification can be matched without scanning every job.
+ */
+public final class DistributionJobFilterIndex {
+    private static final DistributionJobFilterIndex EMPTY = new DistributionJobFilterIndex(Map.of(), Map.of(), Map.of());
+
+    private final Map<IndexKey, IndexBucket> buckets;
+    private final Map<String, Integer> policyNameBitIndices;
+    private final Map<String, Integer> severityNameBitIndices;
+
+    public static DistributionJobFilterIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private DistributionJobFilterIndex(Map<IndexKey, IndexBucket> buckets, Map<String, Integer> policyNameBitIndices, Map<String, Integer> severityNameBitIndices) {
+        this.buckets = buckets;
+        this.policyNameBitIndices = policyNameBitIndices;
+        this.severityNameBitIndices = severityNameBitIndices;
+    }
+
+    public List<FilteredDistributionJobResponseModel> findMatchingJobs(NotificationFilterModel notificationFilter, Collection<String> frequencies) {
+        String projectName = notificationFilter.getProjectName().orElse("");
+        BitSet notificationSeverityBits = notificationFilter.getVulnerabilitySeverities()
+                                              .map(severities -> toBitSet(severities, severityNameBitIndices))
+                                              .orElse(null);
+        Integer policyNameBitIndex = notificationFilter.getPolicyName()
+                                         .map(policyNameBitIndices::get)
+                                         .orElse(null);
+
+        Set<IndexedJob> matchingJobs = new HashSet<>();
+        for (String frequency : frequencies) {
+            IndexBucket bucket = buckets.get(new IndexKey(notificationFilter.getProviderConfigId(), frequency, notificationFilter.getNotificationType()));
+            if (null == bucket) {
+                continue;
+            }
+
+            for (IndexedJob candidate : bucket.findCandidates(projectName)) {
+                if (doSeveritiesApply(candidate, notificationSeverityBits) && doesPolicyApply(candidate, notificationFilter, policyNameBitIndex)) {
+                    matchingJobs.add(candidate);
+                }
+            }
+        }
+
+        return matchingJobs
+                   .stream()
+                   .sorted(Comparator.comparingInt(IndexedJob::getOrdinal))
+                   .map(IndexedJob::getJob)
+                   .collect(Collectors.toList());
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    private boolean doSeveritiesApply(IndexedJob candidate, @Nullable BitSet notificationSeverityBits) {
+        if (null == notificationSeverityBits || candidate.getSeverityBits().isEmpty()) {
+            return true;
+        }
+        return candidate.getSeverityBits().intersects(notificationSeverityBits);
+    }
+
+    private boolean doesPolicyApply(IndexedJob candidate, NotificationFilterModel notificationFilter, @Nullable Integer policyNameBitIndex) {
+        if (notificationFilter.getPolicyName().isEmpty() || candidate.getPolicyBits().isEmpty()) {
+            return true;
+        }
+        return null != policyNameBitIndex && candidate.getPolicyBits().get(policyNameBitIndex);
+    }
+
+    private static BitSet toBitSet(Collection<String> names, Map<String, Integer> bitIndices) {
+        BitSet bits = new BitSet(bitIndices.size());
+        for (String name : names) {
+            Integer bitIndex = bitIndices.get(name);
+            if (null != bitIndex) {
+                bits.set(bitIndex);
+            }
+        }
+        return bits;
+    }
+
+    public static class Builder {
+        private final Logger logger = LoggerFactory.getLogger(getClass());
+
+        private final Map<IndexKey, IndexBucket> buckets = new HashMap<>();
+        private final Map<String, Integer> policyNameBitIndices = new HashMap<>();
+        private final Map<String, Integer> severityNameBitIndices = new HashMap<>();
+        private int ordinal = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * Jobs must be added in the order they should be returned when matched.
+         */
+        public Builder addJob(Long providerConfigId, String frequency, FilteredDistributionJobResponseModel job) {
+            BitSet policyBits = assignBits(job.getPolicyNames(), policyNameBitIndices);
+            BitSet severityBits = assignBits(job.getVulnerabilitySeverityNames(), severityNameBitIndices);
+            Pattern projectNamePattern = compileProjectNamePattern(job).orElse(null);
+            IndexedJob indexedJob = new IndexedJob(ordinal++, job, projectNamePattern, job.getProjectNames(), policyBits, severityBits);
+
+            for (String notificationType : new HashSet<>(job.getNotificationTypes())) {
+                IndexKey indexKey = new IndexKey(providerConfigId, frequency, notificationType);
+                buckets.computeIfAbsent(indexKey, ignored -> new IndexBucket()).addJob(indexedJob);
+            }
+            return this;
+        }
+
+        public DistributionJobFilterIndex build() {
+            return new DistributionJobFilterIndex(Map.copyOf(buckets), Map.copyOf(policyNameBitIndices), Map.copyOf(severityNameBitIndices));
+        }
+
+        private BitSet assignBits(List<String> names, Map<String, Integer> bitIndices) {
+            BitSet bits = new BitSet();
+            for (String name : names) {
+                int bitIndex = bitIndices.computeIfAbsent(name, ignored -> bitIndices.size());
+                bits.set(bitIndex);
+            }
+            return bits;
+        }
+
+        private Optional<Pattern> compileProjectNamePattern(FilteredDistributionJobResponseModel job) {
+            try {
+                return job.getCompiledProjectNamePattern();
+            } catch (PatternSyntaxException e) {
+                logger.warn("The project name pattern '{}' of the job '{}' is not a valid regular expression and will be ignored: {}", job.getProjectNamePattern(), job.getJobName(), e.getMessage());
+                return Optional.empty();
+            }
+        }
+
+    }
+
+    private static class IndexBucket {
+        private final List<IndexedJob> unfilteredJobs = new LinkedList<>();
+        private final List<IndexedJob> projectNamePatternJobs = new LinkedList<>();
+        private final Map<String, List<IndexedJob>> jobsByProjectName = new HashMap<>();
+
+        public void addJob(IndexedJob indexedJob) {
+            if (!indexedJob.getJob().isFilterByProject()) {
+                unfilteredJobs.add(indexedJob);
+                return;
+            }
+
+            if (null != indexedJob.getProjectNamePattern()) {
+                projectNamePatternJobs.add(indexedJob);
+            }
+            for (String projectName : indexedJob.getProjectNames()) {
+                jobsByProjectName.computeIfAbsent(projectName, ignored -> new LinkedList<>()).add(indexedJob);
+            }
+        }
+
+        public Set<IndexedJob> findCandidates(String projectName) {
+            Set<IndexedJob> candidates = new LinkedHashSet<>(unfilteredJobs);
+            candidates.addAll(jobsByProjectName.getOrDefault(projectName, List.of()));
+            for (IndexedJob patternJob : projectNamePatternJobs) {
+                if (!candidates.contains(patternJob) && patternJob.getProjectNamePattern().matcher(projectName).matches()) {
+                    candidates.add(patternJob);
+                }
+            }
+            return candidates;
+        }
+
+    }
+
+    private static class IndexedJob {
+        private final int ordinal;
+        private final FilteredDistributionJobResponseModel job;
+        private final Pattern projectNamePattern;
+        private final Set<String> projectNames;
+        private final BitSet policyBits;
+        private final BitSet severityBits;
+
+        public IndexedJob(int ordinal, FilteredDistributionJobResponseModel job, @Nullable Pattern projectNamePattern, Set<String> projectNames, BitSet policyBits, BitSet severityBits) {
+            this.ordinal = ordinal;
+            this.job = job;
+            this.projectNamePattern = projectNamePattern;
+            this.projectNames = projectNames;
+            this.policyBits = policyBits;
+            this.severityBits = severityBits;
+        }
+
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        public FilteredDistributionJobResponseModel getJob() {
+            return job;
+        }
+
+        public Pattern getProjectNamePattern() {
+            return projectNamePattern;
+        }
+
+        public Set<String> getProjectNames() {
+            return projectNames;
+        }
+
+        public BitSet getPolicyBits() {
+            return policyBits;
+        }
+
+        public BitSet getSeverityBits() {
+            return severityBits;
+        }
+
+    }
+
+    private static class IndexKey {
+        private final Long providerConfigId;
+        private final String frequency;
+        private final String notificationType;
+
+        public IndexKey(Long providerConfigId, String frequency, String notificationType) {
+            this.providerConfigId = providerConfigId;
+            this.frequency = frequency;
+            this.notificationType = notificationType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey indexKey = (IndexKey) o;
+            return Objects.equals(providerConfigId, indexKey.providerConfigId)
+                       && Objects.equals(frequency, indexKey.frequency)
+                       && Objects.equals(notificationType, indexKey.notificationType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(providerConfigId, frequency, notificationType);
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * alert-database
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.database.job;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class DistributionJobFilterIndexCache {
+    private final Object indexLock = new Object();
+    private final AtomicLong generation = new AtomicLong(0L);
+    private volatile DistributionJobFilterIndex cachedIndex;
+
+    public DistributionJobFilterIndex retrieveIndex(Supplier<DistributionJobFilterIndex> indexLoader) {
+        DistributionJobFilterIndex index = cachedIndex;
+        if (null != index) {
+            return index;
+        }
+
+        synchronized (indexLock) {
+            if (null == cachedIndex) {
+                long generationBeforeLoad = generation.get();
+                DistributionJobFilterIndex loadedIndex = indexLoader.get();
+                // Do not cache an index that was loaded while jobs were being modified
+                if (generationBeforeLoad == generation.get()) {
+                    cachedIndex = loadedIndex;
+                }
+                return loadedIndex;
+            }
+            return cachedIndex;
+        }
+    }
+
+    /**
+     * Invalidates the index immediately and, if called within a transaction, again once that transaction completes so that
+     * an index loaded before the job changes were committed is not retained.
+     */
+    public void invalidate() {
+        evict();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict();
+                }
+            });
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        cachedIndex = null;
+    }
+
+}
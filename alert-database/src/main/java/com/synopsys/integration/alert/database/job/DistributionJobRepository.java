@@ -10,7 +10,6 @@ package com.synopsys.integration.alert.database.job;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -24,6 +23,8 @@ public interface DistributionJobRepository extends JpaRepository<DistributionJob
 
     List<DistributionJobEntity> findByDistributionFrequency(String distributionFrequency);
 
+    List<DistributionJobEntity> findByEnabledTrueOrderByCreatedAtAsc();
+
     Page<DistributionJobEntity> findByChannelDescriptorNameIn(Collection<String> channelDescriptorName, Pageable pageable);
 
     @Query("SELECT jobEntity FROM DistributionJobEntity jobEntity"
@@ -38,40 +39,4 @@ public interface DistributionJobRepository extends JpaRepository<DistributionJob
     )
     Page<DistributionJobEntity> findByChannelDescriptorNamesAndSearchTerm(@Param("channelDescriptorNames") Collection<String> channelDescriptorNames, @Param("searchTerm") String searchTerm, Pageable pageable);
 
-    //TODO: Determine if its possible to pass in a RequestModel directly into  the JPA repository methods
-    @Query(value = "SELECT jobEntity FROM DistributionJobEntity jobEntity "
-                       + "    LEFT JOIN jobEntity.blackDuckJobDetails blackDuckDetails ON jobEntity.jobId = blackDuckDetails.jobId "
-                       + "    LEFT JOIN blackDuckDetails.blackDuckJobNotificationTypes notificationTypes ON jobEntity.jobId = notificationTypes.jobId "
-                       + "    LEFT JOIN blackDuckDetails.blackDuckJobPolicyFilters policyFilters ON jobEntity.jobId = policyFilters.jobId "
-                       + "    LEFT JOIN blackDuckDetails.blackDuckJobVulnerabilitySeverityFilters vulnerabilitySeverityFilters ON jobEntity.jobId = vulnerabilitySeverityFilters.jobId "
-                       + "    LEFT JOIN blackDuckDetails.blackDuckJobProjects projects ON jobEntity.jobId = projects.jobId "
-                       + "    WHERE jobEntity.enabled = true"
-                       + "    AND blackDuckDetails.globalConfigId = :blackDuckConfigId"
-                       + "    AND notificationTypes.notificationType IN (:notificationTypeSet)"
-                       + "    AND jobEntity.distributionFrequency IN (:frequencies)"
-                       + "    AND (blackDuckDetails.filterByProject = false OR blackDuckDetails.projectNamePattern IS NOT NULL OR projects.projectName IN (:projectNames))"
-                       + "    AND ("
-                       + "          ("
-                       + "            coalesce(:vulnerabilitySeverities, NULL) IS NULL"
-                       + "            OR vulnerabilitySeverityFilters.severityName IS NULL"
-                       + "            OR vulnerabilitySeverityFilters.severityName IN (:vulnerabilitySeverities)"
-                       + "          ) OR ("
-                       + "            coalesce(:policyNames, NULL) IS NULL"
-                       + "            OR policyFilters.policyName IS NULL"
-                       + "            OR policyFilters.policyName IN (:policyNames)"
-                       + "          )"
-                       + "    )"
-                       + " GROUP BY jobEntity.jobId"
-                       + " ORDER BY jobEntity.createdAt ASC"
-    )
-    Page<DistributionJobEntity> findAndSortMatchingEnabledJobsByFilteredNotifications(
-        @Param("blackDuckConfigId") Long blackDuckConfigId,
-        @Param("frequencies") Collection<String> frequencies,
-        @Param("notificationTypeSet") Set<String> notificationTypeSet,
-        @Param("projectNames") Set<String> projectNames,
-        @Param("policyNames") Set<String> policyNames,
-        @Param("vulnerabilitySeverities") Set<String> vulnerabilitySeverities,
-        Pageable pageable
-    );
-
 }
@@ -7,7 +7,9 @@
  */
 package com.synopsys.integration.alert.database.job.blackduck;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -123,4 +125,40 @@ public class BlackDuckJobDetailsAccessor {
                    .collect(Collectors.toList());
     }
 
+    public Map<UUID, List<String>> retrieveNotificationTypesForJobs(Collection<UUID> jobIds) {
+        return blackDuckJobNotificationTypeRepository.findByJobIdIn(jobIds)
+                   .stream()
+                   .collect(Collectors.groupingBy(
+                       BlackDuckJobNotificationTypeEntity::getJobId,
+                       Collectors.mapping(BlackDuckJobNotificationTypeEntity::getNotificationType, Collectors.toList())
+                   ));
+    }
+
+    public Map<UUID, List<BlackDuckProjectDetailsModel>> retrieveProjectDetailsForJobs(Collection<UUID> jobIds) {
+        return blackDuckJobProjectRepository.findByJobIdIn(jobIds)
+                   .stream()
+                   .collect(Collectors.groupingBy(
+                       BlackDuckJobProjectEntity::getJobId,
+                       Collectors.mapping(blackDuckJobProject -> new BlackDuckProjectDetailsModel(blackDuckJobProject.getProjectName(), blackDuckJobProject.getHref()), Collectors.toList())
+                   ));
+    }
+
+    public Map<UUID, List<String>> retrievePolicyNamesForJobs(Collection<UUID> jobIds) {
+        return blackDuckJobPolicyFilterRepository.findByJobIdIn(jobIds)
+                   .stream()
+                   .collect(Collectors.groupingBy(
+                       BlackDuckJobPolicyFilterEntity::getJobId,
+                       Collectors.mapping(BlackDuckJobPolicyFilterEntity::getPolicyName, Collectors.toList())
+                   ));
+    }
+
+    public Map<UUID, List<String>> retrieveVulnerabilitySeverityNamesForJobs(Collection<UUID> jobIds) {
+        return blackDuckJobVulnerabilitySeverityFilterRepository.findByJobIdIn(jobIds)
+                   .stream()
+                   .collect(Collectors.groupingBy(
+                       BlackDuckJobVulnerabilitySeverityFilterEntity::getJobId,
+                       Collectors.mapping(BlackDuckJobVulnerabilitySeverityFilterEntity::getSeverityName, Collectors.toList())
+                   ));
+    }
+
 }
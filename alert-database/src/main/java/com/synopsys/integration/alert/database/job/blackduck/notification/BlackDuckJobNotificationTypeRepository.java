@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.job.blackduck.notification;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +25,6 @@ public interface BlackDuckJobNotificationTypeRepository extends JpaRepository<Bl
 
     List<BlackDuckJobNotificationTypeEntity> findByJobId(UUID jobId);
 
+    List<BlackDuckJobNotificationTypeEntity> findByJobIdIn(Collection<UUID> jobIds);
+
 }
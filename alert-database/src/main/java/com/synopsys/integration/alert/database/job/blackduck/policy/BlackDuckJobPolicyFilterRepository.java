@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.job.blackduck.policy;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +25,6 @@ public interface BlackDuckJobPolicyFilterRepository extends JpaRepository<BlackD
 
     List<BlackDuckJobPolicyFilterEntity> findByJobId(UUID jobId);
 
+    List<BlackDuckJobPolicyFilterEntity> findByJobIdIn(Collection<UUID> jobIds);
+
 }
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.job.blackduck.projects;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +25,6 @@ public interface BlackDuckJobProjectRepository extends JpaRepository<BlackDuckJo
 
     List<BlackDuckJobProjectEntity> findByJobId(UUID jobId);
 
+    List<BlackDuckJobProjectEntity> findByJobIdIn(Collection<UUID> jobIds);
+
 }
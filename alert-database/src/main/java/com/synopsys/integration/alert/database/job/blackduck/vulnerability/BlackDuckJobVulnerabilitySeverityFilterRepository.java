@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.database.job.blackduck.vulnerability;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,4 +25,6 @@ public interface BlackDuckJobVulnerabilitySeverityFilterRepository extends JpaRe
 
     List<BlackDuckJobVulnerabilitySeverityFilterEntity> findByJobId(UUID jobId);
 
+    List<BlackDuckJobVulnerabilitySeverityFilterEntity> findByJobIdIn(Collection<UUID> jobIds);
+
 }
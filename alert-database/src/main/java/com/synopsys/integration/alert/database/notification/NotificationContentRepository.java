@@ -22,6 +22,25 @@ public interface NotificationContentRepository extends JpaRepository<Notificatio
     @Query("SELECT entity FROM NotificationEntity entity WHERE entity.createdAt BETWEEN ?1 AND ?2 ORDER BY created_at, provider_creation_time asc")
     List<NotificationEntity> findByCreatedAtBetween(OffsetDateTime startDate, OffsetDateTime endDate);
 
+    @Query("SELECT entity FROM NotificationEntity entity"
+               + " WHERE entity.createdAt BETWEEN :startDate AND :endDate"
+               + " ORDER BY entity.createdAt ASC, entity.id ASC"
+    )
+    List<NotificationEntity> findFirstPageByCreatedAtBetween(@Param("startDate") OffsetDateTime startDate, @Param("endDate") OffsetDateTime endDate, Pageable pageable);
+
+    @Query("SELECT entity FROM NotificationEntity entity"
+               + " WHERE entity.createdAt BETWEEN :startDate AND :endDate"
+               + " AND (entity.createdAt > :lastCreatedAt OR (entity.createdAt = :lastCreatedAt AND entity.id > :lastId))"
+               + " ORDER BY entity.createdAt ASC, entity.id ASC"
+    )
+    List<NotificationEntity> findNextPageByCreatedAtBetween(
+        @Param("startDate") OffsetDateTime startDate,
+        @Param("endDate") OffsetDateTime endDate,
+        @Param("lastCreatedAt") OffsetDateTime lastCreatedAt,
+        @Param("lastId") Long lastId,
+        Pageable pageable
+    );
+
     @Query("SELECT entity FROM NotificationEntity entity WHERE entity.createdAt < ?1 ORDER BY created_at, provider_creation_time asc")
     List<NotificationEntity> findByCreatedAtBefore(OffsetDateTime date);
 
@@ -65,6 +84,8 @@ public interface NotificationContentRepository extends JpaRepository<Notificatio
 
     Page<NotificationEntity> findByProcessedFalseOrderByProviderCreationTimeAsc(Pageable pageable);
 
+    long countByProcessedFalse();
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE NotificationEntity entity "
                + "SET entity.processed = true "
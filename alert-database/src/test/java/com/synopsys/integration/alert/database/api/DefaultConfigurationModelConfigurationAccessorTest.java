@@ -32,6 +32,7 @@ import com.synopsys.integration.alert.database.configuration.repository.Descript
 import com.synopsys.integration.alert.database.configuration.repository.DescriptorTypeRepository;
 import com.synopsys.integration.alert.database.configuration.repository.FieldValueRepository;
 import com.synopsys.integration.alert.database.configuration.repository.RegisteredDescriptorRepository;
+import com.synopsys.integration.alert.database.job.DistributionJobFilterIndexCache;
 import com.synopsys.integration.alert.descriptor.api.model.DescriptorKey;
 
 public class DefaultConfigurationModelConfigurationAccessorTest {
@@ -86,7 +87,7 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
         Mockito.when(fieldValueRepository.findAllByFieldIdAndValue(fieldId, emptyProviderConfigName)).thenReturn(List.of());
         setupGetJobMocks(descriptorConfigEntity, configContextEntity, fieldValueEntity, definedFieldEntity);
 
-        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, definedFieldRepository, descriptorConfigRepository, configContextRepository, fieldValueRepository, encryptionUtility);
+        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, definedFieldRepository, descriptorConfigRepository, configContextRepository, fieldValueRepository, encryptionUtility, new DistributionJobFilterIndexCache());
         Optional<ConfigurationModel> configurationModelOptional = configurationModelConfigurationAccessor.getProviderConfigurationByName(providerConfigName);
         Optional<ConfigurationModel> configurationModelProviderConfigsEmpty = configurationModelConfigurationAccessor.getProviderConfigurationByName(emptyProviderConfigName);
 
@@ -101,7 +102,7 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
     public void getConfigurationByIdEmptyTest() {
         Mockito.when(descriptorConfigRepository.findById(Mockito.any())).thenReturn(Optional.empty());
 
-        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, null, descriptorConfigRepository, null, null, null);
+        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, null, descriptorConfigRepository, null, null, null, new DistributionJobFilterIndexCache());
         Optional<ConfigurationModel> configurationModelOptional = configurationModelConfigurationAccessor.getConfigurationById(1L);
 
         assertFalse(configurationModelOptional.isPresent());
@@ -133,7 +134,8 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
             descriptorConfigRepository,
             configContextRepository,
             fieldValueRepository,
-            encryptionUtility
+            encryptionUtility,
+            new DistributionJobFilterIndexCache()
         );
         List<ConfigurationModel> configurationModelList = configurationModelConfigurationAccessor.getConfigurationsByDescriptorKey(descriptorKey);
         List<ConfigurationModel> configurationModelListEmpty = configurationModelConfigurationAccessor.getConfigurationsByDescriptorKey(badDescriptorKey);
@@ -170,7 +172,8 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
             descriptorConfigRepository,
             configContextRepository,
             fieldValueRepository,
-            encryptionUtility
+            encryptionUtility,
+            new DistributionJobFilterIndexCache()
         );
         List<ConfigurationModel> configurationModelList = configurationModelConfigurationAccessor.getConfigurationsByDescriptorType(descriptorType);
 
@@ -204,7 +207,7 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
         EncryptionUtility encryptionUtility = createEncryptionUtility();
 
         DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(
-            registeredDescriptorRepository, definedFieldRepository, descriptorConfigRepository, configContextRepository, fieldValueRepository, encryptionUtility);
+            registeredDescriptorRepository, definedFieldRepository, descriptorConfigRepository, configContextRepository, fieldValueRepository, encryptionUtility, new DistributionJobFilterIndexCache());
         List<ConfigurationModel> configurationModelList = configurationModelConfigurationAccessor.getConfigurationsByDescriptorKeyAndContext(descriptorKey, configContextEnum);
 
         assertEquals(1, configurationModelList.size());
@@ -237,7 +240,7 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
         Mockito.when(definedFieldRepository.findFirstByKey(Mockito.any())).thenReturn(Optional.of(definedFieldEntity));
 
         DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(registeredDescriptorRepository, definedFieldRepository, descriptorConfigRepository, configContextRepository,
-            fieldValueRepository, null);
+            fieldValueRepository, null, new DistributionJobFilterIndexCache());
         ConfigurationModel configurationModel = configurationModelConfigurationAccessor.createConfiguration(descriptorKey, configContextEnum, configuredFields);
 
         testConfigurationModel(configurationId, descriptorId, configurationModel);
@@ -264,7 +267,7 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
         Mockito.when(definedFieldRepository.findFirstByKey(Mockito.any())).thenReturn(Optional.of(definedFieldEntity));
 
         DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, definedFieldRepository, descriptorConfigRepository, configContextRepository,
-            fieldValueRepository, null);
+            fieldValueRepository, null, new DistributionJobFilterIndexCache());
         ConfigurationModel configurationModel = configurationModelConfigurationAccessor.updateConfiguration(1L, configuredFields);
 
         Mockito.verify(fieldValueRepository).deleteAll(Mockito.any());
@@ -277,10 +280,12 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
     public void deleteConfigurationTest() {
         ConfigurationModel configurationModel = new ConfigurationModel(1L, 2L, "dateCreated", "lastUpdated", configContextEnum);
 
-        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, null, descriptorConfigRepository, null, null, null);
+        DistributionJobFilterIndexCache jobFilterIndexCache = Mockito.mock(DistributionJobFilterIndexCache.class);
+        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, null, descriptorConfigRepository, null, null, null, jobFilterIndexCache);
         configurationModelConfigurationAccessor.deleteConfiguration(configurationModel);
 
         Mockito.verify(descriptorConfigRepository).deleteById(Mockito.any());
+        Mockito.verify(jobFilterIndexCache).invalidate();
     }
 
     @Test
@@ -307,7 +312,7 @@ public class DefaultConfigurationModelConfigurationAccessorTest {
         setupGetJobMocks(descriptorConfigEntity, configContextEntity, fieldValueEntity, definedFieldEntity);
         Mockito.when(encryptionUtilityDecrypt.decrypt(Mockito.any())).thenReturn(decryptedString);
 
-        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, definedFieldRepository, descriptorConfigRepository, configContextRepository, fieldValueRepository, encryptionUtilityDecrypt);
+        DefaultConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = new DefaultConfigurationModelConfigurationAccessor(null, definedFieldRepository, descriptorConfigRepository, configContextRepository, fieldValueRepository, encryptionUtilityDecrypt, new DistributionJobFilterIndexCache());
         Optional<ConfigurationModel> configurationModelOptional = configurationModelConfigurationAccessor.getProviderConfigurationByName(providerConfigName);
 
         assertTrue(configurationModelOptional.isPresent());
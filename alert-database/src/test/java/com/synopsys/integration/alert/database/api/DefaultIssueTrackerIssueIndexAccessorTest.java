@@ -0,0 +1,103 @@
+package com.synopsys.integration.alert.database.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+import com.synopsys.integration.alert.database.issue.IssueTrackerIssueIndexEntity;
+import com.synopsys.integration.alert.database.issue.IssueTrackerIssueIndexEntityPK;
+import com.synopsys.integration.alert.database.issue.IssueTrackerIssueIndexRepository;
+
+public class DefaultIssueTrackerIssueIndexAccessorTest {
+    private final UUID jobId = UUID.randomUUID();
+    private final String issueIdentity = "issue-identity";
+    private final OffsetDateTime lastVerified = OffsetDateTime.now();
+
+    @Test
+    public void findIssueTest() {
+        IssueTrackerIssueIndexEntity entity = new IssueTrackerIssueIndexEntity(jobId, issueIdentity, "10001", "ALERT-1", lastVerified);
+        OffsetDateTime verifiedAfter = lastVerified.minusHours(1L);
+
+        IssueTrackerIssueIndexRepository issueIndexRepository = Mockito.mock(IssueTrackerIssueIndexRepository.class);
+        Mockito.when(issueIndexRepository.findByJobIdAndIssueIdentityAndLastVerifiedAfter(jobId, issueIdentity, verifiedAfter)).thenReturn(Optional.of(entity));
+
+        DefaultIssueTrackerIssueIndexAccessor issueIndexAccessor = new DefaultIssueTrackerIssueIndexAccessor(issueIndexRepository);
+        Optional<IndexedIssueModel> indexedIssue = issueIndexAccessor.findIssue(jobId, issueIdentity, verifiedAfter);
+
+        assertTrue(indexedIssue.isPresent());
+        assertEquals("ALERT-1", indexedIssue.get().getIssueKey());
+        assertEquals("10001", indexedIssue.get().getIssueId());
+        assertEquals(lastVerified, indexedIssue.get().getLastVerified());
+    }
+
+    @Test
+    public void findIssuesTest() {
+        IssueTrackerIssueIndexEntity entity = new IssueTrackerIssueIndexEntity(jobId, issueIdentity, "10001", "ALERT-1", lastVerified);
+        OffsetDateTime verifiedAfter = lastVerified.minusHours(1L);
+        List<String> issueIdentities = List.of(issueIdentity, "another-issue-identity");
+
+        IssueTrackerIssueIndexRepository issueIndexRepository = Mockito.mock(IssueTrackerIssueIndexRepository.class);
+        Mockito.when(issueIndexRepository.findByJobIdAndIssueIdentityInAndLastVerifiedAfter(jobId, issueIdentities, verifiedAfter)).thenReturn(List.of(entity));
+
+        DefaultIssueTrackerIssueIndexAccessor issueIndexAccessor = new DefaultIssueTrackerIssueIndexAccessor(issueIndexRepository);
+        List<IndexedIssueModel> indexedIssues = issueIndexAccessor.findIssues(jobId, issueIdentities, verifiedAfter);
+
+        assertEquals(1, indexedIssues.size());
+        assertEquals(issueIdentity, indexedIssues.get(0).getIssueIdentity());
+        assertEquals("10001", indexedIssues.get(0).getIssueId());
+        assertTrue(issueIndexAccessor.findIssues(jobId, List.of(), verifiedAfter).isEmpty());
+    }
+
+    @Test
+    public void saveIssueTest() {
+        IssueTrackerIssueIndexRepository issueIndexRepository = Mockito.mock(IssueTrackerIssueIndexRepository.class);
+        DefaultIssueTrackerIssueIndexAccessor issueIndexAccessor = new DefaultIssueTrackerIssueIndexAccessor(issueIndexRepository);
+        issueIndexAccessor.saveIssue(new IndexedIssueModel(jobId, issueIdentity, "10001", "ALERT-1", lastVerified));
+
+        ArgumentCaptor<IssueTrackerIssueIndexEntity> entityCaptor = ArgumentCaptor.forClass(IssueTrackerIssueIndexEntity.class);
+        Mockito.verify(issueIndexRepository).save(entityCaptor.capture());
+        IssueTrackerIssueIndexEntity savedEntity = entityCaptor.getValue();
+        assertEquals(jobId, savedEntity.getJobId());
+        assertEquals(issueIdentity, savedEntity.getIssueIdentity());
+        assertEquals("10001", savedEntity.getIssueId());
+        assertEquals("ALERT-1", savedEntity.getIssueKey());
+    }
+
+    @Test
+    public void saveIssuesTest() {
+        IssueTrackerIssueIndexRepository issueIndexRepository = Mockito.mock(IssueTrackerIssueIndexRepository.class);
+        DefaultIssueTrackerIssueIndexAccessor issueIndexAccessor = new DefaultIssueTrackerIssueIndexAccessor(issueIndexRepository);
+        issueIndexAccessor.saveIssues(List.of(
+            new IndexedIssueModel(jobId, issueIdentity, "10001", "ALERT-1", lastVerified),
+            new IndexedIssueModel(jobId, "another-issue-identity", "10002", "ALERT-2", lastVerified)
+        ));
+
+        ArgumentCaptor<List<IssueTrackerIssueIndexEntity>> entitiesCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(issueIndexRepository).saveAll(entitiesCaptor.capture());
+        List<IssueTrackerIssueIndexEntity> savedEntities = entitiesCaptor.getValue();
+        assertEquals(2, savedEntities.size());
+        assertEquals("ALERT-2", savedEntities.get(1).getIssueKey());
+        Mockito.verify(issueIndexRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    public void deleteIssueTest() {
+        IssueTrackerIssueIndexRepository issueIndexRepository = Mockito.mock(IssueTrackerIssueIndexRepository.class);
+        Mockito.when(issueIndexRepository.existsById(Mockito.any())).thenReturn(true);
+
+        DefaultIssueTrackerIssueIndexAccessor issueIndexAccessor = new DefaultIssueTrackerIssueIndexAccessor(issueIndexRepository);
+        issueIndexAccessor.deleteIssue(jobId, issueIdentity);
+
+        Mockito.verify(issueIndexRepository).deleteById(Mockito.any(IssueTrackerIssueIndexEntityPK.class));
+    }
+
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -16,12 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
-import com.synopsys.integration.alert.api.provider.ProviderDescriptor;
-import com.synopsys.integration.alert.common.enumeration.ConfigContextEnum;
 import com.synopsys.integration.alert.common.persistence.accessor.ConfigurationModelConfigurationAccessor;
-import com.synopsys.integration.alert.common.persistence.model.ConfigurationFieldModel;
-import com.synopsys.integration.alert.common.persistence.model.ConfigurationModel;
-import com.synopsys.integration.alert.common.persistence.model.mutable.ConfigurationModelMutable;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.util.DateUtils;
@@ -39,7 +35,6 @@ public class DefaultNotificationAccessorTest {
     private final String notificationType = "notificationType-test";
     private final String content = "content";
 
-    private final String KEY_PROVIDER_CONFIG_NAME = ProviderDescriptor.KEY_PROVIDER_CONFIG_NAME;
     private final String fieldValue = "test-channel.common.name-value";
 
     private final AlertNotificationModel expectedAlertNotificationModel = new AlertNotificationModel(id, providerConfigId, provider, fieldValue, notificationType, content, DateUtils.createCurrentDateTimestamp(),
@@ -52,13 +47,12 @@ public class DefaultNotificationAccessorTest {
 
         AlertNotificationModel alertNotificationModel = new AlertNotificationModel(null, providerConfigId, provider, providerConfigName, notificationType, content, createdAt, providerCreationTime, false);
         NotificationEntity notificationEntity = new NotificationEntity(id, createdAt, provider, providerConfigId, providerCreationTime, notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.saveAll(Mockito.any())).thenReturn(List.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.saveAllNotifications(List.of(alertNotificationModel));
@@ -86,13 +80,12 @@ public class DefaultNotificationAccessorTest {
 
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
         Page<NotificationEntity> allSentNotifications = new PageImpl<>(List.of(notificationEntity));
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findAllSentNotifications(Mockito.any())).thenReturn(allSentNotifications);
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         Page<AlertNotificationModel> alertNotificationModelPage = notificationManager.findAll(pageRequest, Boolean.TRUE);
@@ -108,12 +101,11 @@ public class DefaultNotificationAccessorTest {
 
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
         Page<NotificationEntity> allSentNotifications = new PageImpl<>(List.of(notificationEntity));
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
         Mockito.when(notificationContentRepository.findAll(pageRequest)).thenReturn(allSentNotifications);
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
@@ -131,13 +123,12 @@ public class DefaultNotificationAccessorTest {
 
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
         Page<NotificationEntity> notificationEntityPage = new PageImpl<>(List.of(notificationEntity));
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findMatchingSentNotification(Mockito.any(), Mockito.any())).thenReturn(notificationEntityPage);
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
         Mockito.when(notificationContentRepository.findMatchingNotification(Mockito.any(), Mockito.any())).thenReturn(notificationEntityPage);
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
@@ -156,13 +147,12 @@ public class DefaultNotificationAccessorTest {
     @Test
     public void findByIdsTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findAllById(Mockito.any())).thenReturn(List.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByIds(List.of(1L));
@@ -172,16 +162,43 @@ public class DefaultNotificationAccessorTest {
         testExpectedAlertNotificationModel(expectedAlertNotificationModel, alertNotificationModel);
     }
 
+    @Test
+    public void providerConfigNamesResolvedOncePerPageTest() {
+        Long deletedProviderConfigId = 3L;
+        List<NotificationEntity> notificationEntities = List.of(
+            new NotificationEntity(1L, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false),
+            new NotificationEntity(2L, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false),
+            new NotificationEntity(3L, DateUtils.createCurrentDateTimestamp(), provider, deletedProviderConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false)
+        );
+
+        NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
+
+        Mockito.when(notificationContentRepository.findAllById(Mockito.any())).thenReturn(notificationEntities);
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Set.of(providerConfigId, deletedProviderConfigId))).thenReturn(Map.of(providerConfigId, fieldValue));
+
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByIds(List.of(1L, 2L, 3L));
+
+        assertEquals(3, alertNotificationModelList.size());
+        assertEquals(fieldValue, alertNotificationModelList.get(0).getProviderConfigName());
+        assertEquals(fieldValue, alertNotificationModelList.get(1).getProviderConfigName());
+        assertEquals("DELETED CONFIGURATION", alertNotificationModelList.get(2).getProviderConfigName());
+        Mockito.verify(configurationModelConfigurationAccessor).getProviderConfigNamesByIds(Mockito.any());
+        Mockito.verify(configurationModelConfigurationAccessor, Mockito.never()).getConfigurationById(Mockito.any());
+        // Looking notifications up by id does not load a page
+        assertEquals(0L, notificationManager.getLoadedPageCount());
+    }
+
     @Test
     public void findByIdTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findById(Mockito.any())).thenReturn(Optional.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         Optional<AlertNotificationModel> alertNotificationModel = notificationManager.findById(1L);
@@ -193,13 +210,12 @@ public class DefaultNotificationAccessorTest {
     @Test
     public void findByCreatedAtBetweenTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findByCreatedAtBetween(Mockito.any(), Mockito.any())).thenReturn(List.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByCreatedAtBetween(DateUtils.createCurrentDateTimestamp(), DateUtils.createCurrentDateTimestamp());
@@ -209,16 +225,43 @@ public class DefaultNotificationAccessorTest {
         testExpectedAlertNotificationModel(expectedAlertNotificationModel, alertNotificationModel);
     }
 
+    @Test
+    public void findPageByCreatedAtBetweenTest() {
+        NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
+
+        NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
+
+        Mockito.when(notificationContentRepository.findFirstPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(List.of(notificationEntity));
+        Mockito.when(notificationContentRepository.findNextPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(id), Mockito.any())).thenReturn(List.of());
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
+
+        DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
+        OffsetDateTime startDate = DateUtils.createCurrentDateTimestamp();
+        OffsetDateTime endDate = DateUtils.createCurrentDateTimestamp();
+        List<AlertNotificationModel> firstPage = notificationManager.findPageByCreatedAtBetween(startDate, endDate, null, 1);
+
+        assertEquals(1, firstPage.size());
+        testExpectedAlertNotificationModel(expectedAlertNotificationModel, firstPage.get(0));
+
+        List<AlertNotificationModel> nextPage = notificationManager.findPageByCreatedAtBetween(startDate, endDate, firstPage.get(0), 1);
+        assertTrue(nextPage.isEmpty());
+
+        // The empty page needs no provider config names
+        assertEquals(2L, notificationManager.getLoadedPageCount());
+        assertEquals(0.5, notificationManager.getProviderConfigNameLookupsPerPage());
+        Mockito.verify(configurationModelConfigurationAccessor, Mockito.times(1)).getProviderConfigNamesByIds(Mockito.any());
+    }
+
     @Test
     public void findByCreatedAtBeforeTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findByCreatedAtBefore(Mockito.any())).thenReturn(List.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByCreatedAtBefore(DateUtils.createCurrentDateTimestamp());
@@ -231,13 +274,12 @@ public class DefaultNotificationAccessorTest {
     @Test
     public void findByCreatedAtBeforeDayOffsetTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findByCreatedAtBefore(Mockito.any())).thenReturn(List.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         List<AlertNotificationModel> alertNotificationModelList = notificationManager.findByCreatedAtBeforeDayOffset(1);
@@ -270,13 +312,12 @@ public class DefaultNotificationAccessorTest {
     public void getFirstPageOfNotificationsNotProcessedTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
         Page<NotificationEntity> pageOfNotificationEntities = new PageImpl<>(List.of(notificationEntity));
-        ConfigurationModel configurationModel = createConfigurationModel();
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findByProcessedFalseOrderByProviderCreationTimeAsc(Mockito.any())).thenReturn(pageOfNotificationEntities);
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         AlertPagedModel<AlertNotificationModel> model = notificationManager.getFirstPageOfNotificationsNotProcessed(100);
@@ -303,14 +344,13 @@ public class DefaultNotificationAccessorTest {
     @Test
     public void setNotificationsProcessedByIdTest() {
         NotificationEntity notificationEntity = new NotificationEntity(id, DateUtils.createCurrentDateTimestamp(), provider, providerConfigId, DateUtils.createCurrentDateTimestamp(), notificationType, content, false);
-        ConfigurationModel configurationModel = createConfigurationModel();
         Set<Long> notificationIds = Set.of(1L);
 
         NotificationContentRepository notificationContentRepository = Mockito.mock(NotificationContentRepository.class);
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor = Mockito.mock(ConfigurationModelConfigurationAccessor.class);
 
         Mockito.when(notificationContentRepository.findAllById(Mockito.any())).thenReturn(List.of(notificationEntity));
-        Mockito.when(configurationModelConfigurationAccessor.getConfigurationById(Mockito.any())).thenReturn(Optional.of(configurationModel));
+        Mockito.when(configurationModelConfigurationAccessor.getProviderConfigNamesByIds(Mockito.any())).thenReturn(Map.of(providerConfigId, fieldValue));
 
         DefaultNotificationAccessor notificationManager = new DefaultNotificationAccessor(notificationContentRepository, null, configurationModelConfigurationAccessor);
         notificationManager.setNotificationsProcessedById(notificationIds);
@@ -327,13 +367,4 @@ public class DefaultNotificationAccessorTest {
         assertEquals(expected.getContent(), actual.getContent());
     }
 
-    private ConfigurationModelMutable createConfigurationModel() {
-        ConfigurationModelMutable configurationModel = new ConfigurationModelMutable(1L, 1L, "createdAt-test", "lastUpdate-test", ConfigContextEnum.DISTRIBUTION);
-        ConfigurationFieldModel configurationFieldModel = ConfigurationFieldModel.create(KEY_PROVIDER_CONFIG_NAME);
-        configurationFieldModel.setFieldValue(fieldValue);
-        configurationModel.put(configurationFieldModel);
-
-        return configurationModel;
-    }
-
 }
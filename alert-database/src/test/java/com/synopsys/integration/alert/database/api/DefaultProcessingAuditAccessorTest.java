@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -19,6 +21,7 @@ import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAudi
 import com.synopsys.integration.alert.database.audit.AuditEntryEntity;
 import com.synopsys.integration.alert.database.audit.AuditEntryNotificationView;
 import com.synopsys.integration.alert.database.audit.AuditEntryRepository;
+import com.synopsys.integration.alert.database.audit.AuditNotificationRelation;
 import com.synopsys.integration.alert.database.audit.AuditNotificationRepository;
 
 public class DefaultProcessingAuditAccessorTest {
@@ -31,19 +34,53 @@ public class DefaultProcessingAuditAccessorTest {
 
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
         Mockito.when(auditEntryRepository.findByJobIdAndNotificationIds(Mockito.eq(testJobId), Mockito.eq(testNotificationIds))).thenReturn(List.of());
-        Mockito.when(auditEntryRepository.save(Mockito.any())).then(invocation -> {
-            AuditEntryEntity auditEntry = invocation.getArgument(0);
-            auditEntry.setId(RANDOM.nextLong());
-            return auditEntry;
+        Mockito.when(auditEntryRepository.saveAll(Mockito.anyList())).then(invocation -> {
+            List<AuditEntryEntity> auditEntries = invocation.getArgument(0);
+            auditEntries.forEach(auditEntry -> auditEntry.setId(RANDOM.nextLong()));
+            return auditEntries;
         });
 
+        AtomicReference<List<AuditNotificationRelation>> savedRelations = new AtomicReference<>();
         AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
-        Mockito.when(auditNotificationRepository.saveAll(Mockito.anyCollection())).thenReturn(List.of());
+        Mockito.when(auditNotificationRepository.saveAll(Mockito.anyList())).then(invocation -> {
+            savedRelations.set(invocation.getArgument(0));
+            return List.of();
+        });
 
         DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, auditNotificationRepository);
         processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(testJobId, testNotificationIds);
 
-        Mockito.verify(auditEntryRepository, Mockito.times(testNotificationIds.size())).save(Mockito.any());
+        Mockito.verify(auditEntryRepository).saveAll(Mockito.anyList());
+        Mockito.verify(auditEntryRepository, Mockito.never()).save(Mockito.any());
+        Set<Long> relatedNotificationIds = savedRelations.get()
+                                               .stream()
+                                               .peek(relation -> assertTrue(relation.isNew(), "Expected the relation to be inserted"))
+                                               .map(AuditNotificationRelation::getNotificationId)
+                                               .collect(Collectors.toSet());
+        assertEquals(testNotificationIds, relatedNotificationIds);
+        assertEquals(6L, processingAuditAccessor.getAuditRowsWritten());
+    }
+
+    @Test
+    public void createOrUpdatePendingAuditEntryForJobExistingEntriesTest() {
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(1L, 2L);
+        AuditEntryNotificationView existingView = new AuditEntryNotificationView(5L, testJobId, 1L, null, null, AuditEntryStatus.SUCCESS.name(), null, null);
+
+        AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        Mockito.when(auditEntryRepository.findByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(List.of(existingView));
+        Mockito.when(auditEntryRepository.saveAll(Mockito.anyList())).then(invocation -> {
+            List<AuditEntryEntity> auditEntries = invocation.getArgument(0);
+            assertEquals(1, auditEntries.size());
+            auditEntries.forEach(auditEntry -> auditEntry.setId(6L));
+            return auditEntries;
+        });
+
+        AuditNotificationRepository auditNotificationRepository = Mockito.mock(AuditNotificationRepository.class);
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, auditNotificationRepository);
+        processingAuditAccessor.createOrUpdatePendingAuditEntryForJob(testJobId, testNotificationIds);
+
+        Mockito.verify(auditNotificationRepository).saveAll(List.of(new AuditNotificationRelation(6L, 2L)));
     }
 
     @Test
@@ -68,35 +105,51 @@ public class DefaultProcessingAuditAccessorTest {
         assertTrue(testResultEntry.getErrorStackTrace().contains(testExceptionMessage), "Expected the error stack trace to contain a specific message, but that message was missing");
     }
 
+    @Test
+    public void setAuditEntryFailureWithoutExceptionTest() {
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(99L);
+        String testErrorMessage = "Uh oh, an error occurred!";
+
+        AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
+        Mockito.when(auditEntryRepository.findIdsByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(List.of(0L));
+
+        DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, null);
+        processingAuditAccessor.setAuditEntryFailure(testJobId, testNotificationIds, testErrorMessage, null);
+
+        Mockito.verify(auditEntryRepository).bulkUpdateStatusRetainingStackTrace(Mockito.eq(List.of(0L)), Mockito.eq(AuditEntryStatus.FAILURE.name()), Mockito.any(), Mockito.eq(testErrorMessage));
+        Mockito.verify(auditEntryRepository, Mockito.never()).bulkUpdateStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
     private AuditEntryEntity setAuditEntryStatusTest(AuditEntryStatus expectedStatus, AuditAccessorStatusSetter statusSetter) {
         UUID testJobId = UUID.randomUUID();
         Long testNotificationId = 99L;
+        Long testAuditEntryId = 0L;
         Set<Long> testNotificationIds = Set.of(testNotificationId);
-        AuditEntryNotificationView testView = new AuditEntryNotificationView(0L, testJobId, testNotificationId, null, null, null, null, null);
-
-        AtomicReference<AuditEntryEntity> savedEntry = new AtomicReference<>();
+        AuditEntryEntity updatedEntry = new AuditEntryEntity(testJobId, null, null, null, null, null);
+        updatedEntry.setId(testAuditEntryId);
 
         AuditEntryRepository auditEntryRepository = Mockito.mock(AuditEntryRepository.class);
-        Mockito.when(auditEntryRepository.findByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(List.of(testView));
-        Mockito.when(auditEntryRepository.saveAll(Mockito.anyList())).then(invocation -> {
-            List<AuditEntryEntity> savedEntries = invocation.getArgument(0);
-            if (!savedEntries.isEmpty()) {
-                savedEntry.set(savedEntries.get(0));
-            }
-            return List.of();
+        Mockito.when(auditEntryRepository.findIdsByJobIdAndNotificationIds(testJobId, testNotificationIds)).thenReturn(List.of(testAuditEntryId));
+        Mockito.when(auditEntryRepository.bulkUpdateStatus(Mockito.anyCollection(), Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any())).then(invocation -> {
+            Collection<Long> auditEntryIds = invocation.getArgument(0);
+            assertEquals(List.of(testAuditEntryId), auditEntryIds);
+            updatedEntry.setStatus(invocation.getArgument(1));
+            updatedEntry.setTimeLastSent(invocation.getArgument(2));
+            updatedEntry.setErrorMessage(invocation.getArgument(3));
+            updatedEntry.setErrorStackTrace(invocation.getArgument(4));
+            return auditEntryIds.size();
         });
 
         DefaultProcessingAuditAccessor processingAuditAccessor = new DefaultProcessingAuditAccessor(auditEntryRepository, null);
         statusSetter.setStatus(processingAuditAccessor, testJobId, testNotificationIds);
 
-        AuditEntryEntity auditEntryEntity = savedEntry.get();
-        assertNotNull(auditEntryEntity, "Expected an audit entry to have been saved");
-        assertEquals(testView.getId(), auditEntryEntity.getId());
-        assertEquals(testView.getJobId(), auditEntryEntity.getCommonConfigId());
-        assertEquals(expectedStatus.name(), auditEntryEntity.getStatus());
-        assertNotNull(auditEntryEntity.getTimeLastSent(), "Expected time last sent to be set");
+        assertEquals(testJobId, updatedEntry.getCommonConfigId());
+        assertEquals(expectedStatus.name(), updatedEntry.getStatus());
+        assertNotNull(updatedEntry.getTimeLastSent(), "Expected time last sent to be set");
+        assertEquals(1L, processingAuditAccessor.getAuditRowsWritten());
 
-        return auditEntryEntity;
+        return updatedEntry;
     }
 
     @FunctionalInterface
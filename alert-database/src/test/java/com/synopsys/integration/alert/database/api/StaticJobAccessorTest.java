@@ -30,6 +30,7 @@ import com.synopsys.integration.alert.common.persistence.model.job.details.Slack
 import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.database.job.DistributionJobEntity;
+import com.synopsys.integration.alert.database.job.DistributionJobFilterIndexCache;
 import com.synopsys.integration.alert.database.job.DistributionJobRepository;
 import com.synopsys.integration.alert.database.job.azure.boards.AzureBoardsJobDetailsEntity;
 import com.synopsys.integration.alert.database.job.azure.boards.DefaultAzureBoardsJobDetailsAccessor;
@@ -87,6 +88,7 @@ class StaticJobAccessorTest {
             jiraServerJobDetailsAccessor,
             msTeamsJobDetailsAccessor,
             slackJobDetailsAccessor,
+            new DistributionJobFilterIndexCache(),
             new BlackDuckProviderKey()
         );
     }
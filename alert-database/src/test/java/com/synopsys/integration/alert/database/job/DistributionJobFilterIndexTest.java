@@ -0,0 +1,125 @@
+package com.synopsys.integration.alert.database.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
+import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.common.persistence.model.job.BlackDuckProjectDetailsModel;
+import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
+
+public class DistributionJobFilterIndexTest {
+    private static final Long PROVIDER_CONFIG_ID = 1L;
+    private static final String VULNERABILITY = "VULNERABILITY";
+    private static final String RULE_VIOLATION = "RULE_VIOLATION";
+    private static final List<String> REAL_TIME = List.of(FrequencyType.REAL_TIME.name());
+
+    @Test
+    public void matchesByProviderFrequencyAndNotificationTypeTest() {
+        FilteredDistributionJobResponseModel matchingJob = createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of(), false, null);
+        FilteredDistributionJobResponseModel otherTypeJob = createJob(List.of(RULE_VIOLATION), List.of(), List.of(), List.of(), false, null);
+        DistributionJobFilterIndex index = DistributionJobFilterIndex.builder()
+                                               .addJob(PROVIDER_CONFIG_ID, FrequencyType.REAL_TIME.name(), matchingJob)
+                                               .addJob(PROVIDER_CONFIG_ID, FrequencyType.REAL_TIME.name(), otherTypeJob)
+                                               .addJob(2L, FrequencyType.REAL_TIME.name(), createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of(), false, null))
+                                               .addJob(PROVIDER_CONFIG_ID, FrequencyType.DAILY.name(), createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of(), false, null))
+                                               .build();
+
+        NotificationFilterModel notificationFilter = NotificationFilterModel.vulnerability(PROVIDER_CONFIG_ID, VULNERABILITY, "project", List.of("HIGH"));
+        assertEquals(List.of(matchingJob), index.findMatchingJobs(notificationFilter, REAL_TIME));
+    }
+
+    @Test
+    public void matchesByProjectNameAndPatternTest() {
+        FilteredDistributionJobResponseModel namedJob = createJob(List.of(VULNERABILITY), List.of("project"), List.of(), List.of(), true, null);
+        FilteredDistributionJobResponseModel patternJob = createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of(), true, "proj.*");
+        FilteredDistributionJobResponseModel bothJob = createJob(List.of(VULNERABILITY), List.of("project"), List.of(), List.of(), true, "pro.*");
+        FilteredDistributionJobResponseModel otherProjectJob = createJob(List.of(VULNERABILITY), List.of("other"), List.of(), List.of(), true, "other.*");
+        DistributionJobFilterIndex index = createIndex(namedJob, patternJob, bothJob, otherProjectJob);
+
+        NotificationFilterModel notificationFilter = NotificationFilterModel.vulnerability(PROVIDER_CONFIG_ID, VULNERABILITY, "project", List.of());
+        assertEquals(List.of(namedJob, patternJob, bothJob), index.findMatchingJobs(notificationFilter, REAL_TIME));
+    }
+
+    @Test
+    public void matchesBySeverityTest() {
+        FilteredDistributionJobResponseModel unfilteredJob = createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of(), false, null);
+        FilteredDistributionJobResponseModel highJob = createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of("HIGH", "CRITICAL"), false, null);
+        FilteredDistributionJobResponseModel lowJob = createJob(List.of(VULNERABILITY), List.of(), List.of(), List.of("LOW"), false, null);
+        DistributionJobFilterIndex index = createIndex(unfilteredJob, highJob, lowJob);
+
+        NotificationFilterModel highNotification = NotificationFilterModel.vulnerability(PROVIDER_CONFIG_ID, VULNERABILITY, null, List.of("HIGH", "UNKNOWN"));
+        assertEquals(List.of(unfilteredJob, highJob), index.findMatchingJobs(highNotification, REAL_TIME));
+
+        NotificationFilterModel noSeverityNotification = NotificationFilterModel.vulnerability(PROVIDER_CONFIG_ID, VULNERABILITY, null, List.of());
+        assertEquals(List.of(unfilteredJob), index.findMatchingJobs(noSeverityNotification, REAL_TIME));
+    }
+
+    @Test
+    public void matchesByPolicyTest() {
+        FilteredDistributionJobResponseModel unfilteredJob = createJob(List.of(RULE_VIOLATION), List.of(), List.of(), List.of(), false, null);
+        FilteredDistributionJobResponseModel policyJob = createJob(List.of(RULE_VIOLATION), List.of(), List.of("policy"), List.of(), false, null);
+        FilteredDistributionJobResponseModel otherPolicyJob = createJob(List.of(RULE_VIOLATION), List.of(), List.of("other policy"), List.of(), false, null);
+        DistributionJobFilterIndex index = createIndex(unfilteredJob, policyJob, otherPolicyJob);
+
+        NotificationFilterModel policyNotification = NotificationFilterModel.policy(PROVIDER_CONFIG_ID, RULE_VIOLATION, null, "policy");
+        assertEquals(List.of(unfilteredJob, policyJob), index.findMatchingJobs(policyNotification, REAL_TIME));
+
+        NotificationFilterModel unknownPolicyNotification = NotificationFilterModel.policy(PROVIDER_CONFIG_ID, RULE_VIOLATION, null, "unknown");
+        assertEquals(List.of(unfilteredJob), index.findMatchingJobs(unknownPolicyNotification, REAL_TIME));
+    }
+
+    @Test
+    public void invalidPatternIsIgnoredTest() {
+        FilteredDistributionJobResponseModel invalidPatternJob = createJob(List.of(VULNERABILITY), List.of("project"), List.of(), List.of(), true, "*[");
+        DistributionJobFilterIndex index = createIndex(invalidPatternJob);
+
+        assertEquals(List.of(invalidPatternJob), index.findMatchingJobs(NotificationFilterModel.project(PROVIDER_CONFIG_ID, VULNERABILITY, "project"), REAL_TIME));
+        assertTrue(index.findMatchingJobs(NotificationFilterModel.project(PROVIDER_CONFIG_ID, VULNERABILITY, "other"), REAL_TIME).isEmpty());
+    }
+
+    @Test
+    public void cacheInvalidationTest() {
+        DistributionJobFilterIndexCache indexCache = new DistributionJobFilterIndexCache();
+        DistributionJobFilterIndex firstIndex = DistributionJobFilterIndex.builder().build();
+        DistributionJobFilterIndex secondIndex = DistributionJobFilterIndex.builder().build();
+
+        assertSame(firstIndex, indexCache.retrieveIndex(() -> firstIndex));
+        assertSame(firstIndex, indexCache.retrieveIndex(() -> secondIndex));
+
+        indexCache.invalidate();
+        assertSame(secondIndex, indexCache.retrieveIndex(() -> secondIndex));
+    }
+
+    private DistributionJobFilterIndex createIndex(FilteredDistributionJobResponseModel... jobs) {
+        DistributionJobFilterIndex.Builder indexBuilder = DistributionJobFilterIndex.builder();
+        for (FilteredDistributionJobResponseModel job : jobs) {
+            indexBuilder.addJob(PROVIDER_CONFIG_ID, FrequencyType.REAL_TIME.name(), job);
+        }
+        return indexBuilder.build();
+    }
+
+    private FilteredDistributionJobResponseModel createJob(
+        List<String> notificationTypes,
+        List<String> projectNames,
+        List<String> policyNames,
+        List<String> severities,
+        boolean filterByProject,
+        String projectNamePattern
+    ) {
+        List<BlackDuckProjectDetailsModel> projectDetails = projectNames
+                                                                .stream()
+                                                                .map(projectName -> new BlackDuckProjectDetailsModel(projectName, "https://" + projectName))
+                                                                .collect(Collectors.toList());
+        return new FilteredDistributionJobResponseModel(UUID.randomUUID(), ProcessingType.DEFAULT, "channel", "job", notificationTypes, projectDetails, policyNames, severities, filterByProject, projectNamePattern);
+    }
+
+}
@@ -1,9 +1,11 @@
 package com.synopsys.integration.alert.database.job.blackduck;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -118,6 +120,27 @@ public class BlackDuckJobDetailsAccessorTest {
         assertEquals(notificationType, notificationTypes.get(0));
     }
 
+    @Test
+    public void retrieveNotificationTypesForJobsTest() {
+        UUID firstJobId = UUID.randomUUID();
+        UUID secondJobId = UUID.randomUUID();
+        UUID jobIdWithoutTypes = UUID.randomUUID();
+        List<UUID> jobIds = List.of(firstJobId, secondJobId, jobIdWithoutTypes);
+
+        Mockito.when(blackDuckJobNotificationTypeRepository.findByJobIdIn(Mockito.eq(jobIds))).thenReturn(List.of(
+            new BlackDuckJobNotificationTypeEntity(firstJobId, "firstType"),
+            new BlackDuckJobNotificationTypeEntity(secondJobId, "firstType"),
+            new BlackDuckJobNotificationTypeEntity(firstJobId, "secondType")
+        ));
+
+        Map<UUID, List<String>> notificationTypesByJob = blackDuckJobDetailsAccessor.retrieveNotificationTypesForJobs(jobIds);
+
+        assertEquals(List.of("firstType", "secondType"), notificationTypesByJob.get(firstJobId));
+        assertEquals(List.of("firstType"), notificationTypesByJob.get(secondJobId));
+        assertFalse(notificationTypesByJob.containsKey(jobIdWithoutTypes));
+        Mockito.verify(blackDuckJobNotificationTypeRepository, Mockito.never()).findByJobId(Mockito.any());
+    }
+
     @Test
     public void retrieveProjectDetailsForJobTest() {
         UUID jobId = UUID.randomUUID();
@@ -8,6 +8,7 @@
 package com.synopsys.integration.alert.api.channel.issue.search;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
@@ -16,4 +17,16 @@ import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 public interface ExactIssueFinder<T extends Serializable> {
     List<ExistingIssueDetails<T>> findExistingIssuesByProjectIssueModel(ProjectIssueModel projectIssueModel) throws AlertException;
 
+    /**
+     * Finds the existing issues of each {@link ProjectIssueModel}, one search at a time unless an implementation can do better.
+     * @return The existing issues of each model, in the same order as the models.
+     */
+    default List<List<ExistingIssueDetails<T>>> findExistingIssuesByProjectIssueModels(List<ProjectIssueModel> projectIssueModels) throws AlertException {
+        List<List<ExistingIssueDetails<T>>> existingIssues = new ArrayList<>(projectIssueModels.size());
+        for (ProjectIssueModel projectIssueModel : projectIssueModels) {
+            existingIssues.add(findExistingIssuesByProjectIssueModel(projectIssueModel));
+        }
+        return existingIssues;
+    }
+
 }
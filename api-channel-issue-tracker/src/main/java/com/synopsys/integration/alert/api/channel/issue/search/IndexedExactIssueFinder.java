@@ -0,0 +1,91 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.search;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+
+/**
+ * Looks issues up in the {@link IssueTrackerIssueIndex} and reads their current state from the issue-tracker by their IDs instead of
+ * searching for them. The index entries of all the models are read at once, and so are the indexed issues. When an issue is not indexed,
+ * or no longer exists, the entry is dropped and a remote search is performed instead. The issue is indexed when the remote search finds
+ * exactly one.
+ */
+public class IndexedExactIssueFinder<T extends Serializable> implements ExactIssueFinder<T> {
+    private final ExactIssueFinder<T> remoteIssueFinder;
+    private final IssueTrackerIssueIndex<T> issueIndex;
+    private final IndexedIssueRetriever<T> indexedIssueRetriever;
+
+    public IndexedExactIssueFinder(ExactIssueFinder<T> remoteIssueFinder, IssueTrackerIssueIndex<T> issueIndex, IndexedIssueRetriever<T> indexedIssueRetriever) {
+        this.remoteIssueFinder = remoteIssueFinder;
+        this.issueIndex = issueIndex;
+        this.indexedIssueRetriever = indexedIssueRetriever;
+    }
+
+    @Override
+    public List<ExistingIssueDetails<T>> findExistingIssuesByProjectIssueModel(ProjectIssueModel projectIssueModel) throws AlertException {
+        return findExistingIssuesByProjectIssueModels(List.of(projectIssueModel)).get(0);
+    }
+
+    @Override
+    public List<List<ExistingIssueDetails<T>>> findExistingIssuesByProjectIssueModels(List<ProjectIssueModel> projectIssueModels) throws AlertException {
+        List<Optional<IndexedIssueModel>> indexedIssues = issueIndex.findIssues(projectIssueModels);
+        Map<String, ExistingIssueDetails<T>> currentIssues = retrieveIndexedIssues(projectIssueModels, indexedIssues);
+
+        List<List<ExistingIssueDetails<T>>> existingIssuesByModel = new ArrayList<>(projectIssueModels.size());
+        List<ProjectIssueModel> modelsToIndex = new ArrayList<>();
+        List<ExistingIssueDetails<T>> issuesToIndex = new ArrayList<>();
+        for (int i = 0; i < projectIssueModels.size(); i++) {
+            ProjectIssueModel projectIssueModel = projectIssueModels.get(i);
+            Optional<ExistingIssueDetails<T>> currentIssue = indexedIssues.get(i)
+                                                                 .map(IndexedIssueModel::getIssueId)
+                                                                 .map(currentIssues::get);
+            if (currentIssue.isPresent()) {
+                existingIssuesByModel.add(List.of(currentIssue.get()));
+                continue;
+            }
+            if (indexedIssues.get(i).isPresent()) {
+                issueIndex.removeIssue(projectIssueModel);
+            }
+
+            List<ExistingIssueDetails<T>> existingIssues = remoteIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+            if (existingIssues.size() == 1) {
+                modelsToIndex.add(projectIssueModel);
+                issuesToIndex.add(existingIssues.get(0));
+            }
+            existingIssuesByModel.add(existingIssues);
+        }
+        issueIndex.indexIssues(modelsToIndex, issuesToIndex);
+        return existingIssuesByModel;
+    }
+
+    private Map<String, ExistingIssueDetails<T>> retrieveIndexedIssues(List<ProjectIssueModel> projectIssueModels, List<Optional<IndexedIssueModel>> indexedIssues) throws AlertException {
+        Map<String, IssueCategory> issueCategoriesByIssueId = new HashMap<>();
+        for (int i = 0; i < projectIssueModels.size(); i++) {
+            ProjectIssueModel projectIssueModel = projectIssueModels.get(i);
+            indexedIssues.get(i)
+                .map(IndexedIssueModel::getIssueId)
+                .ifPresent(issueId -> issueCategoriesByIssueId.put(issueId, issueIndex.retrieveIssueCategory(projectIssueModel)));
+        }
+
+        if (issueCategoriesByIssueId.isEmpty()) {
+            return Map.of();
+        }
+        return indexedIssueRetriever.retrieveIndexedIssues(issueCategoriesByIssueId);
+    }
+
+}
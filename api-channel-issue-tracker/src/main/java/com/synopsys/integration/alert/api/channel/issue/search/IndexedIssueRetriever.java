@@ -0,0 +1,29 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.search;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+
+/**
+ * Reads the current state of the issues found in the {@link IssueTrackerIssueIndex} directly from the issue-tracker, with as few requests
+ * as the issue-tracker allows.
+ * @param <T> The {@link Serializable} type of an issue-tracker issue's ID.
+ */
+public interface IndexedIssueRetriever<T extends Serializable> {
+    /**
+     * @param issueCategoriesByIssueId The category of each issue to read, by the issue ID of its index entry.
+     * @return The current details of each issue that still exists in the issue-tracker, by the issue ID of its index entry. Issues that no
+     * longer exist are absent.
+     */
+    Map<String, ExistingIssueDetails<T>> retrieveIndexedIssues(Map<String, IssueCategory> issueCategoriesByIssueId) throws AlertException;
+
+}
@@ -0,0 +1,225 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.search;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.alert.api.channel.issue.model.IssueBomComponentDetails;
+import com.synopsys.integration.alert.api.channel.issue.model.IssuePolicyDetails;
+import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.common.model.exception.AlertRuntimeException;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.persistence.accessor.IssueTrackerIssueIndexAccessor;
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+
+/**
+ * Maps the identity of a {@link ProjectIssueModel} (provider, project, version, component, concern, and policy) to the issue-tracker issue
+ * that was found or created for it by a job, so that the issue can be read by its ID instead of searched for. Only the ID and key of the
+ * issue are indexed; its status and other details are always read from the issue-tracker, for all the issues of a message at once.
+ * Entries that have not been verified within the maximum age are ignored, and are verified again by the next remote search.
+ * <br/>
+ * Failures to read or write the index are logged and otherwise ignored because the remote search remains authoritative. A maximum age of
+ * zero disables the index.
+ * @param <T> The {@link Serializable} type of an issue-tracker issue's ID.
+ */
+public class IssueTrackerIssueIndex<T extends Serializable> {
+    private static final String IDENTITY_DELIMITER = "\u0000";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final IssueTrackerIssueIndexAccessor issueIndexAccessor;
+    private final IssueCategoryRetriever issueCategoryRetriever;
+    private final UUID jobId;
+    private final String issueTrackerProject;
+    private final Duration maxAge;
+
+    public IssueTrackerIssueIndex(
+        IssueTrackerIssueIndexAccessor issueIndexAccessor,
+        IssueCategoryRetriever issueCategoryRetriever,
+        UUID jobId,
+        String issueTrackerProject,
+        Duration maxAge
+    ) {
+        this.issueIndexAccessor = issueIndexAccessor;
+        this.issueCategoryRetriever = issueCategoryRetriever;
+        this.jobId = jobId;
+        this.issueTrackerProject = issueTrackerProject;
+        this.maxAge = maxAge;
+    }
+
+    public boolean isEnabled() {
+        return !maxAge.isZero() && !maxAge.isNegative();
+    }
+
+    public Optional<IndexedIssueModel> findIssue(ProjectIssueModel projectIssueModel) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        String issueIdentity = createIssueIdentity(projectIssueModel);
+        OffsetDateTime verifiedAfter = OffsetDateTime.now(ZoneOffset.UTC).minus(maxAge);
+        try {
+            return issueIndexAccessor.findIssue(jobId, issueIdentity, verifiedAfter);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read the issue index of job {}: {}", jobId, e.getMessage());
+            logger.debug(e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Looks up the entries of several issues with a single read of the index.
+     * @return The entry of each {@link ProjectIssueModel}, in the same order.
+     */
+    public List<Optional<IndexedIssueModel>> findIssues(List<ProjectIssueModel> projectIssueModels) {
+        if (!isEnabled() || projectIssueModels.isEmpty()) {
+            return Collections.nCopies(projectIssueModels.size(), Optional.empty());
+        }
+        List<String> issueIdentities = projectIssueModels
+                                           .stream()
+                                           .map(this::createIssueIdentity)
+                                           .collect(Collectors.toList());
+        OffsetDateTime verifiedAfter = OffsetDateTime.now(ZoneOffset.UTC).minus(maxAge);
+        Map<String, IndexedIssueModel> indexedIssues;
+        try {
+            indexedIssues = issueIndexAccessor.findIssues(jobId, new HashSet<>(issueIdentities), verifiedAfter)
+                                .stream()
+                                .collect(Collectors.toMap(IndexedIssueModel::getIssueIdentity, Function.identity()));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read the issue index of job {}: {}", jobId, e.getMessage());
+            logger.debug(e.getMessage(), e);
+            indexedIssues = Map.of();
+        }
+
+        List<Optional<IndexedIssueModel>> foundIssues = new ArrayList<>(issueIdentities.size());
+        for (String issueIdentity : issueIdentities) {
+            foundIssues.add(Optional.ofNullable(indexedIssues.get(issueIdentity)));
+        }
+        return foundIssues;
+    }
+
+    public void indexIssue(ProjectIssueModel projectIssueModel, T issueId, String issueKey) {
+        if (!isEnabled()) {
+            return;
+        }
+        IndexedIssueModel indexedIssue = new IndexedIssueModel(
+            jobId,
+            createIssueIdentity(projectIssueModel),
+            String.valueOf(issueId),
+            issueKey,
+            OffsetDateTime.now(ZoneOffset.UTC)
+        );
+        try {
+            issueIndexAccessor.saveIssue(indexedIssue);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to index issue {} for job {}: {}", issueKey, jobId, e.getMessage());
+            logger.debug(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Indexes the issue at each position of {@code existingIssues} for the {@link ProjectIssueModel} at the same position with a single
+     * write to the index.
+     */
+    public void indexIssues(List<ProjectIssueModel> projectIssueModels, List<ExistingIssueDetails<T>> existingIssues) {
+        if (!isEnabled() || projectIssueModels.isEmpty()) {
+            return;
+        }
+        OffsetDateTime lastVerified = OffsetDateTime.now(ZoneOffset.UTC);
+        List<IndexedIssueModel> indexedIssues = new ArrayList<>(projectIssueModels.size());
+        for (int i = 0; i < projectIssueModels.size(); i++) {
+            ExistingIssueDetails<T> existingIssue = existingIssues.get(i);
+            indexedIssues.add(new IndexedIssueModel(
+                jobId,
+                createIssueIdentity(projectIssueModels.get(i)),
+                String.valueOf(existingIssue.getIssueId()),
+                existingIssue.getIssueKey(),
+                lastVerified
+            ));
+        }
+        try {
+            issueIndexAccessor.saveIssues(indexedIssues);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to index {} issues for job {}: {}", indexedIssues.size(), jobId, e.getMessage());
+            logger.debug(e.getMessage(), e);
+        }
+    }
+
+    public void removeIssue(ProjectIssueModel projectIssueModel) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            issueIndexAccessor.deleteIssue(jobId, createIssueIdentity(projectIssueModel));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to remove an issue from the issue index of job {}: {}", jobId, e.getMessage());
+            logger.debug(e.getMessage(), e);
+        }
+    }
+
+    public IssueCategory retrieveIssueCategory(ProjectIssueModel projectIssueModel) {
+        return issueCategoryRetriever.retrieveIssueCategoryFromProjectIssueModel(projectIssueModel);
+    }
+
+    private String createIssueIdentity(ProjectIssueModel projectIssueModel) {
+        LinkableItem provider = projectIssueModel.getProvider();
+        LinkableItem project = projectIssueModel.getProject();
+        Optional<LinkableItem> projectVersion = projectIssueModel.getProjectVersion();
+        IssueBomComponentDetails bomComponent = projectIssueModel.getBomComponentDetails();
+        Optional<LinkableItem> componentVersion = bomComponent.getComponentVersion();
+
+        String concern = retrieveIssueCategory(projectIssueModel).name();
+        if (projectIssueModel.getComponentUnknownVersionDetails().isPresent()) {
+            concern = "UNKNOWN_VERSION";
+        }
+
+        String identity = String.join(IDENTITY_DELIMITER,
+            issueTrackerProject,
+            String.valueOf(projectIssueModel.getProviderDetails().getProviderConfigId()),
+            provider.getLabel(),
+            provider.getUrl().orElse(""),
+            project.getValue(),
+            projectVersion.map(LinkableItem::getValue).orElse(""),
+            bomComponent.getComponent().getValue(),
+            componentVersion.map(LinkableItem::getValue).orElse(""),
+            concern,
+            projectIssueModel.getPolicyDetails().map(IssuePolicyDetails::getName).orElse("")
+        );
+        return hash(identity);
+    }
+
+    private String hash(String identity) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(identity.getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AlertRuntimeException("SHA-256 is not available", e);
+        }
+    }
+
+}
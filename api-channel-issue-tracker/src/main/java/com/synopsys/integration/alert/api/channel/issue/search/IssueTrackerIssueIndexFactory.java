@@ -0,0 +1,47 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.search;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.common.persistence.accessor.IssueTrackerIssueIndexAccessor;
+
+@Component
+public class IssueTrackerIssueIndexFactory {
+    public static final long DEFAULT_MAX_AGE_HOURS = 24L;
+
+    private final IssueTrackerIssueIndexAccessor issueIndexAccessor;
+    private final IssueCategoryRetriever issueCategoryRetriever;
+    private final Duration maxAge;
+
+    @Autowired
+    public IssueTrackerIssueIndexFactory(
+        IssueTrackerIssueIndexAccessor issueIndexAccessor,
+        IssueCategoryRetriever issueCategoryRetriever,
+        @Value("${alert.distribution.issue.index.max.age.hours:24}") long maxAgeHours
+    ) {
+        this.issueIndexAccessor = issueIndexAccessor;
+        this.issueCategoryRetriever = issueCategoryRetriever;
+        this.maxAge = Duration.ofHours(Math.max(0L, maxAgeHours));
+    }
+
+    /**
+     * @param jobId               The job the issues are created for
+     * @param issueTrackerProject The project or project key in the issue-tracker that the job creates issues in
+     */
+    public <T extends Serializable> IssueTrackerIssueIndex<T> createIssueIndex(UUID jobId, String issueTrackerProject) {
+        return new IssueTrackerIssueIndex<>(issueIndexAccessor, issueCategoryRetriever, jobId, issueTrackerProject, maxAge);
+    }
+
+}
@@ -81,9 +81,12 @@ public class IssueTrackerSearcher<T extends Serializable> {
 
         List<ProjectIssueModel> projectIssueModels = modelTransformer.convertToIssueModels(projectMessage);
 
+        List<List<ExistingIssueDetails<T>>> existingIssuesByModel = exactIssueFinder.findExistingIssuesByProjectIssueModels(projectIssueModels);
+
         List<ActionableIssueSearchResult<T>> projectIssueSearchResults = new LinkedList<>();
-        for (ProjectIssueModel projectIssueModel : projectIssueModels) {
-            ActionableIssueSearchResult<T> searchResult = findIssueByProjectIssueModel(projectIssueModel);
+        for (int i = 0; i < projectIssueModels.size(); i++) {
+            ProjectIssueModel projectIssueModel = projectIssueModels.get(i);
+            ActionableIssueSearchResult<T> searchResult = createSearchResult(projectIssueModel, existingIssuesByModel.get(i));
             if (searchResult.getExistingIssueDetails().isEmpty() && isOnlyDeleteOperation(projectIssueModel)) {
                 logger.debug("Ignoring component-level notification for issue-tracker because no matching issue(s) existed and it only contained DELETE operations");
             } else {
@@ -94,22 +97,17 @@ public class IssueTrackerSearcher<T extends Serializable> {
     }
 
     private List<ActionableIssueSearchResult<T>> findIssuesByAllComponents(ProviderDetails providerDetails, LinkableItem project, LinkableItem projectVersion, List<BomComponentDetails> bomComponents) throws AlertException {
-        List<ProjectIssueSearchResult<T>> componentIssues = new LinkedList<>();
-        for (BomComponentDetails bomComponent : bomComponents) {
-            List<ProjectIssueSearchResult<T>> issuesByComponent = projectVersionComponentIssueFinder.findIssuesByComponent(providerDetails, project, projectVersion, bomComponent);
-            componentIssues.addAll(issuesByComponent);
-        }
+        List<ProjectIssueSearchResult<T>> componentIssues = projectVersionComponentIssueFinder.findIssuesByComponents(providerDetails, project, projectVersion, bomComponents);
         return componentIssues
                    .stream()
                    .map(this::convertToUpdateResult)
                    .collect(Collectors.toList());
     }
 
-    private ActionableIssueSearchResult<T> findIssueByProjectIssueModel(ProjectIssueModel projectIssueModel) throws AlertException {
+    private ActionableIssueSearchResult<T> createSearchResult(ProjectIssueModel projectIssueModel, List<ExistingIssueDetails<T>> existingIssues) throws AlertException {
         ExistingIssueDetails<T> existingIssue = null;
         ItemOperation searchResultOperation = ItemOperation.UPDATE;
 
-        List<ExistingIssueDetails<T>> existingIssues = exactIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
         int foundIssuesCount = existingIssues.size();
 
         if (foundIssuesCount == 1) {
@@ -8,6 +8,7 @@
 package com.synopsys.integration.alert.api.channel.issue.search;
 
 import java.io.Serializable;
+import java.util.LinkedList;
 import java.util.List;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -18,4 +19,16 @@ import com.synopsys.integration.alert.processor.api.extract.model.project.BomCom
 public interface ProjectVersionComponentIssueFinder<T extends Serializable> {
     List<ProjectIssueSearchResult<T>> findIssuesByComponent(ProviderDetails providerDetails, LinkableItem project, LinkableItem projectVersion, BomComponentDetails bomComponent) throws AlertException;
 
+    /**
+     * Finds the issues of many components of the same project-version. Implementations should override this to search for the issues of
+     * several components at once rather than once per component.
+     */
+    default List<ProjectIssueSearchResult<T>> findIssuesByComponents(ProviderDetails providerDetails, LinkableItem project, LinkableItem projectVersion, List<BomComponentDetails> bomComponents) throws AlertException {
+        List<ProjectIssueSearchResult<T>> componentIssues = new LinkedList<>();
+        for (BomComponentDetails bomComponent : bomComponents) {
+            componentIssues.addAll(findIssuesByComponent(providerDetails, project, projectVersion, bomComponent));
+        }
+        return componentIssues;
+    }
+
 }
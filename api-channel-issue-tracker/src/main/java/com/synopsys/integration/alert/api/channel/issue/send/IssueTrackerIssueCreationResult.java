@@ -0,0 +1,52 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.send;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+
+/**
+ * The outcome of creating the issue of a single {@link IssueCreationModel} when several issues are created at once.
+ * @param <D> The type of the details of a created issue
+ */
+public class IssueTrackerIssueCreationResult<D> {
+    private final IssueCreationModel issueCreationModel;
+    private final D createdIssue;
+    private final AlertException failure;
+
+    public static <D> IssueTrackerIssueCreationResult<D> success(IssueCreationModel issueCreationModel, D createdIssue) {
+        return new IssueTrackerIssueCreationResult<>(issueCreationModel, createdIssue, null);
+    }
+
+    public static <D> IssueTrackerIssueCreationResult<D> failure(IssueCreationModel issueCreationModel, AlertException failure) {
+        return new IssueTrackerIssueCreationResult<>(issueCreationModel, null, failure);
+    }
+
+    private IssueTrackerIssueCreationResult(IssueCreationModel issueCreationModel, @Nullable D createdIssue, @Nullable AlertException failure) {
+        this.issueCreationModel = issueCreationModel;
+        this.createdIssue = createdIssue;
+        this.failure = failure;
+    }
+
+    public IssueCreationModel getIssueCreationModel() {
+        return issueCreationModel;
+    }
+
+    public Optional<D> getCreatedIssue() {
+        return Optional.ofNullable(createdIssue);
+    }
+
+    public Optional<AlertException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+}
@@ -8,7 +8,9 @@
 package com.synopsys.integration.alert.api.channel.issue.send;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jetbrains.annotations.Nullable;
@@ -55,13 +57,78 @@ public abstract class IssueTrackerIssueCreator<T extends Serializable> {
         ExistingIssueDetails<T> createdIssueDetails = createIssueAndExtractDetails(alertIssueCreationModel);
         logger.debug("Created new {} issue: {}", channelKey.getDisplayName(), createdIssueDetails);
 
-        IssueTrackerCallbackInfo callbackInfo = null;
         Optional<ProjectIssueModel> optionalSource = alertIssueCreationModel.getSource();
         if (optionalSource.isPresent()) {
-            ProjectIssueModel alertIssueSource = optionalSource.get();
-            assignAlertSearchProperties(createdIssueDetails, alertIssueSource);
-            callbackInfo = callbackInfoCreator.createCallbackInfo(alertIssueSource).orElse(null);
+            assignAlertSearchProperties(createdIssueDetails, optionalSource.get());
         }
+        return completeIssueCreation(createdIssueDetails, alertIssueCreationModel);
+    }
+
+    /**
+     * Creates the issues of several {@link IssueCreationModel}s at once when the issue-tracker supports it (see {@link #isBulkCreationSupported()}).
+     * The failure to create one issue does not prevent the others from being created.
+     * @param alertIssueCreationModels - The models to create issues for.
+     * @return One {@link IssueTrackerIssueCreationResult} for each model, in the same order as the models.
+     */
+    public final List<IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>>> createIssueTrackerIssues(List<IssueCreationModel> alertIssueCreationModels) {
+        List<IssueTrackerIssueCreationResult<ExistingIssueDetails<T>>> creationResults = createIssuesAndAssignAlertSearchProperties(alertIssueCreationModels);
+
+        List<IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>>> results = new ArrayList<>(creationResults.size());
+        for (IssueTrackerIssueCreationResult<ExistingIssueDetails<T>> creationResult : creationResults) {
+            IssueCreationModel alertIssueCreationModel = creationResult.getIssueCreationModel();
+            Optional<ExistingIssueDetails<T>> createdIssueDetails = creationResult.getCreatedIssue();
+            if (createdIssueDetails.isEmpty()) {
+                results.add(IssueTrackerIssueCreationResult.failure(alertIssueCreationModel, creationResult.getFailure().orElseGet(() -> new AlertException("Failed to create an issue"))));
+                continue;
+            }
+
+            logger.debug("Created new {} issue: {}", channelKey.getDisplayName(), createdIssueDetails.get());
+            try {
+                results.add(IssueTrackerIssueCreationResult.success(alertIssueCreationModel, completeIssueCreation(createdIssueDetails.get(), alertIssueCreationModel)));
+            } catch (AlertException e) {
+                results.add(IssueTrackerIssueCreationResult.failure(alertIssueCreationModel, e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return true if {@link #createIssueTrackerIssues(List)} creates several issues with fewer requests than creating them one at a time.
+     */
+    public boolean isBulkCreationSupported() {
+        return false;
+    }
+
+    /**
+     * Creates the issues of several models and assigns their "Alert Search Properties". By default, the issues are created one at a time.
+     * @return One result for each model, in the same order as the models.
+     */
+    protected List<IssueTrackerIssueCreationResult<ExistingIssueDetails<T>>> createIssuesAndAssignAlertSearchProperties(List<IssueCreationModel> alertIssueCreationModels) {
+        List<IssueTrackerIssueCreationResult<ExistingIssueDetails<T>>> results = new ArrayList<>(alertIssueCreationModels.size());
+        for (IssueCreationModel alertIssueCreationModel : alertIssueCreationModels) {
+            try {
+                ExistingIssueDetails<T> createdIssueDetails = createIssueAndExtractDetails(alertIssueCreationModel);
+                Optional<ProjectIssueModel> optionalSource = alertIssueCreationModel.getSource();
+                if (optionalSource.isPresent()) {
+                    assignAlertSearchProperties(createdIssueDetails, optionalSource.get());
+                }
+                results.add(IssueTrackerIssueCreationResult.success(alertIssueCreationModel, createdIssueDetails));
+            } catch (AlertException e) {
+                results.add(IssueTrackerIssueCreationResult.failure(alertIssueCreationModel, e));
+            }
+        }
+        return results;
+    }
+
+    protected abstract ExistingIssueDetails<T> createIssueAndExtractDetails(IssueCreationModel alertIssueCreationModel) throws AlertException;
+
+    protected abstract void assignAlertSearchProperties(ExistingIssueDetails<T> createdIssueDetails, ProjectIssueModel alertIssueSource) throws AlertException;
+
+    private IssueTrackerIssueResponseModel<T> completeIssueCreation(ExistingIssueDetails<T> createdIssueDetails, IssueCreationModel alertIssueCreationModel) throws AlertException {
+        Optional<ProjectIssueModel> optionalSource = alertIssueCreationModel.getSource();
+        IssueTrackerCallbackInfo callbackInfo = optionalSource
+                                                    .flatMap(callbackInfoCreator::createCallbackInfo)
+                                                    .orElse(null);
         addPostCreateComments(createdIssueDetails, alertIssueCreationModel, optionalSource.orElse(null));
 
         return new IssueTrackerIssueResponseModel<>(
@@ -74,10 +141,6 @@ public abstract class IssueTrackerIssueCreator<T extends Serializable> {
         );
     }
 
-    protected abstract ExistingIssueDetails<T> createIssueAndExtractDetails(IssueCreationModel alertIssueCreationModel) throws AlertException;
-
-    protected abstract void assignAlertSearchProperties(ExistingIssueDetails<T> createdIssueDetails, ProjectIssueModel alertIssueSource) throws AlertException;
-
     private void addPostCreateComments(ExistingIssueDetails<T> issueDetails, IssueCreationModel creationModel, @Nullable ProjectIssueModel projectSource) throws AlertException {
         LinkedList<String> postCreateComments = new LinkedList<>(creationModel.getPostCreateComments());
         postCreateComments.addFirst("This issue was automatically created by Alert.");
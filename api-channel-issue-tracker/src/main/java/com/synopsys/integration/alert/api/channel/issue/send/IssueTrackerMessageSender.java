@@ -8,41 +8,283 @@
 package com.synopsys.integration.alert.api.channel.issue.send;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.alert.api.channel.issue.model.IssueCommentModel;
+import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueTrackerIssueResponseModel;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueTrackerModelHolder;
+import com.synopsys.integration.alert.api.channel.issue.model.IssueTransitionModel;
+import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.function.ThrowingFunction;
+import com.synopsys.integration.function.ThrowingSupplier;
 
 public class IssueTrackerMessageSender<T extends Serializable> {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private final IssueTrackerIssueCreator<T> issueCreator;
     private final IssueTrackerIssueTransitioner<T> issueTransitioner;
     private final IssueTrackerIssueCommenter<T> issueCommenter;
+    private final IssueTrackerIssueIndex<T> issueIndex;
+    private final IssueTrackerOperationExecutor operationExecutor;
 
     public IssueTrackerMessageSender(IssueTrackerIssueCreator<T> issueCreator, IssueTrackerIssueTransitioner<T> issueTransitioner, IssueTrackerIssueCommenter<T> issueCommenter) {
+        this(issueCreator, issueTransitioner, issueCommenter, null);
+    }
+
+    /**
+     * @param issueIndex Is kept up to date with the issues that are created, transitioned, or commented on for a {@link ProjectIssueModel}
+     */
+    public IssueTrackerMessageSender(
+        IssueTrackerIssueCreator<T> issueCreator,
+        IssueTrackerIssueTransitioner<T> issueTransitioner,
+        IssueTrackerIssueCommenter<T> issueCommenter,
+        @Nullable IssueTrackerIssueIndex<T> issueIndex
+    ) {
+        this(issueCreator, issueTransitioner, issueCommenter, issueIndex, null);
+    }
+
+    /**
+     * @param operationExecutor Performs the operations on different issues concurrently, while the operations on the same issue keep their
+     *                          order. Operations are performed one after another when this is null or not concurrent.
+     */
+    public IssueTrackerMessageSender(
+        IssueTrackerIssueCreator<T> issueCreator,
+        IssueTrackerIssueTransitioner<T> issueTransitioner,
+        IssueTrackerIssueCommenter<T> issueCommenter,
+        @Nullable IssueTrackerIssueIndex<T> issueIndex,
+        @Nullable IssueTrackerOperationExecutor operationExecutor
+    ) {
         this.issueCreator = issueCreator;
         this.issueTransitioner = issueTransitioner;
         this.issueCommenter = issueCommenter;
+        this.issueIndex = issueIndex;
+        this.operationExecutor = operationExecutor;
     }
 
     public final List<IssueTrackerIssueResponseModel<T>> sendMessages(IssueTrackerModelHolder<T> issueTrackerMessage) throws AlertException {
+        // With a concurrency of one, lanes would only add bookkeeping to the original sequential order
+        if (null != operationExecutor && operationExecutor.isConcurrent()) {
+            List<IssueTrackerIssueResponseModel<T>> responses = sendMessagesInLanes(issueTrackerMessage, operationExecutor);
+            logger.debug("Issue-tracker operation latencies: {}", operationExecutor.getLatencyHistogram());
+            return responses;
+        }
+
         List<IssueTrackerIssueResponseModel<T>> responses = new LinkedList<>();
 
-        List<IssueTrackerIssueResponseModel<T>> creationResponses = sendMessages(issueTrackerMessage.getIssueCreationModels(), issueCreator::createIssueTrackerIssue);
+        List<IssueCreationModel> issueCreationModels = issueTrackerMessage.getIssueCreationModels();
+        List<IssueTrackerIssueResponseModel<T>> creationResponses = isBulkCreation(issueCreationModels) ? createIssues(issueCreationModels) : sendMessages(issueCreationModels, this::createIssue);
         responses.addAll(creationResponses);
 
-        List<IssueTrackerIssueResponseModel<T>> transitionResponses = sendOptionalMessages(issueTrackerMessage.getIssueTransitionModels(), issueTransitioner::transitionIssue);
+        List<IssueTrackerIssueResponseModel<T>> transitionResponses = sendOptionalMessages(issueTrackerMessage.getIssueTransitionModels(), this::transitionIssue);
         responses.addAll(transitionResponses);
 
-        List<IssueTrackerIssueResponseModel<T>> commentResponses = sendOptionalMessages(issueTrackerMessage.getIssueCommentModels(), issueCommenter::commentOnIssue);
+        List<IssueTrackerIssueResponseModel<T>> commentResponses = sendOptionalMessages(issueTrackerMessage.getIssueCommentModels(), this::commentOnIssue);
         responses.addAll(commentResponses);
 
         return responses;
     }
 
+    private List<IssueTrackerIssueResponseModel<T>> sendMessagesInLanes(IssueTrackerModelHolder<T> issueTrackerMessage, IssueTrackerOperationExecutor operationExecutor) throws AlertException {
+        IssueTrackerOperationLatencyHistogram latencyHistogram = operationExecutor.getLatencyHistogram();
+        List<Optional<IssueTrackerIssueResponseModel<T>>> responseSlots = new ArrayList<>();
+
+        // Each new issue is independent of the others, while the transition and comments of an existing issue must keep their order
+        List<List<IssueTrackerOperationExecutor.IssueTrackerOperation>> creationLanes = new ArrayList<>();
+        List<IssueCreationModel> issueCreationModels = issueTrackerMessage.getIssueCreationModels();
+        if (isBulkCreation(issueCreationModels)) {
+            creationLanes.add(List.of(createBulkCreationOperation(responseSlots, latencyHistogram, issueCreationModels)));
+        } else {
+            for (IssueCreationModel issueCreationModel : issueCreationModels) {
+                IssueTrackerOperationExecutor.IssueTrackerOperation creation = createOperation(
+                    responseSlots,
+                    IssueTrackerOperationLatencyHistogram.Operation.CREATE,
+                    latencyHistogram,
+                    () -> Optional.of(createIssue(issueCreationModel))
+                );
+                creationLanes.add(List.of(creation));
+            }
+        }
+
+        Map<T, List<IssueTrackerOperationExecutor.IssueTrackerOperation>> existingIssueLanes = new LinkedHashMap<>();
+        for (IssueTransitionModel<T> issueTransitionModel : issueTrackerMessage.getIssueTransitionModels()) {
+            IssueTrackerOperationExecutor.IssueTrackerOperation transition = createOperation(
+                responseSlots,
+                IssueTrackerOperationLatencyHistogram.Operation.TRANSITION,
+                latencyHistogram,
+                () -> transitionIssue(issueTransitionModel)
+            );
+            existingIssueLanes.computeIfAbsent(issueTransitionModel.getExistingIssueDetails().getIssueId(), ignored -> new ArrayList<>()).add(transition);
+        }
+
+        for (IssueCommentModel<T> issueCommentModel : issueTrackerMessage.getIssueCommentModels()) {
+            IssueTrackerOperationExecutor.IssueTrackerOperation comment = createOperation(
+                responseSlots,
+                IssueTrackerOperationLatencyHistogram.Operation.COMMENT,
+                latencyHistogram,
+                () -> commentOnIssue(issueCommentModel)
+            );
+            existingIssueLanes.computeIfAbsent(issueCommentModel.getExistingIssueDetails().getIssueId(), ignored -> new ArrayList<>()).add(comment);
+        }
+
+        List<List<IssueTrackerOperationExecutor.IssueTrackerOperation>> lanes = new ArrayList<>(creationLanes);
+        lanes.addAll(existingIssueLanes.values());
+        operationExecutor.performLanes(lanes);
+
+        List<IssueTrackerIssueResponseModel<T>> responses = new LinkedList<>();
+        for (Optional<IssueTrackerIssueResponseModel<T>> responseSlot : responseSlots) {
+            responseSlot.ifPresent(responses::add);
+        }
+        return responses;
+    }
+
+    private IssueTrackerOperationExecutor.IssueTrackerOperation createOperation(
+        List<Optional<IssueTrackerIssueResponseModel<T>>> responseSlots,
+        IssueTrackerOperationLatencyHistogram.Operation operationType,
+        IssueTrackerOperationLatencyHistogram latencyHistogram,
+        ThrowingSupplier<Optional<IssueTrackerIssueResponseModel<T>>, AlertException> sendMessage
+    ) {
+        int responseIndex = responseSlots.size();
+        responseSlots.add(Optional.empty());
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                // Each operation writes only its own slot, and the slots are read once every lane has finished
+                responseSlots.set(responseIndex, sendMessage.get());
+            } finally {
+                latencyHistogram.record(operationType, Duration.ofNanos(System.nanoTime() - start));
+            }
+        };
+    }
+
+    private IssueTrackerOperationExecutor.IssueTrackerOperation createBulkCreationOperation(
+        List<Optional<IssueTrackerIssueResponseModel<T>>> responseSlots,
+        IssueTrackerOperationLatencyHistogram latencyHistogram,
+        List<IssueCreationModel> issueCreationModels
+    ) {
+        int firstResponseIndex = responseSlots.size();
+        for (int i = 0; i < issueCreationModels.size(); i++) {
+            responseSlots.add(Optional.empty());
+        }
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                List<IssueTrackerIssueResponseModel<T>> creationResponses = createIssues(issueCreationModels);
+                for (int i = 0; i < creationResponses.size(); i++) {
+                    responseSlots.set(firstResponseIndex + i, Optional.of(creationResponses.get(i)));
+                }
+            } finally {
+                latencyHistogram.record(IssueTrackerOperationLatencyHistogram.Operation.CREATE, Duration.ofNanos(System.nanoTime() - start));
+            }
+        };
+    }
+
+    private boolean isBulkCreation(List<IssueCreationModel> issueCreationModels) {
+        return issueCreationModels.size() > 1 && issueCreator.isBulkCreationSupported();
+    }
+
+    private List<IssueTrackerIssueResponseModel<T>> createIssues(List<IssueCreationModel> issueCreationModels) throws AlertException {
+        List<IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>>> creationResults = issueCreator.createIssueTrackerIssues(issueCreationModels);
+
+        // The issues that were created are kept and indexed, even when the creation of others failed
+        List<IssueTrackerIssueResponseModel<T>> creationResponses = new ArrayList<>(creationResults.size());
+        List<IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>>> failedResults = new ArrayList<>();
+        for (IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>> creationResult : creationResults) {
+            Optional<IssueTrackerIssueResponseModel<T>> creationResponse = creationResult.getCreatedIssue();
+            if (creationResponse.isPresent()) {
+                indexCreatedIssue(creationResult.getIssueCreationModel(), creationResponse.get());
+                creationResponses.add(creationResponse.get());
+            } else {
+                failedResults.add(creationResult);
+            }
+        }
+
+        if (!failedResults.isEmpty()) {
+            throw createIssueCreationFailure(failedResults, creationResults.size());
+        }
+        return creationResponses;
+    }
+
+    private AlertException createIssueCreationFailure(List<IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>>> failedResults, int totalIssues) {
+        StringBuilder failureMessage = new StringBuilder(String.format("Failed to create %d of %d issues.", failedResults.size(), totalIssues));
+        AlertException firstFailure = null;
+        for (IssueTrackerIssueCreationResult<IssueTrackerIssueResponseModel<T>> failedResult : failedResults) {
+            AlertException failure = failedResult.getFailure().orElse(null);
+            if (null == firstFailure) {
+                firstFailure = failure;
+            }
+            failureMessage.append(String.format(" '%s': %s", failedResult.getIssueCreationModel().getTitle(), null != failure ? failure.getMessage() : "Unknown failure"));
+        }
+        return new AlertException(failureMessage.toString(), firstFailure);
+    }
+
+    private IssueTrackerIssueResponseModel<T> createIssue(IssueCreationModel issueCreationModel) throws AlertException {
+        IssueTrackerIssueResponseModel<T> creationResponse = issueCreator.createIssueTrackerIssue(issueCreationModel);
+        indexCreatedIssue(issueCreationModel, creationResponse);
+        return creationResponse;
+    }
+
+    private void indexCreatedIssue(IssueCreationModel issueCreationModel, IssueTrackerIssueResponseModel<T> creationResponse) {
+        Optional<ProjectIssueModel> source = issueCreationModel.getSource();
+        if (null != issueIndex && source.isPresent()) {
+            issueIndex.indexIssue(source.get(), creationResponse.getIssueId(), creationResponse.getIssueKey());
+        }
+    }
+
+    private Optional<IssueTrackerIssueResponseModel<T>> transitionIssue(IssueTransitionModel<T> issueTransitionModel) throws AlertException {
+        ProjectIssueModel source = issueTransitionModel.getSource();
+        Optional<IssueTrackerIssueResponseModel<T>> transitionResponse;
+        try {
+            transitionResponse = issueTransitioner.transitionIssue(issueTransitionModel);
+        } catch (AlertException e) {
+            removeFromIndex(source);
+            throw e;
+        }
+
+        if (null != issueIndex && null != source) {
+            ExistingIssueDetails<T> existingIssueDetails = issueTransitionModel.getExistingIssueDetails();
+            issueIndex.indexIssue(source, existingIssueDetails.getIssueId(), existingIssueDetails.getIssueKey());
+        }
+        return transitionResponse;
+    }
+
+    private Optional<IssueTrackerIssueResponseModel<T>> commentOnIssue(IssueCommentModel<T> issueCommentModel) throws AlertException {
+        ProjectIssueModel source = issueCommentModel.getSource().orElse(null);
+        Optional<IssueTrackerIssueResponseModel<T>> commentResponse;
+        try {
+            commentResponse = issueCommenter.commentOnIssue(issueCommentModel);
+        } catch (AlertException e) {
+            removeFromIndex(source);
+            throw e;
+        }
+
+        if (null != issueIndex && null != source) {
+            ExistingIssueDetails<T> existingIssueDetails = issueCommentModel.getExistingIssueDetails();
+            issueIndex.indexIssue(source, existingIssueDetails.getIssueId(), existingIssueDetails.getIssueKey());
+        }
+        return commentResponse;
+    }
+
+    private void removeFromIndex(@Nullable ProjectIssueModel source) {
+        // The indexed issue may no longer exist, so the next search for it is made against the issue-tracker
+        if (null != issueIndex && null != source) {
+            issueIndex.removeIssue(source);
+        }
+    }
+
     private <U> List<IssueTrackerIssueResponseModel<T>> sendMessages(List<U> messages, ThrowingFunction<U, IssueTrackerIssueResponseModel<T>, AlertException> sendMessage) throws AlertException {
         List<IssueTrackerIssueResponseModel<T>> responses = new LinkedList<>();
         for (U message : messages) {
@@ -0,0 +1,136 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.send;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jetbrains.annotations.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+
+/**
+ * Performs the operations of an issue-tracker on a bounded number of threads that are shared by every job distributing to that
+ * issue-tracker. Operations are grouped into lanes: the operations of a lane are performed one after another, in order, while
+ * different lanes may be performed concurrently.
+ */
+public class IssueTrackerOperationExecutor {
+    private static final String THREAD_NAME_PREFIX_FORMAT = "alert-issue-tracker-%s-";
+
+    private final int maxConcurrentOperations;
+    private final IssueTrackerOperationLatencyHistogram latencyHistogram = new IssueTrackerOperationLatencyHistogram();
+    @Nullable
+    private final ExecutorService executorService;
+
+    @FunctionalInterface
+    public interface IssueTrackerOperation {
+        void perform() throws AlertException;
+
+    }
+
+    public IssueTrackerOperationExecutor(String issueTrackerName, int maxConcurrentOperations) {
+        this.maxConcurrentOperations = Math.max(1, maxConcurrentOperations);
+        if (isConcurrent()) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(String.format(THREAD_NAME_PREFIX_FORMAT, issueTrackerName));
+            threadFactory.setDaemon(true);
+            this.executorService = Executors.newFixedThreadPool(this.maxConcurrentOperations, threadFactory);
+        } else {
+            this.executorService = null;
+        }
+    }
+
+    public boolean isConcurrent() {
+        return maxConcurrentOperations > 1;
+    }
+
+    public int getMaxConcurrentOperations() {
+        return maxConcurrentOperations;
+    }
+
+    public IssueTrackerOperationLatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    /**
+     * Performs every lane and waits for all of them to finish. Once an operation fails, operations that have not started yet are
+     * skipped and the failure of the first lane to fail is thrown.
+     */
+    public void performLanes(List<List<IssueTrackerOperation>> lanes) throws AlertException {
+        if (null == executorService) {
+            for (List<IssueTrackerOperation> lane : lanes) {
+                for (IssueTrackerOperation operation : lane) {
+                    operation.perform();
+                }
+            }
+            return;
+        }
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<Future<Void>> laneFutures = new ArrayList<>(lanes.size());
+        for (List<IssueTrackerOperation> lane : lanes) {
+            laneFutures.add(executorService.submit(() -> performLane(lane, failed)));
+        }
+        awaitLanes(laneFutures);
+    }
+
+    public void shutdown() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Void performLane(List<IssueTrackerOperation> lane, AtomicBoolean failed) throws AlertException {
+        for (IssueTrackerOperation operation : lane) {
+            if (failed.get()) {
+                break;
+            }
+
+            try {
+                operation.perform();
+            } catch (AlertException | RuntimeException e) {
+                failed.set(true);
+                throw e;
+            }
+        }
+        return null;
+    }
+
+    private void awaitLanes(List<Future<Void>> laneFutures) throws AlertException {
+        Throwable firstFailure = null;
+        for (Future<Void> laneFuture : laneFutures) {
+            try {
+                laneFuture.get();
+            } catch (ExecutionException e) {
+                if (null == firstFailure) {
+                    firstFailure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                laneFutures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new AlertException("Interrupted while waiting for issue-tracker operations to finish", e);
+            }
+        }
+
+        if (firstFailure instanceof AlertException) {
+            throw (AlertException) firstFailure;
+        } else if (firstFailure instanceof RuntimeException) {
+            throw (RuntimeException) firstFailure;
+        } else if (firstFailure instanceof Error) {
+            throw (Error) firstFailure;
+        } else if (null != firstFailure) {
+            throw new AlertException("An issue-tracker operation failed", firstFailure);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.send;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps one {@link IssueTrackerOperationExecutor} per issue-tracker, so that the concurrency limit applies to each issue-tracker as a
+ * whole rather than to each distribution event.
+ */
+@Component
+public class IssueTrackerOperationExecutorFactory implements DisposableBean {
+    public static final int DEFAULT_MAX_CONCURRENT_OPERATIONS = 1;
+
+    private final int maxConcurrentOperations;
+    private final Map<String, IssueTrackerOperationExecutor> operationExecutors = new ConcurrentHashMap<>();
+
+    @Autowired
+    public IssueTrackerOperationExecutorFactory(@Value("${alert.distribution.issue.tracker.concurrency:1}") int maxConcurrentOperations) {
+        this.maxConcurrentOperations = maxConcurrentOperations > 0 ? maxConcurrentOperations : DEFAULT_MAX_CONCURRENT_OPERATIONS;
+    }
+
+    /**
+     * @param issueTrackerName The universal key of the issue-tracker channel
+     */
+    public IssueTrackerOperationExecutor retrieveOperationExecutor(String issueTrackerName) {
+        return operationExecutors.computeIfAbsent(issueTrackerName, name -> new IssueTrackerOperationExecutor(name, maxConcurrentOperations));
+    }
+
+    @Override
+    public void destroy() {
+        operationExecutors.values().forEach(IssueTrackerOperationExecutor::shutdown);
+        operationExecutors.clear();
+    }
+
+}
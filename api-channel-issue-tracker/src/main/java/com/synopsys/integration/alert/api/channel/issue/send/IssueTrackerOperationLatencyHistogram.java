@@ -0,0 +1,89 @@
+/*
+ * api-channel-issue-tracker
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.issue.send;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts how long the create, transition, and comment operations of an issue-tracker take, in fixed latency buckets.
+ */
+public class IssueTrackerOperationLatencyHistogram {
+    private static final long[] BUCKET_UPPER_BOUNDS_MILLIS = { 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L, Long.MAX_VALUE };
+
+    public enum Operation {
+        CREATE,
+        TRANSITION,
+        COMMENT
+    }
+
+    private final Map<Operation, AtomicLongArray> bucketCounts = new EnumMap<>(Operation.class);
+
+    public IssueTrackerOperationLatencyHistogram() {
+        for (Operation operation : Operation.values()) {
+            bucketCounts.put(operation, new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length));
+        }
+    }
+
+    public void record(Operation operation, Duration latency) {
+        long latencyMillis = latency.toMillis();
+        int bucket = 0;
+        while (latencyMillis > BUCKET_UPPER_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        bucketCounts.get(operation).incrementAndGet(bucket);
+    }
+
+    /**
+     * @return the upper bound of each bucket, the last of which is {@link Long#MAX_VALUE}
+     */
+    public long[] getBucketUpperBoundsMillis() {
+        return BUCKET_UPPER_BOUNDS_MILLIS.clone();
+    }
+
+    public long[] getBucketCounts(Operation operation) {
+        AtomicLongArray counts = bucketCounts.get(operation);
+        long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    public long getCount(Operation operation) {
+        long count = 0L;
+        for (long bucketCount : getBucketCounts(operation)) {
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder histogramBuilder = new StringBuilder();
+        for (Operation operation : Operation.values()) {
+            if (histogramBuilder.length() > 0) {
+                histogramBuilder.append("; ");
+            }
+            histogramBuilder.append(operation.name());
+            histogramBuilder.append(':');
+
+            long[] counts = getBucketCounts(operation);
+            for (int i = 0; i < counts.length; i++) {
+                histogramBuilder.append(' ');
+                histogramBuilder.append(i == counts.length - 1 ? "+Inf" : "<=" + BUCKET_UPPER_BOUNDS_MILLIS[i] + "ms");
+                histogramBuilder.append('=');
+                histogramBuilder.append(counts[i]);
+            }
+        }
+        return histogramBuilder.toString();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.synopsys.integration.alert.api.channel.issue.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.api.channel.issue.model.IssueBomComponentDetails;
+import com.synopsys.integration.alert.api.channel.issue.model.IssuePolicyDetails;
+import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueStatus;
+import com.synopsys.integration.alert.api.channel.issue.search.mock.MockIssueTrackerIssueIndexAccessor;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.enumeration.ItemOperation;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentConcernSeverity;
+
+public class IndexedExactIssueFinderTest {
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final ProviderDetails PROVIDER_DETAILS = new ProviderDetails(0L, new LinkableItem("Black Duck", "a-black-duck-config", "https://a-server"));
+    private static final LinkableItem PROJECT_ITEM = new LinkableItem("Project", "A Project");
+    private static final LinkableItem PROJECT_VERSION_ITEM = new LinkableItem("Project Version", "A Version");
+    private static final IssueBomComponentDetails BOM_COMPONENT_DETAILS = IssueBomComponentDetails.fromSearchResults(new LinkableItem("Component", "A Component"), new LinkableItem("Component Version", "1.0.0"));
+    private static final ExistingIssueDetails<String> EXISTING_ISSUE_DETAILS = new ExistingIssueDetails<>("10001", "ALERT-1", "issue summary", "https://issue-link", IssueStatus.RESOLVABLE, IssueCategory.POLICY);
+    private static final ExistingIssueDetails<String> REOPENABLE_ISSUE_DETAILS = new ExistingIssueDetails<>("10001", "ALERT-1", "issue summary", "https://issue-link", IssueStatus.REOPENABLE, IssueCategory.POLICY);
+
+    @Test
+    public void readsIndexedIssueFromIssueTrackerTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        ExactIssueFinder<String> remoteIssueFinder = Mockito.mock(ExactIssueFinder.class);
+        Mockito.when(remoteIssueFinder.findExistingIssuesByProjectIssueModel(Mockito.any())).thenReturn(List.of(EXISTING_ISSUE_DETAILS));
+        // The issue was resolved in the issue-tracker after it was indexed
+        IndexedIssueRetriever<String> indexedIssueRetriever = Mockito.mock(IndexedIssueRetriever.class);
+        Mockito.when(indexedIssueRetriever.retrieveIndexedIssues(Mockito.any())).thenReturn(Map.of("10001", REOPENABLE_ISSUE_DETAILS));
+
+        IndexedExactIssueFinder<String> indexedIssueFinder = new IndexedExactIssueFinder<>(remoteIssueFinder, createIssueIndex(issueIndexAccessor, Duration.ofHours(1)), indexedIssueRetriever);
+        ProjectIssueModel projectIssueModel = createPolicyIssueModel("A Policy");
+
+        List<ExistingIssueDetails<String>> firstSearch = indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+        List<ExistingIssueDetails<String>> secondSearch = indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+
+        assertEquals(List.of(EXISTING_ISSUE_DETAILS), firstSearch);
+        assertEquals(List.of(REOPENABLE_ISSUE_DETAILS), secondSearch);
+        Mockito.verify(remoteIssueFinder, Mockito.times(1)).findExistingIssuesByProjectIssueModel(Mockito.any());
+        Mockito.verify(indexedIssueRetriever).retrieveIndexedIssues(Map.of("10001", IssueCategory.POLICY));
+    }
+
+    @Test
+    public void searchesRemotelyWhenIndexedIssueNoLongerExistsTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        ExactIssueFinder<String> remoteIssueFinder = Mockito.mock(ExactIssueFinder.class);
+        Mockito.when(remoteIssueFinder.findExistingIssuesByProjectIssueModel(Mockito.any())).thenReturn(List.of(EXISTING_ISSUE_DETAILS), List.of());
+        IndexedIssueRetriever<String> indexedIssueRetriever = Mockito.mock(IndexedIssueRetriever.class);
+        Mockito.when(indexedIssueRetriever.retrieveIndexedIssues(Mockito.any())).thenReturn(Map.of());
+
+        IndexedExactIssueFinder<String> indexedIssueFinder = new IndexedExactIssueFinder<>(remoteIssueFinder, createIssueIndex(issueIndexAccessor, Duration.ofHours(1)), indexedIssueRetriever);
+        ProjectIssueModel projectIssueModel = createPolicyIssueModel("A Policy");
+        indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+        assertFalse(issueIndexAccessor.getIndexedIssues().isEmpty());
+
+        List<ExistingIssueDetails<String>> secondSearch = indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+
+        assertTrue(secondSearch.isEmpty());
+        assertTrue(issueIndexAccessor.getIndexedIssues().isEmpty());
+        Mockito.verify(remoteIssueFinder, Mockito.times(2)).findExistingIssuesByProjectIssueModel(Mockito.any());
+    }
+
+    @Test
+    public void readsIndexedIssuesOfAllModelsAtOnceTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = Mockito.spy(new MockIssueTrackerIssueIndexAccessor());
+        IssueTrackerIssueIndex<String> issueIndex = createIssueIndex(issueIndexAccessor, Duration.ofHours(1));
+        ProjectIssueModel firstIndexedModel = createPolicyIssueModel("A Policy");
+        ProjectIssueModel secondIndexedModel = createPolicyIssueModel("Another Policy");
+        ProjectIssueModel unindexedModel = createPolicyIssueModel("An Unindexed Policy");
+        issueIndex.indexIssue(firstIndexedModel, "10001", "ALERT-1");
+        issueIndex.indexIssue(secondIndexedModel, "10002", "ALERT-2");
+
+        ExistingIssueDetails<String> secondIssue = new ExistingIssueDetails<>("10002", "ALERT-2", "issue summary", "https://issue-link", IssueStatus.RESOLVABLE, IssueCategory.POLICY);
+        ExistingIssueDetails<String> unindexedIssue = new ExistingIssueDetails<>("10003", "ALERT-3", "issue summary", "https://issue-link", IssueStatus.RESOLVABLE, IssueCategory.POLICY);
+        IndexedIssueRetriever<String> indexedIssueRetriever = Mockito.mock(IndexedIssueRetriever.class);
+        Mockito.when(indexedIssueRetriever.retrieveIndexedIssues(Mockito.any())).thenReturn(Map.of("10001", REOPENABLE_ISSUE_DETAILS, "10002", secondIssue));
+        ExactIssueFinder<String> remoteIssueFinder = Mockito.mock(ExactIssueFinder.class);
+        Mockito.when(remoteIssueFinder.findExistingIssuesByProjectIssueModel(unindexedModel)).thenReturn(List.of(unindexedIssue));
+
+        IndexedExactIssueFinder<String> indexedIssueFinder = new IndexedExactIssueFinder<>(remoteIssueFinder, issueIndex, indexedIssueRetriever);
+        List<List<ExistingIssueDetails<String>>> existingIssues = indexedIssueFinder.findExistingIssuesByProjectIssueModels(List.of(firstIndexedModel, unindexedModel, secondIndexedModel));
+
+        assertEquals(List.of(List.of(REOPENABLE_ISSUE_DETAILS), List.of(unindexedIssue), List.of(secondIssue)), existingIssues);
+        Mockito.verify(indexedIssueRetriever, Mockito.times(1)).retrieveIndexedIssues(Map.of("10001", IssueCategory.POLICY, "10002", IssueCategory.POLICY));
+        Mockito.verify(remoteIssueFinder, Mockito.times(1)).findExistingIssuesByProjectIssueModel(Mockito.any());
+        Mockito.verify(issueIndexAccessor, Mockito.times(1)).findIssues(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(issueIndexAccessor, Mockito.never()).findIssue(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(issueIndexAccessor, Mockito.times(1)).saveIssues(Mockito.argThat(indexedIssues -> indexedIssues.size() == 1));
+        assertEquals(3, issueIndexAccessor.getIndexedIssues().size());
+    }
+
+    @Test
+    public void distinguishesIssueIdentitiesTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        ExactIssueFinder<String> remoteIssueFinder = Mockito.mock(ExactIssueFinder.class);
+        Mockito.when(remoteIssueFinder.findExistingIssuesByProjectIssueModel(Mockito.any())).thenReturn(List.of(EXISTING_ISSUE_DETAILS));
+
+        IndexedExactIssueFinder<String> indexedIssueFinder = new IndexedExactIssueFinder<>(remoteIssueFinder, createIssueIndex(issueIndexAccessor, Duration.ofHours(1)), Mockito.mock(IndexedIssueRetriever.class));
+        indexedIssueFinder.findExistingIssuesByProjectIssueModel(createPolicyIssueModel("A Policy"));
+        indexedIssueFinder.findExistingIssuesByProjectIssueModel(createPolicyIssueModel("Another Policy"));
+
+        assertEquals(2, issueIndexAccessor.getIndexedIssues().size());
+        Mockito.verify(remoteIssueFinder, Mockito.times(2)).findExistingIssuesByProjectIssueModel(Mockito.any());
+    }
+
+    @Test
+    public void searchesRemotelyWhenEntryIsTooOldTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        ExactIssueFinder<String> remoteIssueFinder = Mockito.mock(ExactIssueFinder.class);
+        Mockito.when(remoteIssueFinder.findExistingIssuesByProjectIssueModel(Mockito.any())).thenReturn(List.of(EXISTING_ISSUE_DETAILS));
+
+        IssueTrackerIssueIndex<String> issueIndex = createIssueIndex(issueIndexAccessor, Duration.ofHours(1));
+        ProjectIssueModel projectIssueModel = createPolicyIssueModel("A Policy");
+        issueIndex.indexIssue(projectIssueModel, EXISTING_ISSUE_DETAILS.getIssueId(), EXISTING_ISSUE_DETAILS.getIssueKey());
+        IndexedIssueModel indexedIssue = issueIndexAccessor.getIndexedIssues().values().iterator().next();
+        issueIndexAccessor.saveIssue(new IndexedIssueModel(
+            indexedIssue.getJobId(),
+            indexedIssue.getIssueIdentity(),
+            indexedIssue.getIssueId(),
+            indexedIssue.getIssueKey(),
+            OffsetDateTime.now().minusDays(1L)
+        ));
+
+        IndexedExactIssueFinder<String> indexedIssueFinder = new IndexedExactIssueFinder<>(remoteIssueFinder, issueIndex, Mockito.mock(IndexedIssueRetriever.class));
+        indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+
+        Mockito.verify(remoteIssueFinder, Mockito.times(1)).findExistingIssuesByProjectIssueModel(Mockito.any());
+        assertTrue(issueIndexAccessor.getIndexedIssues().values().iterator().next().getLastVerified().isAfter(OffsetDateTime.now().minusHours(1L)));
+    }
+
+    @Test
+    public void disabledIndexAlwaysSearchesRemotelyTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        ExactIssueFinder<String> remoteIssueFinder = Mockito.mock(ExactIssueFinder.class);
+        Mockito.when(remoteIssueFinder.findExistingIssuesByProjectIssueModel(Mockito.any())).thenReturn(List.of(EXISTING_ISSUE_DETAILS));
+
+        IndexedExactIssueFinder<String> indexedIssueFinder = new IndexedExactIssueFinder<>(remoteIssueFinder, createIssueIndex(issueIndexAccessor, Duration.ZERO), Mockito.mock(IndexedIssueRetriever.class));
+        ProjectIssueModel projectIssueModel = createPolicyIssueModel("A Policy");
+        indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+        indexedIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel);
+
+        assertTrue(issueIndexAccessor.getIndexedIssues().isEmpty());
+        Mockito.verify(remoteIssueFinder, Mockito.times(2)).findExistingIssuesByProjectIssueModel(Mockito.any());
+    }
+
+    private IssueTrackerIssueIndex<String> createIssueIndex(MockIssueTrackerIssueIndexAccessor issueIndexAccessor, Duration maxAge) {
+        return new IssueTrackerIssueIndex<>(issueIndexAccessor, new IssueCategoryRetriever(), JOB_ID, "ALERT", maxAge);
+    }
+
+    private ProjectIssueModel createPolicyIssueModel(String policyName) {
+        IssuePolicyDetails policyDetails = new IssuePolicyDetails(policyName, ItemOperation.ADD, ComponentConcernSeverity.MAJOR_HIGH);
+        return ProjectIssueModel.policy(PROVIDER_DETAILS, PROJECT_ITEM, PROJECT_VERSION_ITEM, BOM_COMPONENT_DETAILS, policyDetails);
+    }
+
+}
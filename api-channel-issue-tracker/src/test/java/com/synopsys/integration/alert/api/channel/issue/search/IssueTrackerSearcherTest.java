@@ -77,7 +77,7 @@ public class IssueTrackerSearcherTest {
         ProjectIssueSearchResult<String> projectIssueSearchResult = new ProjectIssueSearchResult<>(EXISTING_ISSUE_DETAILS, projectIssueModel);
 
         ProjectVersionComponentIssueFinder<String> componentIssueFinder = Mockito.mock(ProjectVersionComponentIssueFinder.class);
-        Mockito.when(componentIssueFinder.findIssuesByComponent(Mockito.eq(PROVIDER_DETAILS), Mockito.eq(PROJECT_ITEM), Mockito.eq(PROJECT_VERSION_ITEM), Mockito.eq(bomComponentDetails))).thenReturn(List.of(projectIssueSearchResult));
+        Mockito.when(componentIssueFinder.findIssuesByComponents(Mockito.eq(PROVIDER_DETAILS), Mockito.eq(PROJECT_ITEM), Mockito.eq(PROJECT_VERSION_ITEM), Mockito.eq(List.of(bomComponentDetails)))).thenReturn(List.of(projectIssueSearchResult));
 
         IssueTrackerSearcher<String> searcher = new IssueTrackerSearcher<>(null, null, componentIssueFinder, null, modelTransformer);
         List<ActionableIssueSearchResult<String>> foundIssues = searcher.findIssues(projectMessage);
@@ -104,6 +104,7 @@ public class IssueTrackerSearcherTest {
         ExactIssueFinder<String> exactIssueFinder = Mockito.mock(ExactIssueFinder.class);
         Mockito.when(exactIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel1)).thenReturn(List.of(issue1));
         Mockito.when(exactIssueFinder.findExistingIssuesByProjectIssueModel(projectIssueModel2)).thenReturn(List.of());
+        Mockito.when(exactIssueFinder.findExistingIssuesByProjectIssueModels(Mockito.any())).thenCallRealMethod();
 
         ProjectMessageToIssueModelTransformer mockModelTransformer = Mockito.mock(ProjectMessageToIssueModelTransformer.class);
         Mockito.when(mockModelTransformer.convertToIssueModels(Mockito.eq(projectMessage))).thenReturn(List.of(projectIssueModel1, projectIssueModel2, projectIssueModel3));
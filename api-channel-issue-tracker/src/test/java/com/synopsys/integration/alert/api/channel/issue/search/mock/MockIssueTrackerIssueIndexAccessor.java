@@ -0,0 +1,64 @@
+package com.synopsys.integration.alert.api.channel.issue.search.mock;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.synopsys.integration.alert.common.persistence.accessor.IssueTrackerIssueIndexAccessor;
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+
+public class MockIssueTrackerIssueIndexAccessor implements IssueTrackerIssueIndexAccessor {
+    private final Map<String, IndexedIssueModel> indexedIssues = new HashMap<>();
+
+    @Override
+    public Optional<IndexedIssueModel> findIssue(UUID jobId, String issueIdentity, OffsetDateTime verifiedAfter) {
+        return findVerifiedIssue(jobId, issueIdentity, verifiedAfter);
+    }
+
+    @Override
+    public List<IndexedIssueModel> findIssues(UUID jobId, Collection<String> issueIdentities, OffsetDateTime verifiedAfter) {
+        return issueIdentities
+                   .stream()
+                   .map(issueIdentity -> findVerifiedIssue(jobId, issueIdentity, verifiedAfter))
+                   .flatMap(Optional::stream)
+                   .collect(Collectors.toList());
+    }
+
+    @Override
+    public void saveIssue(IndexedIssueModel indexedIssue) {
+        putIssue(indexedIssue);
+    }
+
+    @Override
+    public void saveIssues(Collection<IndexedIssueModel> indexedIssues) {
+        indexedIssues.forEach(this::putIssue);
+    }
+
+    @Override
+    public void deleteIssue(UUID jobId, String issueIdentity) {
+        indexedIssues.remove(createKey(jobId, issueIdentity));
+    }
+
+    public Map<String, IndexedIssueModel> getIndexedIssues() {
+        return indexedIssues;
+    }
+
+    private Optional<IndexedIssueModel> findVerifiedIssue(UUID jobId, String issueIdentity, OffsetDateTime verifiedAfter) {
+        return Optional.ofNullable(indexedIssues.get(createKey(jobId, issueIdentity)))
+                   .filter(indexedIssue -> indexedIssue.getLastVerified().isAfter(verifiedAfter));
+    }
+
+    private void putIssue(IndexedIssueModel indexedIssue) {
+        indexedIssues.put(createKey(indexedIssue.getJobId(), indexedIssue.getIssueIdentity()), indexedIssue);
+    }
+
+        private String createKey(UUID jobId, String issueIdentity) {
+        return jobId + issueIdentity;
+    }
+
+}
@@ -1,20 +1,41 @@
 package com.synopsys.integration.alert.api.channel.issue.send;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
+import com.synopsys.integration.alert.api.channel.issue.model.IssueBomComponentDetails;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueCommentModel;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueTrackerIssueResponseModel;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueTrackerModelHolder;
+import com.synopsys.integration.alert.api.channel.issue.model.IssueTransitionModel;
+import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueStatus;
+import com.synopsys.integration.alert.api.channel.issue.search.mock.MockIssueTrackerIssueIndexAccessor;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.channel.issuetracker.enumeration.IssueOperation;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.persistence.model.IndexedIssueModel;
+import com.synopsys.integration.alert.descriptor.api.model.IssueTrackerChannelKey;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 
 public class IssueTrackerMessageSenderTest {
     private static final AlertException TEST_EXCEPTION = new AlertException("Test exception");
@@ -64,6 +85,129 @@ public class IssueTrackerMessageSenderTest {
         assertExceptionThrown(messageSender2, messages);
     }
 
+    @Test
+    public void sendMessagesMaintainsIssueIndexTest() throws AlertException {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        IssueTrackerIssueIndex<String> issueIndex = new IssueTrackerIssueIndex<>(issueIndexAccessor, new IssueCategoryRetriever(), UUID.randomUUID(), "ALERT", Duration.ofHours(1));
+        ProjectIssueModel projectIssueModel = ProjectIssueModel.bom(
+            new ProviderDetails(0L, new LinkableItem("Black Duck", "a-black-duck-config")),
+            new LinkableItem("Project", "A Project"),
+            new LinkableItem("Project Version", "A Version"),
+            IssueBomComponentDetails.fromSearchResults(new LinkableItem("Component", "A Component"), null)
+        );
+
+        IssueTrackerIssueCreator<String> indexedCreator = Mockito.mock(IssueTrackerIssueCreator.class);
+        IssueTrackerIssueResponseModel<String> creationResponse = new IssueTrackerIssueResponseModel<>("10001", "ALERT-1", "https://issue-link", "issue summary", IssueOperation.OPEN, null);
+        Mockito.when(indexedCreator.createIssueTrackerIssue(Mockito.any())).thenReturn(creationResponse);
+        IssueCreationModel issueCreationModel = IssueCreationModel.project("issue summary", "description", List.of(), projectIssueModel);
+
+        IssueTrackerMessageSender<String> messageSender = new IssueTrackerMessageSender<>(indexedCreator, transitioner, commenter, issueIndex);
+        messageSender.sendMessages(new IssueTrackerModelHolder<>(List.of(issueCreationModel), List.of(), List.of()));
+
+        Optional<IndexedIssueModel> indexedIssue = issueIndex.findIssue(projectIssueModel);
+        assertTrue(indexedIssue.isPresent());
+        assertEquals("10001", indexedIssue.get().getIssueId());
+        assertEquals("ALERT-1", indexedIssue.get().getIssueKey());
+
+        IssueTrackerIssueCommenter<String> exceptionCommenter = Mockito.mock(IssueTrackerIssueCommenter.class);
+        Mockito.when(exceptionCommenter.commentOnIssue(Mockito.any())).thenThrow(TEST_EXCEPTION);
+        ExistingIssueDetails<String> existingIssueDetails = new ExistingIssueDetails<>("10001", "ALERT-1", "issue summary", "https://issue-link", IssueStatus.RESOLVABLE, IssueCategory.BOM);
+        IssueCommentModel<String> issueCommentModel = new IssueCommentModel<>(existingIssueDetails, List.of("comment"), projectIssueModel);
+
+        IssueTrackerMessageSender<String> failingMessageSender = new IssueTrackerMessageSender<>(indexedCreator, transitioner, exceptionCommenter, issueIndex);
+        assertThrows(AlertException.class, () -> failingMessageSender.sendMessages(new IssueTrackerModelHolder<>(List.of(), List.of(), List.of(issueCommentModel))));
+        assertTrue(issueIndex.findIssue(projectIssueModel).isEmpty());
+    }
+
+    @Test
+    public void sendMessagesConcurrentlyKeepsIssueOrderTest() throws AlertException {
+        List<String> performedOperations = Collections.synchronizedList(new ArrayList<>());
+        ExistingIssueDetails<String> existingIssueDetails = new ExistingIssueDetails<>("10001", "ALERT-1", "summary", "https://issue-link", IssueStatus.RESOLVABLE, IssueCategory.BOM);
+        IssueTransitionModel<String> issueTransitionModel = new IssueTransitionModel<>(existingIssueDetails, IssueOperation.RESOLVE, List.of(), null);
+        IssueCommentModel<String> issueCommentModel = new IssueCommentModel<>(existingIssueDetails, List.of("comment"), null);
+
+        IssueTrackerIssueTransitioner<String> orderedTransitioner = Mockito.mock(IssueTrackerIssueTransitioner.class);
+        IssueTrackerIssueResponseModel<String> transitionResponse = new IssueTrackerIssueResponseModel<>("10001", "ALERT-1", "https://issue-link", "summary", IssueOperation.RESOLVE, null);
+        Mockito.when(orderedTransitioner.transitionIssue(Mockito.any())).thenAnswer(invocation -> {
+            Thread.sleep(50L);
+            performedOperations.add("transition");
+            return Optional.of(transitionResponse);
+        });
+        IssueTrackerIssueCommenter<String> orderedCommenter = Mockito.mock(IssueTrackerIssueCommenter.class);
+        IssueTrackerIssueResponseModel<String> commentResponse = new IssueTrackerIssueResponseModel<>("10001", "ALERT-1", "https://issue-link", "summary", IssueOperation.UPDATE, null);
+        Mockito.when(orderedCommenter.commentOnIssue(Mockito.any())).thenAnswer(invocation -> {
+            performedOperations.add("comment");
+            return Optional.of(commentResponse);
+        });
+
+        IssueTrackerModelHolder<String> messages = new IssueTrackerModelHolder<>(
+            List.of(Mockito.mock(IssueCreationModel.class), Mockito.mock(IssueCreationModel.class)),
+            List.of(issueTransitionModel),
+            List.of(issueCommentModel)
+        );
+        IssueTrackerOperationExecutor operationExecutor = new IssueTrackerOperationExecutor("test", 4);
+        try {
+            IssueTrackerMessageSender<String> messageSender = new IssueTrackerMessageSender<>(creator, orderedTransitioner, orderedCommenter, null, operationExecutor);
+            List<IssueTrackerIssueResponseModel<String>> responseModels = messageSender.sendMessages(messages);
+
+            assertEquals(List.of(DEFAULT_RESPONSE_MODEL, DEFAULT_RESPONSE_MODEL, transitionResponse, commentResponse), responseModels);
+        } finally {
+            operationExecutor.shutdown();
+        }
+
+        assertEquals(List.of("transition", "comment"), performedOperations);
+        IssueTrackerOperationLatencyHistogram latencyHistogram = operationExecutor.getLatencyHistogram();
+        assertEquals(2L, latencyHistogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.CREATE));
+        assertEquals(1L, latencyHistogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.TRANSITION));
+        assertEquals(1L, latencyHistogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.COMMENT));
+    }
+
+    @Test
+    public void sendMessagesSequentiallyWithoutConcurrencyTest() throws AlertException {
+        IssueTrackerModelHolder<String> messages = createModelHolder();
+        IssueTrackerOperationExecutor operationExecutor = new IssueTrackerOperationExecutor("test", 1);
+
+        IssueTrackerMessageSender<String> messageSender = new IssueTrackerMessageSender<>(creator, transitioner, commenter, null, operationExecutor);
+        List<IssueTrackerIssueResponseModel<String>> responseModels = messageSender.sendMessages(messages);
+
+        assertEquals(3, responseModels.size());
+        IssueTrackerOperationLatencyHistogram latencyHistogram = operationExecutor.getLatencyHistogram();
+        assertEquals(0L, latencyHistogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.CREATE));
+        assertEquals(0L, latencyHistogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.COMMENT));
+    }
+
+    @Test
+    public void sendMessagesKeepsIssuesCreatedInBulkTest() {
+        MockIssueTrackerIssueIndexAccessor issueIndexAccessor = new MockIssueTrackerIssueIndexAccessor();
+        IssueTrackerIssueIndex<String> issueIndex = new IssueTrackerIssueIndex<>(issueIndexAccessor, new IssueCategoryRetriever(), UUID.randomUUID(), "ALERT", Duration.ofHours(1));
+        ProjectIssueModel createdSource = createProjectIssueModel("Created Component");
+        ProjectIssueModel failedSource = createProjectIssueModel("Failed Component");
+        IssueCreationModel createdIssue = IssueCreationModel.project("created issue", "description", List.of(), createdSource);
+        IssueCreationModel failedIssue = IssueCreationModel.project("failed issue", "description", List.of(), failedSource);
+
+        IssueTrackerIssueCommenter<String> postCreateCommenter = Mockito.mock(IssueTrackerIssueCommenter.class);
+        IssueTrackerCallbackInfoCreator callbackInfoCreator = Mockito.mock(IssueTrackerCallbackInfoCreator.class);
+        Mockito.when(callbackInfoCreator.createCallbackInfo(Mockito.any())).thenReturn(Optional.empty());
+        BulkIssueCreator bulkCreator = new BulkIssueCreator(postCreateCommenter, callbackInfoCreator, failedIssue.getTitle());
+
+        IssueTrackerMessageSender<String> messageSender = new IssueTrackerMessageSender<>(bulkCreator, transitioner, commenter, issueIndex);
+        AlertException exception = assertThrows(AlertException.class, () -> messageSender.sendMessages(new IssueTrackerModelHolder<>(List.of(createdIssue, failedIssue), List.of(), List.of())));
+
+        assertEquals(1, bulkCreator.bulkCreationCount);
+        assertTrue(exception.getMessage().contains(failedIssue.getTitle()), "The failure should name the issue that could not be created");
+        assertTrue(issueIndex.findIssue(createdSource).isPresent());
+        assertTrue(issueIndex.findIssue(failedSource).isEmpty());
+    }
+
+    private ProjectIssueModel createProjectIssueModel(String componentName) {
+        return ProjectIssueModel.bom(
+            new ProviderDetails(0L, new LinkableItem("Black Duck", "a-black-duck-config")),
+            new LinkableItem("Project", "A Project"),
+            new LinkableItem("Project Version", "A Version"),
+            IssueBomComponentDetails.fromSearchResults(new LinkableItem("Component", componentName), null)
+        );
+    }
+
     private void assertExceptionThrown(IssueTrackerMessageSender<String> messageSender, IssueTrackerModelHolder<String> messages) {
         try {
             messageSender.sendMessages(messages);
@@ -84,4 +228,46 @@ public class IssueTrackerMessageSenderTest {
         );
     }
 
+    private static class BulkIssueCreator extends IssueTrackerIssueCreator<String> {
+        private static final IssueTrackerChannelKey ISSUE_TRACKER_CHANNEL_KEY = new IssueTrackerChannelKey("key", "name") {};
+
+        private final String failingTitle;
+        private int bulkCreationCount = 0;
+
+        public BulkIssueCreator(IssueTrackerIssueCommenter<String> commenter, IssueTrackerCallbackInfoCreator callbackInfoCreator, String failingTitle) {
+            super(ISSUE_TRACKER_CHANNEL_KEY, commenter, callbackInfoCreator);
+            this.failingTitle = failingTitle;
+        }
+
+        @Override
+        public boolean isBulkCreationSupported() {
+            return true;
+        }
+
+        @Override
+        protected List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> createIssuesAndAssignAlertSearchProperties(List<IssueCreationModel> alertIssueCreationModels) {
+            bulkCreationCount++;
+            List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> results = new ArrayList<>();
+            for (IssueCreationModel alertIssueCreationModel : alertIssueCreationModels) {
+                if (failingTitle.equals(alertIssueCreationModel.getTitle())) {
+                    results.add(IssueTrackerIssueCreationResult.failure(alertIssueCreationModel, TEST_EXCEPTION));
+                } else {
+                    results.add(IssueTrackerIssueCreationResult.success(alertIssueCreationModel, createIssueAndExtractDetails(alertIssueCreationModel)));
+                }
+            }
+            return results;
+        }
+
+        @Override
+        protected ExistingIssueDetails<String> createIssueAndExtractDetails(IssueCreationModel alertIssueCreationModel) {
+            return new ExistingIssueDetails<>("10001", "ALERT-1", alertIssueCreationModel.getTitle(), "https://issue-link", IssueStatus.RESOLVABLE, IssueCategory.BOM);
+        }
+
+        @Override
+        protected void assignAlertSearchProperties(ExistingIssueDetails<String> createdIssueDetails, ProjectIssueModel alertIssueSource) {
+            // Assigned with the issues
+        }
+
+    }
+
 }
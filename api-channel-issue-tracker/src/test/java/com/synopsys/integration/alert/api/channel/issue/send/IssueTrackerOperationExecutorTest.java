@@ -0,0 +1,113 @@
+package com.synopsys.integration.alert.api.channel.issue.send;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerOperationExecutor.IssueTrackerOperation;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+
+public class IssueTrackerOperationExecutorTest {
+    @Test
+    public void sequentialExecutorPerformsInlineTest() throws AlertException {
+        IssueTrackerOperationExecutor operationExecutor = new IssueTrackerOperationExecutor("test", 1);
+        assertFalse(operationExecutor.isConcurrent());
+
+        List<String> performed = new ArrayList<>();
+        Thread callingThread = Thread.currentThread();
+        operationExecutor.performLanes(List.of(
+            List.of(() -> performed.add("1-a"), () -> performed.add("1-b")),
+            List.of(() -> assertSame(callingThread, Thread.currentThread()), () -> performed.add("2-a"))
+        ));
+        assertEquals(List.of("1-a", "1-b", "2-a"), performed);
+    }
+
+    @Test
+    public void lanesKeepOrderAndConcurrencyIsBoundedTest() throws AlertException {
+        int maxConcurrentOperations = 3;
+        IssueTrackerOperationExecutor operationExecutor = new IssueTrackerOperationExecutor("test", maxConcurrentOperations);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        List<List<Integer>> performedPerLane = new ArrayList<>();
+        List<List<IssueTrackerOperation>> lanes = new ArrayList<>();
+        for (int laneIndex = 0; laneIndex < 10; laneIndex++) {
+            List<Integer> performed = Collections.synchronizedList(new ArrayList<>());
+            performedPerLane.add(performed);
+            List<IssueTrackerOperation> lane = new ArrayList<>();
+            for (int operationIndex = 0; operationIndex < 5; operationIndex++) {
+                int currentIndex = operationIndex;
+                lane.add(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(2);
+                    performed.add(currentIndex);
+                    running.decrementAndGet();
+                });
+            }
+            lanes.add(lane);
+        }
+
+        try {
+            operationExecutor.performLanes(lanes);
+        } finally {
+            operationExecutor.shutdown();
+        }
+
+        for (List<Integer> performed : performedPerLane) {
+            assertEquals(List.of(0, 1, 2, 3, 4), performed);
+        }
+        assertTrue(maxRunning.get() <= maxConcurrentOperations, "At most " + maxConcurrentOperations + " operations should run at once");
+    }
+
+    @Test
+    public void firstFailureIsThrownAndRemainingOperationsAreSkippedTest() {
+        AlertException testException = new AlertException("Test exception");
+        IssueTrackerOperationExecutor operationExecutor = new IssueTrackerOperationExecutor("test", 2);
+        AtomicInteger performedAfterFailure = new AtomicInteger(0);
+        List<IssueTrackerOperation> failingLane = List.of(() -> {
+            throw testException;
+        }, performedAfterFailure::incrementAndGet);
+
+        try {
+            AlertException thrown = assertThrows(AlertException.class, () -> operationExecutor.performLanes(List.of(failingLane)));
+            assertSame(testException, thrown);
+        } finally {
+            operationExecutor.shutdown();
+        }
+        assertEquals(0, performedAfterFailure.get());
+    }
+
+    @Test
+    public void latencyHistogramTest() {
+        IssueTrackerOperationLatencyHistogram histogram = new IssueTrackerOperationLatencyHistogram();
+        histogram.record(IssueTrackerOperationLatencyHistogram.Operation.CREATE, Duration.ofMillis(50));
+        histogram.record(IssueTrackerOperationLatencyHistogram.Operation.CREATE, Duration.ofMillis(300));
+        histogram.record(IssueTrackerOperationLatencyHistogram.Operation.CREATE, Duration.ofMinutes(1));
+
+        long[] bucketCounts = histogram.getBucketCounts(IssueTrackerOperationLatencyHistogram.Operation.CREATE);
+        assertEquals(1L, bucketCounts[0]);
+        assertEquals(1L, bucketCounts[2]);
+        assertEquals(1L, bucketCounts[bucketCounts.length - 1]);
+        assertEquals(3L, histogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.CREATE));
+        assertEquals(0L, histogram.getCount(IssueTrackerOperationLatencyHistogram.Operation.COMMENT));
+    }
+
+    private static void sleep(long millis) throws AlertException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AlertException("Interrupted", e);
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -37,13 +38,7 @@ public class JiraErrorMessageUtility {
         try {
             List<String> responseErrors = extractErrorsFromResponseContent(restException.getHttpResponseContent(), issueCreatorFieldKey, issueCreatorEmail);
             if (!responseErrors.isEmpty()) {
-                String responseErrorString = StringUtils.join(responseErrors, ", ");
-                if (responseErrorString.contains("customfield_")) {
-                    for (String customFieldId : customFieldResolver.getCustomFieldIds()) {
-                        responseErrorString = responseErrorString.replace(String.format("'%s'", customFieldId), String.format("'%s' ('%s')", customFieldId, customFieldResolver.resolveCustomFieldIdToName(customFieldId)));
-                    }
-                }
-                message += " | Details: " + responseErrorString;
+                message += " | Details: " + joinResponseErrors(responseErrors);
             }
         } catch (AlertFieldException reporterException) {
             return reporterException;
@@ -51,6 +46,43 @@ public class JiraErrorMessageUtility {
         return new AlertException(message, restException);
     }
 
+    /**
+     * @param elementErrors The errors Jira reports for a single issue of a bulk request, with the same structure as the errors of a single request
+     */
+    public AlertException improveBulkElementErrors(String message, @Nullable JsonObject elementErrors, String issueCreatorFieldKey, String issueCreatorEmail) {
+        if (null == elementErrors) {
+            return new AlertException(message);
+        }
+
+        try {
+            List<String> responseErrors = new ArrayList<>();
+            if (elementErrors.has("errors") && elementErrors.get("errors").isJsonObject()) {
+                responseErrors.addAll(extractSpecificErrorsFromErrorsObject(elementErrors.getAsJsonObject("errors"), issueCreatorFieldKey, issueCreatorEmail));
+            }
+            if (elementErrors.has("errorMessages") && elementErrors.get("errorMessages").isJsonArray()) {
+                for (JsonElement errorMessage : elementErrors.getAsJsonArray("errorMessages")) {
+                    responseErrors.add(errorMessage.getAsString());
+                }
+            }
+            if (!responseErrors.isEmpty()) {
+                return new AlertException(message + " | Details: " + joinResponseErrors(responseErrors));
+            }
+        } catch (AlertFieldException reporterException) {
+            return reporterException;
+        }
+        return new AlertException(message);
+    }
+
+    private String joinResponseErrors(List<String> responseErrors) {
+        String responseErrorString = StringUtils.join(responseErrors, ", ");
+        if (responseErrorString.contains("customfield_")) {
+            for (String customFieldId : customFieldResolver.getCustomFieldIds()) {
+                responseErrorString = responseErrorString.replace(String.format("'%s'", customFieldId), String.format("'%s' ('%s')", customFieldId, customFieldResolver.resolveCustomFieldIdToName(customFieldId)));
+            }
+        }
+        return responseErrorString;
+    }
+
     private List<String> extractErrorsFromResponseContent(String httpResponseContent, String issueCreatorFieldKey, String issueCreatorEmail) throws AlertFieldException {
         JsonObject responseContentObject = gson.fromJson(httpResponseContent, JsonObject.class);
         if (null != responseContentObject && responseContentObject.has("errors")) {
@@ -0,0 +1,78 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.alert.api.channel.jira.distribution.custom.JiraCustomFieldCatalogCache;
+import com.synopsys.integration.function.ThrowingSupplier;
+
+/**
+ * Keeps the service factory of the global Jira configuration, and with it the factory's http client and its keep-alive connections,
+ * alive across distribution events. The registration is replaced when the connection details change and must be invalidated when the
+ * global configuration is saved, updated, or deleted.
+ * @param <F> The type of Jira service factory
+ */
+public class JiraServiceFactoryRegistry<F> {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Duration fieldCatalogTimeToLive;
+    private Registration<F> registration;
+
+    public JiraServiceFactoryRegistry(Duration fieldCatalogTimeToLive) {
+        this.fieldCatalogTimeToLive = fieldCatalogTimeToLive;
+    }
+
+    /**
+     * @param connectionDetails     The details the service factory is created from, such as the url and credentials
+     * @param serviceFactoryCreator Creates a service factory when none is registered for the connection details
+     */
+    public synchronized <E extends Exception> Registration<F> retrieveRegistration(List<?> connectionDetails, ThrowingSupplier<F, E> serviceFactoryCreator) throws E {
+        if (null == registration || !registration.connectionDetails.equals(connectionDetails)) {
+            F serviceFactory = serviceFactoryCreator.get();
+            logger.debug("Registered a new Jira service factory");
+            registration = new Registration<>(connectionDetails, serviceFactory, new JiraCustomFieldCatalogCache(fieldCatalogTimeToLive));
+        }
+        return registration;
+    }
+
+    public synchronized void invalidate() {
+        if (null != registration) {
+            logger.debug("Invalidated the Jira service factory");
+            registration.getFieldCatalogCache().invalidate();
+            registration = null;
+        }
+    }
+
+    public static class Registration<F> {
+        private final List<?> connectionDetails;
+        private final F serviceFactory;
+        private final JiraCustomFieldCatalogCache fieldCatalogCache;
+
+        private Registration(List<?> connectionDetails, F serviceFactory, JiraCustomFieldCatalogCache fieldCatalogCache) {
+            this.connectionDetails = Objects.requireNonNull(connectionDetails);
+            this.serviceFactory = serviceFactory;
+            this.fieldCatalogCache = fieldCatalogCache;
+        }
+
+        public F getServiceFactory() {
+            return serviceFactory;
+        }
+
+        public JiraCustomFieldCatalogCache getFieldCatalogCache() {
+            return fieldCatalogCache;
+        }
+
+    }
+
+}
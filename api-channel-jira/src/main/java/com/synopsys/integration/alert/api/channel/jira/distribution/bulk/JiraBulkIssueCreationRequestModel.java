@@ -0,0 +1,62 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.bulk;
+
+import java.util.List;
+import java.util.Map;
+
+public class JiraBulkIssueCreationRequestModel {
+    private final List<IssueUpdate> issueUpdates;
+
+    public JiraBulkIssueCreationRequestModel(List<IssueUpdate> issueUpdates) {
+        this.issueUpdates = issueUpdates;
+    }
+
+    public List<IssueUpdate> getIssueUpdates() {
+        return issueUpdates;
+    }
+
+    public static class IssueUpdate {
+        private final Map<String, Object> fields;
+        private final List<EntityProperty> properties;
+
+        public IssueUpdate(Map<String, Object> fields, List<EntityProperty> properties) {
+            this.fields = fields;
+            this.properties = properties;
+        }
+
+        public Map<String, Object> getFields() {
+            return fields;
+        }
+
+        public List<EntityProperty> getProperties() {
+            return properties;
+        }
+
+    }
+
+    public static class EntityProperty {
+        private final String key;
+        private final Object value;
+
+        public EntityProperty(String key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+    }
+
+}
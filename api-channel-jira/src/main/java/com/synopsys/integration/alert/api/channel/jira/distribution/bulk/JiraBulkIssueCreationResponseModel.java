@@ -0,0 +1,99 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.bulk;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.google.gson.JsonObject;
+import com.synopsys.integration.jira.common.model.JiraResponseModel;
+
+/**
+ * Jira lists the issues that were created in the order they were requested, and reports the position of each issue that could not be
+ * created in the request as its failed element number.
+ */
+public class JiraBulkIssueCreationResponseModel extends JiraResponseModel {
+    private List<CreatedIssue> issues;
+    private List<ElementError> errors;
+
+    public JiraBulkIssueCreationResponseModel() {
+        // For serialization
+    }
+
+    public JiraBulkIssueCreationResponseModel(List<CreatedIssue> issues, List<ElementError> errors) {
+        this.issues = issues;
+        this.errors = errors;
+    }
+
+    public List<CreatedIssue> getIssues() {
+        return null != issues ? issues : List.of();
+    }
+
+    public List<ElementError> getErrors() {
+        return null != errors ? errors : List.of();
+    }
+
+    public static class CreatedIssue {
+        private String id;
+        private String key;
+        private String self;
+
+        public CreatedIssue() {
+            // For serialization
+        }
+
+        public CreatedIssue(String id, String key, String self) {
+            this.id = id;
+            this.key = key;
+            this.self = self;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getSelf() {
+            return self;
+        }
+
+    }
+
+    public static class ElementError {
+        private Integer status;
+        private JsonObject elementErrors;
+        private Integer failedElementNumber;
+
+        public ElementError() {
+            // For serialization
+        }
+
+        public ElementError(Integer status, JsonObject elementErrors, Integer failedElementNumber) {
+            this.status = status;
+            this.elementErrors = elementErrors;
+            this.failedElementNumber = failedElementNumber;
+        }
+
+        public Optional<Integer> getStatus() {
+            return Optional.ofNullable(status);
+        }
+
+        public Optional<JsonObject> getElementErrors() {
+            return Optional.ofNullable(elementErrors);
+        }
+
+        public Optional<Integer> getFailedElementNumber() {
+            return Optional.ofNullable(failedElementNumber);
+        }
+
+    }
+
+}
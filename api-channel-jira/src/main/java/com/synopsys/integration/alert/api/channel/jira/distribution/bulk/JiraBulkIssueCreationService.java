@@ -0,0 +1,67 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.bulk;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.jira.common.rest.model.JiraRequest;
+import com.synopsys.integration.jira.common.rest.model.JiraRequestFactory;
+import com.synopsys.integration.jira.common.rest.service.JiraApiClient;
+import com.synopsys.integration.rest.HttpMethod;
+import com.synopsys.integration.rest.HttpUrl;
+import com.synopsys.integration.rest.exception.IntegrationRestException;
+
+/**
+ * Creates several Jira issues with a single request to the bulk-create endpoint, which is available in both Jira Cloud and Jira Server.
+ */
+public class JiraBulkIssueCreationService {
+    public static final String API_PATH = "/rest/api/2/issue/bulk";
+    // The maximum number of issues Jira creates in a single request
+    public static final int MAX_ISSUES_PER_REQUEST = 50;
+
+    private final Gson gson;
+    private final JiraApiClient jiraApiClient;
+
+    public JiraBulkIssueCreationService(Gson gson, JiraApiClient jiraApiClient) {
+        this.gson = gson;
+        this.jiraApiClient = jiraApiClient;
+    }
+
+    public JiraBulkIssueCreationResponseModel createIssues(JiraBulkIssueCreationRequestModel requestModel) throws IntegrationException {
+        if (requestModel.getIssueUpdates().size() > MAX_ISSUES_PER_REQUEST) {
+            throw new IntegrationException(String.format("Cannot create more than %d issues in a single request", MAX_ISSUES_PER_REQUEST));
+        }
+
+        HttpUrl httpUrl = new HttpUrl(jiraApiClient.getBaseUrl() + API_PATH);
+        JiraRequest request = JiraRequestFactory.createDefaultBuilder()
+                                  .url(httpUrl)
+                                  .method(HttpMethod.POST)
+                                  .bodyContent(gson.toJson(requestModel))
+                                  .build();
+        try {
+            return jiraApiClient.post(request, JiraBulkIssueCreationResponseModel.class);
+        } catch (IntegrationRestException restException) {
+            // Jira responds with an error status when none of the issues could be created, but still reports why each of them failed
+            JiraBulkIssueCreationResponseModel errorResponse = parseErrorResponse(restException.getHttpResponseContent());
+            if (null != errorResponse && !errorResponse.getErrors().isEmpty()) {
+                return errorResponse;
+            }
+            throw restException;
+        }
+    }
+
+    private JiraBulkIssueCreationResponseModel parseErrorResponse(String httpResponseContent) {
+        try {
+            return gson.fromJson(httpResponseContent, JiraBulkIssueCreationResponseModel.class);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.custom;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.function.ThrowingSupplier;
+import com.synopsys.integration.jira.common.model.response.CustomFieldCreationResponseModel;
+
+/**
+ * Shares the user-visible field definitions of a Jira instance between {@link JiraCustomFieldResolver}s for a limited time, so that the
+ * field catalog is not downloaded again for every distribution event. Fields created in Jira become visible once the catalog expires.
+ */
+public class JiraCustomFieldCatalogCache {
+    private final Duration timeToLive;
+    private final Clock clock;
+
+    private List<CustomFieldCreationResponseModel> cachedFields;
+    private Instant expiration = Instant.MIN;
+
+    public JiraCustomFieldCatalogCache(Duration timeToLive) {
+        this(timeToLive, Clock.systemUTC());
+    }
+
+    public JiraCustomFieldCatalogCache(Duration timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * @param retrieveAvailableFields Retrieves the field catalog from Jira when it is not cached or has expired
+     * @return a supplier suitable for a {@link JiraCustomFieldResolver}
+     */
+    public ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> createFieldSupplier(ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> retrieveAvailableFields) {
+        return () -> retrieveFields(retrieveAvailableFields);
+    }
+
+    public synchronized List<CustomFieldCreationResponseModel> retrieveFields(ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> retrieveAvailableFields) throws IntegrationException {
+        Instant now = clock.instant();
+        if (null == cachedFields || !now.isBefore(expiration)) {
+            // Failures are not cached so that the next distribution event retries the retrieval
+            cachedFields = List.copyOf(retrieveAvailableFields.get());
+            expiration = now.plus(timeToLive);
+        }
+        return cachedFields;
+    }
+
+    public synchronized void invalidate() {
+        cachedFields = null;
+        expiration = Instant.MIN;
+    }
+
+}
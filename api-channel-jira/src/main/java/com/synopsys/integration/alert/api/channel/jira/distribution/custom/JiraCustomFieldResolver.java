@@ -41,7 +41,8 @@ public class JiraCustomFieldResolver {
     private final ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> retrieveAvailableFields;
     private final Map<String, CustomFieldCreationResponseModel> nameToModelCache;
     private final Map<String, String> idToNameCache;
-    private boolean cachesHaveBeenInitialized;
+    // Issues may be created concurrently; the caches are only written once, before this is set
+    private volatile boolean cachesHaveBeenInitialized;
 
     public JiraCustomFieldResolver(ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> retrieveAvailableFields) {
         this.retrieveAvailableFields = retrieveAvailableFields;
@@ -137,7 +138,10 @@ public class JiraCustomFieldResolver {
         return jiraCustomFieldConfig.getFieldReplacementValue().orElseGet(jiraCustomFieldConfig::getFieldOriginalValue);
     }
 
-    private void initializeCaches() throws IntegrationException {
+    private synchronized void initializeCaches() throws IntegrationException {
+        if (cachesHaveBeenInitialized) {
+            return;
+        }
         List<CustomFieldCreationResponseModel> userVisibleFields = retrieveAvailableFields.get();
         for (CustomFieldCreationResponseModel jiraField : userVisibleFields) {
             nameToModelCache.put(jiraField.getName(), jiraField);
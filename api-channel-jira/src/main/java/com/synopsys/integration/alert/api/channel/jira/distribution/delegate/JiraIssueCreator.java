@@ -7,9 +7,19 @@
  */
 package com.synopsys.integration.alert.api.channel.jira.distribution.delegate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueBomComponentDetails;
@@ -22,12 +32,17 @@ import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetr
 import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
 import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueStatus;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueCommenter;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueCreationResult;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueCreator;
 import com.synopsys.integration.alert.api.channel.jira.JiraIssueSearchProperties;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationRequestModel;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationResponseModel;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.MessageReplacementValues;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueAlertPropertiesManager;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueAlertPropertiesUrlCorrector;
+import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssuePropertyKeys;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueSearchPropertyStringCompatibilityUtils;
 import com.synopsys.integration.alert.api.channel.jira.util.JiraCallbackUtils;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -38,6 +53,7 @@ import com.synopsys.integration.alert.processor.api.extract.model.project.Compon
 import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentPolicy;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentUpgradeGuidance;
 import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.jira.common.cloud.builder.IssueRequestModelFieldsBuilder;
 import com.synopsys.integration.jira.common.exception.JiraPreconditionNotMetException;
 import com.synopsys.integration.jira.common.model.components.IssueFieldsComponent;
 import com.synopsys.integration.jira.common.model.response.IssueCreationResponseModel;
@@ -46,11 +62,15 @@ import com.synopsys.integration.rest.exception.IntegrationRestException;
 
 public abstract class JiraIssueCreator<T> extends IssueTrackerIssueCreator<String> {
     private static final String FAILED_TO_CREATE_ISSUE_MESSAGE = "Failed to create an issue in Jira.";
+    private static final String BULK_FIELD_ISSUE_TYPE = "issuetype";
+    private static final String BULK_FIELD_REPORTER = "reporter";
 
     private final JiraErrorMessageUtility jiraErrorMessageUtility;
     private final JiraIssueAlertPropertiesManager issuePropertiesManager;
     private final String issueCreatorDescriptorKey;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    @Nullable
+    private final JiraBulkIssueCreationService bulkIssueCreationService;
 
     protected JiraIssueCreator(
         IssueTrackerChannelKey channelKey,
@@ -60,19 +80,39 @@ public abstract class JiraIssueCreator<T> extends IssueTrackerIssueCreator<Strin
         JiraIssueAlertPropertiesManager issuePropertiesManager,
         String issueCreatorDescriptorKey,
         IssueCategoryRetriever issueCategoryRetriever
+    ) {
+        this(channelKey, commenter, callbackInfoCreator, jiraErrorMessageUtility, issuePropertiesManager, issueCreatorDescriptorKey, issueCategoryRetriever, null);
+    }
+
+    /**
+     * @param bulkIssueCreationService Creates several issues, along with their search properties, in a single request. Issues are created one at a time when this is null.
+     */
+    protected JiraIssueCreator(
+        IssueTrackerChannelKey channelKey,
+        IssueTrackerIssueCommenter<String> commenter,
+        IssueTrackerCallbackInfoCreator callbackInfoCreator,
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        JiraIssueAlertPropertiesManager issuePropertiesManager,
+        String issueCreatorDescriptorKey,
+        IssueCategoryRetriever issueCategoryRetriever,
+        @Nullable JiraBulkIssueCreationService bulkIssueCreationService
     ) {
         super(channelKey, commenter, callbackInfoCreator);
         this.jiraErrorMessageUtility = jiraErrorMessageUtility;
         this.issuePropertiesManager = issuePropertiesManager;
         this.issueCreatorDescriptorKey = issueCreatorDescriptorKey;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.bulkIssueCreationService = bulkIssueCreationService;
+    }
+
+    @Override
+    public boolean isBulkCreationSupported() {
+        return null != bulkIssueCreationService;
     }
 
     @Override
     protected final ExistingIssueDetails<String> createIssueAndExtractDetails(IssueCreationModel alertIssueCreationModel) throws AlertException {
-        MessageReplacementValues replacementValues = alertIssueCreationModel.getSource()
-                                                         .map(this::createCustomFieldReplacementValues)
-                                                         .orElse(new MessageReplacementValues.Builder(alertIssueCreationModel.getProvider().getLabel(), MessageReplacementValues.DEFAULT_NOTIFICATION_REPLACEMENT_VALUE).build());
+        MessageReplacementValues replacementValues = createReplacementValues(alertIssueCreationModel);
         T creationRequest = createIssueCreationRequest(alertIssueCreationModel, replacementValues);
         try {
             IssueCreationResponseModel issueCreationResponseModel = createIssue(creationRequest);
@@ -96,6 +136,30 @@ public abstract class JiraIssueCreator<T> extends IssueTrackerIssueCreator<Strin
         }
     }
 
+    @Override
+    protected final List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> createIssuesAndAssignAlertSearchProperties(List<IssueCreationModel> alertIssueCreationModels) {
+        if (null == bulkIssueCreationService) {
+            return super.createIssuesAndAssignAlertSearchProperties(alertIssueCreationModels);
+        }
+
+        List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> results = new ArrayList<>(Collections.nCopies(alertIssueCreationModels.size(), null));
+        List<BulkIssueCreation<T>> pendingCreations = new ArrayList<>(alertIssueCreationModels.size());
+        for (int modelIndex = 0; modelIndex < alertIssueCreationModels.size(); modelIndex++) {
+            IssueCreationModel alertIssueCreationModel = alertIssueCreationModels.get(modelIndex);
+            try {
+                pendingCreations.add(createBulkIssueCreation(modelIndex, alertIssueCreationModel));
+            } catch (AlertException e) {
+                results.set(modelIndex, IssueTrackerIssueCreationResult.failure(alertIssueCreationModel, e));
+            }
+        }
+
+        for (int batchStart = 0; batchStart < pendingCreations.size(); batchStart += JiraBulkIssueCreationService.MAX_ISSUES_PER_REQUEST) {
+            int batchEnd = Math.min(batchStart + JiraBulkIssueCreationService.MAX_ISSUES_PER_REQUEST, pendingCreations.size());
+            createIssuesInBulk(bulkIssueCreationService, pendingCreations.subList(batchStart, batchEnd), results);
+        }
+        return results;
+    }
+
     @Override
     protected final void assignAlertSearchProperties(ExistingIssueDetails<String> createdIssueDetails, ProjectIssueModel alertIssueSource) throws AlertException {
         JiraIssueSearchProperties searchProperties = createSearchProperties(alertIssueSource);
@@ -110,6 +174,21 @@ public abstract class JiraIssueCreator<T> extends IssueTrackerIssueCreator<Strin
 
     protected abstract String extractReporter(T creationRequest);
 
+    /**
+     * @return The fields of the issue to create in a bulk request. Unlike for a single issue, these must be complete: Jira does not resolve the
+     * issue type or the reporter of an issue in a bulk request.
+     */
+    protected abstract Map<String, Object> createBulkIssueFields(T creationRequest) throws IntegrationException;
+
+    protected Map<String, Object> createBulkIssueFields(Map<String, Object> requestFields, String issueTypeName, @Nullable Map<String, String> reporter) {
+        Map<String, Object> bulkIssueFields = new LinkedHashMap<>(requestFields);
+        bulkIssueFields.put(BULK_FIELD_ISSUE_TYPE, Map.of("name", issueTypeName));
+        if (null != reporter) {
+            bulkIssueFields.put(BULK_FIELD_REPORTER, reporter);
+        }
+        return bulkIssueFields;
+    }
+
     protected MessageReplacementValues createCustomFieldReplacementValues(ProjectIssueModel alertIssueSource) {
         IssueBomComponentDetails bomComponent = alertIssueSource.getBomComponentDetails();
         ComponentUpgradeGuidance upgradeGuidance = bomComponent.getComponentUpgradeGuidance();
@@ -143,6 +222,89 @@ public abstract class JiraIssueCreator<T> extends IssueTrackerIssueCreator<Strin
                    .build();
     }
 
+    private MessageReplacementValues createReplacementValues(IssueCreationModel alertIssueCreationModel) {
+        return alertIssueCreationModel.getSource()
+                   .map(this::createCustomFieldReplacementValues)
+                   .orElse(new MessageReplacementValues.Builder(alertIssueCreationModel.getProvider().getLabel(), MessageReplacementValues.DEFAULT_NOTIFICATION_REPLACEMENT_VALUE).build());
+    }
+
+    private BulkIssueCreation<T> createBulkIssueCreation(int modelIndex, IssueCreationModel alertIssueCreationModel) throws AlertException {
+        T creationRequest = createIssueCreationRequest(alertIssueCreationModel, createReplacementValues(alertIssueCreationModel));
+        Map<String, Object> bulkIssueFields;
+        try {
+            bulkIssueFields = createBulkIssueFields(creationRequest);
+        } catch (IntegrationException e) {
+            throw new AlertException(FAILED_TO_CREATE_ISSUE_MESSAGE, e);
+        }
+
+        // The search properties are assigned by the bulk request itself rather than with a request per issue afterwards
+        List<JiraBulkIssueCreationRequestModel.EntityProperty> properties = alertIssueCreationModel.getSource()
+                                                                                 .map(this::createSearchProperties)
+                                                                                 .map(searchProperties -> new JiraBulkIssueCreationRequestModel.EntityProperty(JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_KEY, searchProperties))
+                                                                                 .map(List::of)
+                                                                                 .orElse(List.of());
+        return new BulkIssueCreation<>(modelIndex, alertIssueCreationModel, creationRequest, new JiraBulkIssueCreationRequestModel.IssueUpdate(bulkIssueFields, properties));
+    }
+
+    private void createIssuesInBulk(JiraBulkIssueCreationService bulkCreationService, List<BulkIssueCreation<T>> batch, List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> results) {
+        List<JiraBulkIssueCreationRequestModel.IssueUpdate> issueUpdates = batch
+                                                                               .stream()
+                                                                               .map(BulkIssueCreation::getIssueUpdate)
+                                                                               .collect(Collectors.toList());
+        JiraBulkIssueCreationResponseModel response;
+        try {
+            response = bulkCreationService.createIssues(new JiraBulkIssueCreationRequestModel(issueUpdates));
+        } catch (IntegrationRestException restException) {
+            for (BulkIssueCreation<T> creation : batch) {
+                AlertException failure = jiraErrorMessageUtility.improveRestException(restException, issueCreatorDescriptorKey, extractReporter(creation.getCreationRequest()));
+                results.set(creation.getModelIndex(), IssueTrackerIssueCreationResult.failure(creation.getIssueCreationModel(), failure));
+            }
+            return;
+        } catch (IntegrationException intException) {
+            for (BulkIssueCreation<T> creation : batch) {
+                results.set(creation.getModelIndex(), IssueTrackerIssueCreationResult.failure(creation.getIssueCreationModel(), new AlertException(FAILED_TO_CREATE_ISSUE_MESSAGE, intException)));
+            }
+            return;
+        }
+
+        Map<Integer, JiraBulkIssueCreationResponseModel.ElementError> errorsByElement = new HashMap<>();
+        for (JiraBulkIssueCreationResponseModel.ElementError elementError : response.getErrors()) {
+            elementError.getFailedElementNumber().ifPresent(elementNumber -> errorsByElement.putIfAbsent(elementNumber, elementError));
+        }
+
+        // Jira lists the created issues in the order they were requested, skipping the elements that failed
+        Iterator<JiraBulkIssueCreationResponseModel.CreatedIssue> createdIssues = response.getIssues().iterator();
+        for (int elementNumber = 0; elementNumber < batch.size(); elementNumber++) {
+            BulkIssueCreation<T> creation = batch.get(elementNumber);
+            JiraBulkIssueCreationResponseModel.ElementError elementError = errorsByElement.get(elementNumber);
+            IssueTrackerIssueCreationResult<ExistingIssueDetails<String>> result;
+            if (null != elementError) {
+                AlertException failure = jiraErrorMessageUtility.improveBulkElementErrors(
+                    FAILED_TO_CREATE_ISSUE_MESSAGE,
+                    elementError.getElementErrors().orElse(null),
+                    issueCreatorDescriptorKey,
+                    extractReporter(creation.getCreationRequest())
+                );
+                result = IssueTrackerIssueCreationResult.failure(creation.getIssueCreationModel(), failure);
+            } else if (createdIssues.hasNext()) {
+                result = IssueTrackerIssueCreationResult.success(creation.getIssueCreationModel(), createBulkIssueDetails(creation, createdIssues.next()));
+            } else {
+                result = IssueTrackerIssueCreationResult.failure(creation.getIssueCreationModel(), new AlertException(FAILED_TO_CREATE_ISSUE_MESSAGE + " Jira did not report the result of the issue."));
+            }
+            results.set(creation.getModelIndex(), result);
+        }
+    }
+
+    private ExistingIssueDetails<String> createBulkIssueDetails(BulkIssueCreation<T> creation, JiraBulkIssueCreationResponseModel.CreatedIssue createdIssue) {
+        IssueCreationModel alertIssueCreationModel = creation.getIssueCreationModel();
+        String issueSummary = Objects.toString(creation.getIssueUpdate().getFields().get(IssueRequestModelFieldsBuilder.SUMMARY), alertIssueCreationModel.getTitle());
+        String issueUILink = JiraCallbackUtils.createUILink(createdIssue.getSelf(), createdIssue.getKey());
+        IssueCategory issueCategory = alertIssueCreationModel.getSource()
+                                          .map(issueCategoryRetriever::retrieveIssueCategoryFromProjectIssueModel)
+                                          .orElse(IssueCategory.BOM);
+        return new ExistingIssueDetails<>(createdIssue.getId(), createdIssue.getKey(), issueSummary, issueUILink, IssueStatus.RESOLVABLE, issueCategory);
+    }
+
     private JiraIssueSearchProperties createSearchProperties(ProjectIssueModel alertIssueSource) {
         LinkableItem provider = alertIssueSource.getProvider();
         LinkableItem project = alertIssueSource.getProject();
@@ -185,4 +347,35 @@ public abstract class JiraIssueCreator<T> extends IssueTrackerIssueCreator<Strin
         );
     }
 
+    private static class BulkIssueCreation<T> {
+        private final int modelIndex;
+        private final IssueCreationModel issueCreationModel;
+        private final T creationRequest;
+        private final JiraBulkIssueCreationRequestModel.IssueUpdate issueUpdate;
+
+        public BulkIssueCreation(int modelIndex, IssueCreationModel issueCreationModel, T creationRequest, JiraBulkIssueCreationRequestModel.IssueUpdate issueUpdate) {
+            this.modelIndex = modelIndex;
+            this.issueCreationModel = issueCreationModel;
+            this.creationRequest = creationRequest;
+            this.issueUpdate = issueUpdate;
+        }
+
+        public int getModelIndex() {
+            return modelIndex;
+        }
+
+        public IssueCreationModel getIssueCreationModel() {
+            return issueCreationModel;
+        }
+
+        public T getCreationRequest() {
+            return creationRequest;
+        }
+
+        public JiraBulkIssueCreationRequestModel.IssueUpdate getIssueUpdate() {
+            return issueUpdate;
+        }
+
+    }
+
 }
@@ -8,18 +8,31 @@
 package com.synopsys.integration.alert.api.channel.jira.distribution.search;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.alert.api.channel.issue.model.IssueBomComponentDetails;
 import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
 import com.synopsys.integration.alert.api.channel.issue.search.ProjectIssueSearchResult;
 import com.synopsys.integration.alert.api.channel.issue.search.ProjectVersionComponentIssueFinder;
+import com.synopsys.integration.alert.api.channel.jira.JiraIssueSearchProperties;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.project.BomComponentDetails;
 
 public class JiraComponentIssueFinder implements ProjectVersionComponentIssueFinder<String> {
+    // Keeps the combined query well below the request size limits of Jira Server and Jira Cloud
+    public static final int MAX_COMPONENTS_JQL_LENGTH = 6000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     private final String jiraProjectKey;
     private final JqlQueryExecutor jqlQueryExecutor;
     private final JiraIssueSearchResultCreator searchResultCreator;
@@ -37,7 +50,119 @@ public class JiraComponentIssueFinder implements ProjectVersionComponentIssueFin
 
         String jqlString = JqlStringCreator.createBlackDuckComponentIssuesSearchString(jiraProjectKey, providerDetails.getProvider(), project, projectVersion, component, nullableComponentVersion);
         List<JiraSearcherResponseModel> issueResponseModels = jqlQueryExecutor.executeQuery(jqlString);
+        return createSearchResults(providerDetails, project, projectVersion, originalBomComponent, issueResponseModels);
+    }
+
+    /**
+     * Searches for the issues of as many components as fit in one query. The search returns the issue properties, which are used to assign
+     * the issues to their components. Only when an issue cannot be assigned is each component of the query searched for on its own.
+     */
+    @Override
+    public List<ProjectIssueSearchResult<String>> findIssuesByComponents(ProviderDetails providerDetails, LinkableItem project, LinkableItem projectVersion, List<BomComponentDetails> bomComponents) throws AlertException {
+        String baseJqlString = JqlStringCreator.createBlackDuckComponentsIssuesSearchString(jiraProjectKey, providerDetails.getProvider(), project, projectVersion, List.of());
+        List<BomComponentDetails> batchComponents = new ArrayList<>();
+        List<String> componentSearchClauses = new ArrayList<>();
+        int jqlLength = baseJqlString.length();
+
+        List<ProjectIssueSearchResult<String>> searchResults = new ArrayList<>();
+        for (BomComponentDetails bomComponent : bomComponents) {
+            String componentSearchClause = JqlStringCreator.createBlackDuckComponentSearchClause(bomComponent.getComponent(), bomComponent.getComponentVersion().orElse(null));
+            int clauseLength = componentSearchClause.length() + 4;
+            if (!componentSearchClauses.isEmpty() && jqlLength + clauseLength > MAX_COMPONENTS_JQL_LENGTH) {
+                searchResults.addAll(findIssuesByComponentBatch(providerDetails, project, projectVersion, batchComponents, componentSearchClauses));
+                batchComponents = new ArrayList<>();
+                componentSearchClauses = new ArrayList<>();
+                jqlLength = baseJqlString.length();
+            }
+            batchComponents.add(bomComponent);
+            componentSearchClauses.add(componentSearchClause);
+            jqlLength += clauseLength;
+        }
+
+        if (!batchComponents.isEmpty()) {
+            searchResults.addAll(findIssuesByComponentBatch(providerDetails, project, projectVersion, batchComponents, componentSearchClauses));
+        }
+        return searchResults;
+    }
+
+    private List<ProjectIssueSearchResult<String>> findIssuesByComponentBatch(
+        ProviderDetails providerDetails,
+        LinkableItem project,
+        LinkableItem projectVersion,
+        List<BomComponentDetails> batchComponents,
+        List<String> componentSearchClauses
+    ) throws AlertException {
+        String jqlString = JqlStringCreator.createBlackDuckComponentsIssuesSearchString(jiraProjectKey, providerDetails.getProvider(), project, projectVersion, componentSearchClauses);
+        List<JiraSearcherResponseModel> issueResponseModels = jqlQueryExecutor.executeQueryForIssueDetails(jqlString);
+        if (issueResponseModels.isEmpty()) {
+            return List.of();
+        }
+
+        List<List<JiraSearcherResponseModel>> issuesByComponent = new ArrayList<>(batchComponents.size());
+        for (int i = 0; i < batchComponents.size(); i++) {
+            issuesByComponent.add(new ArrayList<>());
+        }
+
+        Set<String> unassignedIssueIds = new HashSet<>();
+        for (JiraSearcherResponseModel issue : issueResponseModels) {
+            boolean assigned = false;
+            Optional<JiraIssueSearchProperties> optionalIssueProperties = issue.getIssueProperties();
+            if (optionalIssueProperties.isPresent()) {
+                for (int i = 0; i < batchComponents.size(); i++) {
+                    if (isIssueForComponent(optionalIssueProperties.get(), batchComponents.get(i))) {
+                        issuesByComponent.get(i).add(issue);
+                        assigned = true;
+                    }
+                }
+            }
+
+            if (!assigned) {
+                unassignedIssueIds.add(issue.getIssueId());
+            }
+        }
+
+        if (!unassignedIssueIds.isEmpty()) {
+            logger.debug("Could not assign {} Jira issue(s) to a component, searching for each component instead", unassignedIssueIds.size());
+            for (int i = 0; i < batchComponents.size(); i++) {
+                for (JiraSearcherResponseModel issue : findComponentIssueDetails(providerDetails, project, projectVersion, batchComponents.get(i))) {
+                    if (unassignedIssueIds.contains(issue.getIssueId())) {
+                        issuesByComponent.get(i).add(issue);
+                    }
+                }
+            }
+        }
+
+        List<ProjectIssueSearchResult<String>> searchResults = new ArrayList<>();
+        for (int i = 0; i < batchComponents.size(); i++) {
+            searchResults.addAll(createSearchResults(providerDetails, project, projectVersion, batchComponents.get(i), issuesByComponent.get(i)));
+        }
+        return searchResults;
+    }
+
+    private List<JiraSearcherResponseModel> findComponentIssueDetails(ProviderDetails providerDetails, LinkableItem project, LinkableItem projectVersion, BomComponentDetails bomComponent) throws AlertException {
+        LinkableItem nullableComponentVersion = bomComponent.getComponentVersion().orElse(null);
+        String jqlString = JqlStringCreator.createBlackDuckComponentIssuesSearchString(jiraProjectKey, providerDetails.getProvider(), project, projectVersion, bomComponent.getComponent(), nullableComponentVersion);
+        return jqlQueryExecutor.executeQueryForIssueDetails(jqlString);
+    }
+
+    private boolean isIssueForComponent(JiraIssueSearchProperties issueProperties, BomComponentDetails bomComponent) {
+        LinkableItem component = bomComponent.getComponent();
+        if (!StringUtils.equalsIgnoreCase(component.getLabel(), issueProperties.getComponentName()) || !StringUtils.equalsIgnoreCase(component.getValue(), issueProperties.getComponentValue())) {
+            return false;
+        }
+        return bomComponent.getComponentVersion()
+                   .map(componentVersion -> StringUtils.equalsIgnoreCase(componentVersion.getLabel(), issueProperties.getSubComponentName())
+                                                && StringUtils.equalsIgnoreCase(componentVersion.getValue(), issueProperties.getSubComponentValue()))
+                   .orElse(Boolean.TRUE);
+    }
 
+    private List<ProjectIssueSearchResult<String>> createSearchResults(
+        ProviderDetails providerDetails,
+        LinkableItem project,
+        LinkableItem projectVersion,
+        BomComponentDetails originalBomComponent,
+        List<JiraSearcherResponseModel> issueResponseModels
+    ) {
         List<ProjectIssueSearchResult<String>> searchResults = new ArrayList<>();
         for (JiraSearcherResponseModel model : issueResponseModels) {
             IssueBomComponentDetails issueBomComponentDetails = IssueBomComponentDetails.fromBomComponentDetails(originalBomComponent);
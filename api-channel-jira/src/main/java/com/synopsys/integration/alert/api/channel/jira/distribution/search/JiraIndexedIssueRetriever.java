@@ -0,0 +1,78 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.IndexedIssueRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+
+/**
+ * Reads indexed Jira issues with one query per {@link #MAX_ISSUES_PER_QUERY} issues, which also returns the transitions that determine the
+ * status of each issue.
+ */
+public class JiraIndexedIssueRetriever implements IndexedIssueRetriever<String> {
+    // Keeps the query well below the request size limits of Jira Server and Jira Cloud
+    public static final int MAX_ISSUES_PER_QUERY = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final String jiraProjectKey;
+    private final JqlQueryExecutor jqlQueryExecutor;
+    private final JiraIssueSearchResultCreator searchResultCreator;
+
+    public JiraIndexedIssueRetriever(String jiraProjectKey, JqlQueryExecutor jqlQueryExecutor, JiraIssueSearchResultCreator searchResultCreator) {
+        this.jiraProjectKey = jiraProjectKey;
+        this.jqlQueryExecutor = jqlQueryExecutor;
+        this.searchResultCreator = searchResultCreator;
+    }
+
+    @Override
+    public Map<String, ExistingIssueDetails<String>> retrieveIndexedIssues(Map<String, IssueCategory> issueCategoriesByIssueId) {
+        List<String> issueIds = new ArrayList<>(issueCategoriesByIssueId.keySet());
+        Map<String, ExistingIssueDetails<String>> currentIssues = new HashMap<>();
+        for (int fromIndex = 0; fromIndex < issueIds.size(); fromIndex += MAX_ISSUES_PER_QUERY) {
+            int toIndex = Math.min(fromIndex + MAX_ISSUES_PER_QUERY, issueIds.size());
+            for (JiraSearcherResponseModel issue : retrieveIssues(issueIds.subList(fromIndex, toIndex))) {
+                IssueCategory issueCategory = issueCategoriesByIssueId.get(issue.getIssueId());
+                if (null != issueCategory) {
+                    currentIssues.put(issue.getIssueId(), searchResultCreator.createExistingIssueDetails(issue, issueCategory));
+                }
+            }
+        }
+        return currentIssues;
+    }
+
+    private List<JiraSearcherResponseModel> retrieveIssues(List<String> issueIds) {
+        String jqlString = JqlStringCreator.createIssueIdsSearchString(jiraProjectKey, issueIds);
+        try {
+            return jqlQueryExecutor.executeQueryForIssueDetails(jqlString);
+        } catch (AlertException e) {
+            if (issueIds.size() == 1) {
+                // Jira rejects a query for an issue that no longer exists, so the issue is searched for again instead
+                logger.debug("Failed to retrieve indexed Jira issue {}: {}", issueIds.get(0), e.getMessage());
+                return List.of();
+            }
+        }
+
+        // Jira rejects the whole query when any of the issues no longer exists, so the query is split until the issue is isolated
+        int middleIndex = issueIds.size() / 2;
+        List<JiraSearcherResponseModel> issues = new ArrayList<>(retrieveIssues(issueIds.subList(0, middleIndex)));
+        issues.addAll(retrieveIssues(issueIds.subList(middleIndex, issueIds.size())));
+        return issues;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.search;
+
+import java.util.List;
+
+public class JiraIssueDetailsSearchRequestModel {
+    private final String jql;
+    private final Integer startAt;
+    private final Integer maxResults;
+    private final List<String> fields;
+    private final List<String> expand;
+    private final List<String> properties;
+
+    public JiraIssueDetailsSearchRequestModel(String jql, Integer startAt, Integer maxResults, List<String> fields, List<String> expand, List<String> properties) {
+        this.jql = jql;
+        this.startAt = startAt;
+        this.maxResults = maxResults;
+        this.fields = fields;
+        this.expand = expand;
+        this.properties = properties;
+    }
+
+    public String getJql() {
+        return jql;
+    }
+
+    public Integer getStartAt() {
+        return startAt;
+    }
+
+    public Integer getMaxResults() {
+        return maxResults;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public List<String> getExpand() {
+        return expand;
+    }
+
+    public List<String> getProperties() {
+        return properties;
+    }
+
+}
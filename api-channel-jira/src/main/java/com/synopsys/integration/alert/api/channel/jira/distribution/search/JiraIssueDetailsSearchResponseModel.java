@@ -0,0 +1,84 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.search;
+
+import java.util.List;
+
+import com.google.gson.JsonObject;
+import com.synopsys.integration.jira.common.model.JiraResponseModel;
+import com.synopsys.integration.jira.common.model.components.TransitionComponent;
+
+public class JiraIssueDetailsSearchResponseModel extends JiraResponseModel {
+    private Integer total;
+    private List<SearchedIssue> issues;
+
+    public JiraIssueDetailsSearchResponseModel() {
+        // For serialization
+    }
+
+    public JiraIssueDetailsSearchResponseModel(Integer total, List<SearchedIssue> issues) {
+        this.total = total;
+        this.issues = issues;
+    }
+
+    public int getTotal() {
+        return null != total ? total : 0;
+    }
+
+    public List<SearchedIssue> getIssues() {
+        return null != issues ? issues : List.of();
+    }
+
+    public static class SearchedIssue {
+        private String id;
+        private String key;
+        private String self;
+        private JsonObject fields;
+        private JsonObject properties;
+        private List<TransitionComponent> transitions;
+
+        public SearchedIssue() {
+            // For serialization
+        }
+
+        public SearchedIssue(String id, String key, String self, JsonObject fields, JsonObject properties, List<TransitionComponent> transitions) {
+            this.id = id;
+            this.key = key;
+            this.self = self;
+            this.fields = fields;
+            this.properties = properties;
+            this.transitions = transitions;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getSelf() {
+            return self;
+        }
+
+        public JsonObject getFields() {
+            return null != fields ? fields : new JsonObject();
+        }
+
+        public JsonObject getProperties() {
+            return null != properties ? properties : new JsonObject();
+        }
+
+        public List<TransitionComponent> getTransitions() {
+            return null != transitions ? transitions : List.of();
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * api-channel-jira
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.jira.distribution.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.synopsys.integration.alert.api.channel.jira.JiraIssueSearchProperties;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.jira.common.rest.model.JiraRequest;
+import com.synopsys.integration.jira.common.rest.model.JiraRequestFactory;
+import com.synopsys.integration.jira.common.rest.service.JiraApiClient;
+import com.synopsys.integration.rest.HttpMethod;
+import com.synopsys.integration.rest.HttpUrl;
+
+/**
+ * Searches for Jira issues with requests that also return the Alert issue properties and the available transitions of each issue, so that
+ * they do not have to be retrieved with a request per issue. The search endpoint is the same in Jira Cloud and Jira Server.
+ */
+public class JiraIssueDetailsSearchService {
+    public static final String API_PATH = "/rest/api/2/search";
+    // Jira Cloud returns at most this many issues per page when properties are requested
+    public static final int MAX_RESULTS_PER_REQUEST = 100;
+
+    private static final String SUMMARY_FIELD = "summary";
+    private static final String TRANSITIONS_EXPANSION = "transitions";
+
+    private final Gson gson;
+    private final JiraApiClient jiraApiClient;
+
+    public JiraIssueDetailsSearchService(Gson gson, JiraApiClient jiraApiClient) {
+        this.gson = gson;
+        this.jiraApiClient = jiraApiClient;
+    }
+
+    public List<JiraSearcherResponseModel> search(String jql) throws IntegrationException {
+        HttpUrl httpUrl = new HttpUrl(jiraApiClient.getBaseUrl() + API_PATH);
+        List<JiraSearcherResponseModel> foundIssues = new ArrayList<>();
+        int total;
+        do {
+            JiraIssueDetailsSearchRequestModel requestModel = new JiraIssueDetailsSearchRequestModel(
+                jql,
+                foundIssues.size(),
+                MAX_RESULTS_PER_REQUEST,
+                List.of(SUMMARY_FIELD),
+                List.of(TRANSITIONS_EXPANSION),
+                List.of(JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_KEY)
+            );
+            JiraRequest request = JiraRequestFactory.createDefaultBuilder()
+                                      .url(httpUrl)
+                                      .method(HttpMethod.POST)
+                                      .bodyContent(gson.toJson(requestModel))
+                                      .build();
+            JiraIssueDetailsSearchResponseModel responseModel = jiraApiClient.post(request, JiraIssueDetailsSearchResponseModel.class);
+            List<JiraIssueDetailsSearchResponseModel.SearchedIssue> pageIssues = responseModel.getIssues();
+            if (pageIssues.isEmpty()) {
+                break;
+            }
+            for (JiraIssueDetailsSearchResponseModel.SearchedIssue issue : pageIssues) {
+                foundIssues.add(convertModel(issue));
+            }
+            total = responseModel.getTotal();
+        } while (foundIssues.size() < total);
+        return foundIssues;
+    }
+
+    private JiraSearcherResponseModel convertModel(JiraIssueDetailsSearchResponseModel.SearchedIssue issue) {
+        JsonElement summary = issue.getFields().get(SUMMARY_FIELD);
+        String issueSummary = null != summary && summary.isJsonPrimitive() ? summary.getAsString() : issue.getKey();
+
+        JiraIssueSearchProperties issueProperties = null;
+        JsonElement alertProperties = issue.getProperties().get(JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_KEY);
+        if (null != alertProperties && alertProperties.isJsonObject()) {
+            issueProperties = gson.fromJson(alertProperties, JiraIssueSearchProperties.class);
+        }
+        return new JiraSearcherResponseModel(issue.getSelf(), issue.getKey(), issue.getId(), issueSummary, issueProperties, issue.getTransitions());
+    }
+
+}
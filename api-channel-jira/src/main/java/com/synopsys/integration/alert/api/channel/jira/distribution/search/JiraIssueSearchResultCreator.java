@@ -9,6 +9,7 @@ package com.synopsys.integration.alert.api.channel.jira.distribution.search;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -53,7 +54,7 @@ public class JiraIssueSearchResultCreator {
     }
 
     public ProjectIssueSearchResult<String> createResultFromProjectIssue(JiraSearcherResponseModel issue, ProviderDetails providerDetails, LinkableItem project) throws AlertException {
-        JiraIssueSearchProperties issueProperties = issuePropertiesManager.retrieveIssueProperties(issue.getIssueKey());
+        JiraIssueSearchProperties issueProperties = retrieveIssueProperties(issue);
 
         String nullableSubComponentName = issueProperties.getSubComponentName();
         String nullableSubComponentValue = issueProperties.getSubComponentValue();
@@ -81,8 +82,18 @@ public class JiraIssueSearchResultCreator {
 
     public ExistingIssueDetails<String> createExistingIssueDetails(JiraSearcherResponseModel issue, IssueCategory issueCategory) {
         String issueCallbackLink = JiraCallbackUtils.createUILink(issue);
-        IssueStatus issueStatus = jiraIssueStatusCreator.createIssueStatus(issue, jiraIssueTransitionRetriever::fetchIssueTransitions);
+        IssueStatus issueStatus = issue.getTransitions()
+                                      .map(jiraIssueStatusCreator::createIssueStatus)
+                                      .orElseGet(() -> jiraIssueStatusCreator.createIssueStatus(issue, jiraIssueTransitionRetriever::fetchIssueTransitions));
         return new ExistingIssueDetails<>(issue.getIssueId(), issue.getIssueKey(), issue.getSummaryField(), issueCallbackLink, issueStatus, issueCategory);
     }
 
+    public JiraIssueSearchProperties retrieveIssueProperties(JiraSearcherResponseModel issue) throws AlertException {
+        Optional<JiraIssueSearchProperties> searchedIssueProperties = issue.getIssueProperties();
+        if (searchedIssueProperties.isPresent()) {
+            return searchedIssueProperties.get();
+        }
+        return issuePropertiesManager.retrieveIssueProperties(issue.getIssueKey());
+    }
+
 }
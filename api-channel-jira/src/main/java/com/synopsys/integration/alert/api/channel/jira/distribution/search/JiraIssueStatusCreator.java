@@ -29,17 +29,21 @@ public class JiraIssueStatusCreator {
         try {
             String issueKey = issue.getIssueKey();
             List<TransitionComponent> issueTransitions = retrieveTransitions(issueKey, transitionsRetriever);
-            for (TransitionComponent transition : issueTransitions) {
-                String transitionName = transition.getName();
-                if (transitionName.equals(resolveTransition)) {
-                    return IssueStatus.RESOLVABLE;
-                } else if (transitionName.equals(reopenTransition)) {
-                    return IssueStatus.REOPENABLE;
-                }
-            }
+            return createIssueStatus(issueTransitions);
         } catch (AlertException e) {
             return IssueStatus.UNKNOWN;
         }
+    }
+
+    public IssueStatus createIssueStatus(List<TransitionComponent> issueTransitions) {
+        for (TransitionComponent transition : issueTransitions) {
+            String transitionName = transition.getName();
+            if (transitionName.equals(resolveTransition)) {
+                return IssueStatus.RESOLVABLE;
+            } else if (transitionName.equals(reopenTransition)) {
+                return IssueStatus.REOPENABLE;
+            }
+        }
         return IssueStatus.UNKNOWN;
     }
 
@@ -7,8 +7,13 @@
  */
 package com.synopsys.integration.alert.api.channel.jira.distribution.search;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.alert.api.channel.issue.convert.ProjectMessageToIssueModelTransformer;
+import com.synopsys.integration.alert.api.channel.issue.search.ExactIssueFinder;
+import com.synopsys.integration.alert.api.channel.issue.search.IndexedExactIssueFinder;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerSearcher;
 
 public class JiraSearcherFactory {
@@ -33,10 +38,18 @@ public class JiraSearcherFactory {
     }
 
     public IssueTrackerSearcher<String> createJiraSearcher(String jiraProjectKey, JqlQueryExecutor jqlQueryExecutor) {
+        return createJiraSearcher(jiraProjectKey, jqlQueryExecutor, null);
+    }
+
+    public IssueTrackerSearcher<String> createJiraSearcher(String jiraProjectKey, JqlQueryExecutor jqlQueryExecutor, @Nullable IssueTrackerIssueIndex<String> issueIndex) {
         JiraIssueSearchResultCreator searchResultCreator = new JiraIssueSearchResultCreator(issuePropertiesManager, jiraIssueStatusCreator, jiraIssueTransitionRetriever, issueCategoryRetriever);
         JiraProjectAndVersionIssueFinder projectIssueFinder = new JiraProjectAndVersionIssueFinder(jiraProjectKey, jqlQueryExecutor, searchResultCreator);
         JiraComponentIssueFinder componentIssueFinder = new JiraComponentIssueFinder(jiraProjectKey, jqlQueryExecutor, searchResultCreator);
-        JiraExactIssueFinder exactIssueFinder = new JiraExactIssueFinder(jiraProjectKey, jqlQueryExecutor, searchResultCreator, issueCategoryRetriever);
+        ExactIssueFinder<String> exactIssueFinder = new JiraExactIssueFinder(jiraProjectKey, jqlQueryExecutor, searchResultCreator, issueCategoryRetriever);
+        if (null != issueIndex) {
+            JiraIndexedIssueRetriever indexedIssueRetriever = new JiraIndexedIssueRetriever(jiraProjectKey, jqlQueryExecutor, searchResultCreator);
+            exactIssueFinder = new IndexedExactIssueFinder<>(exactIssueFinder, issueIndex, indexedIssueRetriever);
+        }
 
         return new IssueTrackerSearcher<>(
             projectIssueFinder,
@@ -7,17 +7,44 @@
  */
 package com.synopsys.integration.alert.api.channel.jira.distribution.search;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.alert.api.channel.jira.JiraIssueSearchProperties;
+import com.synopsys.integration.jira.common.model.components.TransitionComponent;
+
 public class JiraSearcherResponseModel {
     private final String issueUrl;
     private final String issueKey;
     private final String issueId;
     private final String summaryField;
+    private final JiraIssueSearchProperties issueProperties;
+    private final List<TransitionComponent> transitions;
 
     public JiraSearcherResponseModel(String issueUrl, String issueKey, String issueId, String summaryField) {
+        this(issueUrl, issueKey, issueId, summaryField, null, null);
+    }
+
+    /**
+     * @param issueProperties The Alert issue properties, when they were returned by the search.
+     * @param transitions     The transitions available for the issue, when they were returned by the search.
+     */
+    public JiraSearcherResponseModel(
+        String issueUrl,
+        String issueKey,
+        String issueId,
+        String summaryField,
+        @Nullable JiraIssueSearchProperties issueProperties,
+        @Nullable List<TransitionComponent> transitions
+    ) {
         this.issueUrl = issueUrl;
         this.issueKey = issueKey;
         this.issueId = issueId;
         this.summaryField = summaryField;
+        this.issueProperties = issueProperties;
+        this.transitions = transitions;
     }
 
     public String getIssueUrl() {
@@ -36,4 +63,12 @@ public class JiraSearcherResponseModel {
         return summaryField;
     }
 
+    public Optional<JiraIssueSearchProperties> getIssueProperties() {
+        return Optional.ofNullable(issueProperties);
+    }
+
+    public Optional<List<TransitionComponent>> getTransitions() {
+        return Optional.ofNullable(transitions);
+    }
+
 }
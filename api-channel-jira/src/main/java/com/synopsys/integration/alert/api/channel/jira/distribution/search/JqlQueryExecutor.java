@@ -14,4 +14,10 @@ import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 public interface JqlQueryExecutor {
     List<JiraSearcherResponseModel> executeQuery(String jql) throws AlertException;
 
+    /**
+     * Executes the query and also retrieves the Alert issue properties and the available transitions of each issue found, so that they do
+     * not have to be retrieved one issue at a time.
+     */
+    List<JiraSearcherResponseModel> executeQueryForIssueDetails(String jql) throws AlertException;
+
 }
@@ -7,7 +7,10 @@
  */
 package com.synopsys.integration.alert.api.channel.jira.distribution.search;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -18,6 +21,7 @@ import com.synopsys.integration.alert.processor.api.extract.model.project.Compon
 
 public final class JqlStringCreator {
     private static final String SEARCH_CONJUNCTION = "AND";
+    private static final String SEARCH_DISJUNCTION = "OR";
     private static final Set<Character> CHARACTERS_TO_ESCAPE = Set.of('\'');
 
     public static String createBlackDuckProjectIssuesSearchString(
@@ -56,6 +60,40 @@ public final class JqlStringCreator {
         return jqlBuilder.toString();
     }
 
+    /**
+     * @param componentSearchClauses Clauses created by {@link #createBlackDuckComponentSearchClause(LinkableItem, LinkableItem)}, any of which an issue may match
+     */
+    public static String createBlackDuckComponentsIssuesSearchString(
+        String jiraProjectKey,
+        LinkableItem provider,
+        LinkableItem project,
+        LinkableItem projectVersion,
+        List<String> componentSearchClauses
+    ) {
+        StringBuilder jqlBuilder = new StringBuilder();
+        appendBlackDuckProjectVersionSearchStrings(jqlBuilder, jiraProjectKey, provider, project, projectVersion);
+
+        jqlBuilder.append(SEARCH_CONJUNCTION);
+        jqlBuilder.append(" (");
+        jqlBuilder.append(String.join(StringUtils.SPACE + SEARCH_DISJUNCTION + StringUtils.SPACE, componentSearchClauses));
+        jqlBuilder.append(") ");
+        return jqlBuilder.toString();
+    }
+
+    public static String createBlackDuckComponentSearchClause(LinkableItem component, @Nullable LinkableItem componentVersion) {
+        StringBuilder clauseBuilder = new StringBuilder();
+        clauseBuilder.append('(');
+        clauseBuilder.append(createPropertySearchString(JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_OBJECT_KEY_COMPONENT_LABEL, component.getLabel()));
+        appendPropertySearchString(clauseBuilder.append(StringUtils.SPACE), JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_OBJECT_KEY_COMPONENT_VALUE, component.getValue());
+
+        if (null != componentVersion) {
+            appendPropertySearchString(clauseBuilder, JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_OBJECT_KEY_SUB_COMPONENT_NAME, componentVersion.getLabel());
+            appendPropertySearchString(clauseBuilder, JiraIssuePropertyKeys.JIRA_ISSUE_PROPERTY_OBJECT_KEY_SUB_COMPONENT_VALUE, componentVersion.getValue());
+        }
+        clauseBuilder.append(')');
+        return clauseBuilder.toString();
+    }
+
     public static String createBlackDuckComponentConcernIssuesSearchString(
         String jiraProjectKey,
         LinkableItem provider,
@@ -80,6 +118,21 @@ public final class JqlStringCreator {
         return jqlBuilder.toString();
     }
 
+    public static String createIssueIdsSearchString(String jiraProjectKey, Collection<String> issueIds) {
+        StringBuilder jqlBuilder = new StringBuilder();
+        appendProjectKey(jqlBuilder, jiraProjectKey);
+        jqlBuilder.append(SEARCH_CONJUNCTION);
+        jqlBuilder.append(" id IN (");
+        String joinedIssueIds = issueIds
+                                    .stream()
+                                    .map(JqlStringCreator::escapeSearchString)
+                                    .map(issueId -> String.format("'%s'", issueId))
+                                    .collect(Collectors.joining(", "));
+        jqlBuilder.append(joinedIssueIds);
+        jqlBuilder.append(") ");
+        return jqlBuilder.toString();
+    }
+
     // Helper methods
 
     private static void appendBlackDuckComponentSearchStrings(
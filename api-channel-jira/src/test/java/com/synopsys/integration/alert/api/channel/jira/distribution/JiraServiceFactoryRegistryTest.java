@@ -0,0 +1,61 @@
+package com.synopsys.integration.alert.api.channel.jira.distribution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class JiraServiceFactoryRegistryTest {
+    private final List<Object> connectionDetails = Arrays.asList("https://jira.example.com", "user", null);
+
+    @Test
+    public void reusesServiceFactoryForSameConnectionDetailsTest() {
+        AtomicInteger creations = new AtomicInteger(0);
+        JiraServiceFactoryRegistry<Object> registry = new JiraServiceFactoryRegistry<>(Duration.ofMinutes(5));
+
+        JiraServiceFactoryRegistry.Registration<Object> registration = registry.retrieveRegistration(connectionDetails, () -> createServiceFactory(creations));
+        JiraServiceFactoryRegistry.Registration<Object> sameRegistration = registry.retrieveRegistration(Arrays.asList("https://jira.example.com", "user", null), () -> createServiceFactory(creations));
+
+        assertSame(registration, sameRegistration);
+        assertSame(registration.getServiceFactory(), sameRegistration.getServiceFactory());
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    public void replacesServiceFactoryWhenConnectionDetailsChangeTest() {
+        AtomicInteger creations = new AtomicInteger(0);
+        JiraServiceFactoryRegistry<Object> registry = new JiraServiceFactoryRegistry<>(Duration.ofMinutes(5));
+
+        JiraServiceFactoryRegistry.Registration<Object> registration = registry.retrieveRegistration(connectionDetails, () -> createServiceFactory(creations));
+        JiraServiceFactoryRegistry.Registration<Object> changedRegistration = registry.retrieveRegistration(List.of("https://jira.example.com", "user", "new password"), () -> createServiceFactory(creations));
+
+        assertNotSame(registration, changedRegistration);
+        assertNotSame(registration.getFieldCatalogCache(), changedRegistration.getFieldCatalogCache());
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    public void invalidateTest() {
+        AtomicInteger creations = new AtomicInteger(0);
+        JiraServiceFactoryRegistry<Object> registry = new JiraServiceFactoryRegistry<>(Duration.ofMinutes(5));
+
+        JiraServiceFactoryRegistry.Registration<Object> registration = registry.retrieveRegistration(connectionDetails, () -> createServiceFactory(creations));
+        registry.invalidate();
+        JiraServiceFactoryRegistry.Registration<Object> newRegistration = registry.retrieveRegistration(connectionDetails, () -> createServiceFactory(creations));
+
+        assertNotSame(registration, newRegistration);
+        assertEquals(2, creations.get());
+    }
+
+    private Object createServiceFactory(AtomicInteger creations) {
+        creations.incrementAndGet();
+        return new Object();
+    }
+
+}
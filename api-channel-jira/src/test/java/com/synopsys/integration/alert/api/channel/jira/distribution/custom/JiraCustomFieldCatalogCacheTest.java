@@ -0,0 +1,61 @@
+package com.synopsys.integration.alert.api.channel.jira.distribution.custom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.function.ThrowingSupplier;
+import com.synopsys.integration.jira.common.model.response.CustomFieldCreationResponseModel;
+
+public class JiraCustomFieldCatalogCacheTest {
+    private final List<CustomFieldCreationResponseModel> fields = List.of(Mockito.mock(CustomFieldCreationResponseModel.class));
+
+    @Test
+    public void reusesFieldsUntilInvalidatedTest() throws IntegrationException {
+        AtomicInteger retrievals = new AtomicInteger(0);
+        JiraCustomFieldCatalogCache fieldCatalogCache = new JiraCustomFieldCatalogCache(Duration.ofMinutes(5));
+        ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> fieldSupplier = fieldCatalogCache.createFieldSupplier(() -> {
+            retrievals.incrementAndGet();
+            return fields;
+        });
+
+        assertEquals(fields, fieldSupplier.get());
+        assertEquals(fields, fieldSupplier.get());
+        assertEquals(1, retrievals.get());
+
+        fieldCatalogCache.invalidate();
+        assertEquals(fields, fieldSupplier.get());
+        assertEquals(2, retrievals.get());
+    }
+
+    @Test
+    public void retrievesFieldsAgainWhenExpiredTest() throws IntegrationException {
+        AtomicInteger retrievals = new AtomicInteger(0);
+        JiraCustomFieldCatalogCache fieldCatalogCache = new JiraCustomFieldCatalogCache(Duration.ZERO);
+        ThrowingSupplier<List<CustomFieldCreationResponseModel>, IntegrationException> retrieveAvailableFields = () -> {
+            retrievals.incrementAndGet();
+            return fields;
+        };
+
+        fieldCatalogCache.retrieveFields(retrieveAvailableFields);
+        fieldCatalogCache.retrieveFields(retrieveAvailableFields);
+        assertEquals(2, retrievals.get());
+    }
+
+    @Test
+    public void failuresAreNotCachedTest() throws IntegrationException {
+        JiraCustomFieldCatalogCache fieldCatalogCache = new JiraCustomFieldCatalogCache(Duration.ofMinutes(5));
+        assertThrows(IntegrationException.class, () -> fieldCatalogCache.retrieveFields(() -> {
+            throw new IntegrationException("Jira is unavailable");
+        }));
+        assertEquals(fields, fieldCatalogCache.retrieveFields(() -> fields));
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.synopsys.integration.alert.api.channel.jira.distribution.delegate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
+import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel;
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueCommenter;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueCreationResult;
+import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationRequestModel;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationResponseModel;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationService;
+import com.synopsys.integration.alert.api.channel.jira.distribution.custom.JiraCustomFieldResolver;
+import com.synopsys.integration.alert.api.channel.jira.distribution.custom.MessageReplacementValues;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.descriptor.api.model.IssueTrackerChannelKey;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.jira.common.cloud.builder.IssueRequestModelFieldsBuilder;
+import com.synopsys.integration.jira.common.model.response.IssueCreationResponseModel;
+import com.synopsys.integration.jira.common.model.response.IssueResponseModel;
+
+public class JiraIssueCreatorBulkCreationTest {
+    private static final IssueTrackerChannelKey ISSUE_TRACKER_CHANNEL_KEY = new IssueTrackerChannelKey("key", "name") {};
+    private static final LinkableItem PROVIDER = new LinkableItem("Provider", "Black Duck");
+
+    @Test
+    public void mapsPartialFailuresToModelsTest() throws IntegrationException {
+        JsonObject fieldErrors = new JsonObject();
+        fieldErrors.addProperty("summary", "The summary is too long");
+        JsonObject elementErrors = new JsonObject();
+        elementErrors.add("errors", fieldErrors);
+        JiraBulkIssueCreationResponseModel response = new JiraBulkIssueCreationResponseModel(
+            List.of(
+                new JiraBulkIssueCreationResponseModel.CreatedIssue("10001", "ALERT-1", "https://jira.example.com/rest/api/2/issue/10001"),
+                new JiraBulkIssueCreationResponseModel.CreatedIssue("10002", "ALERT-2", "https://jira.example.com/rest/api/2/issue/10002")
+            ),
+            List.of(new JiraBulkIssueCreationResponseModel.ElementError(400, elementErrors, 1))
+        );
+        JiraBulkIssueCreationService bulkIssueCreationService = Mockito.mock(JiraBulkIssueCreationService.class);
+        Mockito.when(bulkIssueCreationService.createIssues(Mockito.any())).thenReturn(response);
+
+        TestJiraIssueCreator issueCreator = new TestJiraIssueCreator(bulkIssueCreationService);
+        List<IssueCreationModel> issueCreationModels = List.of(createIssueCreationModel("first"), createIssueCreationModel("second"), createIssueCreationModel("third"));
+        List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> results = issueCreator.createIssuesAndAssignAlertSearchProperties(issueCreationModels);
+
+        assertEquals(3, results.size());
+        ExistingIssueDetails<String> firstIssue = results.get(0).getCreatedIssue().orElseThrow();
+        assertEquals("ALERT-1", firstIssue.getIssueKey());
+        assertEquals("first", firstIssue.getIssueSummary());
+        assertEquals("https://jira.example.com/browse/ALERT-1", firstIssue.getIssueUILink());
+
+        assertEquals("second", results.get(1).getIssueCreationModel().getTitle());
+        AlertException failure = results.get(1).getFailure().orElseThrow();
+        assertTrue(failure.getMessage().contains("The summary is too long"), "The failure should contain the error Jira reported for the issue");
+
+        ExistingIssueDetails<String> thirdIssue = results.get(2).getCreatedIssue().orElseThrow();
+        assertEquals("ALERT-2", thirdIssue.getIssueKey());
+        assertEquals("third", thirdIssue.getIssueSummary());
+    }
+
+    @Test
+    public void createsIssuesInBatchesTest() throws IntegrationException {
+        JiraBulkIssueCreationService bulkIssueCreationService = Mockito.mock(JiraBulkIssueCreationService.class);
+        Mockito.when(bulkIssueCreationService.createIssues(Mockito.any())).thenAnswer(invocation -> {
+            JiraBulkIssueCreationRequestModel requestModel = invocation.getArgument(0);
+            List<JiraBulkIssueCreationResponseModel.CreatedIssue> createdIssues = new ArrayList<>();
+            for (JiraBulkIssueCreationRequestModel.IssueUpdate issueUpdate : requestModel.getIssueUpdates()) {
+                String summary = String.valueOf(issueUpdate.getFields().get(IssueRequestModelFieldsBuilder.SUMMARY));
+                createdIssues.add(new JiraBulkIssueCreationResponseModel.CreatedIssue(summary, summary, "https://jira.example.com/rest/api/2/issue/" + summary));
+            }
+            return new JiraBulkIssueCreationResponseModel(createdIssues, List.of());
+        });
+
+        List<IssueCreationModel> issueCreationModels = new ArrayList<>();
+        int issueCount = JiraBulkIssueCreationService.MAX_ISSUES_PER_REQUEST + 1;
+        for (int i = 0; i < issueCount; i++) {
+            issueCreationModels.add(createIssueCreationModel("issue-" + i));
+        }
+
+        TestJiraIssueCreator issueCreator = new TestJiraIssueCreator(bulkIssueCreationService);
+        List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> results = issueCreator.createIssuesAndAssignAlertSearchProperties(issueCreationModels);
+
+        ArgumentCaptor<JiraBulkIssueCreationRequestModel> requestCaptor = ArgumentCaptor.forClass(JiraBulkIssueCreationRequestModel.class);
+        Mockito.verify(bulkIssueCreationService, Mockito.times(2)).createIssues(requestCaptor.capture());
+        assertEquals(JiraBulkIssueCreationService.MAX_ISSUES_PER_REQUEST, requestCaptor.getAllValues().get(0).getIssueUpdates().size());
+        assertEquals(1, requestCaptor.getAllValues().get(1).getIssueUpdates().size());
+
+        assertEquals(issueCount, results.size());
+        for (int i = 0; i < issueCount; i++) {
+            assertEquals("issue-" + i, results.get(i).getCreatedIssue().map(ExistingIssueDetails::getIssueKey).orElse(null));
+        }
+    }
+
+    @Test
+    public void failsEveryIssueOfFailedRequestTest() throws IntegrationException {
+        JiraBulkIssueCreationService bulkIssueCreationService = Mockito.mock(JiraBulkIssueCreationService.class);
+        Mockito.when(bulkIssueCreationService.createIssues(Mockito.any())).thenThrow(new IntegrationException("Connection refused"));
+
+        TestJiraIssueCreator issueCreator = new TestJiraIssueCreator(bulkIssueCreationService);
+        List<IssueTrackerIssueCreationResult<ExistingIssueDetails<String>>> results = issueCreator.createIssuesAndAssignAlertSearchProperties(List.of(createIssueCreationModel("first"), createIssueCreationModel("second")));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).getFailure().isPresent());
+        assertTrue(results.get(1).getFailure().isPresent());
+    }
+
+    private IssueCreationModel createIssueCreationModel(String title) {
+        return IssueCreationModel.simple(title, "description", List.of(), PROVIDER);
+    }
+
+    private static class TestJiraIssueCreator extends JiraIssueCreator<String> {
+        public TestJiraIssueCreator(JiraBulkIssueCreationService bulkIssueCreationService) {
+            super(
+                ISSUE_TRACKER_CHANNEL_KEY,
+                Mockito.mock(IssueTrackerIssueCommenter.class),
+                Mockito.mock(IssueTrackerCallbackInfoCreator.class),
+                new JiraErrorMessageUtility(new Gson(), new JiraCustomFieldResolver(() -> List.of())),
+                null,
+                "issueCreator",
+                new IssueCategoryRetriever(),
+                bulkIssueCreationService
+            );
+        }
+
+        @Override
+        protected String createIssueCreationRequest(IssueCreationModel alertIssueCreationModel, MessageReplacementValues replacementValues) {
+            return alertIssueCreationModel.getTitle();
+        }
+
+        @Override
+        protected IssueCreationResponseModel createIssue(String alertIssueCreationModel) {
+            throw new UnsupportedOperationException("Issues are created in bulk");
+        }
+
+        @Override
+        protected IssueResponseModel fetchIssue(String createdIssueKey) {
+            throw new UnsupportedOperationException("Issues are created in bulk");
+        }
+
+        @Override
+        protected String extractReporter(String creationRequest) {
+            return "reporter";
+        }
+
+        @Override
+        protected Map<String, Object> createBulkIssueFields(String creationRequest) {
+            return createBulkIssueFields(Map.of(IssueRequestModelFieldsBuilder.SUMMARY, creationRequest), "Task", null);
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.synopsys.integration.alert.api.channel.jira.distribution.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.ProjectIssueSearchResult;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueStatus;
+import com.synopsys.integration.alert.api.channel.jira.JiraIssueSearchProperties;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.project.BomComponentDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentVulnerabilities;
+
+public class JiraComponentIssueFinderTest {
+    private static final String JIRA_PROJECT_KEY = "JPK";
+    private static final ProviderDetails PROVIDER_DETAILS = new ProviderDetails(15L, new LinkableItem("Provider", "A provider", "https://provider-url"));
+    private static final LinkableItem PROJECT_ITEM = new LinkableItem("Project", "A project");
+    private static final LinkableItem PROJECT_VERSION_ITEM = new LinkableItem("Project Version", "1.0.0");
+
+    @Test
+    public void findIssuesByComponentsSingleQueryTest() throws AlertException {
+        List<BomComponentDetails> bomComponents = createBomComponents(50);
+        JqlQueryExecutor jqlQueryExecutor = Mockito.mock(JqlQueryExecutor.class);
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(Mockito.anyString())).thenReturn(List.of());
+
+        JiraComponentIssueFinder componentIssueFinder = new JiraComponentIssueFinder(JIRA_PROJECT_KEY, jqlQueryExecutor, createSearchResultCreator());
+        List<ProjectIssueSearchResult<String>> searchResults = componentIssueFinder.findIssuesByComponents(PROVIDER_DETAILS, PROJECT_ITEM, PROJECT_VERSION_ITEM, bomComponents);
+
+        assertTrue(searchResults.isEmpty());
+        ArgumentCaptor<String> jqlCaptor = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(jqlQueryExecutor, Mockito.atLeastOnce()).executeQueryForIssueDetails(jqlCaptor.capture());
+        List<String> executedQueries = jqlCaptor.getAllValues();
+        assertTrue(executedQueries.size() < bomComponents.size());
+        for (String jql : executedQueries) {
+            assertTrue(jql.length() <= JiraComponentIssueFinder.MAX_COMPONENTS_JQL_LENGTH);
+        }
+    }
+
+    @Test
+    public void findIssuesByComponentsPartitionsByPropertiesTest() throws AlertException {
+        List<BomComponentDetails> bomComponents = createBomComponents(5);
+        BomComponentDetails firstMatchingComponent = bomComponents.get(1);
+        BomComponentDetails secondMatchingComponent = bomComponents.get(3);
+        JiraSearcherResponseModel firstIssue = createIssue("1", createIssueProperties(firstMatchingComponent));
+        JiraSearcherResponseModel secondIssue = createIssue("2", createIssueProperties(secondMatchingComponent));
+        JiraSearcherResponseModel thirdIssue = createIssue("3", createIssueProperties(secondMatchingComponent));
+
+        JqlQueryExecutor jqlQueryExecutor = Mockito.mock(JqlQueryExecutor.class);
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(Mockito.anyString())).thenReturn(List.of(firstIssue, secondIssue, thirdIssue));
+
+        JiraComponentIssueFinder componentIssueFinder = new JiraComponentIssueFinder(JIRA_PROJECT_KEY, jqlQueryExecutor, createSearchResultCreator());
+        List<ProjectIssueSearchResult<String>> searchResults = componentIssueFinder.findIssuesByComponents(PROVIDER_DETAILS, PROJECT_ITEM, PROJECT_VERSION_ITEM, bomComponents);
+
+        assertEquals(3, searchResults.size());
+        assertEquals(firstMatchingComponent.getComponent().getValue(), searchResults.get(0).getProjectIssueModel().getBomComponentDetails().getComponent().getValue());
+        assertEquals(secondMatchingComponent.getComponent().getValue(), searchResults.get(1).getProjectIssueModel().getBomComponentDetails().getComponent().getValue());
+        assertEquals(secondMatchingComponent.getComponent().getValue(), searchResults.get(2).getProjectIssueModel().getBomComponentDetails().getComponent().getValue());
+        Mockito.verify(jqlQueryExecutor, Mockito.times(1)).executeQueryForIssueDetails(Mockito.anyString());
+        Mockito.verify(jqlQueryExecutor, Mockito.never()).executeQuery(Mockito.anyString());
+    }
+
+    @Test
+    public void findIssuesByComponentsSearchesComponentsOfUnassignedIssuesTest() throws AlertException {
+        List<BomComponentDetails> bomComponents = createBomComponents(2);
+        JiraSearcherResponseModel assignableIssue = createIssue("1", createIssueProperties(bomComponents.get(0)));
+        JiraSearcherResponseModel unassignableIssue = createIssue("2", null);
+
+        JqlQueryExecutor jqlQueryExecutor = Mockito.mock(JqlQueryExecutor.class);
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(Mockito.anyString())).thenReturn(List.of(assignableIssue, unassignableIssue));
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(createComponentJql(bomComponents.get(0)))).thenReturn(List.of(assignableIssue));
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(createComponentJql(bomComponents.get(1)))).thenReturn(List.of(unassignableIssue));
+
+        JiraComponentIssueFinder componentIssueFinder = new JiraComponentIssueFinder(JIRA_PROJECT_KEY, jqlQueryExecutor, createSearchResultCreator());
+        List<ProjectIssueSearchResult<String>> searchResults = componentIssueFinder.findIssuesByComponents(PROVIDER_DETAILS, PROJECT_ITEM, PROJECT_VERSION_ITEM, bomComponents);
+
+        // The combined query, then one query per component because one issue could not be assigned to a component
+        Mockito.verify(jqlQueryExecutor, Mockito.times(3)).executeQueryForIssueDetails(Mockito.anyString());
+        assertEquals(2, searchResults.size());
+        assertEquals("1", searchResults.get(0).getExistingIssueDetails().getIssueId());
+        assertEquals(bomComponents.get(0).getComponent().getValue(), searchResults.get(0).getProjectIssueModel().getBomComponentDetails().getComponent().getValue());
+        assertEquals("2", searchResults.get(1).getExistingIssueDetails().getIssueId());
+        assertEquals(bomComponents.get(1).getComponent().getValue(), searchResults.get(1).getProjectIssueModel().getBomComponentDetails().getComponent().getValue());
+    }
+
+    private String createComponentJql(BomComponentDetails bomComponent) {
+        LinkableItem componentVersion = bomComponent.getComponentVersion().orElse(null);
+        return JqlStringCreator.createBlackDuckComponentIssuesSearchString(JIRA_PROJECT_KEY, PROVIDER_DETAILS.getProvider(), PROJECT_ITEM, PROJECT_VERSION_ITEM, bomComponent.getComponent(), componentVersion);
+    }
+
+    private JiraSearcherResponseModel createIssue(String issueId, JiraIssueSearchProperties issueProperties) {
+        return new JiraSearcherResponseModel("https://jira-url/rest/api/2/issue/" + issueId, "JPK-" + issueId, issueId, "summary", issueProperties, List.of());
+    }
+
+    private JiraIssueSearchResultCreator createSearchResultCreator() {
+        JiraIssueSearchResultCreator searchResultCreator = Mockito.mock(JiraIssueSearchResultCreator.class);
+        Mockito.when(searchResultCreator.createIssueResult(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            JiraSearcherResponseModel issue = invocation.getArgument(0);
+            ProjectIssueModel projectIssueModel = invocation.getArgument(1);
+            ExistingIssueDetails<String> issueDetails = new ExistingIssueDetails<>(issue.getIssueId(), issue.getIssueKey(), issue.getSummaryField(), issue.getIssueUrl(), IssueStatus.RESOLVABLE, IssueCategory.BOM);
+            return new ProjectIssueSearchResult<>(issueDetails, projectIssueModel);
+        });
+        return searchResultCreator;
+    }
+
+    private JiraIssueSearchProperties createIssueProperties(BomComponentDetails bomComponent) {
+        LinkableItem component = bomComponent.getComponent();
+        LinkableItem componentVersion = bomComponent.getComponentVersion().orElseThrow();
+        return new JiraIssueSearchProperties(
+            PROVIDER_DETAILS.getProvider().getLabel(),
+            null,
+            PROJECT_ITEM.getLabel(),
+            PROJECT_ITEM.getValue(),
+            PROJECT_VERSION_ITEM.getLabel(),
+            PROJECT_VERSION_ITEM.getValue(),
+            "Vulnerability",
+            component.getLabel(),
+            component.getValue(),
+            componentVersion.getLabel(),
+            componentVersion.getValue(),
+            null
+        );
+    }
+
+    private List<BomComponentDetails> createBomComponents(int count) {
+        List<BomComponentDetails> bomComponents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bomComponents.add(new BomComponentDetails(
+                new LinkableItem("Component", "A component with a reasonably long name " + i),
+                new LinkableItem("Component Version", "1.0." + i),
+                new ComponentVulnerabilities(List.of(), List.of(), List.of(), List.of()),
+                List.of(),
+                List.of(),
+                new LinkableItem("License", "A license"),
+                "Dynamically Linked",
+                ComponentUpgradeGuidance.none(),
+                List.of(),
+                null
+            ));
+        }
+        return bomComponents;
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.synopsys.integration.alert.api.channel.jira.distribution.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueStatus;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.jira.common.model.components.TransitionComponent;
+
+public class JiraIndexedIssueRetrieverTest {
+    private static final String JIRA_PROJECT_KEY = "ALERT";
+    private static final String RESOLVE_TRANSITION = "Done";
+    private static final String REOPEN_TRANSITION = "Reopen";
+
+    @Test
+    public void retrievesIndexedIssuesWithOneQueryTest() throws AlertException {
+        JqlQueryExecutor jqlQueryExecutor = Mockito.mock(JqlQueryExecutor.class);
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(Mockito.anyString())).thenAnswer(invocation -> findIssues(invocation.getArgument(0)));
+        JiraIssueTransitionRetriever transitionRetriever = Mockito.mock(JiraIssueTransitionRetriever.class);
+
+        JiraIndexedIssueRetriever indexedIssueRetriever = new JiraIndexedIssueRetriever(JIRA_PROJECT_KEY, jqlQueryExecutor, createSearchResultCreator(transitionRetriever));
+        Map<String, ExistingIssueDetails<String>> currentIssues = indexedIssueRetriever.retrieveIndexedIssues(Map.of("10001", IssueCategory.POLICY, "10002", IssueCategory.VULNERABILITY));
+
+        assertEquals(2, currentIssues.size());
+        assertEquals(IssueStatus.RESOLVABLE, currentIssues.get("10001").getIssueStatus());
+        assertEquals(IssueCategory.POLICY, currentIssues.get("10001").getIssueCategory());
+        assertEquals(IssueStatus.REOPENABLE, currentIssues.get("10002").getIssueStatus());
+        Mockito.verify(jqlQueryExecutor, Mockito.times(1)).executeQueryForIssueDetails(Mockito.anyString());
+        Mockito.verifyNoInteractions(transitionRetriever);
+    }
+
+    @Test
+    public void omitsIssuesThatNoLongerExistTest() throws AlertException {
+        JqlQueryExecutor jqlQueryExecutor = Mockito.mock(JqlQueryExecutor.class);
+        // Jira rejects the query when any of the issues no longer exists
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(Mockito.contains("'10003'"))).thenThrow(new AlertException("Issue 10003 does not exist"));
+        Mockito.when(jqlQueryExecutor.executeQueryForIssueDetails(Mockito.argThat(jql -> !jql.contains("'10003'")))).thenAnswer(invocation -> findIssues(invocation.getArgument(0)));
+
+        JiraIndexedIssueRetriever indexedIssueRetriever = new JiraIndexedIssueRetriever(JIRA_PROJECT_KEY, jqlQueryExecutor, createSearchResultCreator(Mockito.mock(JiraIssueTransitionRetriever.class)));
+        Map<String, ExistingIssueDetails<String>> currentIssues = indexedIssueRetriever.retrieveIndexedIssues(Map.of(
+            "10001", IssueCategory.POLICY,
+            "10002", IssueCategory.VULNERABILITY,
+            "10003", IssueCategory.POLICY
+        ));
+
+        assertEquals(Stream.of("10001", "10002").collect(Collectors.toSet()), currentIssues.keySet());
+    }
+
+    private JiraIssueSearchResultCreator createSearchResultCreator(JiraIssueTransitionRetriever transitionRetriever) {
+        JiraIssueStatusCreator issueStatusCreator = new JiraIssueStatusCreator(RESOLVE_TRANSITION, REOPEN_TRANSITION);
+        return new JiraIssueSearchResultCreator(Mockito.mock(JiraIssueAlertPropertiesManager.class), issueStatusCreator, transitionRetriever, new IssueCategoryRetriever());
+    }
+
+    private List<JiraSearcherResponseModel> findIssues(String jql) {
+        return Stream.of("10001", "10002")
+                   .filter(issueId -> jql.contains(String.format("'%s'", issueId)))
+                   .map(issueId -> new JiraSearcherResponseModel(
+                       "https://a-jira-server/rest/api/2/issue/" + issueId,
+                       "ALERT-" + issueId,
+                       issueId,
+                       "summary",
+                       null,
+                       List.of(createTransition("10001".equals(issueId) ? RESOLVE_TRANSITION : REOPEN_TRANSITION))
+                   ))
+                   .collect(Collectors.toList());
+    }
+
+    private TransitionComponent createTransition(String transitionName) {
+        return new TransitionComponent(null, transitionName, null, null, null, null, null, null);
+    }
+
+}
@@ -15,4 +15,12 @@ import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessag
 public interface DistributionChannel<D extends DistributionJobDetailsModel> {
     MessageResult distributeMessages(D distributionDetails, ProviderMessageHolder messages, String jobName) throws AlertException;
 
+    /**
+     * @return true if the messages of a batched event should be distributed with a single call. They then succeed or fail together.
+     * Otherwise, each message is distributed and audited on its own.
+     */
+    default boolean supportsBatchDelivery() {
+        return false;
+    }
+
 }
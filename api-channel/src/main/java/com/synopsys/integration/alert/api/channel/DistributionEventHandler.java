@@ -7,8 +7,11 @@
  */
 package com.synopsys.integration.alert.api.channel;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -18,28 +21,59 @@ import com.synopsys.integration.alert.common.persistence.accessor.JobDetailsAcce
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
 import com.synopsys.integration.alert.processor.api.distribute.DistributionEvent;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventPayloadStore;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
 
 public class DistributionEventHandler<D extends DistributionJobDetailsModel> implements AlertEventHandler<DistributionEvent> {
+    private static final String ALERT_EXCEPTION_FAILURE_MESSAGE = "An exception occurred during message distribution";
+    private static final String UNKNOWN_EXCEPTION_FAILURE_MESSAGE = "An unexpected error occurred during message distribution. Please refer to the logs for more details.";
+
     private final Logger notificationLogger = AlertLoggerFactory.getNotificationLogger(getClass());
 
     private final DistributionChannel<D> channel;
     private final JobDetailsAccessor<D> jobDetailsAccessor;
     private final ProcessingAuditAccessor auditAccessor;
+    private final DistributionEventPayloadStore payloadStore;
 
     public DistributionEventHandler(DistributionChannel<D> channel, JobDetailsAccessor<D> jobDetailsAccessor, ProcessingAuditAccessor auditAccessor) {
+        this(channel, jobDetailsAccessor, auditAccessor, null);
+    }
+
+    public DistributionEventHandler(
+        DistributionChannel<D> channel,
+        JobDetailsAccessor<D> jobDetailsAccessor,
+        ProcessingAuditAccessor auditAccessor,
+        @Nullable DistributionEventPayloadStore payloadStore
+    ) {
         this.channel = channel;
         this.jobDetailsAccessor = jobDetailsAccessor;
         this.auditAccessor = auditAccessor;
+        this.payloadStore = payloadStore;
     }
 
     @Override
     public final void handle(DistributionEvent event) {
+        try {
+            handleEvent(event);
+        } finally {
+            // Failed events are recorded in the audit and never redelivered, so their payload is no longer needed either
+            deletePayload(event);
+        }
+    }
+
+    private void handleEvent(DistributionEvent event) {
         Optional<D> details = jobDetailsAccessor.retrieveDetails(event.getJobId());
         if (details.isPresent()) {
             try {
                 notificationLogger.debug("Channel: {} is processing event: {}", channel.getClass(), event.getEventId());
-                channel.distributeMessages(details.get(), event.getProviderMessages(), event.getJobName());
-                auditAccessor.setAuditEntrySuccess(event.getJobId(), event.getNotificationIds());
+                ProviderMessageHolder providerMessages = retrieveProviderMessages(event);
+                List<Set<Long>> messageNotificationIds = event.getMessageNotificationIds();
+                if (messageNotificationIds.size() > 1 && !channel.supportsBatchDelivery()) {
+                    distributeEachMessage(details.get(), providerMessages, messageNotificationIds, event);
+                } else {
+                    channel.distributeMessages(details.get(), providerMessages, event.getJobName());
+                    auditAccessor.setAuditEntrySuccess(event.getJobId(), event.getNotificationIds());
+                }
                 notificationLogger.debug("Channel: {} successfully processed event: {}", channel.getClass(), event.getEventId());
             } catch (AlertException alertException) {
                 handleAlertException(alertException, event);
@@ -51,14 +85,50 @@ public class DistributionEventHandler<D extends DistributionJobDetailsModel> imp
         }
     }
 
+    private void distributeEachMessage(D details, ProviderMessageHolder providerMessages, List<Set<Long>> messageNotificationIds, DistributionEvent event) throws AlertException {
+        List<ProviderMessageHolder> singleMessageHolders = providerMessages.expand();
+        if (singleMessageHolders.size() != messageNotificationIds.size()) {
+            throw new AlertException(String.format("The event has %d messages, but notification ids for %d messages", singleMessageHolders.size(), messageNotificationIds.size()));
+        }
+
+        for (int i = 0; i < singleMessageHolders.size(); i++) {
+            Set<Long> notificationIds = messageNotificationIds.get(i);
+            try {
+                channel.distributeMessages(details, singleMessageHolders.get(i), event.getJobName());
+                auditAccessor.setAuditEntrySuccess(event.getJobId(), notificationIds);
+            } catch (AlertException e) {
+                notificationLogger.error("An exception occurred while handling message {} of the following event: {}.", i, event.getEventId(), e);
+                auditAccessor.setAuditEntryFailure(event.getJobId(), notificationIds, ALERT_EXCEPTION_FAILURE_MESSAGE, e);
+            } catch (Exception e) {
+                notificationLogger.error("An unexpected error occurred while handling message {} of the following event: {}.", i, event.getEventId(), e);
+                auditAccessor.setAuditEntryFailure(event.getJobId(), notificationIds, UNKNOWN_EXCEPTION_FAILURE_MESSAGE, null);
+            }
+        }
+    }
+
+    private ProviderMessageHolder retrieveProviderMessages(DistributionEvent event) throws AlertException {
+        if (null != payloadStore) {
+            return payloadStore.retrievePayload(event);
+        } else if (event.getPayloadReference().isPresent()) {
+            throw new AlertException("Received a distribution event whose payload was stored separately, but no payload store is available");
+        }
+        return event.getProviderMessages();
+    }
+
+    private void deletePayload(DistributionEvent event) {
+        if (null != payloadStore) {
+            payloadStore.deletePayload(event);
+        }
+    }
+
     protected void handleAlertException(AlertException e, DistributionEvent event) {
         notificationLogger.error("An exception occurred while handling the following event: {}.", event.getEventId(), e);
-        auditAccessor.setAuditEntryFailure(event.getJobId(), event.getNotificationIds(), "An exception occurred during message distribution", e);
+        auditAccessor.setAuditEntryFailure(event.getJobId(), event.getNotificationIds(), ALERT_EXCEPTION_FAILURE_MESSAGE, e);
     }
 
     protected void handleUnknownException(Exception e, DistributionEvent event) {
         notificationLogger.error("An unexpected error occurred while handling the following event: {}.", event.getEventId(), e);
-        auditAccessor.setAuditEntryFailure(event.getJobId(), event.getNotificationIds(), "An unexpected error occurred during message distribution. Please refer to the logs for more details.", null);
+        auditAccessor.setAuditEntryFailure(event.getJobId(), event.getNotificationIds(), UNKNOWN_EXCEPTION_FAILURE_MESSAGE, null);
     }
 
     protected void handleJobDetailsMissing(DistributionEvent event) {
@@ -47,13 +47,20 @@ public abstract class AbstractChannelMessageConverter<D extends DistributionJobD
             (message, formattedMessageChunks) -> convertProjectMessageToChannelMessages(distributionDetails, message, formattedMessageChunks)
         );
 
-        return ListUtils.union(convertedSimpleMessages, convertedProjectMessages);
+        return packChannelMessages(distributionDetails, ListUtils.union(convertedSimpleMessages, convertedProjectMessages));
     }
 
     protected abstract List<T> convertSimpleMessageToChannelMessages(D distributionDetails, SimpleMessage simpleMessage, List<String> messageChunks);
 
     protected abstract List<T> convertProjectMessageToChannelMessages(D distributionDetails, ProjectMessage projectMessage, List<String> messageChunks);
 
+    /**
+     * Channels that can send the content of several channel messages at once may combine them here. The order of the messages must be kept.
+     */
+    protected List<T> packChannelMessages(D distributionDetails, List<T> channelMessages) {
+        return channelMessages;
+    }
+
     private <M extends ProviderMessage<M>> List<T> convertProviderMessagesToChannelMessages(List<M> messages, Function<M, List<String>> convertToMessageChunks, BiFunction<M, List<String>, List<T>> convertToChannelMessages) {
         List<T> channelMessages = new LinkedList<>();
         for (M message : messages) {
@@ -0,0 +1,48 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.convert;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Packs formatted message chunks into as few messages as a channel's maximum message length allows. Chunks are never reordered, so each
+ * packed message is filled with the chunks that follow it until the next chunk no longer fits. A chunk that is already longer than the
+ * maximum length is kept as a message of its own.
+ */
+public class ChannelMessageChunkPacker {
+    private final int maxPackedLength;
+    private final String chunkSeparator;
+
+    public ChannelMessageChunkPacker(int maxPackedLength, String chunkSeparator) {
+        this.maxPackedLength = maxPackedLength;
+        this.chunkSeparator = chunkSeparator;
+    }
+
+    public List<String> pack(List<String> messageChunks) {
+        List<String> packedMessages = new LinkedList<>();
+        StringBuilder packedMessageBuilder = new StringBuilder();
+        for (String messageChunk : messageChunks) {
+            if (packedMessageBuilder.length() == 0) {
+                packedMessageBuilder.append(messageChunk);
+            } else if (packedMessageBuilder.length() + chunkSeparator.length() + messageChunk.length() <= maxPackedLength) {
+                packedMessageBuilder.append(chunkSeparator);
+                packedMessageBuilder.append(messageChunk);
+            } else {
+                packedMessages.add(packedMessageBuilder.toString());
+                packedMessageBuilder = new StringBuilder(messageChunk);
+            }
+        }
+
+        if (packedMessageBuilder.length() > 0) {
+            packedMessages.add(packedMessageBuilder.toString());
+        }
+        return packedMessages;
+    }
+
+}
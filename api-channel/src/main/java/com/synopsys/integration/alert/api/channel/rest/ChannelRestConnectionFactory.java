@@ -7,14 +7,34 @@
  */
 package com.synopsys.integration.alert.api.channel.rest;
 
+import java.io.File;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.common.model.exception.AlertRuntimeException;
 import com.synopsys.integration.alert.common.AlertProperties;
 import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
 import com.synopsys.integration.log.IntLogger;
@@ -23,12 +43,16 @@ import com.synopsys.integration.rest.client.IntHttpClient;
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 
 @Component
-public class ChannelRestConnectionFactory {
+public class ChannelRestConnectionFactory implements DisposableBean {
+    public static final int DEFAULT_TIMEOUT_MILLISECONDS = 5 * 60 * 1000;
+    public static final int MAX_SHARED_CONNECTIONS_PER_HOST = 20;
+
     private final Logger logger = LoggerFactory.getLogger(ChannelRestConnectionFactory.class);
 
     private final AlertProperties alertProperties;
     private final ProxyManager proxyManager;
     private final Gson gson;
+    private final Map<String, SharedConnectionPool> sharedConnectionPools = new ConcurrentHashMap<>();
 
     @Autowired
     public ChannelRestConnectionFactory(AlertProperties alertProperties, ProxyManager proxyManager, Gson gson) {
@@ -38,7 +62,7 @@ public class ChannelRestConnectionFactory {
     }
 
     public IntHttpClient createIntHttpClient(String baseUrl) {
-        return createIntHttpClient(baseUrl, new Slf4jIntLogger(logger), 5 * 60 * 1000);
+        return createIntHttpClient(baseUrl, new Slf4jIntLogger(logger), DEFAULT_TIMEOUT_MILLISECONDS);
     }
 
     public IntHttpClient createIntHttpClient(String baseUrl, IntLogger intLogger, int timeout) {
@@ -47,4 +71,156 @@ public class ChannelRestConnectionFactory {
         return new IntHttpClient(intLogger, gson, timeout, alertTrustCertificate.orElse(Boolean.FALSE), proxyInfo);
     }
 
+    /**
+     * Retrieves a client whose connections are pooled with every other client sending to the same host through the same proxy, so that
+     * keep-alive connections are reused between messages. The pool of a host is replaced as soon as the proxy settings, the
+     * trust-certificate setting, or the trust store change.
+     */
+    public IntHttpClient retrieveSharedIntHttpClient(String url) {
+        IntHttpClient intHttpClient = createIntHttpClient(url);
+        useSharedConnectionPool(intHttpClient, url);
+        return intHttpClient;
+    }
+
+    /**
+     * Pools the connections of a client that was created elsewhere, such as by an integration library, with every other client sending to the
+     * same host. This must be done before the client sends its first request.
+     */
+    public void useSharedConnectionPool(IntHttpClient intHttpClient, String url) {
+        retrieveSharedConnectionManager(url)
+            .ifPresent(connectionManager -> intHttpClient.getClientBuilder()
+                                                .setConnectionManager(connectionManager)
+                                                .setConnectionManagerShared(true));
+    }
+
+    @Override
+    public void destroy() {
+        sharedConnectionPools.values().forEach(SharedConnectionPool::close);
+        sharedConnectionPools.clear();
+    }
+
+    Optional<PoolingHttpClientConnectionManager> retrieveSharedConnectionManager(String url) {
+        String host = extractHost(url);
+        if (null == host) {
+            return Optional.empty();
+        }
+
+        boolean alertTrustCertificate = alertProperties.getAlertTrustCertificate().orElse(Boolean.FALSE);
+        ProxyInfo proxyInfo = proxyManager.createProxyInfoForHost(url);
+        SharedClientKey clientKey = new SharedClientKey(host, proxyInfo, alertTrustCertificate, retrieveTrustStoreLastModified());
+
+        // Only the pool for the current settings of a host is kept
+        SharedConnectionPool connectionPool = sharedConnectionPools.compute(host, (ignored, existingPool) -> {
+            if (null != existingPool && existingPool.getClientKey().equals(clientKey)) {
+                return existingPool;
+            }
+            if (null != existingPool) {
+                existingPool.close();
+            }
+            logger.debug("Creating a shared HTTP connection pool for {}", host);
+            return new SharedConnectionPool(clientKey, createConnectionManager(alertTrustCertificate));
+        });
+        return Optional.of(connectionPool.getConnectionManager());
+    }
+
+    private PoolingHttpClientConnectionManager createConnectionManager(boolean alertTrustCertificate) {
+        // A client ignores its own SSL settings when it is given a connection manager, so the connection manager must trust the certificate
+        SSLConnectionSocketFactory sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+        if (alertTrustCertificate) {
+            try {
+                SSLContext sslContext = SSLContextBuilder.create().loadTrustMaterial(new TrustAllStrategy()).build();
+                sslSocketFactory = new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE);
+            } catch (GeneralSecurityException e) {
+                throw new AlertRuntimeException("Could not create an SSL context that trusts the server certificate", e);
+            }
+        }
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                                                                      .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                                                                      .register("https", sslSocketFactory)
+                                                                      .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(MAX_SHARED_CONNECTIONS_PER_HOST);
+        connectionManager.setDefaultMaxPerRoute(MAX_SHARED_CONNECTIONS_PER_HOST);
+        return connectionManager;
+    }
+
+    private String extractHost(String url) {
+        try {
+            URI uri = new URI(url);
+            if (null == uri.getScheme() || null == uri.getHost()) {
+                return null;
+            }
+            return String.format("%s://%s:%d", uri.getScheme().toLowerCase(), uri.getHost().toLowerCase(), uri.getPort());
+        } catch (URISyntaxException e) {
+            logger.debug("Could not determine the host of a URL, a new HTTP client will be used", e);
+            return null;
+        }
+    }
+
+    private long retrieveTrustStoreLastModified() {
+        return alertProperties.getTrustStoreFile()
+                   .map(File::new)
+                   .map(File::lastModified)
+                   .orElse(0L);
+    }
+
+    private static class SharedClientKey {
+        private final String host;
+        private final ProxyInfo proxyInfo;
+        private final boolean alertTrustCertificate;
+        private final long trustStoreLastModified;
+
+        public SharedClientKey(String host, ProxyInfo proxyInfo, boolean alertTrustCertificate, long trustStoreLastModified) {
+            this.host = host;
+            this.proxyInfo = proxyInfo;
+            this.alertTrustCertificate = alertTrustCertificate;
+            this.trustStoreLastModified = trustStoreLastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedClientKey that = (SharedClientKey) o;
+            return alertTrustCertificate == that.alertTrustCertificate
+                       && trustStoreLastModified == that.trustStoreLastModified
+                       && host.equals(that.host)
+                       && Objects.equals(proxyInfo, that.proxyInfo);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, proxyInfo, alertTrustCertificate, trustStoreLastModified);
+        }
+
+    }
+
+    private static class SharedConnectionPool {
+        private final SharedClientKey clientKey;
+        private final PoolingHttpClientConnectionManager connectionManager;
+
+        public SharedConnectionPool(SharedClientKey clientKey, PoolingHttpClientConnectionManager connectionManager) {
+            this.clientKey = clientKey;
+            this.connectionManager = connectionManager;
+        }
+
+        public SharedClientKey getClientKey() {
+            return clientKey;
+        }
+
+        public PoolingHttpClientConnectionManager getConnectionManager() {
+            return connectionManager;
+        }
+
+        public void close() {
+            connectionManager.close();
+        }
+
+    }
+
 }
@@ -30,9 +30,16 @@ import com.synopsys.integration.rest.response.Response;
 public class RestChannelUtility {
     private final Logger logger = LoggerFactory.getLogger(getClass());
     private final IntHttpClient intHttpClient;
+    @Nullable
+    private final WebhookDispatchScheduler dispatchScheduler;
 
     public RestChannelUtility(IntHttpClient intHttpClient) {
+        this(intHttpClient, null);
+    }
+
+    public RestChannelUtility(IntHttpClient intHttpClient, @Nullable WebhookDispatchScheduler dispatchScheduler) {
         this.intHttpClient = intHttpClient;
+        this.dispatchScheduler = dispatchScheduler;
     }
 
     public void sendMessage(List<Request> requests, String eventDestination) throws AlertException {
@@ -68,6 +75,8 @@ public class RestChannelUtility {
     private void sendMessageRequest(Request request, String messageType) throws AlertException {
         logger.info("Attempting to send a {} message...", messageType);
         try (Response response = sendGenericRequest(request)) {
+            // Reading the whole response lets its connection be reused by the next request to the same host
+            logger.trace("Response content: {}", response.getContentString());
             if (RestConstants.OK_200 <= response.getStatusCode() && response.getStatusCode() < RestConstants.MULT_CHOICE_300) {
                 logger.info("Successfully sent a {} message!", messageType);
             } else {
@@ -80,7 +89,7 @@ public class RestChannelUtility {
     }
 
     private Response sendGenericRequest(Request request) throws IntegrationException {
-        Response response = intHttpClient.execute(request);
+        Response response = null != dispatchScheduler ? dispatchScheduler.dispatch(intHttpClient, request) : intHttpClient.execute(request);
         logger.trace("Response: {}", response);
         return response;
     }
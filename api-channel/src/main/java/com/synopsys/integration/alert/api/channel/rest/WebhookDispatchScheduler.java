@@ -0,0 +1,159 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.rest;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.client.IntHttpClient;
+import com.synopsys.integration.rest.request.Request;
+import com.synopsys.integration.rest.response.Response;
+
+/**
+ * Dispatches the requests of the chat channels through one {@link WebhookTokenBucket} per webhook, so that bursts of messages are sent
+ * at a rate the webhook accepts. A webhook that still responds with 429 Too Many Requests is paused for the time its Retry-After header
+ * asks for, and the request is sent again rather than failed.
+ */
+@Component
+public class WebhookDispatchScheduler {
+    public static final int TOO_MANY_REQUESTS_429 = 429;
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1L);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final double requestsPerSecond;
+    private final int burstRequests;
+    private final int maxRateLimitRetries;
+    private final Duration maxRetryAfter;
+
+    private final Map<String, WebhookTokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final AtomicLong throttleWaitNanos = new AtomicLong(0L);
+    private final AtomicLong rateLimitedResponses = new AtomicLong(0L);
+
+    @Autowired
+    public WebhookDispatchScheduler(
+        @Value("${alert.distribution.webhook.requests.per.second:1}") double requestsPerSecond,
+        @Value("${alert.distribution.webhook.burst.requests:5}") int burstRequests,
+        @Value("${alert.distribution.webhook.rate.limit.retries:3}") int maxRateLimitRetries,
+        @Value("${alert.distribution.webhook.rate.limit.max.wait.seconds:60}") long maxRetryAfterSeconds
+    ) {
+        this.requestsPerSecond = requestsPerSecond > 0.0 ? requestsPerSecond : 1.0;
+        this.burstRequests = Math.max(1, burstRequests);
+        this.maxRateLimitRetries = Math.max(0, maxRateLimitRetries);
+        this.maxRetryAfter = Duration.ofSeconds(Math.max(0L, maxRetryAfterSeconds));
+    }
+
+    public Response dispatch(IntHttpClient intHttpClient, Request request) throws IntegrationException {
+        String webhook = request.getUrl().string();
+        WebhookTokenBucket tokenBucket = tokenBuckets.computeIfAbsent(webhook, ignored -> new WebhookTokenBucket(requestsPerSecond, burstRequests));
+
+        int rateLimitRetries = 0;
+        while (true) {
+            awaitPermit(tokenBucket);
+            Response response = intHttpClient.execute(request);
+            if (TOO_MANY_REQUESTS_429 != response.getStatusCode() || rateLimitRetries >= maxRateLimitRetries) {
+                return response;
+            }
+
+            rateLimitedResponses.incrementAndGet();
+            Duration retryAfter = parseRetryAfter(response.getHeaderValue(RETRY_AFTER_HEADER));
+            if (retryAfter.compareTo(maxRetryAfter) > 0) {
+                logger.warn("The webhook asked to wait {} seconds before the next request, which is longer than the {} seconds Alert will wait", retryAfter.getSeconds(), maxRetryAfter.getSeconds());
+                return response;
+            }
+
+            closeQuietly(response);
+            tokenBucket.pause(retryAfter);
+            rateLimitRetries++;
+            logger.debug("The webhook is rate limited, retrying in {} ms (attempt {} of {})", retryAfter.toMillis(), rateLimitRetries, maxRateLimitRetries);
+        }
+    }
+
+    /**
+     * @return the number of requests that are currently waiting for their webhook to accept them
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the total time requests have spent waiting for their webhook to accept them
+     */
+    public Duration getTotalThrottleWait() {
+        return Duration.ofNanos(throttleWaitNanos.get());
+    }
+
+    public long getRateLimitedResponseCount() {
+        return rateLimitedResponses.get();
+    }
+
+    private void awaitPermit(WebhookTokenBucket tokenBucket) throws AlertException {
+        Duration wait = tokenBucket.reservePermit();
+        if (wait.isZero()) {
+            return;
+        }
+
+        queueDepth.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait.toNanos());
+            throttleWaitNanos.addAndGet(wait.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AlertException("Interrupted while waiting to send a webhook request", e);
+        } finally {
+            queueDepth.decrementAndGet();
+        }
+    }
+
+    private Duration parseRetryAfter(String retryAfterHeader) {
+        if (StringUtils.isBlank(retryAfterHeader)) {
+            return DEFAULT_RETRY_AFTER;
+        }
+
+        String retryAfter = retryAfterHeader.trim();
+        if (StringUtils.isNumeric(retryAfter)) {
+            return Duration.ofSeconds(Long.parseLong(retryAfter));
+        }
+
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration untilRetry = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return untilRetry.isNegative() ? Duration.ZERO : untilRetry;
+        } catch (DateTimeParseException e) {
+            logger.debug("Could not parse the Retry-After header '{}'", retryAfter);
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    private void closeQuietly(Response response) {
+        try {
+            response.close();
+        } catch (Exception e) {
+            logger.debug("Could not close a rate limited response", e);
+        }
+    }
+
+}
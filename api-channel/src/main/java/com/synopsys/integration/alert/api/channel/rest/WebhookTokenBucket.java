@@ -0,0 +1,74 @@
+/*
+ * api-channel
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.channel.rest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Spreads the requests to a single webhook over time. Each request reserves a permit, and the time a caller must wait for its permit
+ * grows with the number of permits reserved ahead of it. A webhook that responded with a rate limit is paused until the time it asked
+ * for, after which permits are handed out at the configured rate again.
+ */
+public class WebhookTokenBucket {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private final double permitsPerSecond;
+    private final int maxBurstPermits;
+    private final LongSupplier nanoClock;
+
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    public WebhookTokenBucket(double permitsPerSecond, int maxBurstPermits) {
+        this(permitsPerSecond, maxBurstPermits, System::nanoTime);
+    }
+
+    public WebhookTokenBucket(double permitsPerSecond, int maxBurstPermits, LongSupplier nanoClock) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.maxBurstPermits = Math.max(1, maxBurstPermits);
+        this.nanoClock = nanoClock;
+        this.availablePermits = this.maxBurstPermits;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return how long the caller must wait before it may send its request
+     */
+    public synchronized Duration reservePermit() {
+        long nowNanos = nanoClock.getAsLong();
+        refill(nowNanos);
+        availablePermits -= 1.0;
+
+        long waitNanos = Math.max(0L, lastRefillNanos - nowNanos);
+        if (availablePermits < 0.0) {
+            waitNanos += (long) Math.ceil(-availablePermits * NANOS_PER_SECOND / permitsPerSecond);
+        }
+        return Duration.ofNanos(waitNanos);
+    }
+
+    /**
+     * Stops handing out permits that could be used before the webhook is expected to accept requests again.
+     */
+    public synchronized void pause(Duration retryAfter) {
+        long nowNanos = nanoClock.getAsLong();
+        refill(nowNanos);
+        availablePermits = Math.min(availablePermits, 0.0);
+        lastRefillNanos = Math.max(lastRefillNanos, nowNanos + retryAfter.toNanos());
+    }
+
+    private void refill(long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            double refilledPermits = (nowNanos - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND;
+            availablePermits = Math.min(maxBurstPermits, availablePermits + refilledPermits);
+            lastRefillNanos = nowNanos;
+        }
+    }
+
+}
@@ -1,5 +1,9 @@
 package com.synopsys.integration.alert.api.channel;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -8,11 +12,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.message.model.MessageResult;
 import com.synopsys.integration.alert.common.persistence.accessor.JobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKey;
 import com.synopsys.integration.alert.processor.api.distribute.DistributionEvent;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventPayloadStore;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
 
 public class DistributionEventHandlerTest {
     private final ChannelKey channelKey = new ChannelKey("test universal key", "Test Universal Key");
@@ -79,4 +89,135 @@ public class DistributionEventHandlerTest {
         Mockito.verify(auditAccessor, Mockito.times(1)).setAuditEntryFailure(Mockito.eq(testJobId), Mockito.eq(testNotificationIds), Mockito.anyString(), Mockito.any());
     }
 
+    @Test
+    public void handleClaimCheckedEventTest() throws AlertException {
+        ProcessingAuditAccessor auditAccessor = Mockito.mock(ProcessingAuditAccessor.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+
+        ProviderMessageHolder storedMessages = ProviderMessageHolder.empty();
+        List<ProviderMessageHolder> distributedMessages = new ArrayList<>();
+        DistributionChannel<DistributionJobDetailsModel> channel = (x, y, z) -> {
+            distributedMessages.add(y);
+            return null;
+        };
+
+        DistributionEventPayloadStore payloadStore = Mockito.mock(DistributionEventPayloadStore.class);
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, auditAccessor, payloadStore);
+
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(1L, 3L, 5L);
+
+        DistributionEvent testEvent = new DistributionEvent(channelKey, testJobId, "jobName", testNotificationIds, null, UUID.randomUUID().toString());
+        Mockito.when(payloadStore.retrievePayload(testEvent)).thenReturn(storedMessages);
+        eventHandler.handle(testEvent);
+
+        assertEquals(List.of(storedMessages), distributedMessages);
+        Mockito.verify(auditAccessor, Mockito.times(1)).setAuditEntrySuccess(Mockito.eq(testJobId), Mockito.eq(testNotificationIds));
+        Mockito.verify(payloadStore, Mockito.times(1)).deletePayload(testEvent);
+    }
+
+    @Test
+    public void handleClaimCheckedEventFailureDeletesPayloadTest() {
+        ProcessingAuditAccessor auditAccessor = Mockito.mock(ProcessingAuditAccessor.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+
+        DistributionChannel<DistributionJobDetailsModel> channel = (x, y, z) -> {
+            throw new AlertException("Test exception");
+        };
+
+        DistributionEventPayloadStore payloadStore = Mockito.mock(DistributionEventPayloadStore.class);
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, auditAccessor, payloadStore);
+
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(1L, 3L, 5L);
+
+        DistributionEvent testEvent = new DistributionEvent(channelKey, testJobId, "jobName", testNotificationIds, null, UUID.randomUUID().toString());
+        eventHandler.handle(testEvent);
+
+        Mockito.verify(auditAccessor, Mockito.times(1)).setAuditEntryFailure(Mockito.eq(testJobId), Mockito.eq(testNotificationIds), Mockito.anyString(), Mockito.any());
+        Mockito.verify(payloadStore, Mockito.times(1)).deletePayload(testEvent);
+    }
+
+    @Test
+    public void handleClaimCheckedEventForMissingJobDeletesPayloadTest() {
+        ProcessingAuditAccessor auditAccessor = Mockito.mock(ProcessingAuditAccessor.class);
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.empty();
+        DistributionChannel<DistributionJobDetailsModel> channel = (x, y, z) -> null;
+
+        DistributionEventPayloadStore payloadStore = Mockito.mock(DistributionEventPayloadStore.class);
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, auditAccessor, payloadStore);
+
+        DistributionEvent testEvent = new DistributionEvent(channelKey, UUID.randomUUID(), "jobName", Set.of(1L), null, UUID.randomUUID().toString());
+        eventHandler.handle(testEvent);
+
+        Mockito.verify(payloadStore, Mockito.times(1)).deletePayload(testEvent);
+    }
+
+    @Test
+    public void handleBatchedEventAuditsEachMessageTest() {
+        ProcessingAuditAccessor auditAccessor = Mockito.mock(ProcessingAuditAccessor.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+
+        List<ProviderMessageHolder> distributedMessages = new ArrayList<>();
+        DistributionChannel<DistributionJobDetailsModel> channel = (x, y, z) -> {
+            distributedMessages.add(y);
+            if ("Summary 2".equals(y.getSimpleMessages().get(0).getSummary())) {
+                throw new AlertException("Test exception");
+            }
+            return null;
+        };
+
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, auditAccessor);
+
+        UUID testJobId = UUID.randomUUID();
+        ProviderMessageHolder batchedMessages = new ProviderMessageHolder(List.of(), List.of(createSimpleMessage(1L), createSimpleMessage(2L)));
+        DistributionEvent testEvent = new DistributionEvent(channelKey, testJobId, "jobName", Set.of(1L, 2L, 3L), List.of(Set.of(1L), Set.of(2L, 3L)), batchedMessages, null);
+        eventHandler.handle(testEvent);
+
+        assertEquals(2, distributedMessages.size());
+        Mockito.verify(auditAccessor, Mockito.times(1)).setAuditEntrySuccess(Mockito.eq(testJobId), Mockito.eq(Set.of(1L)));
+        Mockito.verify(auditAccessor, Mockito.times(1)).setAuditEntryFailure(Mockito.eq(testJobId), Mockito.eq(Set.of(2L, 3L)), Mockito.anyString(), Mockito.any());
+        Mockito.verify(auditAccessor, Mockito.never()).setAuditEntrySuccess(Mockito.eq(testJobId), Mockito.eq(Set.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    public void handleBatchedEventWithBatchDeliveryChannelTest() {
+        ProcessingAuditAccessor auditAccessor = Mockito.mock(ProcessingAuditAccessor.class);
+        DistributionJobDetailsModel details = new DistributionJobDetailsModel(null, null) {};
+        JobDetailsAccessor<DistributionJobDetailsModel> jobDetailsAccessor = x -> Optional.of(details);
+
+        List<ProviderMessageHolder> distributedMessages = new ArrayList<>();
+        DistributionChannel<DistributionJobDetailsModel> channel = new DistributionChannel<>() {
+            @Override
+            public MessageResult distributeMessages(DistributionJobDetailsModel distributionDetails, ProviderMessageHolder messages, String jobName) {
+                distributedMessages.add(messages);
+                return null;
+            }
+
+            @Override
+            public boolean supportsBatchDelivery() {
+                return true;
+            }
+        };
+
+        DistributionEventHandler<DistributionJobDetailsModel> eventHandler = new DistributionEventHandler<>(channel, jobDetailsAccessor, auditAccessor);
+
+        UUID testJobId = UUID.randomUUID();
+        Set<Long> testNotificationIds = Set.of(1L, 2L);
+        ProviderMessageHolder batchedMessages = new ProviderMessageHolder(List.of(), List.of(createSimpleMessage(1L), createSimpleMessage(2L)));
+        DistributionEvent testEvent = new DistributionEvent(channelKey, testJobId, "jobName", testNotificationIds, List.of(Set.of(1L), Set.of(2L)), batchedMessages, null);
+        eventHandler.handle(testEvent);
+
+        assertEquals(List.of(batchedMessages), distributedMessages);
+        Mockito.verify(auditAccessor, Mockito.times(1)).setAuditEntrySuccess(Mockito.eq(testJobId), Mockito.eq(testNotificationIds));
+    }
+
+    private SimpleMessage createSimpleMessage(Long id) {
+        ProviderDetails providerDetails = new ProviderDetails(id, new LinkableItem("Provider", "Provider " + id));
+        return SimpleMessage.original(providerDetails, "Summary " + id, "Description " + id, List.of());
+    }
+
 }
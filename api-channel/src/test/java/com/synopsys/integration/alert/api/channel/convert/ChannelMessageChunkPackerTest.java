@@ -0,0 +1,34 @@
+package com.synopsys.integration.alert.api.channel.convert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChannelMessageChunkPackerTest {
+    @Test
+    public void packsChunksInOrderTest() {
+        ChannelMessageChunkPacker messageChunkPacker = new ChannelMessageChunkPacker(10, "|");
+
+        List<String> packedMessages = messageChunkPacker.pack(List.of("aaa", "bbb", "ccc", "dddd", "ee"));
+
+        assertEquals(List.of("aaa|bbb", "ccc|dddd", "ee"), packedMessages);
+    }
+
+    @Test
+    public void keepsOversizedChunksAloneTest() {
+        ChannelMessageChunkPacker messageChunkPacker = new ChannelMessageChunkPacker(5, "|");
+
+        List<String> packedMessages = messageChunkPacker.pack(List.of("a", "bbbbbbbb", "c", "d"));
+
+        assertEquals(List.of("a", "bbbbbbbb", "c|d"), packedMessages);
+    }
+
+    @Test
+    public void packsNothingTest() {
+        ChannelMessageChunkPacker messageChunkPacker = new ChannelMessageChunkPacker(5, "|");
+        assertEquals(List.of(), messageChunkPacker.pack(List.of()));
+    }
+
+}
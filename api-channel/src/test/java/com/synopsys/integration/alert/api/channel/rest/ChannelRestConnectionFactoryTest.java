@@ -2,18 +2,34 @@ package com.synopsys.integration.alert.api.channel.rest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpServer;
 import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
 import com.synopsys.integration.alert.test.common.MockAlertProperties;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.HttpUrl;
 import com.synopsys.integration.rest.client.IntHttpClient;
 import com.synopsys.integration.rest.credentials.Credentials;
 import com.synopsys.integration.rest.credentials.CredentialsBuilder;
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 import com.synopsys.integration.rest.proxy.ProxyInfoBuilder;
+import com.synopsys.integration.rest.request.Request;
+import com.synopsys.integration.rest.response.Response;
 
 public class ChannelRestConnectionFactoryTest {
     private final Gson gson = new Gson();
@@ -48,4 +64,50 @@ public class ChannelRestConnectionFactoryTest {
         assertEquals(expectedProxyInfo, intHttpClient.getProxyInfo());
     }
 
+    @Test
+    public void sharedClientsPoolConnectionsTest() throws Exception {
+        List<Integer> clientPorts = Collections.synchronizedList(new ArrayList<>());
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] responseBody = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, responseBody.length);
+            try (OutputStream responseStream = exchange.getResponseBody()) {
+                responseStream.write(responseBody);
+            }
+        });
+        server.start();
+
+        MockAlertProperties testAlertProperties = new MockAlertProperties();
+        ProxyManager proxyManager = Mockito.mock(ProxyManager.class);
+        Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(ProxyInfo.NO_PROXY_INFO);
+        ChannelRestConnectionFactory channelRestConnectionFactory = new ChannelRestConnectionFactory(testAlertProperties, proxyManager, gson);
+        try {
+            String baseUrl = String.format("http://%s:%d", server.getAddress().getHostString(), server.getAddress().getPort());
+            sendRequest(channelRestConnectionFactory.retrieveSharedIntHttpClient(baseUrl + "/first"), baseUrl + "/first");
+            sendRequest(channelRestConnectionFactory.retrieveSharedIntHttpClient(baseUrl + "/second"), baseUrl + "/second");
+            IntHttpClient externallyCreatedClient = channelRestConnectionFactory.createIntHttpClient(baseUrl);
+            channelRestConnectionFactory.useSharedConnectionPool(externallyCreatedClient, baseUrl);
+            sendRequest(externallyCreatedClient, baseUrl + "/third");
+
+            assertEquals(3, clientPorts.size());
+            assertEquals(clientPorts.get(0), clientPorts.get(1), "Both requests should have been sent over the same pooled connection");
+            assertEquals(clientPorts.get(0), clientPorts.get(2), "A client created elsewhere should use the same pooled connection");
+
+            PoolingHttpClientConnectionManager connectionManager = channelRestConnectionFactory.retrieveSharedConnectionManager(baseUrl).orElseThrow();
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+            assertNotSame(connectionManager, channelRestConnectionFactory.retrieveSharedConnectionManager("https://other.example.com/services/first").orElseThrow());
+        } finally {
+            channelRestConnectionFactory.destroy();
+            server.stop(0);
+        }
+    }
+
+    private void sendRequest(IntHttpClient intHttpClient, String url) throws IntegrationException, IOException {
+        Request request = new Request.Builder(new HttpUrl(url)).build();
+        try (Response response = intHttpClient.execute(request)) {
+            assertEquals("ok", response.getContentString());
+        }
+    }
+
 }
@@ -0,0 +1,73 @@
+package com.synopsys.integration.alert.api.channel.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.rest.client.IntHttpClient;
+import com.synopsys.integration.rest.request.Request;
+import com.synopsys.integration.rest.response.Response;
+
+public class WebhookDispatchSchedulerTest {
+    private static final String WEBHOOK = "https://hooks.example.com/services/webhook";
+
+    @Test
+    public void retriesRateLimitedRequestTest() throws IntegrationException {
+        Response rateLimitedResponse = createMockResponse(WebhookDispatchScheduler.TOO_MANY_REQUESTS_429, "0");
+        Response okResponse = createMockResponse(HttpStatus.OK.value(), null);
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(rateLimitedResponse, okResponse);
+
+        WebhookDispatchScheduler dispatchScheduler = new WebhookDispatchScheduler(100.0, 100, 3, 60L);
+        Response response = dispatchScheduler.dispatch(intHttpClient, createRequest());
+
+        assertEquals(HttpStatus.OK.value(), response.getStatusCode());
+        assertEquals(1L, dispatchScheduler.getRateLimitedResponseCount());
+        assertEquals(0, dispatchScheduler.getQueueDepth());
+        Mockito.verify(intHttpClient, Mockito.times(2)).execute(Mockito.any(Request.class));
+    }
+
+    @Test
+    public void returnsRateLimitedResponseAfterMaxRetriesTest() throws IntegrationException {
+        Response rateLimitedResponse = createMockResponse(WebhookDispatchScheduler.TOO_MANY_REQUESTS_429, "0");
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(rateLimitedResponse);
+
+        WebhookDispatchScheduler dispatchScheduler = new WebhookDispatchScheduler(100.0, 100, 2, 60L);
+        Response response = dispatchScheduler.dispatch(intHttpClient, createRequest());
+
+        assertEquals(WebhookDispatchScheduler.TOO_MANY_REQUESTS_429, response.getStatusCode());
+        Mockito.verify(intHttpClient, Mockito.times(3)).execute(Mockito.any(Request.class));
+    }
+
+    @Test
+    public void doesNotWaitLongerThanMaxRetryAfterTest() throws IntegrationException {
+        Response rateLimitedResponse = createMockResponse(WebhookDispatchScheduler.TOO_MANY_REQUESTS_429, "3600");
+        IntHttpClient intHttpClient = Mockito.mock(IntHttpClient.class);
+        Mockito.when(intHttpClient.execute(Mockito.any(Request.class))).thenReturn(rateLimitedResponse);
+
+        WebhookDispatchScheduler dispatchScheduler = new WebhookDispatchScheduler(100.0, 100, 3, 60L);
+        Response response = dispatchScheduler.dispatch(intHttpClient, createRequest());
+
+        assertEquals(WebhookDispatchScheduler.TOO_MANY_REQUESTS_429, response.getStatusCode());
+        Mockito.verify(intHttpClient, Mockito.times(1)).execute(Mockito.any(Request.class));
+    }
+
+    private Request createRequest() {
+        RestChannelUtility restChannelUtility = new RestChannelUtility(null);
+        return restChannelUtility.createPostMessageRequest(WEBHOOK, Map.of(), "{}");
+    }
+
+    private Response createMockResponse(int statusCode, String retryAfter) {
+        Response response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatusCode()).thenReturn(statusCode);
+        Mockito.when(response.getHeaderValue(WebhookDispatchScheduler.RETRY_AFTER_HEADER)).thenReturn(retryAfter);
+        return response;
+    }
+
+}
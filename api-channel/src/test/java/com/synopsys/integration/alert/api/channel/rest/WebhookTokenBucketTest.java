@@ -0,0 +1,37 @@
+package com.synopsys.integration.alert.api.channel.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class WebhookTokenBucketTest {
+    @Test
+    public void spreadsRequestsBeyondBurstTest() {
+        AtomicLong clock = new AtomicLong(0L);
+        WebhookTokenBucket tokenBucket = new WebhookTokenBucket(2.0, 2, clock::get);
+
+        assertEquals(Duration.ZERO, tokenBucket.reservePermit());
+        assertEquals(Duration.ZERO, tokenBucket.reservePermit());
+        assertEquals(Duration.ofMillis(500), tokenBucket.reservePermit());
+        assertEquals(Duration.ofMillis(1000), tokenBucket.reservePermit());
+
+        clock.set(Duration.ofSeconds(5).toNanos());
+        assertEquals(Duration.ZERO, tokenBucket.reservePermit());
+    }
+
+    @Test
+    public void pauseDelaysPermitsTest() {
+        AtomicLong clock = new AtomicLong(0L);
+        WebhookTokenBucket tokenBucket = new WebhookTokenBucket(1.0, 5, clock::get);
+
+        tokenBucket.pause(Duration.ofSeconds(3));
+        assertEquals(Duration.ofSeconds(4), tokenBucket.reservePermit());
+
+        clock.set(Duration.ofSeconds(4).toNanos());
+        assertEquals(Duration.ofSeconds(1), tokenBucket.reservePermit());
+    }
+
+}
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.api.event;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
@@ -28,4 +29,12 @@ public class AlertEvent extends AlertSerializableModel {
         return destination;
     }
 
+    /**
+     * Events with the same ordering key are handled one at a time and in the order they were sent, even when their destination is consumed
+     * concurrently.
+     */
+    public Optional<String> getOrderingKey() {
+        return Optional.empty();
+    }
+
 }
@@ -52,4 +52,20 @@ public abstract class AlertMessageListener<T extends AlertEvent> implements Mess
         }
     }
 
+    /**
+     * Handles an event that was passed in-process by the {@link InMemoryEventBus} rather than sent through the message broker.
+     */
+    public final void onEvent(AlertEvent event) {
+        if (!eventClass.isInstance(event)) {
+            logger.warn("Receiver {} ignored event {} of unexpected type {}", getClass().getName(), event.getEventId(), event.getClass().getName());
+            return;
+        }
+        try {
+            logger.debug("Received Event ID: {}", event.getEventId());
+            eventHandler.handle(eventClass.cast(event));
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
 }
@@ -8,7 +8,9 @@
 package com.synopsys.integration.alert.api.event;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jms.core.JmsTemplate;
 import org.springframework.stereotype.Component;
@@ -17,13 +19,22 @@ import com.google.gson.Gson;
 
 @Component
 public class EventManager {
+    // The broker delivers the messages of a group to a single consumer at a time, in order
+    public static final String ORDERING_KEY_PROPERTY = "JMSXGroupID";
+
     private final Gson gson;
     private final JmsTemplate jmsTemplate;
+    private final InMemoryEventBus inMemoryEventBus;
 
-    @Autowired
     public EventManager(Gson gson, JmsTemplate jmsTemplate) {
+        this(gson, jmsTemplate, null);
+    }
+
+    @Autowired
+    public EventManager(Gson gson, JmsTemplate jmsTemplate, @Nullable InMemoryEventBus inMemoryEventBus) {
         this.gson = gson;
         this.jmsTemplate = jmsTemplate;
+        this.inMemoryEventBus = inMemoryEventBus;
     }
 
     public void sendEvents(List<? extends AlertEvent> eventList) {
@@ -33,9 +44,22 @@ public class EventManager {
     }
 
     public void sendEvent(AlertEvent event) {
+        if (null != inMemoryEventBus && inMemoryEventBus.isEnabled()) {
+            inMemoryEventBus.publish(event);
+            return;
+        }
+
         String destination = event.getDestination();
         String jsonMessage = toJsonOrNull(event);
-        jmsTemplate.convertAndSend(destination, jsonMessage);
+        Optional<String> orderingKey = event.getOrderingKey();
+        if (orderingKey.isPresent()) {
+            jmsTemplate.convertAndSend(destination, jsonMessage, message -> {
+                message.setStringProperty(ORDERING_KEY_PROPERTY, orderingKey.get());
+                return message;
+            });
+        } else {
+            jmsTemplate.convertAndSend(destination, jsonMessage);
+        }
     }
 
     private String toJsonOrNull(Object content) {
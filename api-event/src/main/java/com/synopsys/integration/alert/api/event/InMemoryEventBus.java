@@ -0,0 +1,215 @@
+/*
+ * api-event
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.api.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatches {@link AlertEvent}s to their {@link AlertMessageListener} within the JVM, passing them by reference instead of encoding them
+ * as JSON and sending them through the message broker. Each destination has a fixed number of partitions, each a bounded queue with its own
+ * consumer thread. Events with the same ordering key always land in the same partition, so they are handled in the order they were sent.
+ * A publisher waits while the partition it publishes to is full. Unlike the message broker, queued events are lost if the JVM stops
+ * abruptly. On an orderly shutdown, the queues are drained first.
+ */
+@Component
+public class InMemoryEventBus implements DisposableBean {
+    private static final String THREAD_NAME_PREFIX = "alert-event-bus-";
+    private static final long POLL_INTERVAL_MILLISECONDS = 200L;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final int consumersPerDestination;
+    private final Duration shutdownTimeout;
+
+    private final Map<String, DestinationDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final AtomicLong backpressureWaits = new AtomicLong(0L);
+    private volatile boolean accepting = true;
+
+    @Autowired
+    public InMemoryEventBus(
+        @Value("${alert.event.bus.in.memory.enabled:false}") boolean enabled,
+        @Value("${alert.event.bus.in.memory.queue.capacity:1000}") int queueCapacity,
+        @Value("${alert.event.bus.in.memory.consumers:1}") int consumersPerDestination,
+        @Value("${alert.event.bus.in.memory.shutdown.timeout.seconds:30}") long shutdownTimeoutSeconds
+    ) {
+        this.enabled = enabled;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.consumersPerDestination = Math.max(1, consumersPerDestination);
+        this.shutdownTimeout = Duration.ofSeconds(Math.max(0L, shutdownTimeoutSeconds));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void registerListener(AlertMessageListener<?> listener) {
+        retrieveDispatcher(listener.getDestinationName()).start(listener);
+    }
+
+    public void publish(AlertEvent event) {
+        if (!accepting) {
+            logger.warn("The event bus is shutting down. Event {} for {} was not published.", event.getEventId(), event.getDestination());
+            return;
+        }
+        retrieveDispatcher(event.getDestination()).enqueue(event);
+    }
+
+    public int getQueueDepth(String destination) {
+        return Optional.ofNullable(dispatchers.get(destination))
+                   .map(DestinationDispatcher::getQueueDepth)
+                   .orElse(0);
+    }
+
+    public long getBackpressureWaitCount() {
+        return backpressureWaits.get();
+    }
+
+    @Override
+    public void destroy() {
+        accepting = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        dispatchers.values().forEach(DestinationDispatcher::stop);
+        for (DestinationDispatcher dispatcher : dispatchers.values()) {
+            dispatcher.awaitTermination(deadline);
+        }
+    }
+
+    private DestinationDispatcher retrieveDispatcher(String destination) {
+        return dispatchers.computeIfAbsent(destination, DestinationDispatcher::new);
+    }
+
+    private class DestinationDispatcher {
+        private final String destination;
+        private final List<BlockingQueue<AlertEvent>> partitions = new ArrayList<>();
+        private final List<Thread> consumers = new ArrayList<>();
+        private final AtomicInteger nextUnorderedPartition = new AtomicInteger(0);
+        private volatile boolean stopping = false;
+
+        public DestinationDispatcher(String destination) {
+            this.destination = destination;
+            for (int i = 0; i < consumersPerDestination; i++) {
+                partitions.add(new ArrayBlockingQueue<>(queueCapacity));
+            }
+        }
+
+        public synchronized void start(AlertMessageListener<?> listener) {
+            if (!consumers.isEmpty()) {
+                logger.warn("A listener is already registered for {}. {} was not registered.", destination, listener.getClass().getName());
+                return;
+            }
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX + destination + "-");
+            threadFactory.setDaemon(true);
+            for (BlockingQueue<AlertEvent> partition : partitions) {
+                Thread consumer = threadFactory.newThread(() -> consume(partition, listener));
+                consumers.add(consumer);
+                consumer.start();
+            }
+        }
+
+        public void enqueue(AlertEvent event) {
+            BlockingQueue<AlertEvent> partition = selectPartition(event);
+            if (partition.offer(event)) {
+                return;
+            }
+            backpressureWaits.incrementAndGet();
+            logger.debug("The queue for {} is full. Waiting to publish event {}.", destination, event.getEventId());
+            try {
+                while (!partition.offer(event, POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    if (!accepting) {
+                        logger.warn("The event bus is shutting down. Event {} for {} was not published.", event.getEventId(), destination);
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while waiting to publish event {} for {}. The event was not published.", event.getEventId(), destination);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        public int getQueueDepth() {
+            return partitions.stream()
+                       .mapToInt(BlockingQueue::size)
+                       .sum();
+        }
+
+        public void stop() {
+            stopping = true;
+        }
+
+        public void awaitTermination(long deadline) {
+            List<Thread> startedConsumers;
+            synchronized (this) {
+                startedConsumers = new ArrayList<>(consumers);
+            }
+            for (Thread consumer : startedConsumers) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                try {
+                    if (remainingMillis > 0L) {
+                        consumer.join(remainingMillis);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (consumer.isAlive()) {
+                    consumer.interrupt();
+                }
+            }
+            int remainingEvents = getQueueDepth();
+            if (remainingEvents > 0) {
+                logger.warn("{} events for {} were not handled before shutdown.", remainingEvents, destination);
+            }
+        }
+
+        private BlockingQueue<AlertEvent> selectPartition(AlertEvent event) {
+            int partitionIndex = event.getOrderingKey()
+                                     .map(orderingKey -> Math.floorMod(orderingKey.hashCode(), partitions.size()))
+                                     .orElseGet(() -> Math.floorMod(nextUnorderedPartition.getAndIncrement(), partitions.size()));
+            return partitions.get(partitionIndex);
+        }
+
+        private void consume(BlockingQueue<AlertEvent> partition, AlertMessageListener<?> listener) {
+            while (true) {
+                AlertEvent event;
+                try {
+                    event = partition.poll(POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (null != event) {
+                    listener.onEvent(event);
+                } else if (stopping) {
+                    // The partition has been drained
+                    return;
+                }
+            }
+        }
+
+    }
+
+}
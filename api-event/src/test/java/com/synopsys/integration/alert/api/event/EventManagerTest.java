@@ -1,10 +1,16 @@
 package com.synopsys.integration.alert.api.event;
 
 import java.util.List;
+import java.util.Optional;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessagePostProcessor;
 
 import com.google.gson.Gson;
 
@@ -26,4 +32,41 @@ public class EventManagerTest {
         Mockito.verify(jmsTemplate, Mockito.times(1)).convertAndSend(Mockito.eq(testDestination), Mockito.eq(testEventJson));
     }
 
+    @Test
+    public void testSendOrderedEvent() throws JMSException {
+        String testDestination = "destination";
+        String orderingKey = "orderingKey";
+        AlertEvent testEvent = new AlertEvent(testDestination) {
+            @Override
+            public Optional<String> getOrderingKey() {
+                return Optional.of(orderingKey);
+            }
+        };
+
+        JmsTemplate jmsTemplate = Mockito.mock(JmsTemplate.class);
+        EventManager eventManager = new EventManager(new Gson(), jmsTemplate);
+        eventManager.sendEvent(testEvent);
+
+        ArgumentCaptor<MessagePostProcessor> postProcessorCaptor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+        Mockito.verify(jmsTemplate, Mockito.times(1)).convertAndSend(Mockito.eq(testDestination), Mockito.any(Object.class), postProcessorCaptor.capture());
+
+        Message message = Mockito.mock(Message.class);
+        postProcessorCaptor.getValue().postProcessMessage(message);
+        Mockito.verify(message).setStringProperty(EventManager.ORDERING_KEY_PROPERTY, orderingKey);
+    }
+
+    @Test
+    public void testSendEventInMemory() {
+        AlertEvent testEvent = new AlertEvent("destination");
+        JmsTemplate jmsTemplate = Mockito.mock(JmsTemplate.class);
+        InMemoryEventBus inMemoryEventBus = Mockito.mock(InMemoryEventBus.class);
+        Mockito.when(inMemoryEventBus.isEnabled()).thenReturn(true);
+
+        EventManager eventManager = new EventManager(new Gson(), jmsTemplate, inMemoryEventBus);
+        eventManager.sendEvent(testEvent);
+
+        Mockito.verify(inMemoryEventBus, Mockito.times(1)).publish(testEvent);
+        Mockito.verify(jmsTemplate, Mockito.never()).convertAndSend(Mockito.anyString(), Mockito.any(Object.class));
+    }
+
 }
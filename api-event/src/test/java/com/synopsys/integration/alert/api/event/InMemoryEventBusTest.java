@@ -0,0 +1,138 @@
+package com.synopsys.integration.alert.api.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class InMemoryEventBusTest {
+    private static final String DESTINATION = "destination";
+
+    @Test
+    public void passesEventsByReferenceTest() throws InterruptedException {
+        InMemoryEventBus eventBus = new InMemoryEventBus(true, 10, 1, 5L);
+        List<AlertEvent> handledEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch handledLatch = new CountDownLatch(1);
+        eventBus.registerListener(createListener(event -> {
+            handledEvents.add(event);
+            handledLatch.countDown();
+        }));
+
+        AlertEvent event = new AlertEvent(DESTINATION);
+        eventBus.publish(event);
+
+        assertTrue(handledLatch.await(5L, TimeUnit.SECONDS));
+        assertSame(event, handledEvents.get(0));
+        eventBus.destroy();
+    }
+
+    @Test
+    public void keepsOrderOfEventsWithSameOrderingKeyTest() {
+        InMemoryEventBus eventBus = new InMemoryEventBus(true, 100, 4, 5L);
+        List<String> firstJobEvents = Collections.synchronizedList(new ArrayList<>());
+        List<String> secondJobEvents = Collections.synchronizedList(new ArrayList<>());
+        eventBus.registerListener(createListener(event -> {
+            OrderedEvent orderedEvent = (OrderedEvent) event;
+            if ("first".equals(orderedEvent.orderingKey)) {
+                firstJobEvents.add(orderedEvent.getEventId());
+            } else {
+                secondJobEvents.add(orderedEvent.getEventId());
+            }
+        }));
+
+        List<String> expectedFirstJobEvents = new ArrayList<>();
+        List<String> expectedSecondJobEvents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            OrderedEvent firstJobEvent = new OrderedEvent("first");
+            OrderedEvent secondJobEvent = new OrderedEvent("second");
+            expectedFirstJobEvents.add(firstJobEvent.getEventId());
+            expectedSecondJobEvents.add(secondJobEvent.getEventId());
+            eventBus.publish(firstJobEvent);
+            eventBus.publish(secondJobEvent);
+        }
+        eventBus.destroy();
+
+        assertEquals(expectedFirstJobEvents, firstJobEvents);
+        assertEquals(expectedSecondJobEvents, secondJobEvents);
+    }
+
+    @Test
+    public void waitsWhileQueueIsFullTest() throws InterruptedException {
+        InMemoryEventBus eventBus = new InMemoryEventBus(true, 1, 1, 5L);
+        CountDownLatch handlingStarted = new CountDownLatch(1);
+        CountDownLatch releaseHandler = new CountDownLatch(1);
+        List<AlertEvent> handledEvents = Collections.synchronizedList(new ArrayList<>());
+        eventBus.registerListener(createListener(event -> {
+            handlingStarted.countDown();
+            try {
+                releaseHandler.await(5L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handledEvents.add(event);
+        }));
+
+        eventBus.publish(new AlertEvent(DESTINATION));
+        assertTrue(handlingStarted.await(5L, TimeUnit.SECONDS));
+        // Fills the queue while the first event is being handled
+        eventBus.publish(new AlertEvent(DESTINATION));
+
+        Thread publisher = new Thread(() -> eventBus.publish(new AlertEvent(DESTINATION)));
+        publisher.start();
+        publisher.join(500L);
+        assertTrue(publisher.isAlive(), "The publisher should wait while the queue is full");
+        assertEquals(1L, eventBus.getBackpressureWaitCount());
+
+        releaseHandler.countDown();
+        publisher.join(5000L);
+        eventBus.destroy();
+        assertEquals(3, handledEvents.size());
+    }
+
+    @Test
+    public void drainsQueuedEventsOnShutdownTest() {
+        InMemoryEventBus eventBus = new InMemoryEventBus(true, 100, 1, 5L);
+        for (int i = 0; i < 20; i++) {
+            eventBus.publish(new AlertEvent(DESTINATION));
+        }
+        assertEquals(20, eventBus.getQueueDepth(DESTINATION));
+
+        List<AlertEvent> handledEvents = Collections.synchronizedList(new ArrayList<>());
+        eventBus.registerListener(createListener(handledEvents::add));
+        eventBus.destroy();
+
+        assertEquals(20, handledEvents.size());
+        assertEquals(0, eventBus.getQueueDepth(DESTINATION));
+
+        eventBus.publish(new AlertEvent(DESTINATION));
+        assertEquals(0, eventBus.getQueueDepth(DESTINATION));
+    }
+
+    private AlertMessageListener<AlertEvent> createListener(AlertEventHandler<AlertEvent> eventHandler) {
+        return new AlertMessageListener<>(null, DESTINATION, AlertEvent.class, eventHandler) {};
+    }
+
+    private static class OrderedEvent extends AlertEvent {
+        private final String orderingKey;
+
+        public OrderedEvent(String orderingKey) {
+            super(DESTINATION);
+            this.orderingKey = orderingKey;
+        }
+
+        @Override
+        public Optional<String> getOrderingKey() {
+            return Optional.of(orderingKey);
+        }
+
+    }
+
+}
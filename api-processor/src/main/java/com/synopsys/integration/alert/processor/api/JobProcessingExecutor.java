@@ -0,0 +1,123 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processor.api;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertRuntimeException;
+import com.synopsys.integration.alert.processor.api.filter.FilteredJobNotificationWrapper;
+
+/**
+ * Processes the notifications of independent jobs on a bounded pool of worker threads. Each job is processed entirely by a single
+ * worker, so the messages of a job are still extracted, digested, and distributed in order. With a thread count of one (the default),
+ * jobs are processed sequentially on the calling thread.
+ */
+@Component
+public class JobProcessingExecutor implements DisposableBean {
+    private static final String THREAD_NAME_PREFIX = "alert-job-processing-";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final int threadCount;
+    private final ExecutorService executorService;
+
+    public static JobProcessingExecutor sequential() {
+        return new JobProcessingExecutor(1);
+    }
+
+    @Autowired
+    public JobProcessingExecutor(@Value("${alert.processing.job.threads:1}") int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+        if (this.threadCount > 1) {
+            this.executorService = Executors.newFixedThreadPool(this.threadCount, new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        } else {
+            this.executorService = null;
+        }
+    }
+
+    /**
+     * Processes every job and waits for all of them to finish. A failure to process one job does not prevent the other jobs from being processed.
+     * @param jobNotificationWrappers The jobs to process along with the notifications that apply to them
+     * @param jobProcessor            The processing to perform for each job
+     * @return The jobs that could not be processed. Their failures have already been logged.
+     */
+    public List<FilteredJobNotificationWrapper> processJobs(List<FilteredJobNotificationWrapper> jobNotificationWrappers, Consumer<FilteredJobNotificationWrapper> jobProcessor) {
+        if (null == executorService || jobNotificationWrappers.size() < 2) {
+            return processSequentially(jobNotificationWrappers, jobProcessor);
+        }
+        return processConcurrently(jobNotificationWrappers, jobProcessor);
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    @Override
+    public void destroy() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private List<FilteredJobNotificationWrapper> processSequentially(List<FilteredJobNotificationWrapper> jobNotificationWrappers, Consumer<FilteredJobNotificationWrapper> jobProcessor) {
+        List<FilteredJobNotificationWrapper> failedJobs = new LinkedList<>();
+        for (FilteredJobNotificationWrapper jobNotificationWrapper : jobNotificationWrappers) {
+            try {
+                jobProcessor.accept(jobNotificationWrapper);
+            } catch (RuntimeException e) {
+                logJobFailure(jobNotificationWrapper, e);
+                failedJobs.add(jobNotificationWrapper);
+            }
+        }
+        return failedJobs;
+    }
+
+    private List<FilteredJobNotificationWrapper> processConcurrently(List<FilteredJobNotificationWrapper> jobNotificationWrappers, Consumer<FilteredJobNotificationWrapper> jobProcessor) {
+        List<Future<?>> jobFutures = new ArrayList<>(jobNotificationWrappers.size());
+        for (FilteredJobNotificationWrapper jobNotificationWrapper : jobNotificationWrappers) {
+            Future<?> jobFuture = executorService.submit(() -> jobProcessor.accept(jobNotificationWrapper));
+            jobFutures.add(jobFuture);
+        }
+
+        List<FilteredJobNotificationWrapper> failedJobs = new LinkedList<>();
+        for (int i = 0; i < jobFutures.size(); i++) {
+            FilteredJobNotificationWrapper jobNotificationWrapper = jobNotificationWrappers.get(i);
+            try {
+                jobFutures.get(i).get();
+            } catch (InterruptedException e) {
+                jobFutures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new AlertRuntimeException("Interrupted while waiting for jobs to be processed", e);
+            } catch (ExecutionException e) {
+                logJobFailure(jobNotificationWrapper, e.getCause());
+                failedJobs.add(jobNotificationWrapper);
+            }
+        }
+        return failedJobs;
+    }
+
+    private void logJobFailure(FilteredJobNotificationWrapper jobNotificationWrapper, Throwable cause) {
+        logger.error("Failed to process notifications for job '{}'. Job ID: {}", jobNotificationWrapper.getJobName(), jobNotificationWrapper.getJobId(), cause);
+    }
+
+}
@@ -42,6 +42,7 @@ public final class NotificationProcessor {
     private final ProviderMessageDistributor providerMessageDistributor;
     private final List<NotificationProcessingLifecycleCache> lifecycleCaches;
     private final NotificationAccessor notificationAccessor;
+    private final JobProcessingExecutor jobProcessingExecutor;
 
     @Autowired
     public NotificationProcessor(
@@ -50,7 +51,8 @@ public final class NotificationProcessor {
         NotificationContentProcessor notificationContentProcessor,
         ProviderMessageDistributor providerMessageDistributor,
         List<NotificationProcessingLifecycleCache> lifecycleCaches,
-        NotificationAccessor notificationAccessor
+        NotificationAccessor notificationAccessor,
+        JobProcessingExecutor jobProcessingExecutor
     ) {
         this.notificationDetailExtractionDelegator = notificationDetailExtractionDelegator;
         this.jobNotificationMapper = jobNotificationMapper;
@@ -58,12 +60,17 @@ public final class NotificationProcessor {
         this.providerMessageDistributor = providerMessageDistributor;
         this.lifecycleCaches = lifecycleCaches;
         this.notificationAccessor = notificationAccessor;
+        this.jobProcessingExecutor = jobProcessingExecutor;
     }
 
     public void processNotifications(List<AlertNotificationModel> notifications, List<FrequencyType> frequencies) {
         try {
             logNotifications("Start processing notifications: {}", notifications);
-            processAndDistribute(notifications, frequencies);
+            int failedJobCount = processAndDistribute(notifications, frequencies);
+            if (failedJobCount > 0) {
+                // Processing the notifications again would repeat the messages of every job that did succeed, so they are marked as processed
+                logger.error("Failed to process notifications for {} job(s). Refer to the logs above for the cause of each failure.", failedJobCount);
+            }
             notificationAccessor.setNotificationsProcessed(notifications);
             logNotifications("Finished processing notifications: {}", notifications);
         } finally {
@@ -81,20 +88,22 @@ public final class NotificationProcessor {
         }
     }
 
-    private void processAndDistribute(List<AlertNotificationModel> notifications, List<FrequencyType> frequencies) {
+    private int processAndDistribute(List<AlertNotificationModel> notifications, List<FrequencyType> frequencies) {
         List<DetailedNotificationContent> filterableNotifications = notifications
             .stream()
             .map(notificationDetailExtractionDelegator::wrapNotification)
             .flatMap(List::stream)
             .collect(Collectors.toList());
         StatefulAlertPage<FilteredJobNotificationWrapper, RuntimeException> statefulAlertPage = jobNotificationMapper.mapJobsToNotifications(filterableNotifications, frequencies);
+        int failedJobCount = 0;
         // If there are elements to process in the current page or if there are more pages, keep looping.
         while (!statefulAlertPage.isCurrentPageEmpty() || statefulAlertPage.hasNextPage()) {
-            for (FilteredJobNotificationWrapper jobNotificationWrapper : statefulAlertPage.getCurrentModels()) {
-                processAndDistribute(jobNotificationWrapper);
-            }
+            // Jobs are independent of each other, so the jobs within a page may be processed concurrently, and a failed job does not stop the remaining pages.
+            List<FilteredJobNotificationWrapper> failedJobs = jobProcessingExecutor.processJobs(statefulAlertPage.getCurrentModels(), this::processAndDistribute);
+            failedJobCount += failedJobs.size();
             statefulAlertPage = statefulAlertPage.retrieveNextPage();
         }
+        return failedJobCount;
     }
 
     private void processAndDistribute(FilteredJobNotificationWrapper jobNotificationWrapper) {
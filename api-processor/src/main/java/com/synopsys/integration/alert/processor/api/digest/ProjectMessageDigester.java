@@ -7,18 +7,32 @@
  */
 package com.synopsys.integration.alert.processor.api.digest;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import com.synopsys.integration.alert.processor.api.extract.model.CombinableModel;
+import com.synopsys.integration.alert.processor.api.extract.model.KeyedModelCombiner;
 import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessage;
+import com.synopsys.integration.alert.processor.api.extract.model.project.MessageReason;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ProjectMessage;
 
 @Component
 public class ProjectMessageDigester {
+    private final KeyedModelCombiner<ProcessedProviderMessage<ProjectMessage>> projectMessageCombiner = new KeyedModelCombiner<>(ProjectMessageDigester::createCombinableKey);
+
     public List<ProcessedProviderMessage<ProjectMessage>> digest(List<ProcessedProviderMessage<ProjectMessage>> processedProjectMessages) {
-        return CombinableModel.combine(processedProjectMessages);
+        return projectMessageCombiner.combine(processedProjectMessages);
+    }
+
+    // Project messages can only be combined if they share these fields (see ProjectMessage::combine)
+    private static List<Object> createCombinableKey(ProcessedProviderMessage<ProjectMessage> processedProjectMessage) {
+        ProjectMessage projectMessage = processedProjectMessage.getProviderMessage();
+        Object projectVersion = null;
+        if (!MessageReason.PROJECT_STATUS.equals(projectMessage.getMessageReason())) {
+            projectVersion = projectMessage.getProjectVersion().orElse(null);
+        }
+        return Arrays.asList(projectMessage.getProviderDetails(), projectMessage.getMessageReason(), projectMessage.getProject(), projectVersion);
     }
 
 }
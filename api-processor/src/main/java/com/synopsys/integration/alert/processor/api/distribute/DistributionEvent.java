@@ -7,9 +7,13 @@
  */
 package com.synopsys.integration.alert.processor.api.distribute;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.synopsys.integration.alert.api.event.AlertEvent;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKey;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
@@ -18,15 +22,44 @@ public class DistributionEvent extends AlertEvent {
     private final UUID jobId;
     private final String jobName;
     private final Set<Long> notificationIds;
+    // The notification ids of each message of a batched event, in the order of ProviderMessageHolder::expand
+    private final List<Set<Long>> messageNotificationIds;
 
     private final ProviderMessageHolder providerMessages;
+    // Set instead of the provider messages when they were written to the DistributionEventPayloadStore
+    private final String payloadReference;
 
     public DistributionEvent(ChannelKey destination, UUID jobId, String jobName, Set<Long> notificationIds, ProviderMessageHolder providerMessages) {
+        this(destination, jobId, jobName, notificationIds, providerMessages, null);
+    }
+
+    public DistributionEvent(
+        ChannelKey destination,
+        UUID jobId,
+        String jobName,
+        Set<Long> notificationIds,
+        @Nullable ProviderMessageHolder providerMessages,
+        @Nullable String payloadReference
+    ) {
+        this(destination, jobId, jobName, notificationIds, List.of(), providerMessages, payloadReference);
+    }
+
+    public DistributionEvent(
+        ChannelKey destination,
+        UUID jobId,
+        String jobName,
+        Set<Long> notificationIds,
+        List<Set<Long>> messageNotificationIds,
+        @Nullable ProviderMessageHolder providerMessages,
+        @Nullable String payloadReference
+    ) {
         super(destination.getUniversalKey());
         this.jobId = jobId;
         this.jobName = jobName;
         this.notificationIds = notificationIds;
+        this.messageNotificationIds = messageNotificationIds;
         this.providerMessages = providerMessages;
+        this.payloadReference = payloadReference;
     }
 
     public UUID getJobId() {
@@ -41,8 +74,22 @@ public class DistributionEvent extends AlertEvent {
         return notificationIds;
     }
 
+    public List<Set<Long>> getMessageNotificationIds() {
+        return null != messageNotificationIds ? messageNotificationIds : List.of();
+    }
+
     public ProviderMessageHolder getProviderMessages() {
         return providerMessages;
     }
 
+    @Override
+    public Optional<String> getOrderingKey() {
+        // The events of a job must not race each other, but different jobs can be distributed concurrently
+        return Optional.ofNullable(jobId).map(UUID::toString);
+    }
+
+    public Optional<String> getPayloadReference() {
+        return Optional.ofNullable(payloadReference);
+    }
+
 }
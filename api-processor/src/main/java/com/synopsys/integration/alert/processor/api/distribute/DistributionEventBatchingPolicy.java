@@ -0,0 +1,100 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processor.api.distribute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessage;
+import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ProjectMessage;
+
+/**
+ * Groups the messages of a job into {@link DistributionEvent}s of up to a maximum number of messages and, optionally, a maximum
+ * serialized size. A single message larger than the maximum size is still sent in an event of its own.
+ */
+@Component
+public class DistributionEventBatchingPolicy {
+    private final Gson gson;
+    private final int maxMessagesPerEvent;
+    private final long maxBytesPerEvent;
+
+    @Autowired
+    public DistributionEventBatchingPolicy(
+        Gson gson,
+        @Value("${alert.distribution.event.batch.max.messages:1}") int maxMessagesPerEvent,
+        @Value("${alert.distribution.event.batch.max.bytes:0}") long maxBytesPerEvent
+    ) {
+        this.gson = gson;
+        this.maxMessagesPerEvent = Math.max(1, maxMessagesPerEvent);
+        this.maxBytesPerEvent = Math.max(0L, maxBytesPerEvent);
+    }
+
+    public boolean isBatchingEnabled() {
+        return maxMessagesPerEvent > 1;
+    }
+
+    /**
+     * @param singleMessageHolders Holders of a single message each, as returned by {@link ProcessedProviderMessageHolder#expand()}.
+     * @return The holders to send as one event each, keeping the messages in their original order.
+     */
+    public List<ProcessedProviderMessageHolder> batch(List<ProcessedProviderMessageHolder> singleMessageHolders) {
+        if (!isBatchingEnabled()) {
+            return singleMessageHolders;
+        }
+
+        List<ProcessedProviderMessageHolder> batches = new ArrayList<>();
+        List<ProcessedProviderMessageHolder> currentBatch = new ArrayList<>();
+        long currentBatchBytes = 0L;
+        for (ProcessedProviderMessageHolder singleMessageHolder : singleMessageHolders) {
+            long messageBytes = estimateBytes(singleMessageHolder);
+            boolean batchIsFull = currentBatch.size() >= maxMessagesPerEvent || (maxBytesPerEvent > 0L && currentBatchBytes + messageBytes > maxBytesPerEvent);
+            if (!currentBatch.isEmpty() && batchIsFull) {
+                batches.add(combine(currentBatch));
+                currentBatch = new ArrayList<>();
+                currentBatchBytes = 0L;
+            }
+            currentBatch.add(singleMessageHolder);
+            currentBatchBytes += messageBytes;
+        }
+
+        if (!currentBatch.isEmpty()) {
+            batches.add(combine(currentBatch));
+        }
+        return batches;
+    }
+
+    private long estimateBytes(ProcessedProviderMessageHolder singleMessageHolder) {
+        if (maxBytesPerEvent <= 0L) {
+            return 0L;
+        }
+        // The messages are almost entirely ASCII, so the length of their JSON is a close estimate of their size in bytes
+        return gson.toJson(singleMessageHolder.toProviderMessageHolder()).length();
+    }
+
+    private ProcessedProviderMessageHolder combine(List<ProcessedProviderMessageHolder> messageHolders) {
+        if (1 == messageHolders.size()) {
+            return messageHolders.get(0);
+        }
+
+        List<ProcessedProviderMessage<ProjectMessage>> projectMessages = new ArrayList<>();
+        List<ProcessedProviderMessage<SimpleMessage>> simpleMessages = new ArrayList<>();
+        for (ProcessedProviderMessageHolder messageHolder : messageHolders) {
+            projectMessages.addAll(messageHolder.getProcessedProjectMessages());
+            simpleMessages.addAll(messageHolder.getProcessedSimpleMessages());
+        }
+        return new ProcessedProviderMessageHolder(projectMessages, simpleMessages);
+    }
+
+}
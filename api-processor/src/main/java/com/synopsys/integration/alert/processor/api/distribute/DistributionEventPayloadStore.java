@@ -0,0 +1,234 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processor.api.distribute;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.AlertProperties;
+import com.synopsys.integration.alert.descriptor.api.model.ChannelKey;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
+
+/**
+ * Keeps large {@link ProviderMessageHolder}s out of the message broker. When claim-check mode is enabled, a payload whose serialized size
+ * reaches the threshold is written once to a compressed spool file and the {@link DistributionEvent} carries only a reference to it.
+ * <br/>
+ * The payload is serialized straight into the spool file once it reaches the threshold, so a large payload is serialized only once and
+ * never held in memory as a whole. Only a payload below the threshold is serialized again when its event is sent.
+ */
+@Component
+public class DistributionEventPayloadStore {
+    public static final String SPOOL_DIRECTORY_NAME = "distribution-events";
+    private static final String PAYLOAD_FILE_EXTENSION = ".json.gz";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Gson gson;
+    private final File spoolDirectory;
+    private final boolean claimCheckEnabled;
+    private final long thresholdBytes;
+
+    @Autowired
+    public DistributionEventPayloadStore(
+        Gson gson,
+        AlertProperties alertProperties,
+        @Value("${alert.distribution.event.claim.check.enabled:false}") boolean claimCheckEnabled,
+        @Value("${alert.distribution.event.claim.check.threshold.bytes:262144}") long thresholdBytes
+    ) {
+        this(gson, createSpoolDirectory(alertProperties), claimCheckEnabled, thresholdBytes);
+    }
+
+    public DistributionEventPayloadStore(Gson gson, File spoolDirectory, boolean claimCheckEnabled, long thresholdBytes) {
+        this.gson = gson;
+        this.spoolDirectory = spoolDirectory;
+        this.claimCheckEnabled = claimCheckEnabled;
+        this.thresholdBytes = Math.max(0L, thresholdBytes);
+    }
+
+    public boolean isClaimCheckEnabled() {
+        return claimCheckEnabled;
+    }
+
+    public DistributionEvent createEvent(ChannelKey destination, UUID jobId, String jobName, Set<Long> notificationIds, ProviderMessageHolder providerMessages) {
+        return createEvent(destination, jobId, jobName, notificationIds, List.of(), providerMessages);
+    }
+
+    public DistributionEvent createEvent(
+        ChannelKey destination,
+        UUID jobId,
+        String jobName,
+        Set<Long> notificationIds,
+        List<Set<Long>> messageNotificationIds,
+        ProviderMessageHolder providerMessages
+    ) {
+        if (claimCheckEnabled) {
+            Optional<String> payloadReference = storePayloadIfLarge(providerMessages);
+            if (payloadReference.isPresent()) {
+                return new DistributionEvent(destination, jobId, jobName, notificationIds, messageNotificationIds, null, payloadReference.get());
+            }
+        }
+        return new DistributionEvent(destination, jobId, jobName, notificationIds, messageNotificationIds, providerMessages, null);
+    }
+
+    public ProviderMessageHolder retrievePayload(DistributionEvent event) throws AlertException {
+        Optional<String> optionalPayloadReference = event.getPayloadReference();
+        if (optionalPayloadReference.isEmpty()) {
+            return event.getProviderMessages();
+        }
+
+        String payloadReference = optionalPayloadReference.get();
+        Path payloadPath = createPayloadPath(payloadReference);
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(payloadPath)), StandardCharsets.UTF_8)) {
+            ProviderMessageHolder providerMessages = gson.fromJson(reader, ProviderMessageHolder.class);
+            if (null == providerMessages) {
+                throw new AlertException(String.format("The payload of the distribution event was empty. Reference: %s", payloadReference));
+            }
+            return providerMessages;
+        } catch (IOException | JsonParseException e) {
+            throw new AlertException(String.format("Failed to read the payload of the distribution event. Reference: %s", payloadReference), e);
+        }
+    }
+
+    public void deletePayload(DistributionEvent event) {
+        Optional<String> optionalPayloadReference = event.getPayloadReference();
+        if (optionalPayloadReference.isEmpty()) {
+            return;
+        }
+
+        String payloadReference = optionalPayloadReference.get();
+        try {
+            Files.deleteIfExists(createPayloadPath(payloadReference));
+        } catch (IOException | AlertException e) {
+            logger.warn("Failed to delete the payload of the distribution event. Reference: {}", payloadReference, e);
+        }
+    }
+
+    private Optional<String> storePayloadIfLarge(ProviderMessageHolder providerMessages) {
+        String payloadReference = UUID.randomUUID().toString();
+        Path payloadPath = null;
+        try {
+            payloadPath = createPayloadPath(payloadReference);
+            boolean stored;
+            try (ThresholdSpoolWriter spoolWriter = new ThresholdSpoolWriter(thresholdBytes, payloadPath)) {
+                gson.toJson(providerMessages, spoolWriter);
+                stored = spoolWriter.isSpooled();
+            }
+            return stored ? Optional.of(payloadReference) : Optional.empty();
+        } catch (IOException | JsonIOException | AlertException e) {
+            logger.warn("Failed to store the payload of a distribution event. The payload will be sent with the event instead.", e);
+            deleteQuietly(payloadPath);
+            return Optional.empty();
+        }
+    }
+
+    private void deleteQuietly(@Nullable Path payloadPath) {
+        if (null == payloadPath) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(payloadPath);
+        } catch (IOException e) {
+            logger.debug("Failed to delete a partially stored distribution event payload: {}", payloadPath, e);
+        }
+    }
+
+    private Path createPayloadPath(String payloadReference) throws AlertException {
+        // The reference arrives from the message broker, so only accept the UUIDs this store generates
+        try {
+            UUID.fromString(payloadReference);
+        } catch (IllegalArgumentException e) {
+            throw new AlertException(String.format("Invalid distribution event payload reference: %s", payloadReference), e);
+        }
+        return new File(spoolDirectory, payloadReference + PAYLOAD_FILE_EXTENSION).toPath();
+    }
+
+    private static File createSpoolDirectory(AlertProperties alertProperties) {
+        String dataDirectory = "data/";
+        if (StringUtils.isNotBlank(alertProperties.getAlertConfigHome())) {
+            dataDirectory = String.format("%s/data", alertProperties.getAlertConfigHome());
+        }
+        return new File(dataDirectory, SPOOL_DIRECTORY_NAME);
+    }
+
+    /**
+     * Buffers what is written to it until the threshold is reached, then writes the buffer and everything after it to the compressed spool
+     * file. The payload is almost entirely ASCII, so the number of characters is a close estimate of its size in bytes.
+     */
+    private static class ThresholdSpoolWriter extends Writer {
+        private final long thresholdCharacters;
+        private final Path spoolPath;
+        private final StringBuilder buffer = new StringBuilder();
+        private Writer spoolWriter;
+
+        public ThresholdSpoolWriter(long thresholdCharacters, Path spoolPath) {
+            this.thresholdCharacters = thresholdCharacters;
+            this.spoolPath = spoolPath;
+        }
+
+        public boolean isSpooled() {
+            return null != spoolWriter;
+        }
+
+        @Override
+        public void write(char[] characters, int offset, int length) throws IOException {
+            if (isSpooled()) {
+                spoolWriter.write(characters, offset, length);
+                return;
+            }
+
+            buffer.append(characters, offset, length);
+            if (buffer.length() >= thresholdCharacters) {
+                Files.createDirectories(spoolPath.getParent());
+                spoolWriter = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(spoolPath)), StandardCharsets.UTF_8);
+                spoolWriter.append(buffer);
+                buffer.setLength(0);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (isSpooled()) {
+                spoolWriter.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isSpooled()) {
+                spoolWriter.close();
+            }
+        }
+
+    }
+
+}
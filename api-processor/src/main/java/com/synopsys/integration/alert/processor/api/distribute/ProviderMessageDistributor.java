@@ -7,21 +7,25 @@
  */
 package com.synopsys.integration.alert.processor.api.distribute;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.event.InMemoryEventBus;
 import com.synopsys.integration.alert.common.logging.AlertLoggerFactory;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKey;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKeys;
 import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
 
 @Component
 public class ProviderMessageDistributor {
@@ -33,11 +37,27 @@ public class ProviderMessageDistributor {
 
     private final ProcessingAuditAccessor auditAccessor;
     private final EventManager eventManager;
+    private final DistributionEventPayloadStore payloadStore;
+    private final DistributionEventBatchingPolicy batchingPolicy;
+    private final InMemoryEventBus inMemoryEventBus;
 
-    @Autowired
     public ProviderMessageDistributor(ProcessingAuditAccessor auditAccessor, EventManager eventManager) {
+        this(auditAccessor, eventManager, null, null, null);
+    }
+
+    @Autowired
+    public ProviderMessageDistributor(
+        ProcessingAuditAccessor auditAccessor,
+        EventManager eventManager,
+        @Nullable DistributionEventPayloadStore payloadStore,
+        @Nullable DistributionEventBatchingPolicy batchingPolicy,
+        @Nullable InMemoryEventBus inMemoryEventBus
+    ) {
         this.auditAccessor = auditAccessor;
         this.eventManager = eventManager;
+        this.payloadStore = payloadStore;
+        this.batchingPolicy = batchingPolicy;
+        this.inMemoryEventBus = inMemoryEventBus;
     }
 
     public void distribute(ProcessedNotificationDetails processedNotificationDetails, ProcessedProviderMessageHolder processedMessageHolder) {
@@ -48,8 +68,13 @@ public class ProviderMessageDistributor {
             return;
         }
 
-        for (ProcessedProviderMessageHolder singleMessageHolder : processedMessageHolder.expand()) {
-            distributeIndividually(processedNotificationDetails.getJobId(), processedNotificationDetails.getJobName(), destinationKey, singleMessageHolder);
+        List<ProcessedProviderMessageHolder> eventMessageHolders = processedMessageHolder.expand();
+        if (null != batchingPolicy) {
+            eventMessageHolders = batchingPolicy.batch(eventMessageHolders);
+        }
+
+        for (ProcessedProviderMessageHolder eventMessageHolder : eventMessageHolders) {
+            distributeIndividually(processedNotificationDetails.getJobId(), processedNotificationDetails.getJobName(), destinationKey, eventMessageHolder);
         }
     }
 
@@ -57,7 +82,8 @@ public class ProviderMessageDistributor {
         Set<Long> notificationIds = processedMessageHolder.extractAllNotificationIds();
         auditAccessor.createOrUpdatePendingAuditEntryForJob(jobId, notificationIds);
 
-        DistributionEvent event = new DistributionEvent(destinationKey, jobId, jobName, notificationIds, processedMessageHolder.toProviderMessageHolder());
+        List<Set<Long>> messageNotificationIds = processedMessageHolder.extractNotificationIdsPerMessage();
+        DistributionEvent event = createEvent(destinationKey, jobId, jobName, notificationIds, messageNotificationIds, processedMessageHolder.toProviderMessageHolder());
         logger.info("Sending {}. Event ID: {}. Job ID: {}. Destination: {}", EVENT_CLASS_NAME, event.getEventId(), jobId, destinationKey);
         if (logger.isDebugEnabled()) {
             String joinedIds = StringUtils.join(notificationIds, ", ");
@@ -66,4 +92,20 @@ public class ProviderMessageDistributor {
         eventManager.sendEvent(event);
     }
 
+    private DistributionEvent createEvent(
+        ChannelKey destinationKey,
+        UUID jobId,
+        String jobName,
+        Set<Long> notificationIds,
+        List<Set<Long>> messageNotificationIds,
+        ProviderMessageHolder providerMessages
+    ) {
+        // Events on the in-memory bus are passed by reference, so spooling their payload would only add file I/O
+        boolean inMemoryEventBusEnabled = null != inMemoryEventBus && inMemoryEventBus.isEnabled();
+        if (null != payloadStore && !inMemoryEventBusEnabled) {
+            return payloadStore.createEvent(destinationKey, jobId, jobName, notificationIds, messageNotificationIds, providerMessages);
+        }
+        return new DistributionEvent(destinationKey, jobId, jobName, notificationIds, messageNotificationIds, providerMessages, null);
+    }
+
 }
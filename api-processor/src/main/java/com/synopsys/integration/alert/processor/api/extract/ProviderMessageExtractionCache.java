@@ -0,0 +1,139 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processor.api.extract;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.api.common.model.exception.AlertRuntimeException;
+import com.synopsys.integration.alert.processor.api.NotificationProcessingLifecycleCache;
+import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.filter.NotificationContentWrapper;
+import com.synopsys.integration.blackduck.api.manual.component.NotificationContentComponent;
+
+/**
+ * Memoizes the messages extracted from a notification for the duration of a batch, so that a notification which applies to many
+ * jobs is only extracted (and its provider data only retrieved) once. Entries are keyed by notification id, extractor, and the
+ * notification content instance, since a single notification may be split into several pieces of content before it is filtered.
+ */
+@Component
+public class ProviderMessageExtractionCache implements NotificationProcessingLifecycleCache {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Map<ExtractionKey, FutureTask<ProcessedProviderMessageHolder>> extractionCache = new ConcurrentHashMap<>();
+    private final AtomicLong batchHits = new AtomicLong(0L);
+    private final AtomicLong batchMisses = new AtomicLong(0L);
+    private final AtomicLong totalHits = new AtomicLong(0L);
+    private final AtomicLong totalMisses = new AtomicLong(0L);
+
+    public ProcessedProviderMessageHolder retrieveOrExtract(NotificationContentWrapper notificationContentWrapper, ProviderMessageExtractor<?> providerMessageExtractor) {
+        ExtractionKey extractionKey = new ExtractionKey(notificationContentWrapper.getNotificationId(), providerMessageExtractor.getClass(), notificationContentWrapper.getNotificationContent());
+        FutureTask<ProcessedProviderMessageHolder> extractionTask = new FutureTask<>(() -> providerMessageExtractor.extract(notificationContentWrapper));
+        FutureTask<ProcessedProviderMessageHolder> existingExtractionTask = extractionCache.putIfAbsent(extractionKey, extractionTask);
+        if (null == existingExtractionTask) {
+            batchMisses.incrementAndGet();
+            extractionTask.run();
+            return awaitExtraction(extractionKey, extractionTask);
+        }
+        batchHits.incrementAndGet();
+        return awaitExtraction(extractionKey, existingExtractionTask);
+    }
+
+    public long getTotalHits() {
+        return totalHits.get() + batchHits.get();
+    }
+
+    public long getTotalMisses() {
+        return totalMisses.get() + batchMisses.get();
+    }
+
+    public double getHitRate() {
+        return calculateHitRate(getTotalHits(), getTotalMisses());
+    }
+
+    @Override
+    public void clear() {
+        long hits = batchHits.getAndSet(0L);
+        long misses = batchMisses.getAndSet(0L);
+        totalHits.addAndGet(hits);
+        totalMisses.addAndGet(misses);
+        extractionCache.clear();
+        if (hits + misses > 0L) {
+            logger.debug("Provider message extraction cache: {} hit(s), {} miss(es), batch hit rate {}%, overall hit rate {}%", hits, misses, calculateHitRate(hits, misses), getHitRate());
+        }
+    }
+
+    private ProcessedProviderMessageHolder awaitExtraction(ExtractionKey extractionKey, FutureTask<ProcessedProviderMessageHolder> extractionTask) {
+        try {
+            return extractionTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AlertRuntimeException("Interrupted while waiting for provider messages to be extracted", e);
+        } catch (ExecutionException e) {
+            // Failures are not cached so that another job may retry the extraction
+            extractionCache.remove(extractionKey, extractionTask);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AlertRuntimeException("Failed to extract provider messages", cause);
+        }
+    }
+
+    private double calculateHitRate(long hits, long misses) {
+        long total = hits + misses;
+        if (total == 0L) {
+            return 0.0;
+        }
+        return Math.round(10000.0 * hits / total) / 100.0;
+    }
+
+    private static class ExtractionKey {
+        private final Long notificationId;
+        private final Class<?> extractorClass;
+        private final NotificationContentComponent notificationContent;
+
+        public ExtractionKey(Long notificationId, Class<?> extractorClass, NotificationContentComponent notificationContent) {
+            this.notificationId = notificationId;
+            this.extractorClass = extractorClass;
+            this.notificationContent = notificationContent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ExtractionKey that = (ExtractionKey) o;
+            // The content is compared by identity because it is shared between the jobs a notification applies to
+            return Objects.equals(notificationId, that.notificationId)
+                       && extractorClass.equals(that.extractorClass)
+                       && notificationContent == that.notificationContent;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(notificationId, extractorClass, System.identityHashCode(notificationContent));
+        }
+
+    }
+
+}
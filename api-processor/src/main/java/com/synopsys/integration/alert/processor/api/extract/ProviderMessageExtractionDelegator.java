@@ -26,10 +26,12 @@ public final class ProviderMessageExtractionDelegator {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final EnumMap<NotificationType, ProviderMessageExtractor> notificationTypeToExtractor;
+    private final ProviderMessageExtractionCache extractionCache;
 
     @Autowired
-    public ProviderMessageExtractionDelegator(List<ProviderMessageExtractor> providerMessageExtractors) {
+    public ProviderMessageExtractionDelegator(List<ProviderMessageExtractor> providerMessageExtractors, ProviderMessageExtractionCache extractionCache) {
         this.notificationTypeToExtractor = initializeExtractorMap(providerMessageExtractors);
+        this.extractionCache = extractionCache;
     }
 
     public ProcessedProviderMessageHolder extract(NotificationContentWrapper notificationContentWrapper) {
@@ -46,7 +48,7 @@ public final class ProviderMessageExtractionDelegator {
             return ProcessedProviderMessageHolder.empty();
         }
 
-        return providerMessageExtractor.extract(notificationContentWrapper);
+        return extractionCache.retrieveOrExtract(notificationContentWrapper, providerMessageExtractor);
     }
 
     private EnumMap<NotificationType, ProviderMessageExtractor> initializeExtractorMap(List<ProviderMessageExtractor> providerMessageExtractors) {
@@ -0,0 +1,138 @@
+/*
+ * api-processor
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processor.api.extract.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Combines models in a single pass by grouping them into buckets of models that may combine with one another. Two models with different
+ * combinable keys must never combine; the models within a bucket are combined left-to-right exactly as {@link CombinableModel#combine(List)}
+ * would combine them, so the result is the same, but only models in the same bucket are ever compared.
+ * @param <T> The type of model to combine
+ */
+public final class KeyedModelCombiner<T extends CombinableModel<T>> {
+    private final Function<T, ?> combinableKeyFunction;
+
+    public KeyedModelCombiner(Function<T, ?> combinableKeyFunction) {
+        this.combinableKeyFunction = combinableKeyFunction;
+    }
+
+    public List<T> combine(List<T> models) {
+        if (models.size() < 2) {
+            return new ArrayList<>(models);
+        }
+
+        Node<T> head = null;
+        Node<T> tail = null;
+        Map<Object, Deque<Node<T>>> pendingNodesByKey = new HashMap<>();
+        for (T model : models) {
+            Node<T> node = new Node<>(model);
+            if (null == tail) {
+                head = node;
+            } else {
+                tail.next = node;
+                node.previous = tail;
+            }
+            tail = node;
+
+            node.bucket = pendingNodesByKey.computeIfAbsent(combinableKeyFunction.apply(model), ignored -> new ArrayDeque<>());
+            node.bucket.addLast(node);
+        }
+
+        NodeList<T> nodeList = new NodeList<>(head);
+        Node<T> current = head;
+        while (null != current) {
+            // Every model in the bucket that precedes the current model has already been visited
+            current.bucket.removeFirst();
+            current = combineWithPendingNodes(nodeList, current);
+        }
+
+        List<T> combinedModels = new ArrayList<>(models.size());
+        for (Node<T> node = nodeList.head; null != node; node = node.next) {
+            combinedModels.add(node.model);
+        }
+        return combinedModels;
+    }
+
+    /**
+     * @return the next model to visit
+     */
+    private Node<T> combineWithPendingNodes(NodeList<T> nodeList, Node<T> current) {
+        Iterator<Node<T>> candidates = current.bucket.iterator();
+        while (candidates.hasNext()) {
+            Node<T> candidate = candidates.next();
+            List<T> combinedModels = current.model.combine(candidate.model);
+
+            int combinedSize = combinedModels.size();
+            if (combinedSize == 0) {
+                candidates.remove();
+                boolean candidateNearEnd = null == candidate.next || null == candidate.next.next;
+                nodeList.unlink(candidate);
+                Node<T> following = current.next;
+                nodeList.unlink(current);
+                if (candidateNearEnd && null != following) {
+                    // Mirrors CombinableModel::combine, which advances past the model that moved into the removed model's position
+                    following.bucket.remove(following);
+                    return following.next;
+                }
+                return following;
+            } else if (combinedSize == 1) {
+                candidates.remove();
+                boolean candidateIsLast = null == candidate.next;
+                nodeList.unlink(candidate);
+                current.model = combinedModels.get(0);
+                if (candidateIsLast) {
+                    return current.next;
+                }
+                // Keep combining the result with the rest of its bucket
+                candidates = current.bucket.iterator();
+            }
+        }
+        return current.next;
+    }
+
+    private static class NodeList<T> {
+        private Node<T> head;
+
+        public NodeList(Node<T> head) {
+            this.head = head;
+        }
+
+        public void unlink(Node<T> node) {
+            if (null == node.previous) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (null != node.next) {
+                node.next.previous = node.previous;
+            }
+        }
+
+    }
+
+    private static class Node<T> {
+        private T model;
+        private Node<T> previous;
+        private Node<T> next;
+        private Deque<Node<T>> bucket;
+
+        public Node(T model) {
+            this.model = model;
+        }
+
+    }
+
+}
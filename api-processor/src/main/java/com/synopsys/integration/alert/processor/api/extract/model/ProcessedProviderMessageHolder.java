@@ -62,6 +62,15 @@ public class ProcessedProviderMessageHolder extends AlertSerializableModel {
         return new ProviderMessageHolder(projectMessages, simpleMessages);
     }
 
+    /**
+     * @return The notification ids of each message, in the order of {@link #expand()}.
+     */
+    public List<Set<Long>> extractNotificationIdsPerMessage() {
+        return Stream.concat(processedProjectMessages.stream(), processedSimpleMessages.stream())
+                   .map(ProcessedProviderMessage::getNotificationIds)
+                   .collect(Collectors.toList());
+    }
+
     public Set<Long> extractAllNotificationIds() {
         return Stream.concat(processedProjectMessages.stream(), processedSimpleMessages.stream())
                    .map(ProcessedProviderMessage::getNotificationIds)
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.processor.api.extract.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.collections4.ListUtils;
@@ -33,6 +34,20 @@ public class ProviderMessageHolder extends AlertSerializableModel {
         this.simpleMessages = simpleMessages;
     }
 
+    /**
+     * @return One holder per message, project messages first, in the same order as {@link ProcessedProviderMessageHolder#expand()}.
+     */
+    public List<ProviderMessageHolder> expand() {
+        List<ProviderMessageHolder> singleMessageHolders = new ArrayList<>(projectMessages.size() + simpleMessages.size());
+        for (ProjectMessage projectMessage : projectMessages) {
+            singleMessageHolders.add(new ProviderMessageHolder(List.of(projectMessage), List.of()));
+        }
+        for (SimpleMessage simpleMessage : simpleMessages) {
+            singleMessageHolders.add(new ProviderMessageHolder(List.of(), List.of(simpleMessage)));
+        }
+        return singleMessageHolders;
+    }
+
     public List<ProjectMessage> getProjectMessages() {
         return projectMessages;
     }
@@ -7,18 +7,25 @@
  */
 package com.synopsys.integration.alert.processor.api.extract.model.project;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.jetbrains.annotations.Nullable;
 
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
-import com.synopsys.integration.alert.processor.api.extract.model.CombinableModel;
+import com.synopsys.integration.alert.processor.api.extract.model.KeyedModelCombiner;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessage;
 
 public class ProjectMessage extends ProviderMessage<ProjectMessage> {
+    // Bom components can only be combined if they share these fields (see BomComponentDetails::combine)
+    private static final KeyedModelCombiner<BomComponentDetails> BOM_COMPONENT_COMBINER = new KeyedModelCombiner<>(
+        bomComponent -> Arrays.asList(bomComponent.getComponent(), bomComponent.getComponentVersion().orElse(null), bomComponent.hasComponentConcerns())
+    );
+
     private final MessageReason messageReason;
     private final ProjectOperation operation;
 
@@ -124,7 +131,7 @@ public class ProjectMessage extends ProviderMessage<ProjectMessage> {
     }
 
     private List<ProjectMessage> combineBomComponents(List<BomComponentDetails> otherMessageBomComponents) {
-        List<BomComponentDetails> combinedBomComponents = CombinableModel.combine(bomComponents, otherMessageBomComponents);
+        List<BomComponentDetails> combinedBomComponents = BOM_COMPONENT_COMBINER.combine(ListUtils.union(bomComponents, otherMessageBomComponents));
         ProjectMessage projectMessageWithCombinedComponents = new ProjectMessage(getProviderDetails(), messageReason, operation, project, projectVersion, combinedBomComponents);
         return List.of(projectMessageWithCombinedComponents);
     }
@@ -7,10 +7,14 @@
  */
 package com.synopsys.integration.alert.processor.api.filter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Predicate;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,10 +23,11 @@ import org.springframework.stereotype.Component;
 import com.synopsys.integration.alert.api.common.model.exception.AlertRuntimeException;
 import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingJobAccessor;
-import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
 import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedDetails;
 import com.synopsys.integration.alert.processor.api.detail.DetailedNotificationContent;
+import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
 
 @Component
 public class JobNotificationMapper {
@@ -38,7 +43,7 @@ public class JobNotificationMapper {
     }
 
     /**
-     * Jobs are retrieved from the DB depending on the following fields that are passed to this method:
+     * Jobs are matched against each notification using an index of the enabled jobs depending on the following fields that are passed to this method:
      *
      * Frequency (Passed into processor)
      * Notification Type (From notification)
@@ -49,50 +54,61 @@ public class JobNotificationMapper {
      * Filter by Policy name (From notification if applicable)
      * @param detailedContents List of notifications that will be iterated over and applied to jobs that are found
      * @param frequencies      an Additional filter to specify when querying data from the DB
-     * @return a {@code StatefulAlertPage} where a page of distribution jobs is used to map to a list of notifications that were passed in.
+     * @return a {@code StatefulAlertPage} where each page contains distribution jobs mapped to the notifications that apply to them.
      */
     public StatefulAlertPage<FilteredJobNotificationWrapper, RuntimeException> mapJobsToNotifications(List<DetailedNotificationContent> detailedContents, List<FrequencyType> frequencies) {
-        FilteredJobWrapperPageRetriever filteredJobWrapperPageRetriever = new FilteredJobWrapperPageRetriever(detailedContents, frequencies);
+        List<FilteredJobNotificationWrapper> filteredJobNotifications = mapMatchingJobsToNotifications(detailedContents, frequencies);
+        FilteredJobWrapperPageRetriever filteredJobWrapperPageRetriever = new FilteredJobWrapperPageRetriever(filteredJobNotifications);
         AlertPagedDetails<FilteredJobNotificationWrapper> firstPage = filteredJobWrapperPageRetriever.retrievePage(INITIAL_PAGE_NUMBER, PAGE_SIZE);
         return new StatefulAlertPage<>(firstPage, filteredJobWrapperPageRetriever, HAS_NEXT_PAGE);
     }
 
-    private AlertPagedDetails<FilteredJobNotificationWrapper> mapPageOfJobsToNotification(List<DetailedNotificationContent> detailedContents, List<FrequencyType> frequencies, int pageNumber, int pageSize) {
-        if (detailedContents.isEmpty()) {
-            return new AlertPagedDetails<>(1, pageNumber, pageSize, List.of());
-        }
-
-        Map<FilteredDistributionJobResponseModel, List<NotificationContentWrapper>> groupedFilterableNotifications = new HashMap<>();
-
-        FilteredDistributionJobRequestModel filteredDistributionJobRequestModel = createRequestModelFromNotifications(detailedContents, frequencies);
-
-        AlertPagedDetails<FilteredDistributionJobResponseModel> jobs = processingJobAccessor.getMatchingEnabledJobsByFilteredNotifications(filteredDistributionJobRequestModel, pageNumber, pageSize);
+    private List<FilteredJobNotificationWrapper> mapMatchingJobsToNotifications(List<DetailedNotificationContent> detailedContents, List<FrequencyType> frequencies) {
+        Map<UUID, FilteredDistributionJobResponseModel> matchingJobs = new LinkedHashMap<>();
+        Map<UUID, List<NotificationContentWrapper>> groupedFilterableNotifications = new HashMap<>();
         for (DetailedNotificationContent detailedNotificationContent : detailedContents) {
-            for (FilteredDistributionJobResponseModel filteredDistributionJobResponseModel : jobs.getModels()) {
-                if (JobNotificationFilterUtils.doesNotificationApplyToJob(filteredDistributionJobResponseModel, detailedNotificationContent)) {
-                    List<NotificationContentWrapper> applicableNotifications = groupedFilterableNotifications.computeIfAbsent(filteredDistributionJobResponseModel, ignoredKey -> new LinkedList<>());
-                    applicableNotifications.add(detailedNotificationContent.getNotificationContentWrapper());
-                }
+            NotificationFilterModel notificationFilter = createNotificationFilter(detailedNotificationContent);
+            List<FilteredDistributionJobResponseModel> jobsForNotification = processingJobAccessor.getMatchingEnabledJobsByNotification(notificationFilter, frequencies);
+            for (FilteredDistributionJobResponseModel filteredDistributionJobResponseModel : jobsForNotification) {
+                UUID jobId = filteredDistributionJobResponseModel.getId();
+                matchingJobs.putIfAbsent(jobId, filteredDistributionJobResponseModel);
+                List<NotificationContentWrapper> applicableNotifications = groupedFilterableNotifications.computeIfAbsent(jobId, ignoredKey -> new LinkedList<>());
+                applicableNotifications.add(detailedNotificationContent.getNotificationContentWrapper());
             }
         }
 
-        List<FilteredJobNotificationWrapper> filterableJobNotifications = new LinkedList<>();
-        for (Map.Entry<FilteredDistributionJobResponseModel, List<NotificationContentWrapper>> groupedEntry : groupedFilterableNotifications.entrySet()) {
-            FilteredDistributionJobResponseModel filteredJob = groupedEntry.getKey();
-            FilteredJobNotificationWrapper wrappedJobNotifications = new FilteredJobNotificationWrapper(filteredJob.getId(), filteredJob.getProcessingType(), filteredJob.getChannelName(), filteredJob.getJobName(), groupedEntry.getValue());
+        List<FilteredJobNotificationWrapper> filterableJobNotifications = new ArrayList<>(matchingJobs.size());
+        for (FilteredDistributionJobResponseModel filteredJob : matchingJobs.values()) {
+            List<NotificationContentWrapper> jobNotifications = groupedFilterableNotifications.get(filteredJob.getId());
+            FilteredJobNotificationWrapper wrappedJobNotifications = new FilteredJobNotificationWrapper(filteredJob.getId(), filteredJob.getProcessingType(), filteredJob.getChannelName(), filteredJob.getJobName(), jobNotifications);
             filterableJobNotifications.add(wrappedJobNotifications);
         }
+        return filterableJobNotifications;
+    }
 
-        return new AlertPagedDetails<>(jobs.getTotalPages(), pageNumber, pageSize, filterableJobNotifications);
+    private NotificationFilterModel createNotificationFilter(DetailedNotificationContent detailedNotificationContent) {
+        Long providerConfigId = Optional.ofNullable(detailedNotificationContent.getProviderConfigId())
+                                    .orElseThrow(() -> new AlertRuntimeException("Notification missing provider configuration id"));
+        String notificationType = detailedNotificationContent.getNotificationContentWrapper().extractNotificationType();
+        String projectName = detailedNotificationContent.getProjectName().orElse(null);
+        switch (NotificationType.valueOf(notificationType)) {
+            case VULNERABILITY:
+                return NotificationFilterModel.vulnerability(providerConfigId, notificationType, projectName, detailedNotificationContent.getVulnerabilitySeverities());
+            case POLICY_OVERRIDE:
+            case RULE_VIOLATION:
+            case RULE_VIOLATION_CLEARED:
+                String policyName = detailedNotificationContent.getPolicyName().orElse("");
+                return NotificationFilterModel.policy(providerConfigId, notificationType, projectName, policyName);
+            default:
+                return NotificationFilterModel.project(providerConfigId, notificationType, projectName);
+        }
     }
 
     private class FilteredJobWrapperPageRetriever implements PageRetriever<FilteredJobNotificationWrapper, RuntimeException> {
-        private final List<DetailedNotificationContent> detailedContents;
-        private final List<FrequencyType> frequencies;
+        private final List<FilteredJobNotificationWrapper> filteredJobNotifications;
 
-        public FilteredJobWrapperPageRetriever(List<DetailedNotificationContent> detailedContents, List<FrequencyType> frequencies) {
-            this.detailedContents = detailedContents;
-            this.frequencies = frequencies;
+        public FilteredJobWrapperPageRetriever(List<FilteredJobNotificationWrapper> filteredJobNotifications) {
+            this.filteredJobNotifications = filteredJobNotifications;
         }
 
         @Override
@@ -102,25 +118,12 @@ public class JobNotificationMapper {
 
         @Override
         public AlertPagedDetails<FilteredJobNotificationWrapper> retrievePage(int currentOffset, int currentLimit) throws RuntimeException {
-            return mapPageOfJobsToNotification(detailedContents, frequencies, currentOffset, currentLimit);
+            int totalPages = Math.max(1, (filteredJobNotifications.size() + currentLimit - 1) / currentLimit);
+            int fromIndex = Math.min(currentOffset * currentLimit, filteredJobNotifications.size());
+            int toIndex = Math.min(fromIndex + currentLimit, filteredJobNotifications.size());
+            return new AlertPagedDetails<>(totalPages, currentOffset, currentLimit, filteredJobNotifications.subList(fromIndex, toIndex));
         }
 
     }
 
-    private FilteredDistributionJobRequestModel createRequestModelFromNotifications(List<DetailedNotificationContent> detailedContents, List<FrequencyType> frequencies) {
-        Long commonProviderConfigId = detailedContents
-            .stream()
-            .map(DetailedNotificationContent::getProviderConfigId)
-            .findAny()
-            .orElseThrow(() -> new AlertRuntimeException("Notification(s) missing provider configuration id"));
-        FilteredDistributionJobRequestModel filteredDistributionJobRequestModel = new FilteredDistributionJobRequestModel(commonProviderConfigId, frequencies);
-        for (DetailedNotificationContent detailedNotificationContent : detailedContents) {
-            detailedNotificationContent.getProjectName().ifPresent(filteredDistributionJobRequestModel::addProjectName);
-            filteredDistributionJobRequestModel.addNotificationType(detailedNotificationContent.getNotificationContentWrapper().extractNotificationType());
-            filteredDistributionJobRequestModel.addVulnerabilitySeverities(detailedNotificationContent.getVulnerabilitySeverities());
-            detailedNotificationContent.getPolicyName().ifPresent(filteredDistributionJobRequestModel::addPolicyName);
-        }
-        return filteredDistributionJobRequestModel;
-    }
-
 }
@@ -26,6 +26,7 @@ import com.synopsys.integration.alert.processor.api.detail.NotificationDetailExt
 import com.synopsys.integration.alert.processor.api.digest.ProjectMessageDigester;
 import com.synopsys.integration.alert.processor.api.distribute.ProcessedNotificationDetails;
 import com.synopsys.integration.alert.processor.api.distribute.ProviderMessageDistributor;
+import com.synopsys.integration.alert.processor.api.extract.ProviderMessageExtractionCache;
 import com.synopsys.integration.alert.processor.api.extract.ProviderMessageExtractionDelegator;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.summarize.ProjectMessageSummarizer;
@@ -68,7 +69,7 @@ public class JobNotificationProcessorTest {
         NotificationDetailExtractionDelegator notificationDetailExtractionDelegator = new NotificationDetailExtractionDelegator(RESPONSE_RESOLVER, List.of(ruleViolationNotificationDetailExtractor));
 
         RuleViolationNotificationMessageExtractor ruleViolationNotificationMessageExtractor = createRuleViolationNotificationMessageExtractor();
-        ProviderMessageExtractionDelegator providerMessageExtractionDelegator = new ProviderMessageExtractionDelegator(List.of(ruleViolationNotificationMessageExtractor));
+        ProviderMessageExtractionDelegator providerMessageExtractionDelegator = new ProviderMessageExtractionDelegator(List.of(ruleViolationNotificationMessageExtractor), new ProviderMessageExtractionCache());
         ProjectMessageDigester projectMessageDigester = new ProjectMessageDigester();
         ProjectMessageSummarizer projectMessageSummarizer = new ProjectMessageSummarizer();
         NotificationContentProcessor notificationContentProcessor = new NotificationContentProcessor(providerMessageExtractionDelegator, projectMessageDigester, projectMessageSummarizer);
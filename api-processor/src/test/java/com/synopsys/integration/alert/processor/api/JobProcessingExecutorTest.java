@@ -0,0 +1,94 @@
+package com.synopsys.integration.alert.processor.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.common.enumeration.ProcessingType;
+import com.synopsys.integration.alert.processor.api.filter.FilteredJobNotificationWrapper;
+
+public class JobProcessingExecutorTest {
+    @Test
+    public void failingJobDoesNotStopOtherJobsTest() {
+        assertFailingJobIsIsolated(JobProcessingExecutor.sequential());
+    }
+
+    @Test
+    public void failingJobDoesNotStopOtherConcurrentJobsTest() {
+        JobProcessingExecutor jobProcessingExecutor = new JobProcessingExecutor(3);
+        try {
+            assertFailingJobIsIsolated(jobProcessingExecutor);
+        } finally {
+            jobProcessingExecutor.destroy();
+        }
+    }
+
+    @Test
+    public void processJobsInParallelTest() {
+        int jobCount = 3;
+        JobProcessingExecutor jobProcessingExecutor = new JobProcessingExecutor(jobCount);
+        List<FilteredJobNotificationWrapper> jobs = createJobs(jobCount);
+
+        // Every job waits until all of them have started, which only succeeds if they run at the same time
+        CountDownLatch allJobsStarted = new CountDownLatch(jobCount);
+        Set<String> workerThreadNames = ConcurrentHashMap.newKeySet();
+        try {
+            jobProcessingExecutor.processJobs(jobs, job -> {
+                workerThreadNames.add(Thread.currentThread().getName());
+                allJobsStarted.countDown();
+                try {
+                    if (!allJobsStarted.await(5L, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("The jobs were not processed in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            jobProcessingExecutor.destroy();
+        }
+
+        assertEquals(jobCount, workerThreadNames.size());
+        assertFalse(workerThreadNames.contains(Thread.currentThread().getName()));
+    }
+
+    private void assertFailingJobIsIsolated(JobProcessingExecutor jobProcessingExecutor) {
+        List<FilteredJobNotificationWrapper> jobs = createJobs(3);
+        UUID failingJobId = jobs.get(0).getJobId();
+        List<UUID> processedJobIds = Collections.synchronizedList(new ArrayList<>());
+
+        List<FilteredJobNotificationWrapper> failedJobs = jobProcessingExecutor.processJobs(jobs, job -> {
+            if (failingJobId.equals(job.getJobId())) {
+                throw new IllegalStateException("Test exception");
+            }
+            processedJobIds.add(job.getJobId());
+        });
+
+        assertEquals(1, failedJobs.size());
+        assertEquals(failingJobId, failedJobs.get(0).getJobId());
+        assertEquals(2, processedJobIds.size());
+        assertTrue(processedJobIds.contains(jobs.get(1).getJobId()));
+        assertTrue(processedJobIds.contains(jobs.get(2).getJobId()));
+    }
+
+    private List<FilteredJobNotificationWrapper> createJobs(int numberOfJobs) {
+        List<FilteredJobNotificationWrapper> jobs = new ArrayList<>(numberOfJobs);
+        for (int i = 0; i < numberOfJobs; i++) {
+            jobs.add(new FilteredJobNotificationWrapper(UUID.randomUUID(), ProcessingType.DEFAULT, "channel_key", "Job " + i, List.of()));
+        }
+        return jobs;
+    }
+
+}
@@ -1,15 +1,18 @@
 package com.synopsys.integration.alert.processor.api;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.CollectionUtils;
 
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingJobAccessor;
-import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
+import com.synopsys.integration.alert.common.persistence.model.job.BlackDuckProjectDetailsModel;
 import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
-import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
 
 public class MockProcessingJobAccessor implements ProcessingJobAccessor {
     private final List<FilteredDistributionJobResponseModel> storedJobs;
@@ -19,33 +22,29 @@ public class MockProcessingJobAccessor implements ProcessingJobAccessor {
     }
 
     @Override
-    public AlertPagedModel<FilteredDistributionJobResponseModel> getMatchingEnabledJobsByFilteredNotifications(FilteredDistributionJobRequestModel filter, int pageOffset, int pageLimit) {
-        // Mocking JPA means pageOffset starts at zero and increments by one for each disjoint page.
-        List<List<FilteredDistributionJobResponseModel>> storedJobPages = ListUtils.partition(storedJobs, pageLimit);
-        List<FilteredDistributionJobResponseModel> pageFromOffset = extractPageSafely(storedJobPages, pageOffset);
-        List<FilteredDistributionJobResponseModel> filteredPage = filterPage(filter, pageFromOffset);
-
-        return new AlertPagedModel<>(storedJobPages.size(), pageOffset, pageLimit, filteredPage);
-    }
-
-    private List<FilteredDistributionJobResponseModel> extractPageSafely(List<List<FilteredDistributionJobResponseModel>> storedJobPages, int pageNumber) {
-        try {
-            return storedJobPages.get(pageNumber);
-        } catch (IndexOutOfBoundsException e) {
-            return List.of();
-        }
-    }
-
-    private List<FilteredDistributionJobResponseModel> filterPage(FilteredDistributionJobRequestModel filter, List<FilteredDistributionJobResponseModel> pageOfJobs) {
-        return pageOfJobs
+    public List<FilteredDistributionJobResponseModel> getMatchingEnabledJobsByNotification(NotificationFilterModel notificationFilter, Collection<FrequencyType> frequencies) {
+        return storedJobs
             .stream()
-            .filter(job -> filterJob(filter, job))
+            .filter(job -> job.getNotificationTypes().contains(notificationFilter.getNotificationType()))
+            .filter(job -> doesProjectMatch(job, notificationFilter.getProjectName().orElse("")))
+            .filter(job -> notificationFilter.getPolicyName().map(policyName -> job.getPolicyNames().isEmpty() || job.getPolicyNames().contains(policyName)).orElse(true))
+            .filter(job -> notificationFilter.getVulnerabilitySeverities()
+                               .map(severities -> job.getVulnerabilitySeverityNames().isEmpty() || CollectionUtils.containsAny(severities, job.getVulnerabilitySeverityNames()))
+                               .orElse(true))
             .collect(Collectors.toList());
     }
 
-    private boolean filterJob(FilteredDistributionJobRequestModel filter, FilteredDistributionJobResponseModel job) {
-        // Mocking the database filtering is currently unnecessary because we are trying to test in-memory filtering
-        return true;
+    private boolean doesProjectMatch(FilteredDistributionJobResponseModel job, String projectName) {
+        if (!job.isFilterByProject()) {
+            return true;
+        }
+        if (null != job.getProjectNamePattern() && Pattern.matches(job.getProjectNamePattern(), projectName)) {
+            return true;
+        }
+        return job.getProjectDetails()
+            .stream()
+            .map(BlackDuckProjectDetailsModel::getName)
+            .anyMatch(projectName::equals);
     }
 
     private static List<FilteredDistributionJobResponseModel> initStoredJobs(List<FilteredDistributionJobResponseModel> nonMatchingJobs, FilteredDistributionJobResponseModel matchingJob, int matchingJobPosition) {
@@ -79,6 +79,36 @@ public class NotificationProcessorTest {
         Mockito.verify(distributor, Mockito.times(1)).distribute(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    public void failedJobStillMarksNotificationsProcessedTest() {
+        String projectName = "2468 - Test Project";
+        String targetNotificationType = NotificationType.RULE_VIOLATION.name();
+        AlertNotificationModel notification = createNotification(targetNotificationType, GSON.toJson(createRuleViolationNotificationView(projectName)));
+
+        FilteredDistributionJobResponseModel matchingJob = createJob(targetNotificationType, true, "2468.*");
+        List<FilteredDistributionJobResponseModel> nonMatchingJobs = createNonMatchingJobs(250, NotificationType.LICENSE_LIMIT.name(), true, "13579asdf - DO NOT MATCH");
+        NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(BLACK_DUCK_RESPONSE_RESOLVER, List.of(RULE_VIOLATION_NDE));
+        ProcessingJobAccessor processingJobAccessor = new MockProcessingJobAccessor(nonMatchingJobs, matchingJob, 199);
+
+        ProviderMessageDistributor distributor = Mockito.mock(ProviderMessageDistributor.class);
+        Mockito.doThrow(new IllegalStateException("Test exception")).when(distributor).distribute(Mockito.any(), Mockito.any());
+        NotificationAccessor notificationAccessor = createNotificationAccessor();
+
+        NotificationProcessor notificationProcessor = new NotificationProcessor(
+            extractionDelegator,
+            new JobNotificationMapper(processingJobAccessor),
+            createNotificationContentProcessor(),
+            distributor,
+            List.of(),
+            notificationAccessor,
+            JobProcessingExecutor.sequential()
+        );
+        notificationProcessor.processNotifications(List.of(notification), List.of(FrequencyType.REAL_TIME, FrequencyType.DAILY));
+
+        Mockito.verify(distributor, Mockito.times(1)).distribute(Mockito.any(), Mockito.any());
+        Mockito.verify(notificationAccessor, Mockito.times(1)).setNotificationsProcessed(List.of(notification));
+    }
+
     // ==============
     // Helper methods
     // ==============
@@ -136,7 +166,8 @@ public class NotificationProcessorTest {
             createNotificationContentProcessor(),
             distributor,
             List.of(),
-            createNotificationAccessor()
+            createNotificationAccessor(),
+            JobProcessingExecutor.sequential()
         );
     }
 
@@ -2,14 +2,22 @@ package com.synopsys.integration.alert.processor.api.digest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import com.synopsys.integration.alert.common.enumeration.ItemOperation;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.processor.api.extract.model.CombinableModel;
 import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessage;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.project.BomComponentDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentConcern;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentUpgradeGuidance;
+import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentVulnerabilities;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ProjectMessage;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ProjectOperation;
 
@@ -48,6 +56,39 @@ public class ProjectMessageDigesterTest {
         assertEquals(2, digestedMessages.size());
     }
 
+    @Test
+    public void digestMatchesCombinableModelTest() {
+        Random random = new Random(0L);
+        List<ProcessedProviderMessage<ProjectMessage>> processedProviderMessages = new ArrayList<>();
+        for (long notificationId = 0L; notificationId < 1000L; notificationId++) {
+            processedProviderMessages.add(createRandomProcessedProviderMessage(random, notificationId));
+        }
+
+        List<ProcessedProviderMessage<ProjectMessage>> expectedMessages = CombinableModel.combine(processedProviderMessages);
+        assertEquals(expectedMessages, projectMessageDigester.digest(processedProviderMessages));
+    }
+
+    private ProcessedProviderMessage<ProjectMessage> createRandomProcessedProviderMessage(Random random, Long notificationId) {
+        LinkableItem project = new LinkableItem("proj", "project-" + random.nextInt(10));
+        LinkableItem projectVersion = new LinkableItem("version", "version-" + random.nextInt(5));
+        ProjectOperation operation = random.nextBoolean() ? ProjectOperation.CREATE : ProjectOperation.DELETE;
+
+        ProjectMessage projectMessage;
+        int messageType = random.nextInt(4);
+        if (0 == messageType) {
+            projectMessage = ProjectMessage.projectStatusInfo(PROVIDER_DETAILS, project, operation);
+        } else if (1 == messageType) {
+            projectMessage = ProjectMessage.projectVersionStatusInfo(PROVIDER_DETAILS, project, projectVersion, operation);
+        } else {
+            LinkableItem component = new LinkableItem("component", "component-" + random.nextInt(5));
+            ItemOperation concernOperation = random.nextBoolean() ? ItemOperation.ADD : ItemOperation.DELETE;
+            ComponentConcern componentConcern = ComponentConcern.policy(concernOperation, "policy-" + random.nextInt(3), "https://policy");
+            BomComponentDetails bomComponent = new BomComponentDetails(component, null, ComponentVulnerabilities.none(), List.of(), List.of(componentConcern), null, "usage", ComponentUpgradeGuidance.none(), List.of(), null);
+            projectMessage = ProjectMessage.componentConcern(PROVIDER_DETAILS, project, projectVersion, List.of(bomComponent));
+        }
+        return ProcessedProviderMessage.singleSource(notificationId, projectMessage);
+    }
+
     private ProcessedProviderMessage<ProjectMessage> createProcessedProviderMessage(String projectName, ProjectOperation operation) {
         LinkableItem project1 = new LinkableItem("proj", projectName, "https://" + projectName);
         ProjectMessage projectMessage1 = ProjectMessage.projectStatusInfo(PROVIDER_DETAILS, project1, operation);
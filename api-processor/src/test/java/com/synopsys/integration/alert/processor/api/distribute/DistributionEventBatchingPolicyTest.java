@@ -0,0 +1,86 @@
+package com.synopsys.integration.alert.processor.api.distribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessage;
+import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
+
+public class DistributionEventBatchingPolicyTest {
+    private final Gson gson = new Gson();
+
+    @Test
+    public void batchingDisabledTest() {
+        DistributionEventBatchingPolicy batchingPolicy = new DistributionEventBatchingPolicy(gson, 1, 0L);
+        List<ProcessedProviderMessageHolder> singleMessageHolders = createSingleMessageHolders(3);
+
+        assertFalse(batchingPolicy.isBatchingEnabled());
+        assertSame(singleMessageHolders, batchingPolicy.batch(singleMessageHolders));
+    }
+
+    @Test
+    public void batchByMessageCountTest() {
+        DistributionEventBatchingPolicy batchingPolicy = new DistributionEventBatchingPolicy(gson, 2, 0L);
+        List<ProcessedProviderMessageHolder> batches = batchingPolicy.batch(createSingleMessageHolders(5));
+
+        assertTrue(batchingPolicy.isBatchingEnabled());
+        assertEquals(3, batches.size());
+        assertEquals(List.of("Summary 1", "Summary 2"), extractSummaries(batches.get(0)));
+        assertEquals(List.of("Summary 3", "Summary 4"), extractSummaries(batches.get(1)));
+        assertEquals(List.of("Summary 5"), extractSummaries(batches.get(2)));
+    }
+
+    @Test
+    public void batchByBytesTest() {
+        List<ProcessedProviderMessageHolder> singleMessageHolders = createSingleMessageHolders(4);
+        long messageBytes = gson.toJson(singleMessageHolders.get(0).toProviderMessageHolder()).length();
+
+        // Room for two messages, but not three
+        DistributionEventBatchingPolicy batchingPolicy = new DistributionEventBatchingPolicy(gson, 10, messageBytes * 2 + 1);
+        List<ProcessedProviderMessageHolder> batches = batchingPolicy.batch(singleMessageHolders);
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of("Summary 1", "Summary 2"), extractSummaries(batches.get(0)));
+        assertEquals(List.of("Summary 3", "Summary 4"), extractSummaries(batches.get(1)));
+    }
+
+    @Test
+    public void oversizedMessageIsSentAloneTest() {
+        DistributionEventBatchingPolicy batchingPolicy = new DistributionEventBatchingPolicy(gson, 10, 1L);
+        List<ProcessedProviderMessageHolder> batches = batchingPolicy.batch(createSingleMessageHolders(2));
+
+        assertEquals(2, batches.size());
+        assertEquals(List.of("Summary 1"), extractSummaries(batches.get(0)));
+        assertEquals(List.of("Summary 2"), extractSummaries(batches.get(1)));
+    }
+
+    private List<ProcessedProviderMessageHolder> createSingleMessageHolders(int numberOfMessages) {
+        List<ProcessedProviderMessageHolder> singleMessageHolders = new ArrayList<>();
+        for (long i = 1; i < numberOfMessages + 1; i++) {
+            ProviderDetails providerDetails = new ProviderDetails(i, new LinkableItem("Provider", "Provider " + i));
+            SimpleMessage simpleMessage = SimpleMessage.original(providerDetails, "Summary " + i, "Description " + i, List.of());
+            singleMessageHolders.add(new ProcessedProviderMessageHolder(List.of(), List.of(ProcessedProviderMessage.singleSource(i, simpleMessage))));
+        }
+        return singleMessageHolders;
+    }
+
+    private List<String> extractSummaries(ProcessedProviderMessageHolder messageHolder) {
+        List<String> summaries = new ArrayList<>();
+        for (ProcessedProviderMessage<SimpleMessage> processedMessage : messageHolder.getProcessedSimpleMessages()) {
+            summaries.add(processedMessage.getProviderMessage().getSummary());
+        }
+        return summaries;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.synopsys.integration.alert.processor.api.distribute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.descriptor.api.SlackChannelKey;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
+
+public class DistributionEventPayloadStoreTest {
+    private static final UUID JOB_ID = UUID.randomUUID();
+    private static final String JOB_NAME = "jobName";
+    private static final Set<Long> NOTIFICATION_IDS = Set.of(1L, 2L);
+
+    private final Gson gson = new Gson();
+    private final SlackChannelKey channelKey = new SlackChannelKey();
+
+    private File spoolDirectory;
+
+    @BeforeEach
+    public void init() throws IOException {
+        spoolDirectory = Files.createTempDirectory("distribution-events").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(spoolDirectory.toPath())) {
+            paths.sorted(Comparator.reverseOrder())
+                .map(Path::toFile)
+                .forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void payloadSentWithEventWhenDisabledTest() {
+        DistributionEventPayloadStore payloadStore = new DistributionEventPayloadStore(gson, spoolDirectory, false, 0L);
+        ProviderMessageHolder providerMessages = createProviderMessages();
+
+        DistributionEvent event = payloadStore.createEvent(channelKey, JOB_ID, JOB_NAME, NOTIFICATION_IDS, providerMessages);
+
+        assertSame(providerMessages, event.getProviderMessages());
+        assertTrue(event.getPayloadReference().isEmpty());
+        assertEquals(0, countSpoolFiles());
+    }
+
+    @Test
+    public void payloadBelowThresholdSentWithEventTest() {
+        DistributionEventPayloadStore payloadStore = new DistributionEventPayloadStore(gson, spoolDirectory, true, Long.MAX_VALUE);
+        ProviderMessageHolder providerMessages = createProviderMessages();
+
+        DistributionEvent event = payloadStore.createEvent(channelKey, JOB_ID, JOB_NAME, NOTIFICATION_IDS, providerMessages);
+
+        assertSame(providerMessages, event.getProviderMessages());
+        assertTrue(event.getPayloadReference().isEmpty());
+        assertEquals(0, countSpoolFiles());
+    }
+
+    @Test
+    public void payloadAboveThresholdStoredAndDeletedTest() throws AlertException {
+        DistributionEventPayloadStore payloadStore = new DistributionEventPayloadStore(gson, spoolDirectory, true, 1L);
+        ProviderMessageHolder providerMessages = createProviderMessages();
+
+        DistributionEvent event = payloadStore.createEvent(channelKey, JOB_ID, JOB_NAME, NOTIFICATION_IDS, providerMessages);
+        assertNull(event.getProviderMessages());
+        assertTrue(event.getPayloadReference().isPresent());
+        assertEquals(1, countSpoolFiles());
+
+        // The event crosses the broker as JSON, so the reference must survive serialization
+        DistributionEvent receivedEvent = gson.fromJson(gson.toJson(event), DistributionEvent.class);
+        ProviderMessageHolder retrievedMessages = payloadStore.retrievePayload(receivedEvent);
+        assertEquals(1, retrievedMessages.getSimpleMessages().size());
+        assertEquals("summary", retrievedMessages.getSimpleMessages().get(0).getSummary());
+
+        payloadStore.deletePayload(receivedEvent);
+        assertEquals(0, countSpoolFiles());
+    }
+
+    @Test
+    public void payloadReachingThresholdPartwayStoredWholeTest() throws AlertException {
+        ProviderMessageHolder providerMessages = createProviderMessages();
+        long payloadLength = gson.toJson(providerMessages).length();
+        DistributionEventPayloadStore payloadStore = new DistributionEventPayloadStore(gson, spoolDirectory, true, payloadLength / 2);
+
+        DistributionEvent event = payloadStore.createEvent(channelKey, JOB_ID, JOB_NAME, NOTIFICATION_IDS, providerMessages);
+        assertTrue(event.getPayloadReference().isPresent());
+
+        ProviderMessageHolder retrievedMessages = payloadStore.retrievePayload(event);
+        assertEquals(gson.toJson(providerMessages), gson.toJson(retrievedMessages));
+    }
+
+    @Test
+    public void missingPayloadTest() {
+        DistributionEventPayloadStore payloadStore = new DistributionEventPayloadStore(gson, spoolDirectory, true, 1L);
+        DistributionEvent event = new DistributionEvent(channelKey, JOB_ID, JOB_NAME, NOTIFICATION_IDS, null, UUID.randomUUID().toString());
+
+        assertThrows(AlertException.class, () -> payloadStore.retrievePayload(event));
+    }
+
+    @Test
+    public void invalidPayloadReferenceTest() {
+        DistributionEventPayloadStore payloadStore = new DistributionEventPayloadStore(gson, spoolDirectory, true, 1L);
+        DistributionEvent event = new DistributionEvent(channelKey, JOB_ID, JOB_NAME, NOTIFICATION_IDS, null, "../secrets/alert-encryption-password");
+
+        assertThrows(AlertException.class, () -> payloadStore.retrievePayload(event));
+    }
+
+    private ProviderMessageHolder createProviderMessages() {
+        ProviderDetails providerDetails = new ProviderDetails(1L, new LinkableItem("Provider", "Black Duck"));
+        SimpleMessage simpleMessage = SimpleMessage.original(providerDetails, "summary", "description", List.of());
+        return new ProviderMessageHolder(List.of(), List.of(simpleMessage));
+    }
+
+    private long countSpoolFiles() {
+        File[] spoolFiles = spoolDirectory.listFiles();
+        return null != spoolFiles ? spoolFiles.length : 0;
+    }
+
+}
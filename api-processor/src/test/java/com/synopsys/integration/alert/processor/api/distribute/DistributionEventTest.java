@@ -42,4 +42,10 @@ public class DistributionEventTest {
         DistributionEvent event = new DistributionEvent(channelKey, JOB_ID, JOB_NAME, Set.of(NOTIFICATION_ID), providerMessageHolder);
         assertEquals(providerMessageHolder, event.getProviderMessages());
     }
+
+    @Test
+    public void getOrderingKeyTest() {
+        DistributionEvent event = new DistributionEvent(channelKey, JOB_ID, JOB_NAME, Set.of(NOTIFICATION_ID), providerMessageHolder);
+        assertEquals(JOB_ID.toString(), event.getOrderingKey().orElse(null));
+    }
 }
@@ -1,13 +1,19 @@
 package com.synopsys.integration.alert.processor.api.distribute;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.event.EventManager;
+import com.synopsys.integration.alert.api.event.InMemoryEventBus;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.descriptor.api.SlackChannelKey;
 import com.synopsys.integration.alert.processor.api.MockProcessingAuditAccessor;
@@ -36,6 +42,43 @@ public class ProviderMessageDistributorTest {
         Mockito.verify(eventManager, Mockito.times(4)).sendEvent(Mockito.any());
     }
 
+    @Test
+    public void distributeBatchedTest() {
+        MockProcessingAuditAccessor processingAuditAccessor = new MockProcessingAuditAccessor();
+        EventManager eventManager = Mockito.mock(EventManager.class);
+
+        ProcessedNotificationDetails processedNotificationDetails = new ProcessedNotificationDetails(uuid, slackChannelKey.getUniversalKey(), "JobName");
+        ProcessedProviderMessageHolder processedMessageHolder = createProcessedProviderMessageHolder(2, 2);
+
+        DistributionEventBatchingPolicy batchingPolicy = new DistributionEventBatchingPolicy(new Gson(), 3, 0L);
+        ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(processingAuditAccessor, eventManager, null, batchingPolicy, null);
+        providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder);
+
+        ArgumentCaptor<DistributionEvent> eventCaptor = ArgumentCaptor.forClass(DistributionEvent.class);
+        Mockito.verify(eventManager, Mockito.times(2)).sendEvent(eventCaptor.capture());
+        assertEquals(3, eventCaptor.getAllValues().get(0).getMessageNotificationIds().size());
+        assertEquals(1, eventCaptor.getAllValues().get(1).getMessageNotificationIds().size());
+    }
+
+    @Test
+    public void distributeInMemoryDoesNotStorePayloadTest() {
+        MockProcessingAuditAccessor processingAuditAccessor = new MockProcessingAuditAccessor();
+        EventManager eventManager = Mockito.mock(EventManager.class);
+        DistributionEventPayloadStore payloadStore = Mockito.mock(DistributionEventPayloadStore.class);
+        InMemoryEventBus inMemoryEventBus = new InMemoryEventBus(true, 10, 1, 0L);
+
+        ProcessedNotificationDetails processedNotificationDetails = new ProcessedNotificationDetails(uuid, slackChannelKey.getUniversalKey(), "JobName");
+        ProcessedProviderMessageHolder processedMessageHolder = createProcessedProviderMessageHolder(1, 0);
+
+        ProviderMessageDistributor providerMessageDistributor = new ProviderMessageDistributor(processingAuditAccessor, eventManager, payloadStore, null, inMemoryEventBus);
+        providerMessageDistributor.distribute(processedNotificationDetails, processedMessageHolder);
+
+        ArgumentCaptor<DistributionEvent> eventCaptor = ArgumentCaptor.forClass(DistributionEvent.class);
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(eventCaptor.capture());
+        Mockito.verifyNoInteractions(payloadStore);
+        assertNotNull(eventCaptor.getValue().getProviderMessages());
+    }
+
     @Test
     public void distributeMissingDestinationKeyTest() {
         MockProcessingAuditAccessor processingAuditAccessor = new MockProcessingAuditAccessor();
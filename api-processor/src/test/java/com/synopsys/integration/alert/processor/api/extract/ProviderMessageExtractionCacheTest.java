@@ -0,0 +1,125 @@
+package com.synopsys.integration.alert.processor.api.extract;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+import com.synopsys.integration.alert.processor.api.extract.model.ProcessedProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
+import com.synopsys.integration.alert.processor.api.filter.NotificationContentWrapper;
+import com.synopsys.integration.blackduck.api.manual.component.LicenseLimitNotificationContent;
+import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
+
+public class ProviderMessageExtractionCacheTest {
+    private static final ProviderDetails PROVIDER_DETAILS = new ProviderDetails(1L, new LinkableItem("Black Duck", "bd-server", "https://bd-server"));
+
+    @Test
+    public void extractsOncePerNotificationContentTest() {
+        CountingExtractor extractor = new CountingExtractor();
+        ProviderMessageExtractionCache extractionCache = new ProviderMessageExtractionCache();
+        NotificationContentWrapper notification = createNotification(1L, new LicenseLimitNotificationContent());
+
+        ProcessedProviderMessageHolder firstHolder = extractionCache.retrieveOrExtract(notification, extractor);
+        ProcessedProviderMessageHolder secondHolder = extractionCache.retrieveOrExtract(notification, extractor);
+
+        assertSame(firstHolder, secondHolder);
+        assertEquals(1, extractor.getExtractionCount());
+        assertEquals(1L, extractionCache.getTotalHits());
+        assertEquals(1L, extractionCache.getTotalMisses());
+        assertEquals(50.0, extractionCache.getHitRate());
+    }
+
+    @Test
+    public void separateContentIsExtractedSeparatelyTest() {
+        CountingExtractor extractor = new CountingExtractor();
+        ProviderMessageExtractionCache extractionCache = new ProviderMessageExtractionCache();
+
+        extractionCache.retrieveOrExtract(createNotification(1L, new LicenseLimitNotificationContent()), extractor);
+        extractionCache.retrieveOrExtract(createNotification(1L, new LicenseLimitNotificationContent()), extractor);
+        extractionCache.retrieveOrExtract(createNotification(2L, new LicenseLimitNotificationContent()), extractor);
+
+        assertEquals(3, extractor.getExtractionCount());
+    }
+
+    @Test
+    public void clearEvictsExtractedMessagesTest() {
+        CountingExtractor extractor = new CountingExtractor();
+        ProviderMessageExtractionCache extractionCache = new ProviderMessageExtractionCache();
+        NotificationContentWrapper notification = createNotification(1L, new LicenseLimitNotificationContent());
+
+        extractionCache.retrieveOrExtract(notification, extractor);
+        extractionCache.clear();
+        extractionCache.retrieveOrExtract(notification, extractor);
+
+        assertEquals(2, extractor.getExtractionCount());
+        assertEquals(2L, extractionCache.getTotalMisses());
+    }
+
+    @Test
+    public void failuresAreNotCachedTest() {
+        CountingExtractor extractor = new CountingExtractor();
+        extractor.setFailing(true);
+        ProviderMessageExtractionCache extractionCache = new ProviderMessageExtractionCache();
+        NotificationContentWrapper notification = createNotification(1L, new LicenseLimitNotificationContent());
+
+        assertThrows(IllegalStateException.class, () -> extractionCache.retrieveOrExtract(notification, extractor));
+        extractor.setFailing(false);
+        extractionCache.retrieveOrExtract(notification, extractor);
+
+        assertEquals(2, extractor.getExtractionCount());
+    }
+
+    private NotificationContentWrapper createNotification(Long notificationId, LicenseLimitNotificationContent notificationContent) {
+        AlertNotificationModel notificationModel = new AlertNotificationModel(
+            notificationId,
+            PROVIDER_DETAILS.getProviderConfigId(),
+            PROVIDER_DETAILS.getProvider().getLabel(),
+            PROVIDER_DETAILS.getProvider().getValue(),
+            NotificationType.LICENSE_LIMIT.name(),
+            "{}",
+            OffsetDateTime.now(),
+            OffsetDateTime.now(),
+            false
+        );
+        return new NotificationContentWrapper(notificationModel, notificationContent, LicenseLimitNotificationContent.class);
+    }
+
+    private static class CountingExtractor extends ProviderMessageExtractor<LicenseLimitNotificationContent> {
+        private final AtomicInteger extractionCount = new AtomicInteger(0);
+        private boolean failing = false;
+
+        public CountingExtractor() {
+            super(NotificationType.LICENSE_LIMIT, LicenseLimitNotificationContent.class);
+        }
+
+        public int getExtractionCount() {
+            return extractionCount.get();
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        protected ProviderMessageHolder extract(NotificationContentWrapper notificationContentWrapper, LicenseLimitNotificationContent notificationContent) {
+            extractionCount.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("Extraction failed");
+            }
+            SimpleMessage simpleMessage = SimpleMessage.original(PROVIDER_DETAILS, "License limit", "License limit reached", List.of());
+            return new ProviderMessageHolder(List.of(), List.of(simpleMessage));
+        }
+
+    }
+
+}
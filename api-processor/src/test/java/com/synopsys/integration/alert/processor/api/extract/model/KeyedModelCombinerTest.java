@@ -0,0 +1,94 @@
+package com.synopsys.integration.alert.processor.api.extract.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.blackduck.api.manual.enumeration.OperationType;
+
+public class KeyedModelCombinerTest {
+    private static final OperationType[] OPERATIONS = { OperationType.CREATE, OperationType.UPDATE, OperationType.DELETE };
+
+    private final KeyedModelCombiner<CombinableTestModel> combiner = new KeyedModelCombiner<>(model -> model.key);
+
+    @Test
+    public void combineMatchesCombinableModelTest() {
+        Random random = new Random(0L);
+        for (int i = 0; i < 10000; i++) {
+            List<CombinableTestModel> models = createModels(random, random.nextInt(14), 3);
+            assertEquals(CombinableModel.combine(models), combiner.combine(models), () -> "Models: " + models);
+        }
+    }
+
+    @Test
+    public void combineCancelledModelNearEndTest() {
+        CombinableTestModel create = new CombinableTestModel(1, OperationType.CREATE);
+        CombinableTestModel other = new CombinableTestModel(2, OperationType.CREATE);
+        CombinableTestModel delete = new CombinableTestModel(1, OperationType.DELETE);
+        CombinableTestModel otherCreate = new CombinableTestModel(2, OperationType.CREATE);
+        List<CombinableTestModel> models = List.of(create, other, delete, otherCreate);
+
+        // The model that moves into the cancelled model's position is not combined with the rest of the list
+        assertEquals(List.of(other, otherCreate), CombinableModel.combine(models));
+        assertEquals(List.of(other, otherCreate), combiner.combine(models));
+    }
+
+    @Test
+    public void combineLargeListTest() {
+        Random random = new Random(0L);
+        List<CombinableTestModel> models = createModels(random, 1000, 250);
+        assertEquals(CombinableModel.combine(models), combiner.combine(models));
+
+        List<CombinableTestModel> largeModels = createModels(random, 100000, 25000);
+        List<CombinableTestModel> combinedModels = combiner.combine(largeModels);
+        assertTrue(combinedModels.size() <= largeModels.size());
+    }
+
+    private List<CombinableTestModel> createModels(Random random, int count, int keyCount) {
+        List<CombinableTestModel> models = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            models.add(new CombinableTestModel(random.nextInt(keyCount), OPERATIONS[random.nextInt(OPERATIONS.length)]));
+        }
+        return models;
+    }
+
+    private static class CombinableTestModel implements CombinableModel<CombinableTestModel> {
+        final int key;
+        final OperationType operation;
+
+        public CombinableTestModel(int key, OperationType operation) {
+            this.key = key;
+            this.operation = operation;
+        }
+
+        @Override
+        public List<CombinableTestModel> combine(CombinableTestModel otherModel) {
+            if (key != otherModel.key) {
+                return List.of(this, otherModel);
+            }
+
+            if (operation.equals(otherModel.operation)) {
+                return List.of(this);
+            }
+
+            if (OperationType.CREATE.equals(operation) && OperationType.DELETE.equals(otherModel.operation)) {
+                return List.of();
+            } else if (OperationType.DELETE.equals(operation) && OperationType.CREATE.equals(otherModel.operation)) {
+                return List.of(otherModel);
+            }
+            return List.of(this, otherModel);
+        }
+
+        @Override
+        public String toString() {
+            return key + ":" + operation;
+        }
+
+    }
+
+}
@@ -106,6 +106,14 @@ public class ProcessedProviderMessageHolderTest {
         assertEquals(4, notificationIds.size());
     }
 
+    @Test
+    public void extractNotificationIdsPerMessageTest() {
+        ProcessedProviderMessageHolder processedProviderMessageHolder = new ProcessedProviderMessageHolder(List.of(processedProviderMessage1, processedProviderMessage2), List.of(processedSimpleMessage1));
+        List<Set<Long>> notificationIdsPerMessage = processedProviderMessageHolder.extractNotificationIdsPerMessage();
+
+        assertEquals(List.of(Set.of(10L), Set.of(20L), Set.of(11L)), notificationIdsPerMessage);
+    }
+
     @Test
     public void getProcessedProjectMessagesTest() {
         ProcessedProviderMessageHolder processedProviderMessageHolder = new ProcessedProviderMessageHolder(List.of(processedProviderMessage1, processedProviderMessage2), List.of(processedSimpleMessage1, processedSimpleMessage2));
@@ -45,6 +45,18 @@ public class ProviderMessageHolderTest {
         reduceAndAssert(left, right);
     }
 
+    @Test
+    public void expandTest() {
+        ProviderMessageHolder providerMessageHolder = new ProviderMessageHolder(List.of(PROJECT_MESSAGE, PROJECT_MESSAGE), List.of(SIMPLE_MESSAGE));
+        List<ProviderMessageHolder> singleMessageHolders = providerMessageHolder.expand();
+
+        assertEquals(3, singleMessageHolders.size());
+        assertEquals(List.of(PROJECT_MESSAGE), singleMessageHolders.get(0).getProjectMessages());
+        assertEquals(List.of(PROJECT_MESSAGE), singleMessageHolders.get(1).getProjectMessages());
+        assertEquals(List.of(SIMPLE_MESSAGE), singleMessageHolders.get(2).getSimpleMessages());
+        assertEquals(List.of(), singleMessageHolders.get(2).getProjectMessages());
+    }
+
     private void reduceAndAssert(ProviderMessageHolder left, ProviderMessageHolder right) {
         ProviderMessageHolder reduced = ProviderMessageHolder.reduce(left, right);
         assertGetter(left, right, reduced, ProviderMessageHolder::getProjectMessages);
@@ -8,7 +8,9 @@
 package com.synopsys.integration.azure.boards.common.service.query.fluent;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -55,6 +57,17 @@ public class WorkItemQueryWhere {
         return this;
     }
 
+    /**
+     * Intended for the {@link WorkItemQueryWhereOperator#IN} and {@link WorkItemQueryWhereOperator#NOT_IN} operators, e.g. [Field] In ('a', 'b')
+     */
+    public WorkItemQueryWhere and(String lhs, WorkItemQueryWhereOperator operator, Collection<String> rhs) {
+        String joinedRhs = rhs
+                               .stream()
+                               .map(value -> String.format("'%s'", value))
+                               .collect(Collectors.joining(", "));
+        return and(lhs, operator, joinedRhs, WorkItemQueryWhereConditionRHSType.LITERAL_LIST);
+    }
+
     public WorkItemQueryWhere or(String lhs, WorkItemQueryWhereOperator operator, String rhs) {
         return or(lhs, operator, rhs, WorkItemQueryWhereConditionRHSType.LITERAL);
     }
@@ -130,6 +143,8 @@ public class WorkItemQueryWhere {
                 return String.format("[%s]", rhs);
             case MACRO:
                 return StringUtils.startsWith(rhs, "@") ? rhs : String.format("@%s", rhs);
+            case LITERAL_LIST:
+                return String.format("(%s)", rhs);
             case LITERAL:
             default:
                 return String.format("'%s'", rhs);
@@ -10,6 +10,7 @@ package com.synopsys.integration.azure.boards.common.service.query.fluent;
 public enum WorkItemQueryWhereConditionRHSType {
     FIELD,
     LITERAL,
+    LITERAL_LIST,
     MACRO
 
 }
@@ -48,6 +48,17 @@ public class AzureWorkItemService {
         return azureHttpService.get(requestSpec, responseType);
     }
 
+    /**
+     * Retrieves the work items that exist. The position of a work item that does not exist, or cannot be read, holds null instead of the
+     * request failing.
+     */
+    public AzureArrayResponseModel<WorkItemResponseModel> getExistingWorkItems(String organizationName, String projectIdOrName, Collection<Integer> workItemIds) throws HttpServiceException {
+        String joinedWorkItemIds = StringUtils.join(workItemIds, ",");
+        String requestSpec = String.format("/%s/%s/_apis/wit/workitems?ids=%s&errorPolicy=omit", organizationName, projectIdOrName, joinedWorkItemIds);
+        Type responseType = new TypeToken<AzureArrayResponseModel<WorkItemResponseModel>>() {}.getType();
+        return azureHttpService.get(requestSpec, responseType);
+    }
+
     public WorkItemResponseModel getWorkItem(String organizationName, Integer workItemId) throws HttpServiceException {
         String requestSpec = createWorkItemSpecById(organizationName, workItemId);
         return azureHttpService.get(requestSpec, WorkItemResponseModel.class);
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +63,17 @@ public class WorkItemQueryTest {
         assertEquals(expectedQueryString, workItemQuery.toString());
     }
 
+    @Test
+    public void whereInListTest() {
+        String expectedQueryString = "SELECT [Field] FROM WorkItems WHERE [Field] = 'a value' AND [Other Field] In ('first', 'second') ORDER BY [Field]";
+        WorkItemQuery workItemQuery = WorkItemQuery
+                                          .select("Field")
+                                          .fromWorkItems()
+                                          .where("Field", WorkItemQueryWhereOperator.EQ, "a value")
+                                          .and("Other Field", WorkItemQueryWhereOperator.IN, List.of("first", "second"))
+                                          .orderBy("Field")
+                                          .build();
+        assertEquals(expectedQueryString, workItemQuery.toString());
+    }
+
 }
@@ -7,6 +7,9 @@
  */
 package com.synopsys.integration.alert.channel.azure.boards.distribution;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,6 +26,9 @@ import com.synopsys.integration.azure.boards.common.service.workitem.WorkItemRef
 import com.synopsys.integration.azure.boards.common.service.workitem.response.WorkItemResponseModel;
 
 public class AzureBoardsIssueTrackerQueryManager {
+    // Azure Boards retrieves at most this many work items per request
+    public static final int MAX_WORK_ITEMS_PER_REQUEST = 200;
+
     private final String organizationName;
     private final AzureBoardsJobDetailsModel distributionDetails;
     private final AzureWorkItemService azureWorkItemService;
@@ -53,6 +59,24 @@ public class AzureBoardsIssueTrackerQueryManager {
         return List.of();
     }
 
+    /**
+     * Executes each query and retrieves the work items found by any of them with as few requests as possible.
+     */
+    public List<WorkItemResponseModel> executeQueriesAndRetrieveWorkItems(Collection<WorkItemQuery> queries) throws AlertException {
+        Set<Integer> workItemIds = new LinkedHashSet<>();
+        for (WorkItemQuery query : queries) {
+            executeQuery(query)
+                .getWorkItems()
+                .stream()
+                .map(WorkItemReferenceModel::getId)
+                .forEach(workItemIds::add);
+        }
+        if (!workItemIds.isEmpty()) {
+            return retrieveWorkItems(workItemIds);
+        }
+        return List.of();
+    }
+
     private WorkItemQueryResultResponseModel executeQuery(WorkItemQuery query) throws AlertException {
         try {
             return azureWorkItemQueryService.queryForWorkItems(organizationName, distributionDetails.getProjectNameOrId(), query);
@@ -62,6 +86,16 @@ public class AzureBoardsIssueTrackerQueryManager {
     }
 
     private List<WorkItemResponseModel> retrieveWorkItems(Set<Integer> workItemIds) throws AlertException {
+        List<Integer> orderedWorkItemIds = new ArrayList<>(workItemIds);
+        List<WorkItemResponseModel> workItems = new ArrayList<>(orderedWorkItemIds.size());
+        for (int fromIndex = 0; fromIndex < orderedWorkItemIds.size(); fromIndex += MAX_WORK_ITEMS_PER_REQUEST) {
+            int toIndex = Math.min(fromIndex + MAX_WORK_ITEMS_PER_REQUEST, orderedWorkItemIds.size());
+            workItems.addAll(retrieveWorkItemPage(orderedWorkItemIds.subList(fromIndex, toIndex)));
+        }
+        return workItems;
+    }
+
+    private List<WorkItemResponseModel> retrieveWorkItemPage(List<Integer> workItemIds) throws AlertException {
         try {
             AzureArrayResponseModel<WorkItemResponseModel> workItemArrayResponse = azureWorkItemService.getWorkItems(organizationName, distributionDetails.getProjectNameOrId(), workItemIds);
             return workItemArrayResponse.getValue();
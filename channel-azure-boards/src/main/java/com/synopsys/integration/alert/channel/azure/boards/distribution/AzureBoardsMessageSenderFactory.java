@@ -7,15 +7,18 @@
  */
 package com.synopsys.integration.alert.channel.azure.boards.distribution;
 
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueResponseCreator;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSenderFactory;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerOperationExecutorFactory;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.channel.azure.boards.AzureBoardsHttpExceptionMessageImprover;
 import com.synopsys.integration.alert.channel.azure.boards.AzureBoardsProperties;
@@ -45,6 +48,7 @@ public class AzureBoardsMessageSenderFactory implements IssueTrackerMessageSende
     private final ProxyManager proxyManager;
     private final AzureBoardsHttpExceptionMessageImprover exceptionMessageImprover;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    private final IssueTrackerOperationExecutorFactory operationExecutorFactory;
 
     @Autowired
     public AzureBoardsMessageSenderFactory(
@@ -54,7 +58,8 @@ public class AzureBoardsMessageSenderFactory implements IssueTrackerMessageSende
         AzureBoardsPropertiesFactory azureBoardsPropertiesFactory,
         ProxyManager proxyManager,
         AzureBoardsHttpExceptionMessageImprover exceptionMessageImprover,
-        IssueCategoryRetriever issueCategoryRetriever
+        IssueCategoryRetriever issueCategoryRetriever,
+        IssueTrackerOperationExecutorFactory operationExecutorFactory
     ) {
         this.gson = gson;
         this.callbackInfoCreator = callbackInfoCreator;
@@ -63,6 +68,7 @@ public class AzureBoardsMessageSenderFactory implements IssueTrackerMessageSende
         this.proxyManager = proxyManager;
         this.exceptionMessageImprover = exceptionMessageImprover;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.operationExecutorFactory = operationExecutorFactory;
     }
 
     @Override
@@ -86,7 +92,8 @@ public class AzureBoardsMessageSenderFactory implements IssueTrackerMessageSende
             workItemTypeStateService,
             workItemCommentService,
             azureBoardsProperties.getOrganizationName(),
-            distributionDetails
+            distributionDetails,
+            null
         );
     }
 
@@ -95,7 +102,8 @@ public class AzureBoardsMessageSenderFactory implements IssueTrackerMessageSende
         AzureWorkItemTypeStateService workItemTypeStateService,
         AzureWorkItemCommentService workItemCommentService,
         String organizationName,
-        AzureBoardsJobDetailsModel distributionDetails
+        AzureBoardsJobDetailsModel distributionDetails,
+        @Nullable IssueTrackerIssueIndex<Integer> issueIndex
     ) {
         IssueTrackerIssueResponseCreator issueResponseCreator = new IssueTrackerIssueResponseCreator(callbackInfoCreator);
         AzureBoardsWorkItemTypeStateRetriever workItemTypeStateRetriever = new AzureBoardsWorkItemTypeStateRetriever(gson, workItemService, workItemTypeStateService);
@@ -107,7 +115,7 @@ public class AzureBoardsMessageSenderFactory implements IssueTrackerMessageSende
         AzureBoardsIssueCreator creator = new AzureBoardsIssueCreator(channelKey, commenter, callbackInfoCreator, gson, organizationName, distributionDetails, workItemService, issuePropertiesManager, exceptionMessageImprover,
             issueCategoryRetriever);
 
-        return new IssueTrackerMessageSender<>(creator, transitioner, commenter);
+        return new IssueTrackerMessageSender<>(creator, transitioner, commenter, issueIndex, operationExecutorFactory.retrieveOperationExecutor(channelKey.getUniversalKey()));
     }
 
 }
@@ -21,7 +21,10 @@ import com.synopsys.integration.alert.api.channel.issue.IssueTrackerModelExtract
 import com.synopsys.integration.alert.api.channel.issue.IssueTrackerProcessor;
 import com.synopsys.integration.alert.api.channel.issue.IssueTrackerProcessorFactory;
 import com.synopsys.integration.alert.api.channel.issue.convert.ProjectMessageToIssueModelTransformer;
+import com.synopsys.integration.alert.api.channel.issue.search.IndexedExactIssueFinder;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndexFactory;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerSearcher;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -29,6 +32,7 @@ import com.synopsys.integration.alert.channel.azure.boards.AzureBoardsProperties
 import com.synopsys.integration.alert.channel.azure.boards.AzureBoardsPropertiesFactory;
 import com.synopsys.integration.alert.channel.azure.boards.distribution.search.AzureBoardsComponentIssueFinder;
 import com.synopsys.integration.alert.channel.azure.boards.distribution.search.AzureBoardsExistingIssueDetailsCreator;
+import com.synopsys.integration.alert.channel.azure.boards.distribution.search.AzureBoardsIndexedIssueRetriever;
 import com.synopsys.integration.alert.channel.azure.boards.distribution.search.AzureBoardsIssueStatusResolver;
 import com.synopsys.integration.alert.channel.azure.boards.distribution.search.AzureBoardsProjectAndVersionIssueFinder;
 import com.synopsys.integration.alert.channel.azure.boards.distribution.search.AzureBoardsWorkItemFinder;
@@ -60,6 +64,7 @@ public class AzureBoardsProcessorFactory implements IssueTrackerProcessorFactory
     private final ProxyManager proxyManager;
     private final ProjectMessageToIssueModelTransformer modelTransformer;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    private final IssueTrackerIssueIndexFactory issueIndexFactory;
 
     @Autowired
     public AzureBoardsProcessorFactory(
@@ -69,7 +74,8 @@ public class AzureBoardsProcessorFactory implements IssueTrackerProcessorFactory
         AzureBoardsMessageSenderFactory azureBoardsMessageSenderFactory,
         ProxyManager proxyManager,
         ProjectMessageToIssueModelTransformer modelTransformer,
-        IssueCategoryRetriever issueCategoryRetriever
+        IssueCategoryRetriever issueCategoryRetriever,
+        IssueTrackerIssueIndexFactory issueIndexFactory
     ) {
         this.gson = gson;
         this.formatter = formatter;
@@ -78,6 +84,7 @@ public class AzureBoardsProcessorFactory implements IssueTrackerProcessorFactory
         this.proxyManager = proxyManager;
         this.modelTransformer = modelTransformer;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.issueIndexFactory = issueIndexFactory;
     }
 
     @Override
@@ -117,7 +124,10 @@ public class AzureBoardsProcessorFactory implements IssueTrackerProcessorFactory
         AzureBoardsWorkItemFinder workItemFinder = new AzureBoardsWorkItemFinder(queryManager, teamProjectName);
         AzureBoardsProjectAndVersionIssueFinder projectAndVersionIssueFinder = new AzureBoardsProjectAndVersionIssueFinder(gson, issueDetailsCreator, workItemFinder);
         AzureBoardsComponentIssueFinder componentIssueFinder = new AzureBoardsComponentIssueFinder(gson, workItemFinder, issueDetailsCreator);
-        IssueTrackerSearcher<Integer> azureBoardsSearcher = new IssueTrackerSearcher<>(projectAndVersionIssueFinder, projectAndVersionIssueFinder, componentIssueFinder, componentIssueFinder, modelTransformer);
+        IssueTrackerIssueIndex<Integer> issueIndex = issueIndexFactory.createIssueIndex(distributionDetails.getJobId(), organizationName + '/' + teamProjectName);
+        AzureBoardsIndexedIssueRetriever indexedIssueRetriever = new AzureBoardsIndexedIssueRetriever(gson, organizationName, teamProjectName, workItemService, issueDetailsCreator);
+        IndexedExactIssueFinder<Integer> exactIssueFinder = new IndexedExactIssueFinder<>(componentIssueFinder, issueIndex, indexedIssueRetriever);
+        IssueTrackerSearcher<Integer> azureBoardsSearcher = new IssueTrackerSearcher<>(projectAndVersionIssueFinder, projectAndVersionIssueFinder, componentIssueFinder, exactIssueFinder, modelTransformer);
 
         IssueTrackerModelExtractor<Integer> extractor = new IssueTrackerModelExtractor<>(formatter, azureBoardsSearcher);
 
@@ -125,7 +135,7 @@ public class AzureBoardsProcessorFactory implements IssueTrackerProcessorFactory
         AzureWorkItemTypeStateService workItemTypeStateService = new AzureWorkItemTypeStateService(azureHttpService, apiVersionAppender);
         AzureWorkItemCommentService workItemCommentService = new AzureWorkItemCommentService(azureHttpService, apiVersionAppender);
 
-        IssueTrackerMessageSender<Integer> messageSender = azureBoardsMessageSenderFactory.createMessageSender(workItemService, workItemTypeStateService, workItemCommentService, organizationName, distributionDetails);
+        IssueTrackerMessageSender<Integer> messageSender = azureBoardsMessageSenderFactory.createMessageSender(workItemService, workItemTypeStateService, workItemCommentService, organizationName, distributionDetails, issueIndex);
 
         return new IssueTrackerProcessor<>(extractor, messageSender);
     }
@@ -8,8 +8,12 @@
 package com.synopsys.integration.alert.channel.azure.boards.distribution.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -27,7 +31,9 @@ import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.project.AbstractBomComponentDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.project.BomComponentDetails;
+import com.synopsys.integration.azure.boards.common.service.workitem.response.WorkItemFieldsWrapper;
 import com.synopsys.integration.azure.boards.common.service.workitem.response.WorkItemResponseModel;
+import com.synopsys.integration.azure.boards.common.util.AzureFieldDefinition;
 
 public class AzureBoardsComponentIssueFinder implements ProjectVersionComponentIssueFinder<Integer>, ExactIssueFinder<Integer> {
     private final Gson gson;
@@ -57,6 +63,56 @@ public class AzureBoardsComponentIssueFinder implements ProjectVersionComponentI
         return searchResults;
     }
 
+    /**
+     * Searches for the work items of all the components at once by their component keys, then assigns each work item to the components
+     * whose component key and, when the component has a version, sub-component key it matches.
+     */
+    @Override
+    public List<ProjectIssueSearchResult<Integer>> findIssuesByComponents(ProviderDetails providerDetails, LinkableItem project, LinkableItem projectVersion, List<BomComponentDetails> bomComponents) throws AlertException {
+        if (bomComponents.size() <= 1) {
+            return ProjectVersionComponentIssueFinder.super.findIssuesByComponents(providerDetails, project, projectVersion, bomComponents);
+        }
+
+        Set<String> componentKeys = new LinkedHashSet<>();
+        for (BomComponentDetails bomComponent : bomComponents) {
+            componentKeys.add(createShortenedItemKey(bomComponent.getComponent()));
+        }
+
+        String projectVersionItemKey = AzureBoardsSearchPropertiesUtils.createNullableLinkableItemKey(projectVersion);
+        AzureSearchFieldMappingBuilder fieldRefNameToValue = AzureSearchFieldMappingBuilder.create().addSubTopic(projectVersionItemKey);
+        List<WorkItemResponseModel> workItems = workItemFinder.findWorkItemsByComponentKeys(providerDetails.getProvider(), project, fieldRefNameToValue, new ArrayList<>(componentKeys));
+        if (workItems.isEmpty()) {
+            return List.of();
+        }
+
+        AzureFieldDefinition<String> componentFieldDef = AzureFieldDefinition.stringField(AzureCustomFieldManager.ALERT_COMPONENT_KEY_FIELD_REFERENCE_NAME);
+        Map<String, List<WorkItemResponseModel>> workItemsByComponentKey = new HashMap<>();
+        Map<WorkItemResponseModel, WorkItemFieldsWrapper> workItemFields = new HashMap<>();
+        for (WorkItemResponseModel workItem : workItems) {
+            WorkItemFieldsWrapper fieldsWrapper = workItem.createFieldsWrapper(gson);
+            workItemFields.put(workItem, fieldsWrapper);
+            fieldsWrapper.getField(componentFieldDef)
+                .ifPresent(componentKey -> workItemsByComponentKey.computeIfAbsent(componentKey, ignored -> new ArrayList<>()).add(workItem));
+        }
+
+        AzureFieldDefinition<String> subComponentFieldDef = AzureFieldDefinition.stringField(AzureCustomFieldManager.ALERT_SUB_COMPONENT_KEY_FIELD_REFERENCE_NAME);
+        List<ProjectIssueSearchResult<Integer>> searchResults = new ArrayList<>();
+        for (BomComponentDetails bomComponent : bomComponents) {
+            String componentKey = createShortenedItemKey(bomComponent.getComponent());
+            Optional<String> subComponentKey = bomComponent.getComponentVersion().map(this::createShortenedItemKey);
+            for (WorkItemResponseModel workItem : workItemsByComponentKey.getOrDefault(componentKey, List.of())) {
+                WorkItemFieldsWrapper fieldsWrapper = workItemFields.get(workItem);
+                if (subComponentKey.isEmpty() || subComponentKey.equals(fieldsWrapper.getField(subComponentFieldDef))) {
+                    IssueBomComponentDetails issueBomComponent = IssueBomComponentDetails.fromBomComponentDetails(bomComponent);
+                    ProjectIssueModel projectIssueModel = ProjectIssueModel.bom(providerDetails, project, projectVersion, issueBomComponent);
+                    ExistingIssueDetails<Integer> issueDetails = issueDetailsCreator.createIssueDetails(workItem, fieldsWrapper, projectIssueModel);
+                    searchResults.add(new ProjectIssueSearchResult<>(issueDetails, projectIssueModel));
+                }
+            }
+        }
+        return searchResults;
+    }
+
     @Override
     public List<ExistingIssueDetails<Integer>> findExistingIssuesByProjectIssueModel(ProjectIssueModel projectIssueModel) throws AlertException {
         LinkableItem projectVersion = projectIssueModel.getProjectVersion()
@@ -98,6 +154,11 @@ public class AzureBoardsComponentIssueFinder implements ProjectVersionComponentI
         return azureSearchFieldMappingBuilder;
     }
 
+    private String createShortenedItemKey(LinkableItem linkableItem) {
+        String itemKey = AzureBoardsSearchPropertiesUtils.createNullableLinkableItemKey(linkableItem);
+        return AzureSearchFieldMappingBuilder.shortenFieldValue(itemKey);
+    }
+
     private ExistingIssueDetails<Integer> createIssueDetails(WorkItemResponseModel workItem, ProjectIssueModel projectIssueModel) {
         return issueDetailsCreator.createIssueDetails(workItem, workItem.createFieldsWrapper(gson), projectIssueModel);
     }
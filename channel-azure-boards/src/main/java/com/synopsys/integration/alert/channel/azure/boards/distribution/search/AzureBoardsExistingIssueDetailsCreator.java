@@ -31,11 +31,15 @@ public class AzureBoardsExistingIssueDetailsCreator {
     }
 
     public ExistingIssueDetails<Integer> createIssueDetails(WorkItemResponseModel workItem, WorkItemFieldsWrapper workItemFields, ProjectIssueModel projectIssueModel) {
+        IssueCategory issueCategory = issueCategoryRetriever.retrieveIssueCategoryFromProjectIssueModel(projectIssueModel);
+        return createIssueDetails(workItem, workItemFields, issueCategory);
+    }
+
+    public ExistingIssueDetails<Integer> createIssueDetails(WorkItemResponseModel workItem, WorkItemFieldsWrapper workItemFields, IssueCategory issueCategory) {
         Integer workItemId = workItem.getId();
         String workItemTitle = workItemFields.getField(WorkItemResponseFields.System_Title).orElse("Unknown Title");
         String workItemUILink = AzureBoardsUILinkUtils.extractUILink(organizationName, workItem);
 
-        IssueCategory issueCategory = issueCategoryRetriever.retrieveIssueCategoryFromProjectIssueModel(projectIssueModel);
         String workItemState = workItemFields.getField(WorkItemResponseFields.System_State).orElse("Unknown");
         IssueStatus issueStatus = issueStatusResolver.resolveIssueStatus(workItemState);
         return new ExistingIssueDetails<>(workItemId, Objects.toString(workItemId), workItemTitle, workItemUILink, issueStatus, issueCategory);
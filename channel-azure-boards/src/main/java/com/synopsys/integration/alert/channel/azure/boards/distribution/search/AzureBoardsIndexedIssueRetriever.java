@@ -0,0 +1,83 @@
+/*
+ * channel-azure-boards
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.channel.azure.boards.distribution.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
+import com.synopsys.integration.alert.api.channel.issue.search.IndexedIssueRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
+import com.synopsys.integration.alert.api.common.model.exception.AlertException;
+import com.synopsys.integration.alert.channel.azure.boards.distribution.AzureBoardsIssueTrackerQueryManager;
+import com.synopsys.integration.azure.boards.common.http.HttpServiceException;
+import com.synopsys.integration.azure.boards.common.service.workitem.AzureWorkItemService;
+import com.synopsys.integration.azure.boards.common.service.workitem.response.WorkItemResponseModel;
+
+/**
+ * Reads indexed work items with one request per {@link AzureBoardsIssueTrackerQueryManager#MAX_WORK_ITEMS_PER_REQUEST} work items. Work
+ * items that no longer exist are omitted from the response instead of failing the request.
+ */
+public class AzureBoardsIndexedIssueRetriever implements IndexedIssueRetriever<Integer> {
+    private final Gson gson;
+    private final String organizationName;
+    private final String teamProjectName;
+    private final AzureWorkItemService workItemService;
+    private final AzureBoardsExistingIssueDetailsCreator issueDetailsCreator;
+
+    public AzureBoardsIndexedIssueRetriever(
+        Gson gson,
+        String organizationName,
+        String teamProjectName,
+        AzureWorkItemService workItemService,
+        AzureBoardsExistingIssueDetailsCreator issueDetailsCreator
+    ) {
+        this.gson = gson;
+        this.organizationName = organizationName;
+        this.teamProjectName = teamProjectName;
+        this.workItemService = workItemService;
+        this.issueDetailsCreator = issueDetailsCreator;
+    }
+
+    @Override
+    public Map<String, ExistingIssueDetails<Integer>> retrieveIndexedIssues(Map<String, IssueCategory> issueCategoriesByIssueId) throws AlertException {
+        List<Integer> workItemIds = issueCategoriesByIssueId.keySet()
+                                        .stream()
+                                        .map(Integer::valueOf)
+                                        .collect(Collectors.toList());
+        Map<String, ExistingIssueDetails<Integer>> currentIssues = new HashMap<>();
+        int maxWorkItemsPerRequest = AzureBoardsIssueTrackerQueryManager.MAX_WORK_ITEMS_PER_REQUEST;
+        for (int fromIndex = 0; fromIndex < workItemIds.size(); fromIndex += maxWorkItemsPerRequest) {
+            int toIndex = Math.min(fromIndex + maxWorkItemsPerRequest, workItemIds.size());
+            for (WorkItemResponseModel workItem : retrieveWorkItems(workItemIds.subList(fromIndex, toIndex))) {
+                String issueId = String.valueOf(workItem.getId());
+                IssueCategory issueCategory = issueCategoriesByIssueId.get(issueId);
+                if (null != issueCategory) {
+                    currentIssues.put(issueId, issueDetailsCreator.createIssueDetails(workItem, workItem.createFieldsWrapper(gson), issueCategory));
+                }
+            }
+        }
+        return currentIssues;
+    }
+
+    private List<WorkItemResponseModel> retrieveWorkItems(List<Integer> workItemIds) throws AlertException {
+        try {
+            return workItemService.getExistingWorkItems(organizationName, teamProjectName, workItemIds)
+                       .getValue()
+                       .stream()
+                       .filter(workItem -> null != workItem)
+                       .collect(Collectors.toList());
+        } catch (HttpServiceException e) {
+            throw new AlertException(String.format("Failed to retrieve Azure Boards work items: %s", workItemIds), e);
+        }
+    }
+
+}
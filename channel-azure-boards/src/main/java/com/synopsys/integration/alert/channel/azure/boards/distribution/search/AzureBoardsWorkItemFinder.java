@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.alert.channel.azure.boards.distribution.search;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -29,6 +30,53 @@ public class AzureBoardsWorkItemFinder {
     }
 
     public List<WorkItemResponseModel> findWorkItems(LinkableItem provider, LinkableItem project, AzureSearchFieldMappingBuilder fieldReferenceNameToExpectedValue) throws AlertException {
+        WorkItemQuery query = createQueryBuilder(provider, project, fieldReferenceNameToExpectedValue)
+                                  .orderBy(WorkItemResponseFields.System_Id.getFieldName())
+                                  .build();
+        return queryManager.executeQueryAndRetrieveWorkItems(query);
+    }
+
+    /**
+     * Finds the work items that match the expected values and any of the component keys. The component keys are split across as few
+     * queries as the query length limit allows.
+     */
+    public List<WorkItemResponseModel> findWorkItemsByComponentKeys(
+        LinkableItem provider,
+        LinkableItem project,
+        AzureSearchFieldMappingBuilder fieldReferenceNameToExpectedValue,
+        List<String> componentKeys
+    ) throws AlertException {
+        String baseQuery = createComponentKeysQuery(provider, project, fieldReferenceNameToExpectedValue, List.of()).rawQuery();
+        int queryLength = baseQuery.length();
+
+        List<WorkItemQuery> queries = new ArrayList<>();
+        List<String> queryComponentKeys = new ArrayList<>();
+        for (String componentKey : componentKeys) {
+            // Each key is quoted and separated from the previous one by a comma and a space
+            int keyLength = componentKey.length() + 4;
+            if (!queryComponentKeys.isEmpty() && queryLength + keyLength > WorkItemQuery.QUERY_CHAR_LIMIT) {
+                queries.add(createComponentKeysQuery(provider, project, fieldReferenceNameToExpectedValue, queryComponentKeys));
+                queryComponentKeys = new ArrayList<>();
+                queryLength = baseQuery.length();
+            }
+            queryComponentKeys.add(componentKey);
+            queryLength += keyLength;
+        }
+
+        if (!queryComponentKeys.isEmpty()) {
+            queries.add(createComponentKeysQuery(provider, project, fieldReferenceNameToExpectedValue, queryComponentKeys));
+        }
+        return queryManager.executeQueriesAndRetrieveWorkItems(queries);
+    }
+
+    private WorkItemQuery createComponentKeysQuery(LinkableItem provider, LinkableItem project, AzureSearchFieldMappingBuilder fieldReferenceNameToExpectedValue, List<String> componentKeys) {
+        return createQueryBuilder(provider, project, fieldReferenceNameToExpectedValue)
+                   .and(AzureCustomFieldManager.ALERT_COMPONENT_KEY_FIELD_REFERENCE_NAME, WorkItemQueryWhereOperator.IN, componentKeys)
+                   .orderBy(WorkItemResponseFields.System_Id.getFieldName())
+                   .build();
+    }
+
+    private WorkItemQueryWhere createQueryBuilder(LinkableItem provider, LinkableItem project, AzureSearchFieldMappingBuilder fieldReferenceNameToExpectedValue) {
         String providerKey = AzureBoardsSearchPropertiesUtils.createProviderKey(provider.getLabel(), provider.getUrl().orElse(null));
         String topicKey = AzureBoardsSearchPropertiesUtils.createNullableLinkableItemKey(project);
 
@@ -44,9 +92,7 @@ public class AzureBoardsWorkItemFinder {
         for (AzureSearchFieldMappingBuilder.ReferenceToValue refToValue : fieldReferenceNameToExpectedValue.buildAsList()) {
             queryBuilder = queryBuilder.and(refToValue.getReferenceKey(), WorkItemQueryWhereOperator.EQ, refToValue.getFieldValue());
         }
-
-        WorkItemQuery query = queryBuilder.orderBy(systemIdFieldName).build();
-        return queryManager.executeQueryAndRetrieveWorkItems(query);
+        return queryBuilder;
     }
 
 }
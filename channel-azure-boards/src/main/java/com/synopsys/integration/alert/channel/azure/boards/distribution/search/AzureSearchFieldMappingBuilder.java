@@ -54,8 +54,15 @@ public class AzureSearchFieldMappingBuilder {
         return this;
     }
 
+    /**
+     * @return the value as it is stored in, and must be searched for in, an Alert custom field
+     */
+    public static String shortenFieldValue(String value) {
+        return StringUtils.truncate(value, AzureSearchFieldMappingBuilder.AZURE_CUSTOM_PROPERTY_LIMIT);
+    }
+
     private void addMapping(String key, String value) {
-        String shortenedKeyValue = StringUtils.truncate(value, AzureSearchFieldMappingBuilder.AZURE_CUSTOM_PROPERTY_LIMIT);
+        String shortenedKeyValue = shortenFieldValue(value);
         customFieldMapping.put(key, shortenedKeyValue);
     }
 
@@ -17,14 +17,17 @@ import com.synopsys.integration.alert.api.channel.issue.model.IssuePolicyDetails
 import com.synopsys.integration.alert.api.channel.issue.model.ProjectIssueModel;
 import com.synopsys.integration.alert.api.channel.issue.search.ExistingIssueDetails;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.ProjectIssueSearchResult;
 import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueCategory;
 import com.synopsys.integration.alert.api.channel.issue.search.enumeration.IssueStatus;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.channel.azure.boards.distribution.AzureBoardsIssueTrackerQueryManager;
+import com.synopsys.integration.alert.channel.azure.boards.distribution.util.AzureBoardsSearchPropertiesUtils;
 import com.synopsys.integration.alert.common.enumeration.ItemOperation;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.project.AbstractBomComponentDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.project.BomComponentDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentConcernSeverity;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentPolicy;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ComponentUpgradeGuidance;
@@ -98,6 +101,61 @@ public class AzureBoardsComponentIssueFinderTest {
         assertEquals(IssueCategory.BOM, existingIssueDetails.getIssueCategory());
     }
 
+    @Test
+    public void findIssuesByComponentsTest() throws AlertException {
+        Gson gson = new Gson();
+        AzureBoardsIssueTrackerQueryManager queryManager = Mockito.mock(AzureBoardsIssueTrackerQueryManager.class);
+        AzureBoardsExistingIssueDetailsCreator issueDetailsCreator = new AzureBoardsExistingIssueDetailsCreator("orgName", new IssueCategoryRetriever(), azureBoardsIssueStatusResolver);
+        AzureBoardsWorkItemFinder workItemFinder = new AzureBoardsWorkItemFinder(queryManager, "test proj");
+        AzureBoardsComponentIssueFinder componentIssueFinder = new AzureBoardsComponentIssueFinder(gson, workItemFinder, issueDetailsCreator);
+
+        LinkableItem otherComponentVersion = new LinkableItem("Component Version", "2.0.0");
+        BomComponentDetails bomComponent = createBomComponentDetails(COMPONENT_ITEM, COMPONENT_VERSION_ITEM);
+        BomComponentDetails otherVersionBomComponent = createBomComponentDetails(COMPONENT_ITEM, otherComponentVersion);
+        BomComponentDetails unmatchedBomComponent = createBomComponentDetails(new LinkableItem("Component", "Another BOM component"), COMPONENT_VERSION_ITEM);
+
+        WorkItemResponseModel workItem = createWorkItemResponseModel(1, COMPONENT_ITEM, COMPONENT_VERSION_ITEM);
+        WorkItemResponseModel otherVersionWorkItem = createWorkItemResponseModel(2, COMPONENT_ITEM, otherComponentVersion);
+        Mockito.when(queryManager.executeQueriesAndRetrieveWorkItems(Mockito.anyCollection())).thenReturn(List.of(workItem, otherVersionWorkItem));
+
+        List<ProjectIssueSearchResult<Integer>> searchResults = componentIssueFinder.findIssuesByComponents(
+            PROVIDER_DETAILS,
+            PROJECT_ITEM,
+            PROJECT_VERSION_ITEM,
+            List.of(bomComponent, otherVersionBomComponent, unmatchedBomComponent)
+        );
+
+        Mockito.verify(queryManager, Mockito.times(1)).executeQueriesAndRetrieveWorkItems(Mockito.anyCollection());
+        assertEquals(2, searchResults.size());
+        assertEquals(1, searchResults.get(0).getExistingIssueDetails().getIssueId().intValue());
+        assertEquals(COMPONENT_VERSION_ITEM.getValue(), searchResults.get(0).getProjectIssueModel().getBomComponentDetails().getComponentVersion().map(LinkableItem::getValue).orElse(null));
+        assertEquals(2, searchResults.get(1).getExistingIssueDetails().getIssueId().intValue());
+        assertEquals(otherComponentVersion.getValue(), searchResults.get(1).getProjectIssueModel().getBomComponentDetails().getComponentVersion().map(LinkableItem::getValue).orElse(null));
+    }
+
+    private WorkItemResponseModel createWorkItemResponseModel(Integer workItemId, LinkableItem component, LinkableItem componentVersion) {
+        JsonObject workItemFields = new JsonObject();
+        workItemFields.addProperty(WorkItemResponseFields.System_State.getFieldName(), workItemCompletedState);
+        workItemFields.addProperty(AzureCustomFieldManager.ALERT_COMPONENT_KEY_FIELD_REFERENCE_NAME, AzureBoardsSearchPropertiesUtils.createNullableLinkableItemKey(component));
+        workItemFields.addProperty(AzureCustomFieldManager.ALERT_SUB_COMPONENT_KEY_FIELD_REFERENCE_NAME, AzureBoardsSearchPropertiesUtils.createNullableLinkableItemKey(componentVersion));
+        return new WorkItemResponseModel(workItemId, null, workItemFields, null, null, null, null);
+    }
+
+    private static BomComponentDetails createBomComponentDetails(LinkableItem component, LinkableItem componentVersion) {
+        return new BomComponentDetails(
+            component,
+            componentVersion,
+            COMPONENT_VULNERABILITIES,
+            List.of(COMPONENT_POLICY),
+            List.of(),
+            new LinkableItem("License", "A software license", "https://license-url"),
+            "Example Usage",
+            ComponentUpgradeGuidance.none(),
+            List.of(),
+            "https://issues-url"
+        );
+    }
+
     private WorkItemResponseModel createWorkItemResponseModel(String workItemState) {
         JsonObject workItemFields = new JsonObject();
         workItemFields.addProperty(WorkItemResponseFields.System_State.getFieldName(), workItemState);
@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -102,6 +104,38 @@ public class AzureBoardsWorkItemFinderTest {
         assertEquals(truncatedComponent, component);
     }
 
+    @Test
+    public void verifyComponentKeysSplitAcrossQueries() throws AlertException {
+        AzureBoardsIssueTrackerQueryManager azureBoardsIssueTrackerQueryManager = Mockito.mock(AzureBoardsIssueTrackerQueryManager.class);
+        ArgumentCaptor<Collection<WorkItemQuery>> workItemQueriesArgumentCaptor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.doReturn(List.of()).when(azureBoardsIssueTrackerQueryManager).executeQueriesAndRetrieveWorkItems(Mockito.anyCollection());
+
+        AzureBoardsWorkItemFinder azureBoardsWorkItemFinder = new AzureBoardsWorkItemFinder(azureBoardsIssueTrackerQueryManager, "team project name");
+        LinkableItem provider = new LinkableItem("providerLabel", "providerValue");
+        LinkableItem project = new LinkableItem("projectLabel", "projectValue");
+        AzureSearchFieldMappingBuilder azureSearchFieldMappingBuilder = AzureSearchFieldMappingBuilder.create().addSubTopic("subTopicKey");
+
+        List<String> componentKeys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            componentKeys.add(StringUtils.truncate(i + StringUtils.repeat("componentKey", 30), 256));
+        }
+        azureBoardsWorkItemFinder.findWorkItemsByComponentKeys(provider, project, azureSearchFieldMappingBuilder, componentKeys);
+
+        Mockito.verify(azureBoardsIssueTrackerQueryManager).executeQueriesAndRetrieveWorkItems(workItemQueriesArgumentCaptor.capture());
+        Collection<WorkItemQuery> workItemQueries = workItemQueriesArgumentCaptor.getValue();
+        assertTrue(workItemQueries.size() > 1);
+        assertTrue(workItemQueries.size() < componentKeys.size());
+
+        int foundComponentKeys = 0;
+        for (WorkItemQuery workItemQuery : workItemQueries) {
+            assertFalse(workItemQuery.exceedsCharLimit());
+            String rawQuery = workItemQuery.rawQuery();
+            assertTrue(rawQuery.contains(AzureCustomFieldManager.ALERT_COMPONENT_KEY_FIELD_REFERENCE_NAME + "] " + WorkItemQueryWhereOperator.IN.getComparator()));
+            foundComponentKeys += StringUtils.countMatches(rawQuery, "componentKeycomponentKey");
+        }
+        assertTrue(foundComponentKeys >= componentKeys.size());
+    }
+
     public void assertQueryDataFound(Map<String, String> whereClauseValues, String key, String expectedValue) {
         String foundItem = whereClauseValues.get(key);
         assertNotNull(foundItem);
@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.channel.jira.cloud;
 import org.slf4j.Logger;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
 import com.synopsys.integration.alert.channel.jira.cloud.descriptor.JiraCloudDescriptor;
 import com.synopsys.integration.alert.common.channel.issuetracker.exception.IssueTrackerException;
 import com.synopsys.integration.alert.common.persistence.accessor.FieldUtility;
@@ -66,6 +67,17 @@ public class JiraCloudProperties {
         return new JiraCloudServiceFactory(intLogger, jiraHttpClient, gson);
     }
 
+    /**
+     * Creates a service factory whose http client keeps its connections in the shared pool of the Jira host.
+     */
+    public JiraCloudServiceFactory createJiraServicesCloudFactory(Logger logger, Gson gson, ChannelRestConnectionFactory connectionFactory) throws IssueTrackerException {
+        JiraCloudRestConfig jiraServerConfig = createJiraServerConfig();
+        Slf4jIntLogger intLogger = new Slf4jIntLogger(logger);
+        JiraHttpClient jiraHttpClient = jiraServerConfig.createJiraHttpClient(intLogger);
+        connectionFactory.useSharedConnectionPool(jiraHttpClient, url);
+        return new JiraCloudServiceFactory(intLogger, jiraHttpClient, gson);
+    }
+
     public String getUrl() {
         return url;
     }
@@ -16,9 +16,10 @@ import com.synopsys.integration.alert.descriptor.api.model.ChannelKeys;
 @Component
 public class JiraCloudConfigurationAction extends ConfigurationAction {
     @Autowired
-    public JiraCloudConfigurationAction(JiraCloudGlobalFieldModelTestAction globalTestAction) {
+    public JiraCloudConfigurationAction(JiraCloudGlobalFieldModelTestAction globalTestAction, JiraCloudGlobalApiAction globalApiAction) {
         super(ChannelKeys.JIRA_CLOUD);
         addGlobalTestAction(globalTestAction);
+        addGlobalApiAction(globalApiAction);
     }
 
 }
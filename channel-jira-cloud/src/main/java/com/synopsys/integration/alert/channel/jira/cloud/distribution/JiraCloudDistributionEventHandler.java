@@ -14,12 +14,13 @@ import com.synopsys.integration.alert.api.channel.DistributionEventHandler;
 import com.synopsys.integration.alert.common.persistence.accessor.JiraCloudJobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.JiraCloudJobDetailsModel;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventPayloadStore;
 
 @Component
 public class JiraCloudDistributionEventHandler extends DistributionEventHandler<JiraCloudJobDetailsModel> {
     @Autowired
-    public JiraCloudDistributionEventHandler(JiraCloudChannel channel, JiraCloudJobDetailsAccessor jobDetailsAccessor, ProcessingAuditAccessor auditAccessor) {
-        super(channel, jobDetailsAccessor, auditAccessor);
+    public JiraCloudDistributionEventHandler(JiraCloudChannel channel, JiraCloudJobDetailsAccessor jobDetailsAccessor, ProcessingAuditAccessor auditAccessor, DistributionEventPayloadStore payloadStore) {
+        super(channel, jobDetailsAccessor, auditAccessor, payloadStore);
     }
 
 }
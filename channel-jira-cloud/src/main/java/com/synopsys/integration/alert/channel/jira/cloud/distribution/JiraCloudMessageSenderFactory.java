@@ -7,19 +7,23 @@
  */
 package com.synopsys.integration.alert.channel.jira.cloud.distribution;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueResponseCreator;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSenderFactory;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerOperationExecutorFactory;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraIssueCreationRequestCreator;
+import com.synopsys.integration.alert.api.channel.jira.distribution.JiraServiceFactoryRegistry;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.JiraCustomFieldResolver;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueAlertPropertiesManager;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -34,37 +38,46 @@ import com.synopsys.integration.jira.common.cloud.service.FieldService;
 import com.synopsys.integration.jira.common.cloud.service.IssueService;
 import com.synopsys.integration.jira.common.cloud.service.JiraCloudServiceFactory;
 import com.synopsys.integration.jira.common.cloud.service.ProjectService;
+import com.synopsys.integration.jira.common.cloud.service.UserSearchService;
 import com.synopsys.integration.jira.common.rest.service.IssuePropertyService;
 
 @Component
 public class JiraCloudMessageSenderFactory implements IssueTrackerMessageSenderFactory<JiraCloudJobDetailsModel, String> {
-    private final Logger logger = LoggerFactory.getLogger(getClass());
-
     private final Gson gson;
+    private final JiraCloudServiceFactoryRegistry serviceFactoryRegistry;
     private final JiraCloudChannelKey channelKey;
     private final JiraCloudPropertiesFactory jiraCloudPropertiesFactory;
     private final IssueTrackerCallbackInfoCreator callbackInfoCreator;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    private final IssueTrackerOperationExecutorFactory operationExecutorFactory;
+    private final boolean bulkIssueCreationEnabled;
 
     @Autowired
     public JiraCloudMessageSenderFactory(
         Gson gson,
+        JiraCloudServiceFactoryRegistry serviceFactoryRegistry,
         JiraCloudChannelKey channelKey,
         JiraCloudPropertiesFactory jiraCloudPropertiesFactory,
         IssueTrackerCallbackInfoCreator callbackInfoCreator,
-        IssueCategoryRetriever issueCategoryRetriever
+        IssueCategoryRetriever issueCategoryRetriever,
+        IssueTrackerOperationExecutorFactory operationExecutorFactory,
+        @Value("${alert.distribution.jira.bulk.creation.enabled:false}") boolean bulkIssueCreationEnabled
     ) {
         this.gson = gson;
+        this.serviceFactoryRegistry = serviceFactoryRegistry;
         this.channelKey = channelKey;
         this.jiraCloudPropertiesFactory = jiraCloudPropertiesFactory;
         this.callbackInfoCreator = callbackInfoCreator;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.operationExecutorFactory = operationExecutorFactory;
+        this.bulkIssueCreationEnabled = bulkIssueCreationEnabled;
     }
 
     @Override
     public IssueTrackerMessageSender<String> createMessageSender(JiraCloudJobDetailsModel distributionDetails) throws AlertException {
         JiraCloudProperties jiraCloudProperties = jiraCloudPropertiesFactory.createJiraProperties();
-        JiraCloudServiceFactory jiraCloudServiceFactory = jiraCloudProperties.createJiraServicesCloudFactory(logger, gson);
+        JiraServiceFactoryRegistry.Registration<JiraCloudServiceFactory> registration = serviceFactoryRegistry.retrieveRegistration(jiraCloudProperties);
+        JiraCloudServiceFactory jiraCloudServiceFactory = registration.getServiceFactory();
 
         // Jira Services
         IssueService issueService = jiraCloudServiceFactory.createIssueService();
@@ -76,11 +89,44 @@ public class JiraCloudMessageSenderFactory implements IssueTrackerMessageSenderF
         ProjectService projectService = jiraCloudServiceFactory.createProjectService();
         FieldService fieldService = jiraCloudServiceFactory.createFieldService();
 
-        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(fieldService::getUserVisibleFields);
+        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(registration.getFieldCatalogCache().createFieldSupplier(fieldService::getUserVisibleFields));
         JiraIssueCreationRequestCreator issueCreationRequestCreator = new JiraIssueCreationRequestCreator(customFieldResolver);
         JiraErrorMessageUtility jiraErrorMessageUtility = new JiraErrorMessageUtility(gson, customFieldResolver);
 
-        return createMessageSender(issueService, distributionDetails, projectService, issueCreationRequestCreator, issuePropertiesManager, jiraErrorMessageUtility);
+        return createMessageSender(
+            issueService,
+            distributionDetails,
+            projectService,
+            issueCreationRequestCreator,
+            issuePropertiesManager,
+            jiraErrorMessageUtility,
+            null,
+            jiraCloudServiceFactory.createUserSearchService(),
+            createBulkIssueCreationService(jiraCloudServiceFactory)
+        );
+    }
+
+    /**
+     * @return a service that creates several issues in a single request, or null if issues are created one at a time
+     */
+    @Nullable
+    public JiraBulkIssueCreationService createBulkIssueCreationService(JiraCloudServiceFactory jiraCloudServiceFactory) {
+        if (!bulkIssueCreationEnabled) {
+            return null;
+        }
+        return new JiraBulkIssueCreationService(gson, jiraCloudServiceFactory.createJiraApiClient());
+    }
+
+    public IssueTrackerMessageSender<String> createMessageSender(
+        IssueService issueService,
+        JiraCloudJobDetailsModel distributionDetails,
+        ProjectService projectService,
+        JiraIssueCreationRequestCreator issueCreationRequestCreator,
+        JiraIssueAlertPropertiesManager issuePropertiesManager,
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        @Nullable IssueTrackerIssueIndex<String> issueIndex
+    ) {
+        return createMessageSender(issueService, distributionDetails, projectService, issueCreationRequestCreator, issuePropertiesManager, jiraErrorMessageUtility, issueIndex, null, null);
     }
 
     public IssueTrackerMessageSender<String> createMessageSender(
@@ -89,7 +135,10 @@ public class JiraCloudMessageSenderFactory implements IssueTrackerMessageSenderF
         ProjectService projectService,
         JiraIssueCreationRequestCreator issueCreationRequestCreator,
         JiraIssueAlertPropertiesManager issuePropertiesManager,
-        JiraErrorMessageUtility jiraErrorMessageUtility
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        @Nullable IssueTrackerIssueIndex<String> issueIndex,
+        @Nullable UserSearchService userSearchService,
+        @Nullable JiraBulkIssueCreationService bulkIssueCreationService
     ) {
         // Jira Services
         IssueTrackerIssueResponseCreator issueResponseCreator = new IssueTrackerIssueResponseCreator(callbackInfoCreator);
@@ -107,10 +156,12 @@ public class JiraCloudMessageSenderFactory implements IssueTrackerMessageSenderF
             issueCreationRequestCreator,
             issuePropertiesManager,
             jiraErrorMessageUtility,
-            issueCategoryRetriever
+            issueCategoryRetriever,
+            userSearchService,
+            bulkIssueCreationService
         );
 
-        return new IssueTrackerMessageSender<>(issueCreator, issueTransitioner, issueCommenter);
+        return new IssueTrackerMessageSender<>(issueCreator, issueTransitioner, issueCommenter, issueIndex, operationExecutorFactory.retrieveOperationExecutor(channelKey.getUniversalKey()));
     }
 
 }
@@ -18,14 +18,18 @@ import com.synopsys.integration.alert.api.channel.issue.IssueTrackerProcessor;
 import com.synopsys.integration.alert.api.channel.issue.IssueTrackerProcessorFactory;
 import com.synopsys.integration.alert.api.channel.issue.convert.ProjectMessageToIssueModelTransformer;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndexFactory;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerSearcher;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
 import com.synopsys.integration.alert.api.channel.jira.JiraConstants;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraIssueCreationRequestCreator;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraMessageFormatter;
+import com.synopsys.integration.alert.api.channel.jira.distribution.JiraServiceFactoryRegistry;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.JiraCustomFieldResolver;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueAlertPropertiesManager;
+import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueDetailsSearchService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueStatusCreator;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraSearcherFactory;
 import com.synopsys.integration.alert.api.common.model.exception.AlertConfigurationException;
@@ -54,6 +58,7 @@ public class JiraCloudProcessorFactory implements IssueTrackerProcessorFactory<J
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final Gson gson;
+    private final JiraCloudServiceFactoryRegistry serviceFactoryRegistry;
     private final JiraMessageFormatter jiraMessageFormatter;
     private final JiraCloudChannelKey jiraCloudChannelKey;
     private final ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor;
@@ -61,19 +66,23 @@ public class JiraCloudProcessorFactory implements IssueTrackerProcessorFactory<J
     private final JiraCloudMessageSenderFactory messageSenderFactory;
     private final ProjectMessageToIssueModelTransformer modelTransformer;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    private final IssueTrackerIssueIndexFactory issueIndexFactory;
 
     @Autowired
     public JiraCloudProcessorFactory(
         Gson gson,
+        JiraCloudServiceFactoryRegistry serviceFactoryRegistry,
         JiraMessageFormatter jiraMessageFormatter,
         JiraCloudChannelKey jiraCloudChannelKey,
         ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor,
         ProxyManager proxyManager,
         JiraCloudMessageSenderFactory messageSenderFactory,
         ProjectMessageToIssueModelTransformer modelTransformer,
-        IssueCategoryRetriever issueCategoryRetriever
+        IssueCategoryRetriever issueCategoryRetriever,
+        IssueTrackerIssueIndexFactory issueIndexFactory
     ) {
         this.gson = gson;
+        this.serviceFactoryRegistry = serviceFactoryRegistry;
         this.jiraMessageFormatter = jiraMessageFormatter;
         this.jiraCloudChannelKey = jiraCloudChannelKey;
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
@@ -81,12 +90,14 @@ public class JiraCloudProcessorFactory implements IssueTrackerProcessorFactory<J
         this.messageSenderFactory = messageSenderFactory;
         this.modelTransformer = modelTransformer;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.issueIndexFactory = issueIndexFactory;
     }
 
     @Override
     public IssueTrackerProcessor<String> createProcessor(JiraCloudJobDetailsModel distributionDetails) throws AlertException {
         JiraCloudProperties jiraProperties = createJiraCloudProperties();
-        JiraCloudServiceFactory jiraCloudServiceFactory = jiraProperties.createJiraServicesCloudFactory(logger, gson);
+        JiraServiceFactoryRegistry.Registration<JiraCloudServiceFactory> registration = serviceFactoryRegistry.retrieveRegistration(jiraProperties);
+        JiraCloudServiceFactory jiraCloudServiceFactory = registration.getServiceFactory();
 
         if (!jiraProperties.isPluginCheckDisabled()) {
             checkIfAlertPluginIsInstalled(jiraCloudServiceFactory.createPluginManagerService());
@@ -103,19 +114,31 @@ public class JiraCloudProcessorFactory implements IssueTrackerProcessorFactory<J
         // Extractor Requirement
         JiraIssueStatusCreator jiraIssueStatusCreator = new JiraIssueStatusCreator(distributionDetails.getResolveTransition(), distributionDetails.getReopenTransition());
         JiraSearcherFactory jiraSearcherFactory = new JiraSearcherFactory(issuePropertiesManager, jiraIssueStatusCreator, issueService::getTransitions, issueCategoryRetriever, modelTransformer);
-        JiraCloudQueryExecutor jiraCloudQueryExecutor = new JiraCloudQueryExecutor(issueSearchService);
-        IssueTrackerSearcher<String> jiraSearcher = jiraSearcherFactory.createJiraSearcher(distributionDetails.getProjectNameOrKey(), jiraCloudQueryExecutor);
+        JiraIssueDetailsSearchService issueDetailsSearchService = new JiraIssueDetailsSearchService(gson, jiraCloudServiceFactory.createJiraApiClient());
+        JiraCloudQueryExecutor jiraCloudQueryExecutor = new JiraCloudQueryExecutor(issueSearchService, issueDetailsSearchService);
+        IssueTrackerIssueIndex<String> issueIndex = issueIndexFactory.createIssueIndex(distributionDetails.getJobId(), distributionDetails.getProjectNameOrKey());
+        IssueTrackerSearcher<String> jiraSearcher = jiraSearcherFactory.createJiraSearcher(distributionDetails.getProjectNameOrKey(), jiraCloudQueryExecutor, issueIndex);
 
         IssueTrackerModelExtractor<String> extractor = new IssueTrackerModelExtractor<>(jiraMessageFormatter, jiraSearcher);
 
         ProjectService projectService = jiraCloudServiceFactory.createProjectService();
         FieldService fieldService = jiraCloudServiceFactory.createFieldService();
 
-        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(fieldService::getUserVisibleFields);
+        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(registration.getFieldCatalogCache().createFieldSupplier(fieldService::getUserVisibleFields));
         JiraIssueCreationRequestCreator issueCreationRequestCreator = new JiraIssueCreationRequestCreator(customFieldResolver);
         JiraErrorMessageUtility jiraErrorMessageUtility = new JiraErrorMessageUtility(gson, customFieldResolver);
 
-        IssueTrackerMessageSender<String> messageSender = messageSenderFactory.createMessageSender(issueService, distributionDetails, projectService, issueCreationRequestCreator, issuePropertiesManager, jiraErrorMessageUtility);
+        IssueTrackerMessageSender<String> messageSender = messageSenderFactory.createMessageSender(
+            issueService,
+            distributionDetails,
+            projectService,
+            issueCreationRequestCreator,
+            issuePropertiesManager,
+            jiraErrorMessageUtility,
+            issueIndex,
+            jiraCloudServiceFactory.createUserSearchService(),
+            messageSenderFactory.createBulkIssueCreationService(jiraCloudServiceFactory)
+        );
 
         return new IssueTrackerProcessor<>(extractor, messageSender);
     }
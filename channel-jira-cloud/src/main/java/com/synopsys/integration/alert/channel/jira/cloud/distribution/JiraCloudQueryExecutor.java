@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueDetailsSearchService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraSearcherResponseModel;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JqlQueryExecutor;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -22,9 +23,11 @@ import com.synopsys.integration.jira.common.model.response.IssueResponseModel;
 
 public class JiraCloudQueryExecutor implements JqlQueryExecutor {
     private final IssueSearchService issueSearchService;
+    private final JiraIssueDetailsSearchService issueDetailsSearchService;
 
-    public JiraCloudQueryExecutor(IssueSearchService issueSearchService) {
+    public JiraCloudQueryExecutor(IssueSearchService issueSearchService, JiraIssueDetailsSearchService issueDetailsSearchService) {
         this.issueSearchService = issueSearchService;
+        this.issueDetailsSearchService = issueDetailsSearchService;
     }
 
     @Override
@@ -36,6 +39,15 @@ public class JiraCloudQueryExecutor implements JqlQueryExecutor {
                    .collect(Collectors.toList());
     }
 
+    @Override
+    public List<JiraSearcherResponseModel> executeQueryForIssueDetails(String jql) throws AlertException {
+        try {
+            return issueDetailsSearchService.search(jql);
+        } catch (IntegrationException e) {
+            throw new AlertException("Failed to query for Jira Cloud issues", e);
+        }
+    }
+
     private IssueSearchResponseModel queryForIssues(String jql) throws AlertException {
         try {
             return issueSearchService.queryForIssues(jql);
@@ -0,0 +1,46 @@
+/*
+ * channel-jira-cloud
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.channel.jira.cloud.distribution;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.channel.jira.distribution.JiraServiceFactoryRegistry;
+import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.channel.jira.cloud.JiraCloudProperties;
+import com.synopsys.integration.alert.common.channel.issuetracker.exception.IssueTrackerException;
+import com.synopsys.integration.jira.common.cloud.service.JiraCloudServiceFactory;
+
+@Component
+public class JiraCloudServiceFactoryRegistry extends JiraServiceFactoryRegistry<JiraCloudServiceFactory> {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Gson gson;
+    private final ChannelRestConnectionFactory connectionFactory;
+
+    @Autowired
+    public JiraCloudServiceFactoryRegistry(Gson gson, ChannelRestConnectionFactory connectionFactory, @Value("${alert.distribution.jira.field.cache.seconds:300}") long fieldCatalogTimeToLiveSeconds) {
+        super(Duration.ofSeconds(fieldCatalogTimeToLiveSeconds));
+        this.gson = gson;
+        this.connectionFactory = connectionFactory;
+    }
+
+    public Registration<JiraCloudServiceFactory> retrieveRegistration(JiraCloudProperties jiraProperties) throws IssueTrackerException {
+        List<Object> connectionDetails = Arrays.asList(jiraProperties.getUrl(), jiraProperties.getUsername(), jiraProperties.getAccessToken());
+        return retrieveRegistration(connectionDetails, () -> jiraProperties.createJiraServicesCloudFactory(logger, gson, connectionFactory));
+    }
+
+}
@@ -8,14 +8,17 @@
 package com.synopsys.integration.alert.channel.jira.cloud.distribution.delegate;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraIssueCreationRequestCreator;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.MessageReplacementValues;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.MessageValueReplacementResolver;
 import com.synopsys.integration.alert.api.channel.jira.distribution.delegate.JiraIssueCreator;
@@ -28,17 +31,23 @@ import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.jira.common.cloud.model.IssueCreationRequestModel;
 import com.synopsys.integration.jira.common.cloud.service.IssueService;
 import com.synopsys.integration.jira.common.cloud.service.ProjectService;
+import com.synopsys.integration.jira.common.cloud.service.UserSearchService;
 import com.synopsys.integration.jira.common.model.components.ProjectComponent;
 import com.synopsys.integration.jira.common.model.request.builder.IssueRequestModelFieldsMapBuilder;
 import com.synopsys.integration.jira.common.model.response.IssueCreationResponseModel;
 import com.synopsys.integration.jira.common.model.response.IssueResponseModel;
 import com.synopsys.integration.jira.common.model.response.PageOfProjectsResponseModel;
+import com.synopsys.integration.jira.common.model.response.UserDetailsResponseModel;
 
 public class JiraCloudIssueCreator extends JiraIssueCreator<IssueCreationRequestModel> {
     private final JiraCloudJobDetailsModel distributionDetails;
     private final IssueService issueService;
     private final ProjectService projectService;
     private final JiraIssueCreationRequestCreator jiraIssueCreationRequestCreator;
+    @Nullable
+    private final UserSearchService userSearchService;
+
+    private String reporterAccountId;
 
     public JiraCloudIssueCreator(
         JiraCloudChannelKey jiraCloudChannelKey,
@@ -51,6 +60,40 @@ public class JiraCloudIssueCreator extends JiraIssueCreator<IssueCreationRequest
         JiraIssueAlertPropertiesManager issuePropertiesManager,
         JiraErrorMessageUtility jiraErrorMessageUtility,
         IssueCategoryRetriever issueCategoryRetriever
+    ) {
+        this(
+            jiraCloudChannelKey,
+            jiraCloudIssueCommenter,
+            callbackInfoCreator,
+            distributionDetails,
+            issueService,
+            projectService,
+            jiraIssueCreationRequestCreator,
+            issuePropertiesManager,
+            jiraErrorMessageUtility,
+            issueCategoryRetriever,
+            null,
+            null
+        );
+    }
+
+    /**
+     * @param userSearchService        Resolves the account id of the reporter, which Jira Cloud requires in a bulk request
+     * @param bulkIssueCreationService Creates several issues in a single request. Issues are created one at a time when this is null.
+     */
+    public JiraCloudIssueCreator(
+        JiraCloudChannelKey jiraCloudChannelKey,
+        JiraCloudIssueCommenter jiraCloudIssueCommenter,
+        IssueTrackerCallbackInfoCreator callbackInfoCreator,
+        JiraCloudJobDetailsModel distributionDetails,
+        IssueService issueService,
+        ProjectService projectService,
+        JiraIssueCreationRequestCreator jiraIssueCreationRequestCreator,
+        JiraIssueAlertPropertiesManager issuePropertiesManager,
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        IssueCategoryRetriever issueCategoryRetriever,
+        @Nullable UserSearchService userSearchService,
+        @Nullable JiraBulkIssueCreationService bulkIssueCreationService
     ) {
         super(
             jiraCloudChannelKey,
@@ -59,12 +102,14 @@ public class JiraCloudIssueCreator extends JiraIssueCreator<IssueCreationRequest
             jiraErrorMessageUtility,
             issuePropertiesManager,
             JiraCloudDescriptor.KEY_ISSUE_CREATOR,
-            issueCategoryRetriever
+            issueCategoryRetriever,
+            bulkIssueCreationService
         );
         this.distributionDetails = distributionDetails;
         this.issueService = issueService;
         this.projectService = projectService;
         this.jiraIssueCreationRequestCreator = jiraIssueCreationRequestCreator;
+        this.userSearchService = userSearchService;
     }
 
     @Override
@@ -110,6 +155,31 @@ public class JiraCloudIssueCreator extends JiraIssueCreator<IssueCreationRequest
         return creationRequest.getReporterEmail();
     }
 
+    @Override
+    protected Map<String, Object> createBulkIssueFields(IssueCreationRequestModel creationRequest) throws IntegrationException {
+        Map<String, String> reporter = null;
+        String reporterEmail = creationRequest.getReporterEmail();
+        if (StringUtils.isNotBlank(reporterEmail)) {
+            reporter = Map.of("accountId", retrieveReporterAccountId(reporterEmail));
+        }
+        return createBulkIssueFields(creationRequest.getFieldsBuilder().build(), distributionDetails.getIssueType(), reporter);
+    }
+
+    private String retrieveReporterAccountId(String reporterEmail) throws IntegrationException {
+        if (null == reporterAccountId) {
+            if (null == userSearchService) {
+                throw new IntegrationException("Cannot resolve the reporter of the issues without a user search service");
+            }
+            reporterAccountId = userSearchService.findUser(reporterEmail)
+                                    .stream()
+                                    .map(UserDetailsResponseModel::getAccountId)
+                                    .filter(StringUtils::isNotBlank)
+                                    .findFirst()
+                                    .orElseThrow(() -> new IntegrationException(String.format("Unable to find a Jira user with the email '%s'", reporterEmail)));
+        }
+        return reporterAccountId;
+    }
+
     private ProjectComponent retrieveProjectComponent() throws AlertException {
         String jiraProjectName = distributionDetails.getProjectNameOrKey();
         PageOfProjectsResponseModel projectsResponseModel;
@@ -18,12 +18,17 @@ import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel
 import com.synopsys.integration.alert.api.channel.issue.model.IssueTrackerModelHolder;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerOperationExecutorFactory;
+import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
 import com.synopsys.integration.alert.api.common.model.exception.AlertConfigurationException;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.channel.jira.cloud.distribution.JiraCloudMessageSenderFactory;
+import com.synopsys.integration.alert.channel.jira.cloud.distribution.JiraCloudServiceFactoryRegistry;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.common.persistence.model.job.details.JiraCloudJobDetailsModel;
+import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKeys;
+import com.synopsys.integration.alert.test.common.MockAlertProperties;
 import com.synopsys.integration.alert.test.common.TestProperties;
 import com.synopsys.integration.alert.test.common.TestPropertyKey;
 import com.synopsys.integration.alert.test.common.TestTags;
@@ -86,14 +91,23 @@ public class JiraCloudSummaryFieldLengthTestIT {
         IssueCategoryRetriever issueCategoryRetriever = new IssueCategoryRetriever();
         JiraCloudMessageSenderFactory jiraCloudMessageSenderFactory = new JiraCloudMessageSenderFactory(
             gson,
+            new JiraCloudServiceFactoryRegistry(gson, createConnectionFactory(gson), 300L),
             ChannelKeys.JIRA_CLOUD,
             createJiraCloudPropertiesFactory(testProperties),
             new IssueTrackerCallbackInfoCreator(),
-            issueCategoryRetriever);
+            issueCategoryRetriever,
+            new IssueTrackerOperationExecutorFactory(1),
+            false);
         JiraCloudJobDetailsModel jiraCloudJobDetails = createJiraCloudJobDetails(testProperties);
         return jiraCloudMessageSenderFactory.createMessageSender(jiraCloudJobDetails);
     }
 
+    private static ChannelRestConnectionFactory createConnectionFactory(Gson gson) {
+        ProxyManager proxyManager = Mockito.mock(ProxyManager.class);
+        Mockito.when(proxyManager.createProxyInfoForHost(Mockito.anyString())).thenReturn(ProxyInfo.NO_PROXY_INFO);
+        return new ChannelRestConnectionFactory(new MockAlertProperties(), proxyManager, gson);
+    }
+
     private static JiraCloudPropertiesFactory createJiraCloudPropertiesFactory(TestProperties testProperties) throws AlertConfigurationException {
         String url = testProperties.getProperty(TestPropertyKey.TEST_JIRA_CLOUD_URL);
         String apiToken = testProperties.getProperty(TestPropertyKey.TEST_JIRA_CLOUD_API_TOKEN);
@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.channel.jira.server;
 import org.slf4j.Logger;
 
 import com.google.gson.Gson;
+import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
 import com.synopsys.integration.alert.common.channel.issuetracker.exception.IssueTrackerException;
 import com.synopsys.integration.jira.common.rest.JiraHttpClient;
 import com.synopsys.integration.jira.common.server.configuration.JiraServerRestConfig;
@@ -54,6 +55,17 @@ public class JiraServerProperties {
         return new JiraServerServiceFactory(intLogger, jiraHttpClient, gson);
     }
 
+    /**
+     * Creates a service factory whose http client keeps its connections in the shared pool of the Jira host.
+     */
+    public JiraServerServiceFactory createJiraServicesServerFactory(Logger logger, Gson gson, ChannelRestConnectionFactory connectionFactory) throws IssueTrackerException {
+        JiraServerRestConfig jiraServerConfig = createJiraServerConfig();
+        Slf4jIntLogger intLogger = new Slf4jIntLogger(logger);
+        JiraHttpClient jiraHttpClient = jiraServerConfig.createJiraHttpClient(intLogger);
+        connectionFactory.useSharedConnectionPool(jiraHttpClient, url);
+        return new JiraServerServiceFactory(intLogger, jiraHttpClient, gson);
+    }
+
     public String getUrl() {
         return url;
     }
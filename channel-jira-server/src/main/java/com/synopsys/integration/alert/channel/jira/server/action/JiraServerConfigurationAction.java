@@ -16,9 +16,10 @@ import com.synopsys.integration.alert.descriptor.api.model.ChannelKeys;
 @Component
 public class JiraServerConfigurationAction extends ConfigurationAction {
     @Autowired
-    protected JiraServerConfigurationAction(JiraServerGlobalFieldModelTestAction jiraServerGlobalTestAction) {
+    protected JiraServerConfigurationAction(JiraServerGlobalFieldModelTestAction jiraServerGlobalTestAction, JiraServerGlobalApiAction jiraServerGlobalApiAction) {
         super(ChannelKeys.JIRA_SERVER);
         addGlobalTestAction(jiraServerGlobalTestAction);
+        addGlobalApiAction(jiraServerGlobalApiAction);
     }
 
 }
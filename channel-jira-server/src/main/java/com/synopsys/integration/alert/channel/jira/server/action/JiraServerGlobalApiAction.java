@@ -0,0 +1,43 @@
+/*
+ * channel-jira-server
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.channel.jira.server.action;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.synopsys.integration.alert.channel.jira.server.distribution.JiraServerServiceFactoryRegistry;
+import com.synopsys.integration.alert.common.action.ApiAction;
+import com.synopsys.integration.alert.common.rest.model.FieldModel;
+
+@Component
+public class JiraServerGlobalApiAction extends ApiAction {
+    private final JiraServerServiceFactoryRegistry serviceFactoryRegistry;
+
+    @Autowired
+    public JiraServerGlobalApiAction(JiraServerServiceFactoryRegistry serviceFactoryRegistry) {
+        this.serviceFactoryRegistry = serviceFactoryRegistry;
+    }
+
+    @Override
+    public FieldModel afterSaveAction(FieldModel fieldModel) {
+        serviceFactoryRegistry.invalidate();
+        return fieldModel;
+    }
+
+    @Override
+    public FieldModel afterUpdateAction(FieldModel previousFieldModel, FieldModel currentFieldModel) {
+        serviceFactoryRegistry.invalidate();
+        return currentFieldModel;
+    }
+
+    @Override
+    public void afterDeleteAction(FieldModel fieldModel) {
+        serviceFactoryRegistry.invalidate();
+    }
+
+}
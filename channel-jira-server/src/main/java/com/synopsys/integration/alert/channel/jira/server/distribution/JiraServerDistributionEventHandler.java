@@ -14,12 +14,13 @@ import com.synopsys.integration.alert.api.channel.DistributionEventHandler;
 import com.synopsys.integration.alert.common.persistence.accessor.JiraServerJobDetailsAccessor;
 import com.synopsys.integration.alert.common.persistence.accessor.ProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.persistence.model.job.details.JiraServerJobDetailsModel;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventPayloadStore;
 
 @Component
 public class JiraServerDistributionEventHandler extends DistributionEventHandler<JiraServerJobDetailsModel> {
     @Autowired
-    public JiraServerDistributionEventHandler(JiraServerChannel channel, JiraServerJobDetailsAccessor jobDetailsAccessor, ProcessingAuditAccessor auditAccessor) {
-        super(channel, jobDetailsAccessor, auditAccessor);
+    public JiraServerDistributionEventHandler(JiraServerChannel channel, JiraServerJobDetailsAccessor jobDetailsAccessor, ProcessingAuditAccessor auditAccessor, DistributionEventPayloadStore payloadStore) {
+        super(channel, jobDetailsAccessor, auditAccessor, payloadStore);
     }
 
 }
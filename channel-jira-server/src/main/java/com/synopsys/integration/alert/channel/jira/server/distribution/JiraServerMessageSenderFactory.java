@@ -7,19 +7,23 @@
  */
 package com.synopsys.integration.alert.channel.jira.server.distribution;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerIssueResponseCreator;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSenderFactory;
+import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerOperationExecutorFactory;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraIssueCreationRequestCreator;
+import com.synopsys.integration.alert.api.channel.jira.distribution.JiraServiceFactoryRegistry;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.JiraCustomFieldResolver;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueAlertPropertiesManager;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -38,33 +42,41 @@ import com.synopsys.integration.jira.common.server.service.ProjectService;
 
 @Component
 public class JiraServerMessageSenderFactory implements IssueTrackerMessageSenderFactory<JiraServerJobDetailsModel, String> {
-    private final Logger logger = LoggerFactory.getLogger(getClass());
-
     private final Gson gson;
+    private final JiraServerServiceFactoryRegistry serviceFactoryRegistry;
     private final JiraServerChannelKey channelKey;
     private final JiraServerPropertiesFactory jiraServerPropertiesFactory;
     private final IssueTrackerCallbackInfoCreator callbackInfoCreator;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    private final IssueTrackerOperationExecutorFactory operationExecutorFactory;
+    private final boolean bulkIssueCreationEnabled;
 
     @Autowired
     public JiraServerMessageSenderFactory(
         Gson gson,
+        JiraServerServiceFactoryRegistry serviceFactoryRegistry,
         JiraServerChannelKey channelKey,
         JiraServerPropertiesFactory jiraServerPropertiesFactory,
         IssueTrackerCallbackInfoCreator callbackInfoCreator,
-        IssueCategoryRetriever issueCategoryRetriever
+        IssueCategoryRetriever issueCategoryRetriever,
+        IssueTrackerOperationExecutorFactory operationExecutorFactory,
+        @Value("${alert.distribution.jira.bulk.creation.enabled:false}") boolean bulkIssueCreationEnabled
     ) {
         this.gson = gson;
+        this.serviceFactoryRegistry = serviceFactoryRegistry;
         this.channelKey = channelKey;
         this.jiraServerPropertiesFactory = jiraServerPropertiesFactory;
         this.callbackInfoCreator = callbackInfoCreator;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.operationExecutorFactory = operationExecutorFactory;
+        this.bulkIssueCreationEnabled = bulkIssueCreationEnabled;
     }
 
     @Override
     public IssueTrackerMessageSender<String> createMessageSender(JiraServerJobDetailsModel distributionDetails) throws AlertException {
         JiraServerProperties jiraServerProperties = jiraServerPropertiesFactory.createJiraProperties();
-        JiraServerServiceFactory jiraServerServiceFactory = jiraServerProperties.createJiraServicesServerFactory(logger, gson);
+        JiraServiceFactoryRegistry.Registration<JiraServerServiceFactory> registration = serviceFactoryRegistry.retrieveRegistration(jiraServerProperties);
+        JiraServerServiceFactory jiraServerServiceFactory = registration.getServiceFactory();
 
         // Jira Services
         IssueService issueService = jiraServerServiceFactory.createIssueService();
@@ -76,11 +88,43 @@ public class JiraServerMessageSenderFactory implements IssueTrackerMessageSender
         ProjectService projectService = jiraServerServiceFactory.createProjectService();
         FieldService fieldService = jiraServerServiceFactory.createFieldService();
 
-        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(fieldService::getUserVisibleFields);
+        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(registration.getFieldCatalogCache().createFieldSupplier(fieldService::getUserVisibleFields));
         JiraIssueCreationRequestCreator issueCreationRequestCreator = new JiraIssueCreationRequestCreator(customFieldResolver);
         JiraErrorMessageUtility jiraErrorMessageUtility = new JiraErrorMessageUtility(gson, customFieldResolver);
 
-        return createMessageSender(issueService, distributionDetails, projectService, issueCreationRequestCreator, issuePropertiesManager, jiraErrorMessageUtility);
+        return createMessageSender(
+            issueService,
+            distributionDetails,
+            projectService,
+            issueCreationRequestCreator,
+            issuePropertiesManager,
+            jiraErrorMessageUtility,
+            null,
+            createBulkIssueCreationService(jiraServerServiceFactory)
+        );
+    }
+
+    /**
+     * @return a service that creates several issues in a single request, or null if issues are created one at a time
+     */
+    @Nullable
+    public JiraBulkIssueCreationService createBulkIssueCreationService(JiraServerServiceFactory jiraServerServiceFactory) {
+        if (!bulkIssueCreationEnabled) {
+            return null;
+        }
+        return new JiraBulkIssueCreationService(gson, jiraServerServiceFactory.createJiraApiClient());
+    }
+
+    public IssueTrackerMessageSender<String> createMessageSender(
+        IssueService issueService,
+        JiraServerJobDetailsModel distributionDetails,
+        ProjectService projectService,
+        JiraIssueCreationRequestCreator issueCreationRequestCreator,
+        JiraIssueAlertPropertiesManager issuePropertiesManager,
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        @Nullable IssueTrackerIssueIndex<String> issueIndex
+    ) {
+        return createMessageSender(issueService, distributionDetails, projectService, issueCreationRequestCreator, issuePropertiesManager, jiraErrorMessageUtility, issueIndex, null);
     }
 
     public IssueTrackerMessageSender<String> createMessageSender(
@@ -89,7 +133,9 @@ public class JiraServerMessageSenderFactory implements IssueTrackerMessageSender
         ProjectService projectService,
         JiraIssueCreationRequestCreator issueCreationRequestCreator,
         JiraIssueAlertPropertiesManager issuePropertiesManager,
-        JiraErrorMessageUtility jiraErrorMessageUtility
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        @Nullable IssueTrackerIssueIndex<String> issueIndex,
+        @Nullable JiraBulkIssueCreationService bulkIssueCreationService
     ) {
         IssueTrackerIssueResponseCreator issueResponseCreator = new IssueTrackerIssueResponseCreator(callbackInfoCreator);
 
@@ -106,10 +152,11 @@ public class JiraServerMessageSenderFactory implements IssueTrackerMessageSender
             issueCreationRequestCreator,
             issuePropertiesManager,
             jiraErrorMessageUtility,
-            issueCategoryRetriever
+            issueCategoryRetriever,
+            bulkIssueCreationService
         );
 
-        return new IssueTrackerMessageSender<>(creator, transitioner, commenter);
+        return new IssueTrackerMessageSender<>(creator, transitioner, commenter, issueIndex, operationExecutorFactory.retrieveOperationExecutor(channelKey.getUniversalKey()));
     }
 
 }
@@ -18,14 +18,18 @@ import com.synopsys.integration.alert.api.channel.issue.IssueTrackerProcessor;
 import com.synopsys.integration.alert.api.channel.issue.IssueTrackerProcessorFactory;
 import com.synopsys.integration.alert.api.channel.issue.convert.ProjectMessageToIssueModelTransformer;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndex;
+import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerIssueIndexFactory;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueTrackerSearcher;
 import com.synopsys.integration.alert.api.channel.issue.send.IssueTrackerMessageSender;
 import com.synopsys.integration.alert.api.channel.jira.JiraConstants;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraIssueCreationRequestCreator;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraMessageFormatter;
+import com.synopsys.integration.alert.api.channel.jira.distribution.JiraServiceFactoryRegistry;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.JiraCustomFieldResolver;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueAlertPropertiesManager;
+import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueDetailsSearchService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueStatusCreator;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraSearcherFactory;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -47,33 +51,40 @@ public class JiraServerProcessorFactory implements IssueTrackerProcessorFactory<
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final Gson gson;
+    private final JiraServerServiceFactoryRegistry serviceFactoryRegistry;
     private final JiraMessageFormatter jiraMessageFormatter;
     private final JiraServerPropertiesFactory jiraServerPropertiesFactory;
     private final JiraServerMessageSenderFactory jiraServerMessageSenderFactory;
     private final ProjectMessageToIssueModelTransformer modelTransformer;
     private final IssueCategoryRetriever issueCategoryRetriever;
+    private final IssueTrackerIssueIndexFactory issueIndexFactory;
 
     @Autowired
     public JiraServerProcessorFactory(
         Gson gson,
+        JiraServerServiceFactoryRegistry serviceFactoryRegistry,
         JiraMessageFormatter jiraMessageFormatter,
         JiraServerPropertiesFactory jiraServerPropertiesFactory,
         JiraServerMessageSenderFactory jiraServerMessageSenderFactory,
         ProjectMessageToIssueModelTransformer modelTransformer,
-        IssueCategoryRetriever issueCategoryRetriever
+        IssueCategoryRetriever issueCategoryRetriever,
+        IssueTrackerIssueIndexFactory issueIndexFactory
     ) {
         this.gson = gson;
+        this.serviceFactoryRegistry = serviceFactoryRegistry;
         this.jiraMessageFormatter = jiraMessageFormatter;
         this.jiraServerPropertiesFactory = jiraServerPropertiesFactory;
         this.jiraServerMessageSenderFactory = jiraServerMessageSenderFactory;
         this.modelTransformer = modelTransformer;
         this.issueCategoryRetriever = issueCategoryRetriever;
+        this.issueIndexFactory = issueIndexFactory;
     }
 
     @Override
     public IssueTrackerProcessor<String> createProcessor(JiraServerJobDetailsModel distributionDetails) throws AlertException {
         JiraServerProperties jiraProperties = jiraServerPropertiesFactory.createJiraProperties();
-        JiraServerServiceFactory jiraServerServiceFactory = jiraProperties.createJiraServicesServerFactory(logger, gson);
+        JiraServiceFactoryRegistry.Registration<JiraServerServiceFactory> registration = serviceFactoryRegistry.retrieveRegistration(jiraProperties);
+        JiraServerServiceFactory jiraServerServiceFactory = registration.getServiceFactory();
 
         if (!jiraProperties.isPluginCheckDisabled()) {
             checkIfAlertPluginIsInstalled(jiraServerServiceFactory.createPluginManagerService());
@@ -90,19 +101,30 @@ public class JiraServerProcessorFactory implements IssueTrackerProcessorFactory<
         // Extractor Requirement
         JiraIssueStatusCreator jiraIssueStatusCreator = new JiraIssueStatusCreator(distributionDetails.getResolveTransition(), distributionDetails.getReopenTransition());
         JiraSearcherFactory jiraSearcherFactory = new JiraSearcherFactory(issuePropertiesManager, jiraIssueStatusCreator, issueService::getTransitions, issueCategoryRetriever, modelTransformer);
-        JiraServerQueryExecutor jiraCloudQueryExecutor = new JiraServerQueryExecutor(issueSearchService);
-        IssueTrackerSearcher<String> jiraSearcher = jiraSearcherFactory.createJiraSearcher(distributionDetails.getProjectNameOrKey(), jiraCloudQueryExecutor);
+        JiraIssueDetailsSearchService issueDetailsSearchService = new JiraIssueDetailsSearchService(gson, jiraServerServiceFactory.createJiraApiClient());
+        JiraServerQueryExecutor jiraCloudQueryExecutor = new JiraServerQueryExecutor(issueSearchService, issueDetailsSearchService);
+        IssueTrackerIssueIndex<String> issueIndex = issueIndexFactory.createIssueIndex(distributionDetails.getJobId(), distributionDetails.getProjectNameOrKey());
+        IssueTrackerSearcher<String> jiraSearcher = jiraSearcherFactory.createJiraSearcher(distributionDetails.getProjectNameOrKey(), jiraCloudQueryExecutor, issueIndex);
 
         IssueTrackerModelExtractor<String> extractor = new IssueTrackerModelExtractor<>(jiraMessageFormatter, jiraSearcher);
 
         ProjectService projectService = jiraServerServiceFactory.createProjectService();
         FieldService fieldService = jiraServerServiceFactory.createFieldService();
 
-        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(fieldService::getUserVisibleFields);
+        JiraCustomFieldResolver customFieldResolver = new JiraCustomFieldResolver(registration.getFieldCatalogCache().createFieldSupplier(fieldService::getUserVisibleFields));
         JiraIssueCreationRequestCreator issueCreationRequestCreator = new JiraIssueCreationRequestCreator(customFieldResolver);
         JiraErrorMessageUtility jiraErrorMessageUtility = new JiraErrorMessageUtility(gson, customFieldResolver);
 
-        IssueTrackerMessageSender<String> messageSender = jiraServerMessageSenderFactory.createMessageSender(issueService, distributionDetails, projectService, issueCreationRequestCreator, issuePropertiesManager, jiraErrorMessageUtility);
+        IssueTrackerMessageSender<String> messageSender = jiraServerMessageSenderFactory.createMessageSender(
+            issueService,
+            distributionDetails,
+            projectService,
+            issueCreationRequestCreator,
+            issuePropertiesManager,
+            jiraErrorMessageUtility,
+            issueIndex,
+            jiraServerMessageSenderFactory.createBulkIssueCreationService(jiraServerServiceFactory)
+        );
 
         return new IssueTrackerProcessor<>(extractor, messageSender);
     }
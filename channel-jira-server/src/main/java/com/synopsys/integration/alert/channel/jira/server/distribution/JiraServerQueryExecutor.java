@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.channel.jira.server.distribution;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraIssueDetailsSearchService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JiraSearcherResponseModel;
 import com.synopsys.integration.alert.api.channel.jira.distribution.search.JqlQueryExecutor;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
@@ -20,9 +21,11 @@ import com.synopsys.integration.jira.common.server.service.IssueSearchService;
 
 public class JiraServerQueryExecutor implements JqlQueryExecutor {
     private final IssueSearchService issueSearchService;
+    private final JiraIssueDetailsSearchService issueDetailsSearchService;
 
-    public JiraServerQueryExecutor(IssueSearchService issueSearchService) {
+    public JiraServerQueryExecutor(IssueSearchService issueSearchService, JiraIssueDetailsSearchService issueDetailsSearchService) {
         this.issueSearchService = issueSearchService;
+        this.issueDetailsSearchService = issueDetailsSearchService;
     }
 
     @Override
@@ -34,6 +37,15 @@ public class JiraServerQueryExecutor implements JqlQueryExecutor {
                    .collect(Collectors.toList());
     }
 
+    @Override
+    public List<JiraSearcherResponseModel> executeQueryForIssueDetails(String jql) throws AlertException {
+        try {
+            return issueDetailsSearchService.search(jql);
+        } catch (IntegrationException e) {
+            throw new AlertException("Failed to query for Jira Server issues", e);
+        }
+    }
+
     private IssueSearchResponseModel queryForIssues(String jql) throws AlertException {
         try {
             return issueSearchService.queryForIssues(jql);
@@ -8,14 +8,17 @@
 package com.synopsys.integration.alert.channel.jira.server.distribution.delegate;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 
 import com.synopsys.integration.alert.api.channel.issue.callback.IssueTrackerCallbackInfoCreator;
 import com.synopsys.integration.alert.api.channel.issue.model.IssueCreationModel;
 import com.synopsys.integration.alert.api.channel.issue.search.IssueCategoryRetriever;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraErrorMessageUtility;
 import com.synopsys.integration.alert.api.channel.jira.distribution.JiraIssueCreationRequestCreator;
+import com.synopsys.integration.alert.api.channel.jira.distribution.bulk.JiraBulkIssueCreationService;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.MessageReplacementValues;
 import com.synopsys.integration.alert.api.channel.jira.distribution.custom.MessageValueReplacementResolver;
 import com.synopsys.integration.alert.api.channel.jira.distribution.delegate.JiraIssueCreator;
@@ -50,6 +53,37 @@ public class JiraServerIssueCreator extends JiraIssueCreator<IssueCreationReques
         JiraIssueAlertPropertiesManager issuePropertiesManager,
         JiraErrorMessageUtility jiraErrorMessageUtility,
         IssueCategoryRetriever issueCategoryRetriever
+    ) {
+        this(
+            jiraServerChannelKey,
+            jiraServerIssueCommenter,
+            callbackInfoCreator,
+            distributionDetails,
+            issueService,
+            projectService,
+            jiraIssueCreationRequestCreator,
+            issuePropertiesManager,
+            jiraErrorMessageUtility,
+            issueCategoryRetriever,
+            null
+        );
+    }
+
+    /**
+     * @param bulkIssueCreationService Creates several issues in a single request. Issues are created one at a time when this is null.
+     */
+    public JiraServerIssueCreator(
+        JiraServerChannelKey jiraServerChannelKey,
+        JiraServerIssueCommenter jiraServerIssueCommenter,
+        IssueTrackerCallbackInfoCreator callbackInfoCreator,
+        JiraServerJobDetailsModel distributionDetails,
+        IssueService issueService,
+        ProjectService projectService,
+        JiraIssueCreationRequestCreator jiraIssueCreationRequestCreator,
+        JiraIssueAlertPropertiesManager issuePropertiesManager,
+        JiraErrorMessageUtility jiraErrorMessageUtility,
+        IssueCategoryRetriever issueCategoryRetriever,
+        @Nullable JiraBulkIssueCreationService bulkIssueCreationService
     ) {
         super(
             jiraServerChannelKey,
@@ -58,7 +92,8 @@ public class JiraServerIssueCreator extends JiraIssueCreator<IssueCreationReques
             jiraErrorMessageUtility,
             issuePropertiesManager,
             JiraServerDescriptor.KEY_ISSUE_CREATOR,
-            issueCategoryRetriever
+            issueCategoryRetriever,
+            bulkIssueCreationService
         );
         this.distributionDetails = distributionDetails;
         this.issueService = issueService;
@@ -109,6 +144,16 @@ public class JiraServerIssueCreator extends JiraIssueCreator<IssueCreationReques
         return creationRequest.getReporterUsername();
     }
 
+    @Override
+    protected Map<String, Object> createBulkIssueFields(IssueCreationRequestModel creationRequest) {
+        Map<String, String> reporter = null;
+        String reporterUsername = creationRequest.getReporterUsername();
+        if (StringUtils.isNotBlank(reporterUsername)) {
+            reporter = Map.of("name", reporterUsername);
+        }
+        return createBulkIssueFields(creationRequest.getFieldsBuilder().build(), distributionDetails.getIssueType(), reporter);
+    }
+
     private ProjectComponent retrieveProjectComponent() throws AlertException {
         String jiraProjectName = distributionDetails.getProjectNameOrKey();
         List<ProjectComponent> foundProjectComponents;
@@ -20,4 +20,10 @@ public class MSTeamsChannel extends MessageBoardChannel<MSTeamsJobDetailsModel,
         super(msTeamsChannelMessageConverter, msTeamsChannelMessageSender);
     }
 
+    @Override
+    public boolean supportsBatchDelivery() {
+        // The converter can pack the messages of a batch into fewer chat messages
+        return true;
+    }
+
 }
@@ -7,24 +7,59 @@
  */
 package com.synopsys.integration.alert.channel.msteams.distribution;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.channel.convert.AbstractChannelMessageConverter;
 import com.synopsys.integration.alert.common.persistence.model.job.details.MSTeamsJobDetailsModel;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventBatchingPolicy;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ProjectMessage;
 
 @Component
 public class MSTeamsChannelMessageConverter extends AbstractChannelMessageConverter<MSTeamsJobDetailsModel, MSTeamsChannelMessageModel> {
-    @Autowired
+    // MS Teams rejects message cards larger than 28 KB, which leaves room for the markup around the sections
+    public static final int DEFAULT_MAX_PACKED_MESSAGE_LENGTH = 20000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final boolean messagePackingEnabled;
+    private final int maxPackedMessageLength;
+
     protected MSTeamsChannelMessageConverter(MSTeamsChannelMessageFormatter channelMessageFormatter) {
+        this(channelMessageFormatter, false, DEFAULT_MAX_PACKED_MESSAGE_LENGTH);
+    }
+
+    /**
+     * Messages are only packed within a distribution event, so packing only takes effect when the events of a job carry more than one
+     * message (alert.distribution.event.batch.max.messages above 1).
+     */
+    @Autowired
+    protected MSTeamsChannelMessageConverter(
+        MSTeamsChannelMessageFormatter channelMessageFormatter,
+        DistributionEventBatchingPolicy eventBatchingPolicy,
+        @Value("${alert.distribution.msteams.message.packing.enabled:false}") boolean messagePackingEnabled,
+        @Value("${alert.distribution.msteams.message.packing.max.length:20000}") int maxPackedMessageLength
+    ) {
+        this(channelMessageFormatter, messagePackingEnabled && eventBatchingPolicy.isBatchingEnabled(), maxPackedMessageLength);
+        if (messagePackingEnabled && !eventBatchingPolicy.isBatchingEnabled()) {
+            logger.warn("MS Teams message packing is enabled, but distribution event batching is not. Messages will not be packed.");
+        }
+    }
+
+    protected MSTeamsChannelMessageConverter(MSTeamsChannelMessageFormatter channelMessageFormatter, boolean messagePackingEnabled, int maxPackedMessageLength) {
         super(channelMessageFormatter);
+        this.messagePackingEnabled = messagePackingEnabled;
+        this.maxPackedMessageLength = maxPackedMessageLength > 0 ? maxPackedMessageLength : DEFAULT_MAX_PACKED_MESSAGE_LENGTH;
     }
 
     @Override
@@ -37,6 +72,44 @@ public class MSTeamsChannelMessageConverter extends AbstractChannelMessageConver
         return createMessageModel(projectMessage.getProviderDetails(), messageChunks);
     }
 
+    /**
+     * Combines the sections of consecutive messages with the same title into a single message card, for as long as the content of its
+     * sections fits within the maximum packed length.
+     */
+    @Override
+    protected List<MSTeamsChannelMessageModel> packChannelMessages(MSTeamsJobDetailsModel msTeamsJobDetailsModel, List<MSTeamsChannelMessageModel> channelMessages) {
+        if (!messagePackingEnabled || channelMessages.size() < 2) {
+            return channelMessages;
+        }
+
+        List<MSTeamsChannelMessageModel> packedMessages = new LinkedList<>();
+        String packedTitle = null;
+        List<MSTeamsChannelMessageSection> packedSections = new ArrayList<>();
+        int packedLength = 0;
+        for (MSTeamsChannelMessageModel channelMessage : channelMessages) {
+            int messageLength = computeContentLength(channelMessage.getSections());
+            boolean fitsPackedMessage = channelMessage.getTitle().equals(packedTitle) && packedLength + messageLength <= maxPackedMessageLength;
+            if (!fitsPackedMessage && null != packedTitle) {
+                packedMessages.add(new MSTeamsChannelMessageModel(packedTitle, packedSections));
+                packedSections = new ArrayList<>();
+                packedLength = 0;
+            }
+            packedTitle = channelMessage.getTitle();
+            packedSections.addAll(channelMessage.getSections());
+            packedLength += messageLength;
+        }
+        packedMessages.add(new MSTeamsChannelMessageModel(packedTitle, packedSections));
+        return packedMessages;
+    }
+
+    private int computeContentLength(List<MSTeamsChannelMessageSection> messageSections) {
+        int contentLength = 0;
+        for (MSTeamsChannelMessageSection messageSection : messageSections) {
+            contentLength += messageSection.getTitle().length() + messageSection.getContent().length();
+        }
+        return contentLength;
+    }
+
     private List<MSTeamsChannelMessageModel> createMessageModel(ProviderDetails providerDetails, List<String> messageChunks) {
         String provider = providerDetails.getProvider().getValue();
         String messageTitle = String.format("Received a message from %s", provider);
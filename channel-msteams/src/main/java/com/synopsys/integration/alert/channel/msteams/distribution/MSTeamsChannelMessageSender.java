@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import com.synopsys.integration.alert.api.channel.ChannelMessageSender;
 import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
 import com.synopsys.integration.alert.api.channel.rest.RestChannelUtility;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatchScheduler;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.message.model.MessageResult;
 import com.synopsys.integration.alert.common.persistence.model.job.details.MSTeamsJobDetailsModel;
@@ -34,11 +35,13 @@ public class MSTeamsChannelMessageSender implements ChannelMessageSender<MSTeams
 
     private final MsTeamsKey msTeamsKey;
     private final ChannelRestConnectionFactory connectionFactory;
+    private final WebhookDispatchScheduler dispatchScheduler;
 
     @Autowired
-    public MSTeamsChannelMessageSender(MsTeamsKey msTeamsKey, ChannelRestConnectionFactory connectionFactory) {
+    public MSTeamsChannelMessageSender(MsTeamsKey msTeamsKey, ChannelRestConnectionFactory connectionFactory, WebhookDispatchScheduler dispatchScheduler) {
         this.msTeamsKey = msTeamsKey;
         this.connectionFactory = connectionFactory;
+        this.dispatchScheduler = dispatchScheduler;
     }
 
     @Override
@@ -48,8 +51,8 @@ public class MSTeamsChannelMessageSender implements ChannelMessageSender<MSTeams
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("Content-Type", "application/json");
 
-        IntHttpClient intHttpClient = connectionFactory.createIntHttpClient(webhook);
-        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient);
+        IntHttpClient intHttpClient = connectionFactory.retrieveSharedIntHttpClient(webhook);
+        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient, dispatchScheduler);
 
         List<Request> messageRequests = channelMessages.stream()
                                             .map(this::createJsonString)
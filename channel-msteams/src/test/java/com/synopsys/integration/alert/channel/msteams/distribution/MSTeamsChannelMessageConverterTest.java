@@ -0,0 +1,88 @@
+package com.synopsys.integration.alert.channel.msteams.distribution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.persistence.model.job.details.MSTeamsJobDetailsModel;
+import com.synopsys.integration.alert.common.util.MarkupEncoderUtil;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventBatchingPolicy;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
+
+public class MSTeamsChannelMessageConverterTest {
+    private static final MSTeamsJobDetailsModel JOB_DETAILS = new MSTeamsJobDetailsModel(UUID.randomUUID(), "https://webhook");
+
+    @Test
+    public void packsMessagesOfSameProviderTest() {
+        MSTeamsChannelMessageFormatter messageFormatter = new MSTeamsChannelMessageFormatter(new MarkupEncoderUtil());
+        MSTeamsChannelMessageConverter messageConverter = new MSTeamsChannelMessageConverter(messageFormatter, true, MSTeamsChannelMessageConverter.DEFAULT_MAX_PACKED_MESSAGE_LENGTH);
+
+        ProviderDetails firstProvider = new ProviderDetails(1L, new LinkableItem("Provider", "First"));
+        ProviderDetails secondProvider = new ProviderDetails(2L, new LinkableItem("Provider", "Second"));
+        ProviderMessageHolder messages = new ProviderMessageHolder(List.of(), List.of(
+            createSimpleMessage(firstProvider, "one"),
+            createSimpleMessage(firstProvider, "two"),
+            createSimpleMessage(secondProvider, "three")
+        ));
+
+        List<MSTeamsChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, messages, "jobName");
+
+        assertEquals(2, channelMessages.size());
+        assertEquals(2, channelMessages.get(0).getSections().size());
+        assertEquals(1, channelMessages.get(1).getSections().size());
+        assertEquals("Received a message from Second", channelMessages.get(1).getTitle());
+    }
+
+    @Test
+    public void doesNotPackWhenDisabledTest() {
+        MSTeamsChannelMessageFormatter messageFormatter = new MSTeamsChannelMessageFormatter(new MarkupEncoderUtil());
+        MSTeamsChannelMessageConverter messageConverter = new MSTeamsChannelMessageConverter(messageFormatter);
+
+        ProviderDetails provider = new ProviderDetails(1L, new LinkableItem("Provider", "First"));
+        ProviderMessageHolder messages = new ProviderMessageHolder(List.of(), List.of(createSimpleMessage(provider, "one"), createSimpleMessage(provider, "two")));
+
+        List<MSTeamsChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, messages, "jobName");
+
+        assertEquals(2, channelMessages.size());
+    }
+
+    @Test
+    public void doesNotPackWithoutEventBatchingTest() {
+        MSTeamsChannelMessageFormatter messageFormatter = new MSTeamsChannelMessageFormatter(new MarkupEncoderUtil());
+        DistributionEventBatchingPolicy eventBatchingPolicy = new DistributionEventBatchingPolicy(new Gson(), 1, 0L);
+        MSTeamsChannelMessageConverter messageConverter = new MSTeamsChannelMessageConverter(messageFormatter, eventBatchingPolicy, true, MSTeamsChannelMessageConverter.DEFAULT_MAX_PACKED_MESSAGE_LENGTH);
+
+        ProviderDetails provider = new ProviderDetails(1L, new LinkableItem("Provider", "First"));
+        ProviderMessageHolder messages = new ProviderMessageHolder(List.of(), List.of(createSimpleMessage(provider, "one"), createSimpleMessage(provider, "two")));
+
+        List<MSTeamsChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, messages, "jobName");
+
+        assertEquals(2, channelMessages.size());
+    }
+
+    @Test
+    public void startsNewMessageWhenFullTest() {
+        MSTeamsChannelMessageFormatter messageFormatter = new MSTeamsChannelMessageFormatter(new MarkupEncoderUtil());
+        MSTeamsChannelMessageConverter messageConverter = new MSTeamsChannelMessageConverter(messageFormatter, true, 1);
+
+        ProviderDetails provider = new ProviderDetails(1L, new LinkableItem("Provider", "First"));
+        ProviderMessageHolder messages = new ProviderMessageHolder(List.of(), List.of(createSimpleMessage(provider, "one"), createSimpleMessage(provider, "two")));
+
+        List<MSTeamsChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, messages, "jobName");
+
+        assertEquals(2, channelMessages.size());
+    }
+
+    private SimpleMessage createSimpleMessage(ProviderDetails providerDetails, String summary) {
+        return SimpleMessage.original(providerDetails, summary, "description", List.of());
+    }
+
+}
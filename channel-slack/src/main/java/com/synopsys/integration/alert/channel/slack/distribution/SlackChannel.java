@@ -20,4 +20,10 @@ public class SlackChannel extends MessageBoardChannel<SlackJobDetailsModel, Slac
         super(slackChannelMessageConverter, slackChannelMessageSender);
     }
 
+    @Override
+    public boolean supportsBatchDelivery() {
+        // The converter can pack the messages of a batch into fewer chat messages
+        return true;
+    }
+
 }
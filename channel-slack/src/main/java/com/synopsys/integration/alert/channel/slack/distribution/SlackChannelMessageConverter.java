@@ -10,20 +10,51 @@ package com.synopsys.integration.alert.channel.slack.distribution;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.synopsys.integration.alert.api.channel.convert.AbstractChannelMessageConverter;
+import com.synopsys.integration.alert.api.channel.convert.ChannelMessageChunkPacker;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventBatchingPolicy;
 import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
 import com.synopsys.integration.alert.processor.api.extract.model.project.ProjectMessage;
 
 @Component
 public class SlackChannelMessageConverter extends AbstractChannelMessageConverter<SlackJobDetailsModel, SlackChannelMessageModel> {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Nullable
+    private final ChannelMessageChunkPacker messageChunkPacker;
 
-    @Autowired
     protected SlackChannelMessageConverter(SlackChannelMessageFormatter channelMessageFormatter) {
+        this(channelMessageFormatter, false, 0);
+    }
+
+    /**
+     * Messages are only packed within a distribution event, so packing only takes effect when the events of a job carry more than one
+     * message (alert.distribution.event.batch.max.messages above 1).
+     */
+    @Autowired
+    protected SlackChannelMessageConverter(
+        SlackChannelMessageFormatter channelMessageFormatter,
+        DistributionEventBatchingPolicy eventBatchingPolicy,
+        @Value("${alert.distribution.slack.message.packing.enabled:false}") boolean messagePackingEnabled,
+        @Value("${alert.distribution.slack.message.packing.max.length:0}") int maxPackedMessageLength
+    ) {
+        this(channelMessageFormatter, messagePackingEnabled && eventBatchingPolicy.isBatchingEnabled(), maxPackedMessageLength);
+        if (messagePackingEnabled && !eventBatchingPolicy.isBatchingEnabled()) {
+            logger.warn("Slack message packing is enabled, but distribution event batching is not. Messages will not be packed.");
+        }
+    }
+
+    protected SlackChannelMessageConverter(SlackChannelMessageFormatter channelMessageFormatter, boolean messagePackingEnabled, int maxPackedMessageLength) {
         super(channelMessageFormatter);
+        this.messageChunkPacker = messagePackingEnabled ? createMessageChunkPacker(channelMessageFormatter, maxPackedMessageLength) : null;
     }
 
     @Override
@@ -36,10 +67,28 @@ public class SlackChannelMessageConverter extends AbstractChannelMessageConverte
         return createMessageModel(messageChunks);
     }
 
+    @Override
+    protected List<SlackChannelMessageModel> packChannelMessages(SlackJobDetailsModel slackJobDetailsModel, List<SlackChannelMessageModel> channelMessages) {
+        if (null == messageChunkPacker || channelMessages.size() < 2) {
+            return channelMessages;
+        }
+
+        List<String> messageChunks = channelMessages.stream()
+                                         .map(SlackChannelMessageModel::getMarkdownContent)
+                                         .collect(Collectors.toList());
+        return createMessageModel(messageChunkPacker.pack(messageChunks));
+    }
+
     private List<SlackChannelMessageModel> createMessageModel(List<String> messageChunks) {
         return messageChunks.stream()
                    .map(SlackChannelMessageModel::new)
                    .collect(Collectors.toList());
     }
 
+    private static ChannelMessageChunkPacker createMessageChunkPacker(SlackChannelMessageFormatter channelMessageFormatter, int maxPackedMessageLength) {
+        int maxLength = maxPackedMessageLength > 0 ? maxPackedMessageLength : channelMessageFormatter.getMaxMessageLength();
+        String chunkSeparator = channelMessageFormatter.getLineSeparator() + channelMessageFormatter.getSectionSeparator() + channelMessageFormatter.getLineSeparator();
+        return new ChannelMessageChunkPacker(maxLength, chunkSeparator);
+    }
+
 }
@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 import com.synopsys.integration.alert.api.channel.ChannelMessageSender;
 import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
 import com.synopsys.integration.alert.api.channel.rest.RestChannelUtility;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatchScheduler;
 import com.synopsys.integration.alert.api.common.model.exception.AlertException;
 import com.synopsys.integration.alert.common.message.model.MessageResult;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
@@ -33,11 +34,13 @@ public class SlackChannelMessageSender implements ChannelMessageSender<SlackJobD
 
     private final SlackChannelKey slackChannelKey;
     private final ChannelRestConnectionFactory connectionFactory;
+    private final WebhookDispatchScheduler dispatchScheduler;
 
     @Autowired
-    public SlackChannelMessageSender(SlackChannelKey slackChannelKey, ChannelRestConnectionFactory connectionFactory) {
+    public SlackChannelMessageSender(SlackChannelKey slackChannelKey, ChannelRestConnectionFactory connectionFactory, WebhookDispatchScheduler dispatchScheduler) {
         this.slackChannelKey = slackChannelKey;
         this.connectionFactory = connectionFactory;
+        this.dispatchScheduler = dispatchScheduler;
     }
 
     @Override
@@ -49,8 +52,8 @@ public class SlackChannelMessageSender implements ChannelMessageSender<SlackJobD
         Map<String, String> requestHeaders = new HashMap<>();
         requestHeaders.put("Content-Type", "application/json");
 
-        IntHttpClient intHttpClient = connectionFactory.createIntHttpClient(webhook);
-        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient);
+        IntHttpClient intHttpClient = connectionFactory.retrieveSharedIntHttpClient(webhook);
+        RestChannelUtility restChannelUtility = new RestChannelUtility(intHttpClient, dispatchScheduler);
 
         List<Request> requests = channelMessages.stream()
                                      .map(channelMessage -> createJsonString(channelMessage.getMarkdownContent(), channelName, channelUsername))
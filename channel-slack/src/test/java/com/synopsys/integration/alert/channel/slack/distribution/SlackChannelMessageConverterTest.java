@@ -0,0 +1,80 @@
+package com.synopsys.integration.alert.channel.slack.distribution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.common.message.model.LinkableItem;
+import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
+import com.synopsys.integration.alert.common.util.MarkupEncoderUtil;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventBatchingPolicy;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
+import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
+import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
+
+public class SlackChannelMessageConverterTest {
+    private static final SlackJobDetailsModel JOB_DETAILS = new SlackJobDetailsModel(UUID.randomUUID(), "https://webhook", "channelName", "channelUsername");
+    private static final ProviderDetails PROVIDER_DETAILS = new ProviderDetails(1L, new LinkableItem("Provider", "A provider"));
+
+    @Test
+    public void packsMessagesOfEventTest() {
+        SlackChannelMessageFormatter messageFormatter = new SlackChannelMessageFormatter(new MarkupEncoderUtil());
+        SlackChannelMessageConverter messageConverter = new SlackChannelMessageConverter(messageFormatter, createBatchingPolicy(10), true, 0);
+
+        List<SlackChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, createMessages("one", "two", "three"), "jobName");
+
+        assertEquals(1, channelMessages.size());
+        String markdownContent = channelMessages.get(0).getMarkdownContent();
+        assertTrue(markdownContent.indexOf("one") < markdownContent.indexOf("two"));
+        assertTrue(markdownContent.indexOf("two") < markdownContent.indexOf("three"));
+    }
+
+    @Test
+    public void startsNewMessageWhenFullTest() {
+        SlackChannelMessageFormatter messageFormatter = new SlackChannelMessageFormatter(new MarkupEncoderUtil());
+        SlackChannelMessageConverter messageConverter = new SlackChannelMessageConverter(messageFormatter, createBatchingPolicy(10), true, 1);
+
+        List<SlackChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, createMessages("one", "two", "three"), "jobName");
+
+        assertEquals(3, channelMessages.size());
+    }
+
+    @Test
+    public void doesNotPackWhenDisabledTest() {
+        SlackChannelMessageFormatter messageFormatter = new SlackChannelMessageFormatter(new MarkupEncoderUtil());
+        SlackChannelMessageConverter messageConverter = new SlackChannelMessageConverter(messageFormatter, createBatchingPolicy(10), false, 0);
+
+        List<SlackChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, createMessages("one", "two"), "jobName");
+
+        assertEquals(2, channelMessages.size());
+    }
+
+    @Test
+    public void doesNotPackWithoutEventBatchingTest() {
+        SlackChannelMessageFormatter messageFormatter = new SlackChannelMessageFormatter(new MarkupEncoderUtil());
+        SlackChannelMessageConverter messageConverter = new SlackChannelMessageConverter(messageFormatter, createBatchingPolicy(1), true, 0);
+
+        List<SlackChannelMessageModel> channelMessages = messageConverter.convertToChannelMessages(JOB_DETAILS, createMessages("one", "two"), "jobName");
+
+        assertEquals(2, channelMessages.size());
+    }
+
+    private DistributionEventBatchingPolicy createBatchingPolicy(int maxMessagesPerEvent) {
+        return new DistributionEventBatchingPolicy(new Gson(), maxMessagesPerEvent, 0L);
+    }
+
+    private ProviderMessageHolder createMessages(String... summaries) {
+        List<SimpleMessage> simpleMessages = new ArrayList<>();
+        for (String summary : summaries) {
+            simpleMessages.add(SimpleMessage.original(PROVIDER_DETAILS, summary, "description", List.of()));
+        }
+        return new ProviderMessageHolder(List.of(), simpleMessages);
+    }
+
+}
@@ -18,6 +18,7 @@ import org.mockito.Mockito;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatchScheduler;
 import com.synopsys.integration.alert.channel.slack.ChannelITTestAssertions;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
 import com.synopsys.integration.alert.common.rest.proxy.ProxyManager;
@@ -48,7 +49,7 @@ public class SlackChannelTestIT {
         SlackChannelMessageConverter slackChannelMessageConverter = new SlackChannelMessageConverter(slackChannelMessageFormatter);
 
         ChannelRestConnectionFactory connectionFactory = createConnectionFactory();
-        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, connectionFactory);
+        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, connectionFactory, new WebhookDispatchScheduler(1.0, 5, 3, 60L));
 
         SlackChannel slackChannel = new SlackChannel(slackChannelMessageConverter, slackChannelMessageSender);
 
@@ -16,6 +16,7 @@ import org.mockito.Mockito;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.alert.api.channel.rest.ChannelRestConnectionFactory;
+import com.synopsys.integration.alert.api.channel.rest.WebhookDispatchScheduler;
 import com.synopsys.integration.alert.channel.slack.distribution.mock.MockProcessingAuditAccessor;
 import com.synopsys.integration.alert.common.message.model.LinkableItem;
 import com.synopsys.integration.alert.common.persistence.accessor.SlackJobDetailsAccessor;
@@ -25,6 +26,7 @@ import com.synopsys.integration.alert.common.util.MarkupEncoderUtil;
 import com.synopsys.integration.alert.descriptor.api.SlackChannelKey;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKeys;
 import com.synopsys.integration.alert.processor.api.distribute.DistributionEvent;
+import com.synopsys.integration.alert.processor.api.distribute.DistributionEventPayloadStore;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderDetails;
 import com.synopsys.integration.alert.processor.api.extract.model.ProviderMessageHolder;
 import com.synopsys.integration.alert.processor.api.extract.model.SimpleMessage;
@@ -51,7 +53,7 @@ public class SlackDistributionEventHandlerTest {
         MarkupEncoderUtil markupEncoderUtil = new MarkupEncoderUtil();
         SlackChannelMessageFormatter slackChannelMessageFormatter = new SlackChannelMessageFormatter(markupEncoderUtil);
         SlackChannelMessageConverter slackChannelMessageConverter = new SlackChannelMessageConverter(slackChannelMessageFormatter);
-        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, createConnectionFactory());
+        SlackChannelMessageSender slackChannelMessageSender = new SlackChannelMessageSender(ChannelKeys.SLACK, createConnectionFactory(), new WebhookDispatchScheduler(100.0, 100, 3, 60L));
         SlackChannel slackChannel = new SlackChannel(slackChannelMessageConverter, slackChannelMessageSender);
 
         mockSlackServer.start();
@@ -61,7 +63,7 @@ public class SlackDistributionEventHandlerTest {
 
         SlackJobDetailsAccessor slackJobDetailsAccessor = jobId -> Optional.of(slackJobDetailsModel);
 
-        distributionEventHandler = new SlackDistributionEventHandler(slackChannel, slackJobDetailsAccessor, processingAuditAccessor);
+        distributionEventHandler = new SlackDistributionEventHandler(slackChannel, slackJobDetailsAccessor, processingAuditAccessor, new DistributionEventPayloadStore(gson, new MockAlertProperties(), false, 0L));
     }
 
     @AfterEach
@@ -72,7 +74,7 @@ public class SlackDistributionEventHandlerTest {
     @Test
     public void testNotificationsWithinMessageAfterFailureAreFailures() {
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
-        mockSlackServer.enqueue(new MockResponse().setResponseCode(429));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(500));
 
         assertEquals(0, mockSlackServer.getRequestCount());
 
@@ -88,7 +90,7 @@ public class SlackDistributionEventHandlerTest {
     @Test
     public void testMessagesAfterFailureAreSuccesses() {
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
-        mockSlackServer.enqueue(new MockResponse().setResponseCode(429));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(500));
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
         mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
 
@@ -105,6 +107,21 @@ public class SlackDistributionEventHandlerTest {
         assertEquals(4, mockSlackServer.getRequestCount());
     }
 
+    @Test
+    public void testRateLimitedMessagesAreRetried() {
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(429).setHeader(WebhookDispatchScheduler.RETRY_AFTER_HEADER, "0"));
+        mockSlackServer.enqueue(new MockResponse().setResponseCode(200));
+
+        distributionEventHandler.handle(createSlackDistributionEvent(FIRST_MESSAGE_NOTIFICATION_IDS, createTwoMessages()));
+
+        assertEquals(3, processingAuditAccessor.getSuccessfulIds().size());
+        assertEquals(0, processingAuditAccessor.getFailureIds().size());
+        assertTrue(processingAuditAccessor.getSuccessfulIds().containsAll(FIRST_MESSAGE_NOTIFICATION_IDS));
+
+        assertEquals(3, mockSlackServer.getRequestCount());
+    }
+
     private ChannelRestConnectionFactory createConnectionFactory() {
         MockAlertProperties testAlertProperties = new MockAlertProperties();
         ProxyManager proxyManager = Mockito.mock(ProxyManager.class);
@@ -8,6 +8,7 @@
 package com.synopsys.integration.alert.component.scheduling.workflow;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
@@ -36,9 +37,10 @@ public class DailyTask extends ProcessingTask {
         NotificationAccessor notificationAccessor,
         NotificationProcessor notificationProcessor,
         TaskManager taskManager,
-        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor
+        ConfigurationModelConfigurationAccessor configurationModelConfigurationAccessor,
+        @Value("${alert.processing.daily.page.size:0}") int pageSize
     ) {
-        super(taskScheduler, notificationAccessor, taskManager, notificationProcessor, FrequencyType.DAILY);
+        super(taskScheduler, notificationAccessor, taskManager, notificationProcessor, FrequencyType.DAILY, pageSize);
         this.schedulingDescriptorKey = schedulingDescriptorKey;
         this.configurationModelConfigurationAccessor = configurationModelConfigurationAccessor;
     }
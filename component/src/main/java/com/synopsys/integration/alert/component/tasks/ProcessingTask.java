@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.component.tasks;
 import java.time.OffsetDateTime;
 import java.util.List;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.TaskScheduler;
@@ -29,8 +30,12 @@ public abstract class ProcessingTask extends StartupScheduledTask {
     private final NotificationAccessor notificationAccessor;
     private final NotificationProcessor notificationProcessor;
     private final FrequencyType frequencyType;
+    private final int pageSize;
 
     private OffsetDateTime lastRunTime;
+    // The last notification processed by an incremental run that did not finish. The next run resumes after it rather than sending its pages again.
+    @Nullable
+    private AlertNotificationModel lastProcessedNotification;
 
     public ProcessingTask(
         TaskScheduler taskScheduler,
@@ -38,11 +43,26 @@ public abstract class ProcessingTask extends StartupScheduledTask {
         TaskManager taskManager,
         NotificationProcessor notificationProcessor,
         FrequencyType frequencyType
+    ) {
+        this(taskScheduler, notificationAccessor, taskManager, notificationProcessor, frequencyType, 0);
+    }
+
+    /**
+     * @param pageSize The maximum number of notifications to read and process at once. When this is not positive, every notification in the date range is processed at once.
+     */
+    public ProcessingTask(
+        TaskScheduler taskScheduler,
+        NotificationAccessor notificationAccessor,
+        TaskManager taskManager,
+        NotificationProcessor notificationProcessor,
+        FrequencyType frequencyType,
+        int pageSize
     ) {
         super(taskScheduler, taskManager);
         this.notificationAccessor = notificationAccessor;
         this.notificationProcessor = notificationProcessor;
         this.frequencyType = frequencyType;
+        this.pageSize = pageSize;
         lastRunTime = DateUtils.createCurrentDateTimestamp();
     }
 
@@ -59,10 +79,23 @@ public abstract class ProcessingTask extends StartupScheduledTask {
     @Override
     public void runTask() {
         DateRange dateRange = getDateRange();
-        List<AlertNotificationModel> notificationList = read(dateRange);
-        logger.info("Processing {} notifications.", notificationList.size());
-        notificationProcessor.processNotifications(notificationList, List.of(frequencyType));
+        if (pageSize > 0) {
+            processIncrementally(dateRange);
+        } else {
+            List<AlertNotificationModel> notificationList = read(dateRange);
+            logger.info("Processing {} notifications.", notificationList.size());
+            notificationProcessor.processNotifications(notificationList, List.of(frequencyType));
+        }
         lastRunTime = DateUtils.createCurrentDateTimestamp();
+        lastProcessedNotification = null;
+    }
+
+    /**
+     * Unlike {@link #read(DateRange)}, a failure to read a page is not swallowed, since an empty page would end the date range early. The task run
+     * fails instead and the last run time is left as it was, so the next run reads the date range again starting after the last page that was processed.
+     */
+    public List<AlertNotificationModel> readPage(DateRange dateRange, @Nullable AlertNotificationModel previousNotification) {
+        return notificationAccessor.findPageByCreatedAtBetween(dateRange.getStart(), dateRange.getEnd(), previousNotification, pageSize);
     }
 
     public List<AlertNotificationModel> read(DateRange dateRange) {
@@ -83,4 +116,24 @@ public abstract class ProcessingTask extends StartupScheduledTask {
         return List.of();
     }
 
+    private void processIncrementally(DateRange dateRange) {
+        logger.info("{} Reading Notifications Between {} and {} in pages of {}", getTaskName(), DateUtils.formatDateAsJsonString(dateRange.getStart()), DateUtils.formatDateAsJsonString(dateRange.getEnd()), pageSize);
+        int processedCount = 0;
+        if (null != lastProcessedNotification) {
+            logger.info("{} Resuming after notification {}, which was processed by a run that did not finish", getTaskName(), lastProcessedNotification.getId());
+        }
+        List<AlertNotificationModel> pageOfNotifications = readPage(dateRange, lastProcessedNotification);
+        while (!pageOfNotifications.isEmpty()) {
+            logger.debug("Processing page of {} notifications.", pageOfNotifications.size());
+            notificationProcessor.processNotifications(pageOfNotifications, List.of(frequencyType));
+            processedCount += pageOfNotifications.size();
+            lastProcessedNotification = pageOfNotifications.get(pageOfNotifications.size() - 1);
+            if (pageOfNotifications.size() < pageSize) {
+                break;
+            }
+            pageOfNotifications = readPage(dateRange, lastProcessedNotification);
+        }
+        logger.info("Processed {} notifications.", processedCount);
+    }
+
 }
@@ -22,7 +22,7 @@ public class DailyTaskTest {
 
     @Test
     public void testGetTaskName() {
-        DailyTask task = new DailyTask(SCHEDULING_DESCRIPTOR_KEY, null, null, null, null, null);
+        DailyTask task = new DailyTask(SCHEDULING_DESCRIPTOR_KEY, null, null, null, null, null, 0);
         assertEquals(ScheduledTask.computeTaskName(task.getClass()), task.getTaskName());
     }
 
@@ -36,7 +36,7 @@ public class DailyTaskTest {
         configurationModel.put(configurationFieldModel);
         Mockito.when(configurationModelConfigurationAccessor.getConfigurationsByDescriptorKey(Mockito.any(DescriptorKey.class))).thenReturn(List.of(configurationModel));
 
-        DailyTask task = new DailyTask(SCHEDULING_DESCRIPTOR_KEY, null, null, null, null, configurationModelConfigurationAccessor);
+        DailyTask task = new DailyTask(SCHEDULING_DESCRIPTOR_KEY, null, null, null, null, configurationModelConfigurationAccessor, 0);
         String cronWithNotDefault = task.scheduleCronExpression();
         String expectedCron = String.format(DailyTask.CRON_FORMAT, notDefaultValue);
 
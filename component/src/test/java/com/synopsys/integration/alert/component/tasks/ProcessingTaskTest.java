@@ -1,6 +1,7 @@
 package com.synopsys.integration.alert.component.tasks;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
@@ -24,6 +25,7 @@ import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedDetails;
 import com.synopsys.integration.alert.common.util.DateUtils;
 import com.synopsys.integration.alert.database.api.DefaultNotificationAccessor;
+import com.synopsys.integration.alert.processor.api.JobProcessingExecutor;
 import com.synopsys.integration.alert.processor.api.NotificationProcessor;
 import com.synopsys.integration.alert.processor.api.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.processor.api.filter.FilteredJobNotificationWrapper;
@@ -80,7 +82,7 @@ public class ProcessingTaskTest {
         Mockito.when(jobNotificationMapper.mapJobsToNotifications(Mockito.anyList(), Mockito.anyList())).thenReturn(statefulAlertPage);
         NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
         Mockito.doNothing().when(notificationAccessor).setNotificationsProcessed(Mockito.anyList());
-        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, jobNotificationMapper, null, null, List.of(), notificationAccessor);
+        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, jobNotificationMapper, null, null, List.of(), notificationAccessor, JobProcessingExecutor.sequential());
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationProcessor, taskManager);
         ProcessingTask processingTask = Mockito.spy(task);
@@ -90,6 +92,81 @@ public class ProcessingTaskTest {
         Mockito.verify(processingTask).read(Mockito.any());
     }
 
+    @Test
+    public void testRunIncrementally() {
+        AlertNotificationModel firstModel = modelList.get(0);
+        AlertNotificationModel secondModel = createModel(2L);
+        AlertNotificationModel thirdModel = createModel(3L);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.isNull(), Mockito.eq(2))).thenReturn(List.of(firstModel, secondModel));
+        Mockito.when(notificationAccessor.findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.eq(secondModel), Mockito.eq(2))).thenReturn(List.of(thirdModel));
+        NotificationProcessor notificationProcessor = Mockito.mock(NotificationProcessor.class);
+
+        ProcessingTask task = new ProcessingTask(Mockito.mock(TaskScheduler.class), notificationAccessor, Mockito.mock(TaskManager.class), notificationProcessor, FrequencyType.DAILY, 2) {
+            @Override
+            public String scheduleCronExpression() {
+                return null;
+            }
+        };
+        task.runTask();
+
+        Mockito.verify(notificationAccessor, Mockito.never()).findByCreatedAtBetween(Mockito.any(), Mockito.any());
+        Mockito.verify(notificationProcessor).processNotifications(List.of(firstModel, secondModel), List.of(FrequencyType.DAILY));
+        Mockito.verify(notificationProcessor).processNotifications(List.of(thirdModel), List.of(FrequencyType.DAILY));
+        Mockito.verify(notificationAccessor, Mockito.times(2)).findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testRunIncrementallyReadFailure() {
+        AlertNotificationModel firstModel = modelList.get(0);
+        AlertNotificationModel secondModel = createModel(2L);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.isNull(), Mockito.eq(2))).thenReturn(List.of(firstModel, secondModel));
+        Mockito.when(notificationAccessor.findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.eq(secondModel), Mockito.eq(2))).thenThrow(new IllegalStateException("Test exception"));
+        NotificationProcessor notificationProcessor = Mockito.mock(NotificationProcessor.class);
+
+        ProcessingTask task = new ProcessingTask(Mockito.mock(TaskScheduler.class), notificationAccessor, Mockito.mock(TaskManager.class), notificationProcessor, FrequencyType.DAILY, 2) {
+            @Override
+            public String scheduleCronExpression() {
+                return null;
+            }
+        };
+        OffsetDateTime lastRunTime = task.getLastRunTime();
+
+        assertThrows(IllegalStateException.class, task::runTask);
+        assertEquals(lastRunTime, task.getLastRunTime());
+    }
+
+    @Test
+    public void testRunIncrementallyResumesAfterFailure() {
+        AlertNotificationModel firstModel = modelList.get(0);
+        AlertNotificationModel secondModel = createModel(2L);
+        AlertNotificationModel thirdModel = createModel(3L);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.isNull(), Mockito.eq(2))).thenReturn(List.of(firstModel, secondModel));
+        Mockito.when(notificationAccessor.findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.eq(secondModel), Mockito.eq(2)))
+            .thenThrow(new IllegalStateException("Test exception"))
+            .thenReturn(List.of(thirdModel));
+        NotificationProcessor notificationProcessor = Mockito.mock(NotificationProcessor.class);
+
+        ProcessingTask task = new ProcessingTask(Mockito.mock(TaskScheduler.class), notificationAccessor, Mockito.mock(TaskManager.class), notificationProcessor, FrequencyType.DAILY, 2) {
+            @Override
+            public String scheduleCronExpression() {
+                return null;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, task::runTask);
+        task.runTask();
+
+        Mockito.verify(notificationProcessor, Mockito.times(1)).processNotifications(List.of(firstModel, secondModel), List.of(FrequencyType.DAILY));
+        Mockito.verify(notificationProcessor, Mockito.times(1)).processNotifications(List.of(thirdModel), List.of(FrequencyType.DAILY));
+        Mockito.verify(notificationAccessor, Mockito.times(1)).findPageByCreatedAtBetween(Mockito.any(), Mockito.any(), Mockito.isNull(), Mockito.anyInt());
+    }
+
     @Test
     public void testRead() {
         TaskManager taskManager = Mockito.mock(TaskManager.class);
@@ -97,7 +174,7 @@ public class ProcessingTaskTest {
         DefaultNotificationAccessor notificationManager = Mockito.mock(DefaultNotificationAccessor.class);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, null, null, null, null, null);
+        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, null, null, null, null, null, null);
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationProcessor, taskManager);
         DateRange dateRange = task.getDateRange();
@@ -115,7 +192,7 @@ public class ProcessingTaskTest {
         DefaultNotificationAccessor notificationManager = Mockito.mock(DefaultNotificationAccessor.class);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, null, null, null, null, null);
+        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, null, null, null, null, null, null);
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationProcessor, taskManager);
         DateRange dateRange = task.getDateRange();
@@ -133,7 +210,7 @@ public class ProcessingTaskTest {
         DefaultNotificationAccessor notificationManager = Mockito.mock(DefaultNotificationAccessor.class);
 
         NotificationDetailExtractionDelegator extractionDelegator = new NotificationDetailExtractionDelegator(blackDuckResponseResolver, List.of());
-        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, null, null, null, null, null);
+        NotificationProcessor notificationProcessor = new NotificationProcessor(extractionDelegator, null, null, null, null, null, null);
 
         ProcessingTask task = createTask(taskScheduler, notificationManager, notificationProcessor, taskManager);
         DateRange dateRange = task.getDateRange();
@@ -144,6 +221,11 @@ public class ProcessingTaskTest {
         assertEquals(Collections.emptyList(), actualModelList);
     }
 
+    private AlertNotificationModel createModel(Long id) {
+        AlertNotificationModel model = modelList.get(0);
+        return new AlertNotificationModel(id, 1L, "BlackDuck", "BlackDuck_1", "PROJECT_VERSION", model.getContent(), DateUtils.createCurrentDateTimestamp(), DateUtils.createCurrentDateTimestamp(), false);
+    }
+
     private void assertDateIsEqual(OffsetDateTime expected, ZonedDateTime actual) {
         assertEquals(expected.getYear(), actual.getYear());
         assertEquals(expected.getMonth(), actual.getMonth());
@@ -10,6 +10,7 @@ package com.synopsys.integration.alert.provider.blackduck.factory;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
@@ -36,6 +37,8 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
     private final BlackDuckSystemValidator blackDuckSystemValidator;
     private final EventManager eventManager;
     private final BlackDuckNotificationRetrieverFactory notificationRetrieverFactory;
+    private final int accumulatorPageSize;
+    private final int accumulatorPrefetchPages;
 
     @Autowired
     public BlackDuckTaskFactory(
@@ -46,7 +49,9 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
         ProviderTaskPropertiesAccessor providerTaskPropertiesAccessor,
         BlackDuckSystemValidator blackDuckSystemValidator,
         EventManager eventManager,
-        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory,
+        @Value("${alert.provider.blackduck.accumulator.page.size:100}") int accumulatorPageSize,
+        @Value("${alert.provider.blackduck.accumulator.prefetch.pages:0}") int accumulatorPrefetchPages
     ) {
         this.blackDuckProviderKey = blackDuckProviderKey;
         this.taskScheduler = taskScheduler;
@@ -56,6 +61,8 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
         this.blackDuckSystemValidator = blackDuckSystemValidator;
         this.eventManager = eventManager;
         this.notificationRetrieverFactory = notificationRetrieverFactory;
+        this.accumulatorPageSize = accumulatorPageSize;
+        this.accumulatorPrefetchPages = accumulatorPrefetchPages;
     }
 
     @Override
@@ -68,7 +75,9 @@ public class BlackDuckTaskFactory implements ProviderTaskFactory {
             providerProperties,
             blackDuckSystemValidator,
             eventManager,
-            notificationRetrieverFactory
+            notificationRetrieverFactory,
+            accumulatorPageSize,
+            accumulatorPrefetchPages
         );
         BlackDuckDataSyncTask syncTask = new BlackDuckDataSyncTask(blackDuckProviderKey, taskScheduler, blackDuckDataAccessor, providerProperties);
         return List.of(accumulator, syncTask);
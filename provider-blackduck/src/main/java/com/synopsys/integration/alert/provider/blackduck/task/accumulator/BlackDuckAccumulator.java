@@ -11,6 +11,10 @@ import java.time.OffsetDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.event.NotificationReceivedEvent;
@@ -39,7 +44,13 @@ import com.synopsys.integration.blackduck.api.manual.view.NotificationUserView;
 import com.synopsys.integration.blackduck.api.manual.view.NotificationView;
 import com.synopsys.integration.exception.IntegrationException;
 
+/**
+ * Retrieves new notifications from Black Duck and stores them in Alert. When a positive number of prefetch pages is configured, the
+ * accumulator runs as a pipeline: the next pages are retrieved from Black Duck on a separate thread while the current page is being
+ * stored, bounded by the number of prefetch pages so that a large backlog is not held in memory all at once.
+ */
 public class BlackDuckAccumulator extends ProviderTask {
+    private static final String PREFETCH_THREAD_NAME_PREFIX = "alert-blackduck-accumulator-prefetch-";
     private static final List<String> SUPPORTED_NOTIFICATION_TYPES = Stream.of(NotificationType.values())
         .filter(type -> type != NotificationType.VERSION_BOM_CODE_LOCATION_BOM_COMPUTED)
         .map(Enum::name)
@@ -54,6 +65,8 @@ public class BlackDuckAccumulator extends ProviderTask {
     private final EventManager eventManager;
     private final BlackDuckNotificationRetrieverFactory notificationRetrieverFactory;
     private final BlackDuckAccumulatorSearchDateManager searchDateManager;
+    private final int pageSize;
+    private final int prefetchPages;
 
     public BlackDuckAccumulator(
         BlackDuckProviderKey blackDuckProviderKey,
@@ -64,6 +77,36 @@ public class BlackDuckAccumulator extends ProviderTask {
         BlackDuckSystemValidator blackDuckSystemValidator,
         EventManager eventManager,
         BlackDuckNotificationRetrieverFactory notificationRetrieverFactory
+    ) {
+        this(
+            blackDuckProviderKey,
+            taskScheduler,
+            notificationAccessor,
+            providerTaskPropertiesAccessor,
+            providerProperties,
+            blackDuckSystemValidator,
+            eventManager,
+            notificationRetrieverFactory,
+            BlackDuckNotificationRetriever.DEFAULT_PAGE_SIZE,
+            0
+        );
+    }
+
+    /**
+     * @param pageSize      The number of notifications to retrieve from Black Duck at once
+     * @param prefetchPages The number of pages that may be retrieved ahead of the page being stored (0 retrieves and stores pages in turn)
+     */
+    public BlackDuckAccumulator(
+        BlackDuckProviderKey blackDuckProviderKey,
+        TaskScheduler taskScheduler,
+        NotificationAccessor notificationAccessor,
+        ProviderTaskPropertiesAccessor providerTaskPropertiesAccessor,
+        ProviderProperties providerProperties,
+        BlackDuckSystemValidator blackDuckSystemValidator,
+        EventManager eventManager,
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory,
+        int pageSize,
+        int prefetchPages
     ) {
         super(blackDuckProviderKey, taskScheduler, providerProperties);
         this.blackDuckProviderKey = blackDuckProviderKey;
@@ -72,6 +115,8 @@ public class BlackDuckAccumulator extends ProviderTask {
         this.eventManager = eventManager;
         this.notificationRetrieverFactory = notificationRetrieverFactory;
         this.searchDateManager = new BlackDuckAccumulatorSearchDateManager(providerTaskPropertiesAccessor, providerProperties.getConfigId(), getTaskName());
+        this.pageSize = pageSize > 0 ? pageSize : BlackDuckNotificationRetriever.DEFAULT_PAGE_SIZE;
+        this.prefetchPages = Math.max(0, prefetchPages);
     }
 
     @Override
@@ -101,33 +146,102 @@ public class BlackDuckAccumulator extends ProviderTask {
     }
 
     private void retrieveAndStoreNotificationsSafely(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange) {
+        AccumulationRun accumulationRun = new AccumulationRun();
         try {
-            retrieveAndStoreNotifications(notificationRetriever, dateRange);
+            if (prefetchPages > 0) {
+                retrieveAndStoreNotificationsPipelined(notificationRetriever, dateRange, accumulationRun);
+            } else {
+                retrieveAndStoreNotifications(notificationRetriever, dateRange, accumulationRun);
+            }
         } catch (IntegrationException e) {
             logger.error("Error reading notifications", e);
+        } finally {
+            // The notifications stored before any failure still need to be processed
+            if (accumulationRun.storedNotificationCount > 0) {
+                logger.debug("Stored {} notifications from {} page(s)", accumulationRun.storedNotificationCount, accumulationRun.storedPageCount);
+                eventManager.sendEvent(new NotificationReceivedEvent());
+            }
         }
     }
 
-    private void retrieveAndStoreNotifications(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange) throws IntegrationException {
-        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = notificationRetriever.retrievePageOfFilteredNotifications(dateRange, SUPPORTED_NOTIFICATION_TYPES);
+    private void retrieveAndStoreNotifications(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange, AccumulationRun accumulationRun) throws IntegrationException {
+        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = notificationRetriever.retrievePageOfFilteredNotifications(dateRange, SUPPORTED_NOTIFICATION_TYPES, pageSize);
         while (!notificationPage.isCurrentPageEmpty()) {
             List<NotificationUserView> currentNotifications = notificationPage.getCurrentModels();
             logger.debug("Retrieved a page of {} notifications", currentNotifications.size());
-            storeNotifications(currentNotifications);
+            storeNotifications(currentNotifications, accumulationRun);
 
             notificationPage = notificationPage.retrieveNextPage();
         }
     }
 
-    private void storeNotifications(List<NotificationUserView> notifications) {
+    private void retrieveAndStoreNotificationsPipelined(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange, AccumulationRun accumulationRun) throws IntegrationException {
+        BlockingQueue<PrefetchedPage> prefetchedPages = new ArrayBlockingQueue<>(prefetchPages);
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(PREFETCH_THREAD_NAME_PREFIX));
+        try {
+            prefetchExecutor.execute(() -> prefetchNotifications(notificationRetriever, dateRange, prefetchedPages));
+            PrefetchedPage prefetchedPage = takePrefetchedPage(prefetchedPages);
+            while (!prefetchedPage.isFinalPage()) {
+                storeNotifications(prefetchedPage.notifications, accumulationRun);
+                prefetchedPage = takePrefetchedPage(prefetchedPages);
+            }
+            prefetchedPage.throwIfFailed();
+        } finally {
+            // Stops the prefetching if the notifications could not be stored
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
+    private void prefetchNotifications(BlackDuckNotificationRetriever notificationRetriever, DateRange dateRange, BlockingQueue<PrefetchedPage> prefetchedPages) {
+        PrefetchedPage finalPage = PrefetchedPage.FINAL_PAGE;
+        try {
+            StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = notificationRetriever.retrievePageOfFilteredNotifications(dateRange, SUPPORTED_NOTIFICATION_TYPES, pageSize);
+            while (!notificationPage.isCurrentPageEmpty()) {
+                List<NotificationUserView> currentNotifications = notificationPage.getCurrentModels();
+                logger.debug("Prefetched a page of {} notifications", currentNotifications.size());
+                prefetchedPages.put(PrefetchedPage.of(currentNotifications));
+
+                notificationPage = notificationPage.retrieveNextPage();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (IntegrationException | RuntimeException e) {
+            finalPage = PrefetchedPage.failed(e);
+        }
+
+        try {
+            prefetchedPages.put(finalPage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PrefetchedPage takePrefetchedPage(BlockingQueue<PrefetchedPage> prefetchedPages) throws IntegrationException {
+        try {
+            return prefetchedPages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntegrationException("Interrupted while waiting for notifications to be retrieved", e);
+        }
+    }
+
+    private void storeNotifications(List<NotificationUserView> notifications, AccumulationRun accumulationRun) {
         List<AlertNotificationModel> alertNotifications = convertToAlertNotificationModels(notifications);
         write(alertNotifications);
+        accumulationRun.storedNotificationCount += alertNotifications.size();
+        accumulationRun.storedPageCount++;
+
         Optional<OffsetDateTime> optionalNextSearchTime = computeLatestNotificationCreatedAtDate(alertNotifications)
             .map(latestNotification -> latestNotification.plusNanos(1000000));
         if (optionalNextSearchTime.isPresent()) {
             OffsetDateTime nextSearchTime = optionalNextSearchTime.get();
-            logger.info("Notifications found; the next search time will be: {}", nextSearchTime);
-            searchDateManager.saveNextSearchStart(nextSearchTime);
+            // The search start must never move backwards, otherwise notifications that were already stored would be retrieved again
+            if (null == accumulationRun.nextSearchTime || nextSearchTime.isAfter(accumulationRun.nextSearchTime)) {
+                logger.info("Notifications found; the next search time will be: {}", nextSearchTime);
+                searchDateManager.saveNextSearchStart(nextSearchTime);
+                accumulationRun.nextSearchTime = nextSearchTime;
+            }
         }
     }
 
@@ -149,7 +263,6 @@ public class BlackDuckAccumulator extends ProviderTask {
             String joinedIds = StringUtils.join(notificationIds, ", ");
             notificationLogger.debug("Saved notifications: {}", joinedIds);
         }
-        eventManager.sendEvent(new NotificationReceivedEvent());
     }
 
     private AlertNotificationModel convertToAlertNotificationModel(NotificationView notification) {
@@ -171,4 +284,44 @@ public class BlackDuckAccumulator extends ProviderTask {
         return Optional.empty();
     }
 
+    private static class AccumulationRun {
+        private int storedNotificationCount = 0;
+        private int storedPageCount = 0;
+        private OffsetDateTime nextSearchTime;
+
+    }
+
+    private static class PrefetchedPage {
+        private static final PrefetchedPage FINAL_PAGE = new PrefetchedPage(null, null);
+
+        private final List<NotificationUserView> notifications;
+        private final Exception failure;
+
+        public static PrefetchedPage of(List<NotificationUserView> notifications) {
+            return new PrefetchedPage(notifications, null);
+        }
+
+        public static PrefetchedPage failed(Exception failure) {
+            return new PrefetchedPage(null, failure);
+        }
+
+        private PrefetchedPage(List<NotificationUserView> notifications, Exception failure) {
+            this.notifications = notifications;
+            this.failure = failure;
+        }
+
+        public boolean isFinalPage() {
+            return null == notifications;
+        }
+
+        public void throwIfFailed() throws IntegrationException {
+            if (failure instanceof IntegrationException) {
+                throw (IntegrationException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+        }
+
+    }
+
 }
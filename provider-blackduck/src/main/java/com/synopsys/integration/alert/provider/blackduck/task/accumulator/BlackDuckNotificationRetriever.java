@@ -43,9 +43,13 @@ public class BlackDuckNotificationRetriever {
     }
 
     public StatefulAlertPage<NotificationUserView, IntegrationException> retrievePageOfFilteredNotifications(DateRange dateRange, List<String> types) throws IntegrationException {
+        return retrievePageOfFilteredNotifications(dateRange, types, DEFAULT_PAGE_SIZE);
+    }
+
+    public StatefulAlertPage<NotificationUserView, IntegrationException> retrievePageOfFilteredNotifications(DateRange dateRange, List<String> types, int pageSize) throws IntegrationException {
         BlackDuckMultipleRequest<NotificationUserView> spec = createNotificationsRequest(dateRange, types);
         NotificationPageRetriever notificationRetriever = new NotificationPageRetriever(spec);
-        AlertPagedDetails<NotificationUserView> firstPage = notificationRetriever.retrievePage(INITIAL_PAGE_OFFSET, DEFAULT_PAGE_SIZE);
+        AlertPagedDetails<NotificationUserView> firstPage = notificationRetriever.retrievePage(INITIAL_PAGE_OFFSET, pageSize);
         return new StatefulAlertPage<>(firstPage, notificationRetriever, HAS_NEXT_PAGE);
     }
 
@@ -31,7 +31,7 @@ import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
 
 import org.apache.commons.lang3.StringUtils;
-import org.jsoup.Jsoup;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,20 +42,28 @@ import com.synopsys.integration.alert.service.email.enumeration.EmailPropertyKey
 import com.synopsys.integration.alert.service.email.template.FreemarkerTemplatingService;
 import com.synopsys.integration.exception.IntegrationException;
 
-import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 
 @Component
 public class EmailMessagingService {
     public static final String EMAIL_SUBJECT_LINE_TEMPLATE = "subjectLineTemplate";
+    public static final String EMAIL_TEMPLATE_PACKAGE_PATH = "/templates/email";
     private final Logger logger = LoggerFactory.getLogger(EmailMessagingService.class);
 
     private final FreemarkerTemplatingService freemarkerTemplatingService;
+    private final HtmlTextConverter htmlTextConverter = new HtmlTextConverter();
+    @Nullable
+    private final SmtpTransportPool smtpTransportPool;
 
-    @Autowired
     public EmailMessagingService(FreemarkerTemplatingService freemarkerTemplatingService) {
+        this(freemarkerTemplatingService, null);
+    }
+
+    @Autowired
+    public EmailMessagingService(FreemarkerTemplatingService freemarkerTemplatingService, @Nullable SmtpTransportPool smtpTransportPool) {
         this.freemarkerTemplatingService = freemarkerTemplatingService;
+        this.smtpTransportPool = smtpTransportPool;
     }
 
     public void sendEmailMessage(Properties javamailProperties, String smtpFrom, String smtpHost, int smtpPort, boolean smtpAuth, String smtpUsername, String smtpPassword, EmailTarget emailTarget) throws AlertException {
@@ -73,15 +81,13 @@ public class EmailMessagingService {
             }
 
             Map<String, Object> model = emailTarget.getModel();
-            Session session = Session.getInstance(javamailProperties);
-            TemplateLoader templateLoader = freemarkerTemplatingService.createClassTemplateLoader("/templates/email");
-            Configuration templateDirectory = freemarkerTemplatingService.createFreemarkerConfig(templateLoader);
+            Configuration templateDirectory = freemarkerTemplatingService.retrieveClassTemplateConfiguration(EMAIL_TEMPLATE_PACKAGE_PATH);
             Template emailTemplate = templateDirectory.getTemplate(templateName);
             String html = freemarkerTemplatingService.resolveTemplate(model, emailTemplate);
 
             MimeMultipartBuilder mimeMultipartBuilder = new MimeMultipartBuilder();
             mimeMultipartBuilder.addHtmlContent(html);
-            mimeMultipartBuilder.addTextContent(Jsoup.parse(html).text());
+            mimeMultipartBuilder.addTextContent(htmlTextConverter.convertToText(html));
             mimeMultipartBuilder.addEmbeddedImages(emailTarget.getContentIdsToFilePaths());
 
             List<String> attachmentFilePaths = emailTarget.getAttachmentFilePaths();
@@ -94,11 +100,22 @@ public class EmailMessagingService {
             if (StringUtils.isBlank(subjectLine)) {
                 subjectLine = "Default Subject Line - please define one";
             }
-            Template subjectLineTemplate = new Template(EMAIL_SUBJECT_LINE_TEMPLATE, subjectLine, templateDirectory);
+            Template subjectLineTemplate = freemarkerTemplatingService.retrieveInlineTemplate(EMAIL_SUBJECT_LINE_TEMPLATE, subjectLine, templateDirectory);
             String resolvedSubjectLine = freemarkerTemplatingService.resolveTemplate(model, subjectLineTemplate);
 
-            List<Message> messages = createMessages(emailAddresses, resolvedSubjectLine, session, mimeMultipart, smtpFrom);
-            sendMessages(smtpAuth, smtpHost, smtpPort, smtpUsername, smtpPassword, session, messages);
+            if (null != smtpTransportPool && smtpTransportPool.isPoolingEnabled()) {
+                SmtpTransportPool.PooledSmtpTransport pooledTransport = smtpTransportPool.borrow(javamailProperties, smtpHost, smtpPort, smtpAuth, smtpUsername, smtpPassword);
+                try {
+                    List<Message> messages = createMessages(emailAddresses, resolvedSubjectLine, pooledTransport.getSession(), mimeMultipart, smtpFrom);
+                    sendMessages(pooledTransport.getTransport(), messages);
+                } finally {
+                    smtpTransportPool.release(pooledTransport);
+                }
+            } else {
+                Session session = Session.getInstance(javamailProperties);
+                List<Message> messages = createMessages(emailAddresses, resolvedSubjectLine, session, mimeMultipart, smtpFrom);
+                sendMessages(smtpAuth, smtpHost, smtpPort, smtpUsername, smtpPassword, session, messages);
+            }
         } catch (MessagingException | IOException | IntegrationException ex) {
             String errorMessage = "Could not send the email. " + ex.getMessage();
             throw new AlertException(errorMessage, ex);
@@ -174,6 +191,19 @@ public class EmailMessagingService {
             throw new AlertException(errorMessage, e);
         }
         logger.trace("Transport session closed.");
+        throwSendErrors(errorMessages);
+    }
+
+    private void sendMessages(Transport connectedTransport, List<Message> messages) throws AlertException {
+        Set<String> errorMessages = new HashSet<>();
+        for (Message message : messages) {
+            Optional<String> errors = sendMessage(connectedTransport, message);
+            errors.ifPresent(errorMessages::add);
+        }
+        throwSendErrors(errorMessages);
+    }
+
+    private void throwSendErrors(Set<String> errorMessages) throws AlertException {
         if (!errorMessages.isEmpty()) {
             String joinedErrorMessages = StringUtils.join(errorMessages, System.lineSeparator());
             logger.error(joinedErrorMessages);
@@ -0,0 +1,38 @@
+/*
+ * service-email
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.service.email;
+
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jsoup.parser.Parser;
+
+/**
+ * Extracts the text of the HTML Alert renders for an email, for the plain-text part of the message. The HTML is scanned once with a few
+ * precompiled patterns rather than parsed into a document, which is much cheaper for large digest emails. Like the text of a parsed
+ * document, the result has its whitespace collapsed and its character references unescaped.
+ */
+public class HtmlTextConverter {
+    private static final Pattern NON_TEXT_ELEMENTS = Pattern.compile("(?is)<!--.*?-->|<(script|style)\\b[^>]*>.*?</\\1\\s*>");
+    private static final Pattern BLOCK_TAGS = Pattern.compile("(?i)</?(br|p|div|table|thead|tbody|tr|td|th|ul|ol|li|h[1-6]|hr|blockquote|pre|title|body|html|head)\\b[^>]*>");
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public String convertToText(String html) {
+        if (StringUtils.isBlank(html)) {
+            return StringUtils.EMPTY;
+        }
+
+        String text = NON_TEXT_ELEMENTS.matcher(html).replaceAll(StringUtils.EMPTY);
+        text = BLOCK_TAGS.matcher(text).replaceAll(StringUtils.SPACE);
+        text = TAGS.matcher(text).replaceAll(StringUtils.EMPTY);
+        text = WHITESPACE.matcher(text).replaceAll(StringUtils.SPACE);
+        return Parser.unescapeEntities(text, false).trim();
+    }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * service-email
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.service.email;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps connected, authenticated SMTP transports open between emails, so that the emails of a distribution event, and of events that
+ * follow it within the idle timeout, reuse a connection instead of opening a new one for every message. Transports are keyed by the SMTP
+ * settings they were connected with, so a change to the email configuration never reuses a stale connection.
+ */
+@Component
+public class SmtpTransportPool implements DisposableBean {
+    private static final String THREAD_NAME_PREFIX = "alert-smtp-transport-pool-";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final boolean poolingEnabled;
+    private final long idleTimeoutMillis;
+    private final Map<SmtpTransportKey, Deque<PooledSmtpTransport>> idleTransports = new ConcurrentHashMap<>();
+    @Nullable
+    private final ScheduledExecutorService idleTransportCloser;
+
+    private final AtomicLong openedConnections = new AtomicLong(0L);
+    private final AtomicLong reusedConnections = new AtomicLong(0L);
+    private final AtomicLong closedConnections = new AtomicLong(0L);
+    private final AtomicInteger borrowedTransports = new AtomicInteger(0);
+
+    @Autowired
+    public SmtpTransportPool(
+        @Value("${alert.distribution.email.transport.pooling.enabled:false}") boolean poolingEnabled,
+        @Value("${alert.distribution.email.transport.idle.timeout.seconds:60}") long idleTimeoutSeconds
+    ) {
+        this.poolingEnabled = poolingEnabled;
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(1L, idleTimeoutSeconds));
+        if (poolingEnabled) {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_NAME_PREFIX);
+            threadFactory.setDaemon(true);
+            this.idleTransportCloser = Executors.newSingleThreadScheduledExecutor(threadFactory);
+            long closeIntervalMillis = Math.max(1000L, idleTimeoutMillis / 2);
+            this.idleTransportCloser.scheduleWithFixedDelay(this::closeIdleTransports, closeIntervalMillis, closeIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.idleTransportCloser = null;
+        }
+    }
+
+    public boolean isPoolingEnabled() {
+        return poolingEnabled;
+    }
+
+    /**
+     * Retrieves a connected transport, reusing an idle one for the same SMTP settings when there is one that is still connected. The
+     * transport must be handed back with {@link #release(PooledSmtpTransport)} once the caller is done with it.
+     */
+    public PooledSmtpTransport borrow(Properties javamailProperties, String host, int port, boolean auth, String username, String password) throws MessagingException {
+        SmtpTransportKey transportKey = new SmtpTransportKey(javamailProperties, host, port, auth, username, password);
+        Deque<PooledSmtpTransport> idleTransportsForKey = idleTransports.computeIfAbsent(transportKey, ignored -> new ConcurrentLinkedDeque<>());
+
+        PooledSmtpTransport idleTransport = idleTransportsForKey.pollFirst();
+        while (null != idleTransport) {
+            if (!idleTransport.isExpired(System.currentTimeMillis(), idleTimeoutMillis) && idleTransport.getTransport().isConnected()) {
+                reusedConnections.incrementAndGet();
+                borrowedTransports.incrementAndGet();
+                return idleTransport;
+            }
+            close(idleTransport);
+            idleTransport = idleTransportsForKey.pollFirst();
+        }
+
+        Session session = Session.getInstance(javamailProperties);
+        Transport transport = session.getTransport();
+        if (auth) {
+            transport.connect(host, port, username, password);
+        } else {
+            transport.connect();
+        }
+        openedConnections.incrementAndGet();
+        borrowedTransports.incrementAndGet();
+        logger.trace("Opened a pooled SMTP transport.");
+        return new PooledSmtpTransport(transportKey, session, transport);
+    }
+
+    /**
+     * Hands a transport back to the pool, keeping it open if pooling is enabled. Whether it is still connected is only checked when it is
+     * borrowed again, since the check costs a round trip to the SMTP server.
+     */
+    public void release(PooledSmtpTransport pooledTransport) {
+        borrowedTransports.decrementAndGet();
+        if (poolingEnabled) {
+            pooledTransport.markUsed(System.currentTimeMillis());
+            // Offering within compute keeps the deque from being removed as empty by closeIdleTransports in the meantime
+            idleTransports.compute(pooledTransport.getTransportKey(), (ignored, idleTransportsForKey) -> {
+                Deque<PooledSmtpTransport> transportsForKey = null != idleTransportsForKey ? idleTransportsForKey : new ConcurrentLinkedDeque<>();
+                transportsForKey.offerFirst(pooledTransport);
+                return transportsForKey;
+            });
+        } else {
+            close(pooledTransport);
+        }
+    }
+
+    public long getOpenedConnectionCount() {
+        return openedConnections.get();
+    }
+
+    public long getReusedConnectionCount() {
+        return reusedConnections.get();
+    }
+
+    public long getClosedConnectionCount() {
+        return closedConnections.get();
+    }
+
+    public int getBorrowedTransportCount() {
+        return borrowedTransports.get();
+    }
+
+    public int getIdleTransportCount() {
+        int idleTransportCount = 0;
+        for (Deque<PooledSmtpTransport> idleTransportsForKey : idleTransports.values()) {
+            idleTransportCount += idleTransportsForKey.size();
+        }
+        return idleTransportCount;
+    }
+
+    public void closeIdleTransports() {
+        long nowMillis = System.currentTimeMillis();
+        for (Map.Entry<SmtpTransportKey, Deque<PooledSmtpTransport>> idleTransportsEntry : idleTransports.entrySet()) {
+            Iterator<PooledSmtpTransport> idleTransportIterator = idleTransportsEntry.getValue().iterator();
+            while (idleTransportIterator.hasNext()) {
+                PooledSmtpTransport idleTransport = idleTransportIterator.next();
+                if (idleTransport.isExpired(nowMillis, idleTimeoutMillis) && idleTransportsEntry.getValue().removeFirstOccurrence(idleTransport)) {
+                    close(idleTransport);
+                }
+            }
+            idleTransports.computeIfPresent(idleTransportsEntry.getKey(), (ignored, idleTransportsForKey) -> idleTransportsForKey.isEmpty() ? null : idleTransportsForKey);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (null != idleTransportCloser) {
+            idleTransportCloser.shutdownNow();
+        }
+
+        List<PooledSmtpTransport> transportsToClose = new ArrayList<>();
+        idleTransports.values().forEach(transportsToClose::addAll);
+        idleTransports.clear();
+        transportsToClose.forEach(this::close);
+    }
+
+    private void close(PooledSmtpTransport pooledTransport) {
+        try {
+            pooledTransport.getTransport().close();
+            logger.trace("Closed a pooled SMTP transport.");
+        } catch (MessagingException e) {
+            logger.debug("Could not close an SMTP transport", e);
+        }
+        closedConnections.incrementAndGet();
+    }
+
+    public static class PooledSmtpTransport {
+        private final SmtpTransportKey transportKey;
+        private final Session session;
+        private final Transport transport;
+        private volatile long lastUsedMillis;
+
+        private PooledSmtpTransport(SmtpTransportKey transportKey, Session session, Transport transport) {
+            this.transportKey = transportKey;
+            this.session = session;
+            this.transport = transport;
+            this.lastUsedMillis = System.currentTimeMillis();
+        }
+
+        public Session getSession() {
+            return session;
+        }
+
+        public Transport getTransport() {
+            return transport;
+        }
+
+        private SmtpTransportKey getTransportKey() {
+            return transportKey;
+        }
+
+        private void markUsed(long nowMillis) {
+            lastUsedMillis = nowMillis;
+        }
+
+        private boolean isExpired(long nowMillis, long idleTimeoutMillis) {
+            return nowMillis - lastUsedMillis > idleTimeoutMillis;
+        }
+
+    }
+
+    private static class SmtpTransportKey {
+        private final Properties javamailProperties;
+        private final String host;
+        private final int port;
+        private final boolean auth;
+        private final String username;
+        private final String password;
+
+        public SmtpTransportKey(Properties javamailProperties, String host, int port, boolean auth, String username, String password) {
+            this.javamailProperties = javamailProperties;
+            this.host = host;
+            this.port = port;
+            this.auth = auth;
+            this.username = username;
+            this.password = password;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SmtpTransportKey that = (SmtpTransportKey) o;
+            return port == that.port
+                       && auth == that.auth
+                       && Objects.equals(javamailProperties, that.javamailProperties)
+                       && Objects.equals(host, that.host)
+                       && Objects.equals(username, that.username)
+                       && Objects.equals(password, that.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(javamailProperties, host, port, auth, username, password);
+        }
+
+    }
+
+}
@@ -9,7 +9,11 @@ package com.synopsys.integration.alert.service.email.template;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Component;
 
@@ -25,6 +29,41 @@ import freemarker.template.TemplateExceptionHandler;
 @Component
 public class FreemarkerTemplatingService {
     public static final String KEY_ALERT_SERVER_URL = "alertServerUrl";
+    public static final int MAX_CACHED_INLINE_TEMPLATES = 256;
+
+    // A Configuration caches the templates it has parsed, so sharing one per template location means each template is only parsed once
+    private final Map<String, Configuration> classTemplateConfigurations = new ConcurrentHashMap<>();
+    private final Map<InlineTemplateKey, Template> inlineTemplates = Collections.synchronizedMap(new LinkedHashMap<InlineTemplateKey, Template>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<InlineTemplateKey, Template> eldest) {
+            return size() > MAX_CACHED_INLINE_TEMPLATES;
+        }
+    });
+
+    /**
+     * @return a shared configuration that loads templates from the classpath. Templates on the classpath cannot change while Alert is
+     * running, so they are never checked for updates once parsed.
+     */
+    public Configuration retrieveClassTemplateConfiguration(String basePackagePath) {
+        return classTemplateConfigurations.computeIfAbsent(basePackagePath, path -> {
+            Configuration configuration = createFreemarkerConfig(createClassTemplateLoader(path));
+            configuration.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+            return configuration;
+        });
+    }
+
+    /**
+     * @return a template parsed from the given content, such as a subject line, which is reused for as long as the same content is requested
+     */
+    public Template retrieveInlineTemplate(String templateName, String templateContent, Configuration configuration) throws IOException {
+        InlineTemplateKey templateKey = new InlineTemplateKey(configuration, templateName, templateContent);
+        Template template = inlineTemplates.get(templateKey);
+        if (null == template) {
+            template = new Template(templateName, templateContent, configuration);
+            inlineTemplates.put(templateKey, template);
+        }
+        return template;
+    }
 
     public Configuration createFreemarkerConfig(TemplateLoader templateLoader) {
         Configuration configuration = createDefaultConfiguration();
@@ -68,4 +107,37 @@ public class FreemarkerTemplatingService {
         }
     }
 
+    private static class InlineTemplateKey {
+        private final Configuration configuration;
+        private final String templateName;
+        private final String templateContent;
+
+        public InlineTemplateKey(Configuration configuration, String templateName, String templateContent) {
+            this.configuration = configuration;
+            this.templateName = templateName;
+            this.templateContent = templateContent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            InlineTemplateKey that = (InlineTemplateKey) o;
+            // Configurations do not override equals, so they are compared by identity
+            return configuration == that.configuration
+                       && templateName.equals(that.templateName)
+                       && templateContent.equals(that.templateContent);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(configuration), templateName, templateContent);
+        }
+
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.synopsys.integration.alert.service.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+public class HtmlTextConverterTest {
+    private final HtmlTextConverter htmlTextConverter = new HtmlTextConverter();
+
+    @Test
+    public void matchesParsedDocumentTextTest() {
+        String html = "<html><head><title>Alert</title><style>td { color: red; }</style></head>"
+                          + "<body><!-- header --><div>Project &amp; Version</div>"
+                          + "<table><tr><td>Component</td><td><a href=\"https://example.com\">Link</a></td></tr></table>"
+                          + "<p>Line one<br/>Line two &lt;3&gt;</p>\n\n   <b>Done</b></body></html>";
+
+        assertEquals(Jsoup.parse(html).text(), htmlTextConverter.convertToText(html));
+    }
+
+    @Test
+    public void convertsBlankHtmlTest() {
+        assertEquals("", htmlTextConverter.convertToText(null));
+        assertEquals("", htmlTextConverter.convertToText("  "));
+    }
+
+}
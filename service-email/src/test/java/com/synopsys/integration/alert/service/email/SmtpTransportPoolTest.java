@@ -0,0 +1,131 @@
+package com.synopsys.integration.alert.service.email;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.URLName;
+
+import org.junit.jupiter.api.Test;
+
+public class SmtpTransportPoolTest {
+    private static final String TEST_PROTOCOL = "pooltest";
+
+    @Test
+    public void reusesConnectedTransportTest() throws Exception {
+        SmtpTransportPool smtpTransportPool = new SmtpTransportPool(true, 60L);
+        try {
+            SmtpTransportPool.PooledSmtpTransport firstTransport = smtpTransportPool.borrow(createJavamailProperties("host"), "host", 25, false, null, null);
+            assertEquals(1, smtpTransportPool.getBorrowedTransportCount());
+            smtpTransportPool.release(firstTransport);
+
+            SmtpTransportPool.PooledSmtpTransport secondTransport = smtpTransportPool.borrow(createJavamailProperties("host"), "host", 25, false, null, null);
+            smtpTransportPool.release(secondTransport);
+
+            assertSame(firstTransport, secondTransport);
+            assertEquals(1L, smtpTransportPool.getOpenedConnectionCount());
+            assertEquals(1L, smtpTransportPool.getReusedConnectionCount());
+            assertEquals(1, smtpTransportPool.getIdleTransportCount());
+            assertEquals(0, smtpTransportPool.getBorrowedTransportCount());
+        } finally {
+            smtpTransportPool.destroy();
+        }
+        assertEquals(1L, smtpTransportPool.getClosedConnectionCount());
+    }
+
+    @Test
+    public void doesNotShareTransportsBetweenSettingsTest() throws Exception {
+        SmtpTransportPool smtpTransportPool = new SmtpTransportPool(true, 60L);
+        try {
+            SmtpTransportPool.PooledSmtpTransport firstTransport = smtpTransportPool.borrow(createJavamailProperties("host"), "host", 25, false, null, null);
+            smtpTransportPool.release(firstTransport);
+
+            SmtpTransportPool.PooledSmtpTransport otherHostTransport = smtpTransportPool.borrow(createJavamailProperties("other-host"), "other-host", 25, false, null, null);
+            smtpTransportPool.release(otherHostTransport);
+
+            assertNotSame(firstTransport, otherHostTransport);
+            assertEquals(2L, smtpTransportPool.getOpenedConnectionCount());
+            assertEquals(2, smtpTransportPool.getIdleTransportCount());
+        } finally {
+            smtpTransportPool.destroy();
+        }
+    }
+
+    @Test
+    public void checksConnectionOnlyWhenBorrowingTest() throws Exception {
+        SmtpTransportPool smtpTransportPool = new SmtpTransportPool(true, 60L);
+        try {
+            SmtpTransportPool.PooledSmtpTransport firstTransport = smtpTransportPool.borrow(createJavamailProperties("host"), "host", 25, false, null, null);
+            TestTransport testTransport = (TestTransport) firstTransport.getTransport();
+            // Connecting checks the connection of the transport itself
+            int connectionChecks = testTransport.getConnectionChecks();
+            smtpTransportPool.release(firstTransport);
+            assertEquals(connectionChecks, testTransport.getConnectionChecks());
+
+            SmtpTransportPool.PooledSmtpTransport secondTransport = smtpTransportPool.borrow(createJavamailProperties("host"), "host", 25, false, null, null);
+            smtpTransportPool.release(secondTransport);
+
+            assertSame(firstTransport, secondTransport);
+            assertEquals(connectionChecks + 1, testTransport.getConnectionChecks());
+        } finally {
+            smtpTransportPool.destroy();
+        }
+    }
+
+    @Test
+    public void closesTransportWhenPoolingIsDisabledTest() throws Exception {
+        SmtpTransportPool smtpTransportPool = new SmtpTransportPool(false, 60L);
+        SmtpTransportPool.PooledSmtpTransport transport = smtpTransportPool.borrow(createJavamailProperties("host"), "host", 25, false, null, null);
+        smtpTransportPool.release(transport);
+
+        assertFalse(transport.getTransport().isConnected());
+        assertEquals(0, smtpTransportPool.getIdleTransportCount());
+        assertEquals(1L, smtpTransportPool.getClosedConnectionCount());
+    }
+
+    private Properties createJavamailProperties(String host) {
+        Properties javamailProperties = new Properties();
+        javamailProperties.setProperty("mail.transport.protocol", TEST_PROTOCOL);
+        javamailProperties.setProperty(String.format("mail.%s.class", TEST_PROTOCOL), TestTransport.class.getName());
+        javamailProperties.setProperty(String.format("mail.%s.host", TEST_PROTOCOL), host);
+        return javamailProperties;
+    }
+
+    public static class TestTransport extends Transport {
+        private final AtomicInteger connectionChecks = new AtomicInteger(0);
+
+        public TestTransport(Session session, URLName urlName) {
+            super(session, urlName);
+        }
+
+        @Override
+        public boolean isConnected() {
+            connectionChecks.incrementAndGet();
+            return super.isConnected();
+        }
+
+        public int getConnectionChecks() {
+            return connectionChecks.get();
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            return true;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) {
+            // Nothing is sent
+        }
+
+    }
+
+}
@@ -1,11 +1,17 @@
 package com.synopsys.integration.alert.service.email.template;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import com.synopsys.integration.exception.IntegrationException;
+
 import freemarker.cache.TemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -22,4 +28,24 @@ public class FreemarkerTemplatingServiceTest {
         assertNotNull(test2);
     }
 
+    @Test
+    public void reusesClassTemplateConfigurationTest() throws IOException {
+        FreemarkerTemplatingService freemarkerTemplatingService = new FreemarkerTemplatingService();
+        Configuration configuration = freemarkerTemplatingService.retrieveClassTemplateConfiguration("/freemarker");
+
+        assertSame(configuration, freemarkerTemplatingService.retrieveClassTemplateConfiguration("/freemarker"));
+        assertSame(configuration.getTemplate("namespace_1/template_1.ftl"), configuration.getTemplate("namespace_1/template_1.ftl"));
+    }
+
+    @Test
+    public void reusesInlineTemplateTest() throws IOException, IntegrationException {
+        FreemarkerTemplatingService freemarkerTemplatingService = new FreemarkerTemplatingService();
+        Configuration configuration = freemarkerTemplatingService.retrieveClassTemplateConfiguration("/freemarker");
+
+        Template subjectTemplate = freemarkerTemplatingService.retrieveInlineTemplate("subject", "Alert - ${projectName}", configuration);
+        assertSame(subjectTemplate, freemarkerTemplatingService.retrieveInlineTemplate("subject", "Alert - ${projectName}", configuration));
+        assertNotSame(subjectTemplate, freemarkerTemplatingService.retrieveInlineTemplate("subject", "Alert - ${projectVersion}", configuration));
+        assertEquals("Alert - Project", freemarkerTemplatingService.resolveTemplate(Map.of("projectName", "Project"), subjectTemplate));
+    }
+
 }
@@ -14,8 +14,12 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.jms.annotation.JmsListenerConfigurer;
+import org.springframework.jms.config.DefaultJmsListenerContainerFactory;
 import org.springframework.jms.config.JmsListenerEndpointRegistrar;
 import org.springframework.jms.config.SimpleJmsListenerEndpoint;
 import org.springframework.jms.connection.CachingConnectionFactory;
@@ -24,20 +28,39 @@ import org.springframework.jms.listener.MessageListenerContainer;
 
 import com.synopsys.integration.alert.api.channel.DistributionEventReceiver;
 import com.synopsys.integration.alert.api.event.AlertMessageListener;
+import com.synopsys.integration.alert.api.event.InMemoryEventBus;
 
 @Configuration
 public class EventListenerConfigurer implements JmsListenerConfigurer {
+    public static final String DISTRIBUTION_LISTENER_PROPERTY_PREFIX = "alert.distribution.listener.";
+    // Each consumer of a scaled destination holds a single message at a time, otherwise the first consumer would prefetch the whole backlog
+    public static final String SCALED_DESTINATION_OPTIONS = "?consumer.prefetchSize=1";
+    // Surplus consumers give their thread back after this many messages, which lets the container scale down once the queue drains
+    public static final int SCALED_CONSUMER_MESSAGES_PER_TASK = 10;
+
     private final Logger logger = LoggerFactory.getLogger(EventListenerConfigurer.class);
 
     private final List<AlertMessageListener<?>> allAlertMessageListeners;
     private final Set<String> distributionEventDestinationNames;
     private final CachingConnectionFactory cachingConnectionFactory;
+    private final DefaultJmsListenerContainerFactoryConfigurer containerFactoryConfigurer;
+    private final EventListenerUtilizationMonitor utilizationMonitor;
+    private final InMemoryEventBus inMemoryEventBus;
+    private final Environment environment;
+    private final int defaultConcurrency;
+    private final int defaultMaxConcurrency;
 
     @Autowired
     public EventListenerConfigurer(
         List<AlertMessageListener<?>> allAlertMessageListeners,
         List<DistributionEventReceiver<?>> distributionEventReceivers,
-        CachingConnectionFactory cachingConnectionFactory
+        CachingConnectionFactory cachingConnectionFactory,
+        DefaultJmsListenerContainerFactoryConfigurer containerFactoryConfigurer,
+        EventListenerUtilizationMonitor utilizationMonitor,
+        InMemoryEventBus inMemoryEventBus,
+        Environment environment,
+        @Value("${alert.distribution.listener.concurrency:1}") int defaultConcurrency,
+        @Value("${alert.distribution.listener.max.concurrency:1}") int defaultMaxConcurrency
     ) {
         this.allAlertMessageListeners = allAlertMessageListeners;
         this.distributionEventDestinationNames = distributionEventReceivers
@@ -45,19 +68,43 @@ public class EventListenerConfigurer implements JmsListenerConfigurer {
             .map(AlertMessageListener::getDestinationName)
             .collect(Collectors.toSet());
         this.cachingConnectionFactory = cachingConnectionFactory;
+        this.containerFactoryConfigurer = containerFactoryConfigurer;
+        this.utilizationMonitor = utilizationMonitor;
+        this.inMemoryEventBus = inMemoryEventBus;
+        this.environment = environment;
+        this.defaultConcurrency = defaultConcurrency;
+        this.defaultMaxConcurrency = defaultMaxConcurrency;
     }
 
     @Override
     public void configureJmsListeners(JmsListenerEndpointRegistrar registrar) {
+        if (inMemoryEventBus.isEnabled()) {
+            logger.info("Registering in-memory event listeners");
+            allAlertMessageListeners.forEach(inMemoryEventBus::registerListener);
+            return;
+        }
+
         MessageListenerContainer alertDefaultMessageListenerContainer = createMessageListenerContainer();
+        DefaultJmsListenerContainerFactory scaledContainerFactory = createScaledContainerFactory();
 
         logger.info("Registering JMS Listeners");
         for (AlertMessageListener<?> messageListener : allAlertMessageListeners) {
             if (distributionEventDestinationNames.contains(messageListener.getDestinationName())) {
                 MessageListenerContainer distributionChannelMessageListenerContainer = createMessageListenerContainer();
-                registerListenerEndpoint(registrar, messageListener, distributionChannelMessageListenerContainer);
+                SimpleJmsListenerEndpoint endpoint = createListenerEndpoint(messageListener, distributionChannelMessageListenerContainer);
+                int concurrency = retrieveConcurrency(messageListener.getDestinationName(), "concurrency", defaultConcurrency);
+                int maxConcurrency = Math.max(concurrency, retrieveConcurrency(messageListener.getDestinationName(), "max.concurrency", defaultMaxConcurrency));
+                if (maxConcurrency > 1) {
+                    // The events of a job share an ordering key, so the broker hands them to one consumer at a time
+                    logger.info("Consuming {} with {} to {} concurrent consumers", messageListener.getDestinationName(), concurrency, maxConcurrency);
+                    endpoint.setDestination(messageListener.getDestinationName() + SCALED_DESTINATION_OPTIONS);
+                    endpoint.setConcurrency(String.format("%d-%d", concurrency, maxConcurrency));
+                    registrar.registerEndpoint(endpoint, scaledContainerFactory);
+                } else {
+                    registrar.registerEndpoint(endpoint);
+                }
             } else {
-                registerListenerEndpoint(registrar, messageListener, alertDefaultMessageListenerContainer);
+                registrar.registerEndpoint(createListenerEndpoint(messageListener, alertDefaultMessageListenerContainer));
             }
         }
     }
@@ -68,16 +115,29 @@ public class EventListenerConfigurer implements JmsListenerConfigurer {
         return messageListenerContainer;
     }
 
-    private void registerListenerEndpoint(JmsListenerEndpointRegistrar registrar, AlertMessageListener<?> listener, MessageListenerContainer messageListenerContainer) {
+    private DefaultJmsListenerContainerFactory createScaledContainerFactory() {
+        DefaultJmsListenerContainerFactory containerFactory = new DefaultJmsListenerContainerFactory();
+        containerFactoryConfigurer.configure(containerFactory, cachingConnectionFactory);
+        containerFactory.setMaxMessagesPerTask(SCALED_CONSUMER_MESSAGES_PER_TASK);
+        return containerFactory;
+    }
+
+    private int retrieveConcurrency(String destinationName, String propertySuffix, int defaultValue) {
+        String destinationPropertyKey = DISTRIBUTION_LISTENER_PROPERTY_PREFIX + destinationName + "." + propertySuffix;
+        Integer concurrency = environment.getProperty(destinationPropertyKey, Integer.class, defaultValue);
+        return Math.max(1, concurrency);
+    }
+
+    private SimpleJmsListenerEndpoint createListenerEndpoint(AlertMessageListener<?> listener, MessageListenerContainer messageListenerContainer) {
         String destinationName = listener.getDestinationName();
         String listenerId = createListenerId(destinationName);
         logger.info("Registering JMS Listener: {}", listenerId);
         SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
         endpoint.setId(listenerId);
         endpoint.setDestination(destinationName);
-        endpoint.setMessageListener(listener);
+        endpoint.setMessageListener(utilizationMonitor.monitorListener(listenerId, destinationName, listener));
         endpoint.setupListenerContainer(messageListenerContainer);
-        registrar.registerEndpoint(endpoint);
+        return endpoint;
     }
 
     private String createListenerId(String name) {
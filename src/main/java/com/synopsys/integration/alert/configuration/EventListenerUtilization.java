@@ -0,0 +1,65 @@
+/*
+ * blackduck-alert
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.configuration;
+
+import java.time.Duration;
+
+import com.synopsys.integration.alert.api.common.model.AlertSerializableModel;
+
+public class EventListenerUtilization extends AlertSerializableModel {
+    private final String destinationName;
+    private final int activeConsumers;
+    private final int maxConsumers;
+    private final int inFlightMessages;
+    private final long processedMessages;
+    private final Duration totalProcessingTime;
+
+    public EventListenerUtilization(String destinationName, int activeConsumers, int maxConsumers, int inFlightMessages, long processedMessages, Duration totalProcessingTime) {
+        this.destinationName = destinationName;
+        this.activeConsumers = activeConsumers;
+        this.maxConsumers = maxConsumers;
+        this.inFlightMessages = inFlightMessages;
+        this.processedMessages = processedMessages;
+        this.totalProcessingTime = totalProcessingTime;
+    }
+
+    public String getDestinationName() {
+        return destinationName;
+    }
+
+    public int getActiveConsumers() {
+        return activeConsumers;
+    }
+
+    public int getMaxConsumers() {
+        return maxConsumers;
+    }
+
+    public int getInFlightMessages() {
+        return inFlightMessages;
+    }
+
+    public long getProcessedMessages() {
+        return processedMessages;
+    }
+
+    public Duration getTotalProcessingTime() {
+        return totalProcessingTime;
+    }
+
+    /**
+     * @return The fraction of the maximum number of consumers that are currently handling a message.
+     */
+    public double getBusyConsumerRatio() {
+        if (maxConsumers <= 0) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) inFlightMessages / maxConsumers);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * blackduck-alert
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.jms.MessageListener;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jms.config.JmsListenerEndpointRegistry;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.jms.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks how busy the consumers of each JMS destination are, so that the configured concurrency can be compared with the actual load.
+ */
+@Component
+public class EventListenerUtilizationMonitor {
+    private final JmsListenerEndpointRegistry jmsListenerEndpointRegistry;
+    private final Map<String, ListenerActivity> listenerActivities = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EventListenerUtilizationMonitor(JmsListenerEndpointRegistry jmsListenerEndpointRegistry) {
+        this.jmsListenerEndpointRegistry = jmsListenerEndpointRegistry;
+    }
+
+    public MessageListener monitorListener(String listenerId, String destinationName, MessageListener messageListener) {
+        ListenerActivity listenerActivity = listenerActivities.computeIfAbsent(listenerId, ignored -> new ListenerActivity(destinationName));
+        return message -> {
+            listenerActivity.inFlightCount.incrementAndGet();
+            long startTime = System.nanoTime();
+            try {
+                messageListener.onMessage(message);
+            } finally {
+                listenerActivity.processingNanos.addAndGet(System.nanoTime() - startTime);
+                listenerActivity.processedCount.incrementAndGet();
+                listenerActivity.inFlightCount.decrementAndGet();
+            }
+        };
+    }
+
+    public Optional<EventListenerUtilization> getUtilization(String destinationName) {
+        return listenerActivities.entrySet()
+                   .stream()
+                   .filter(entry -> entry.getValue().destinationName.equals(destinationName))
+                   .findFirst()
+                   .map(entry -> createUtilization(entry.getKey(), entry.getValue()));
+    }
+
+    public List<EventListenerUtilization> getUtilizations() {
+        return listenerActivities.entrySet()
+                   .stream()
+                   .map(entry -> createUtilization(entry.getKey(), entry.getValue()))
+                   .collect(Collectors.toList());
+    }
+
+    private EventListenerUtilization createUtilization(String listenerId, ListenerActivity listenerActivity) {
+        int activeConsumers = 0;
+        int maxConsumers = 1;
+        MessageListenerContainer listenerContainer = jmsListenerEndpointRegistry.getListenerContainer(listenerId);
+        if (listenerContainer instanceof DefaultMessageListenerContainer) {
+            DefaultMessageListenerContainer defaultListenerContainer = (DefaultMessageListenerContainer) listenerContainer;
+            activeConsumers = defaultListenerContainer.getActiveConsumerCount();
+            maxConsumers = defaultListenerContainer.getMaxConcurrentConsumers();
+        }
+        return new EventListenerUtilization(
+            listenerActivity.destinationName,
+            activeConsumers,
+            maxConsumers,
+            listenerActivity.inFlightCount.get(),
+            listenerActivity.processedCount.get(),
+            Duration.ofNanos(listenerActivity.processingNanos.get())
+        );
+    }
+
+    private static class ListenerActivity {
+        private final String destinationName;
+        private final AtomicInteger inFlightCount = new AtomicInteger(0);
+        private final AtomicLong processedCount = new AtomicLong(0L);
+        private final AtomicLong processingNanos = new AtomicLong(0L);
+
+        public ListenerActivity(String destinationName) {
+            this.destinationName = destinationName;
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * blackduck-alert
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.alert.processing;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import com.synopsys.integration.alert.common.enumeration.FrequencyType;
+import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
+import com.synopsys.integration.alert.processor.api.NotificationProcessor;
+
+/**
+ * Processes real-time notifications on a single long-lived worker thread. Each run drains the unprocessed notifications in batches
+ * until none remain. Requests made while a run is waiting to start share that run, so a burst of notification events results in at
+ * most one run beyond the one that is in progress.
+ */
+@Component
+public class NotificationProcessingEngine implements DisposableBean {
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    private static final String THREAD_NAME_PREFIX = "alert-notification-processing-";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final NotificationAccessor notificationAccessor;
+    private final NotificationProcessor notificationProcessor;
+    private final int batchSize;
+    private final ExecutorService worker;
+
+    private final Object pendingRunLock = new Object();
+    private CompletableFuture<Void> pendingRun;
+
+    private final AtomicLong backlogDepth = new AtomicLong(0L);
+    private final AtomicLong requestCount = new AtomicLong(0L);
+    private final AtomicLong coalescedRequestCount = new AtomicLong(0L);
+    private final AtomicLong processedNotificationCount = new AtomicLong(0L);
+
+    @Autowired
+    public NotificationProcessingEngine(
+        NotificationAccessor notificationAccessor,
+        NotificationProcessor notificationProcessor,
+        @Value("${alert.processing.realtime.batch.size:100}") int batchSize
+    ) {
+        this.notificationAccessor = notificationAccessor;
+        this.notificationProcessor = notificationProcessor;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+    }
+
+    /**
+     * Requests that the unprocessed notifications be processed. This does not wait for the notifications to be processed.
+     * @return a future that completes once a run that started after this request has finished
+     */
+    public CompletableFuture<Void> requestProcessing() {
+        requestCount.incrementAndGet();
+        synchronized (pendingRunLock) {
+            if (null != pendingRun) {
+                coalescedRequestCount.incrementAndGet();
+                return pendingRun;
+            }
+            CompletableFuture<Void> run = new CompletableFuture<>();
+            pendingRun = run;
+            worker.execute(() -> drainBacklog(run));
+            return run;
+        }
+    }
+
+    /**
+     * @return the number of unprocessed notifications as of the last batch that was processed
+     */
+    public long getBacklogDepth() {
+        return backlogDepth.get();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getCoalescedRequestCount() {
+        return coalescedRequestCount.get();
+    }
+
+    public long getProcessedNotificationCount() {
+        return processedNotificationCount.get();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void destroy() {
+        worker.shutdownNow();
+    }
+
+    private void drainBacklog(CompletableFuture<Void> run) {
+        synchronized (pendingRunLock) {
+            // Requests made from now on may miss notifications this run has already looked for, so they need a run of their own
+            if (pendingRun == run) {
+                pendingRun = null;
+            }
+        }
+
+        try {
+            drainBacklog();
+            run.complete(null);
+        } catch (Throwable e) {
+            logger.error("Error Processing notifications", e);
+            run.completeExceptionally(e);
+        }
+    }
+
+    private void drainBacklog() {
+        Set<Long> previousNotificationIds = Set.of();
+        AlertPagedModel<AlertNotificationModel> pageOfAlertNotificationModels = notificationAccessor.getFirstPageOfNotificationsNotProcessed(batchSize);
+        while (!CollectionUtils.isEmpty(pageOfAlertNotificationModels.getModels())) {
+            List<AlertNotificationModel> notifications = pageOfAlertNotificationModels.getModels();
+            Set<Long> notificationIds = notifications
+                                            .stream()
+                                            .map(AlertNotificationModel::getId)
+                                            .collect(Collectors.toSet());
+            if (notificationIds.equals(previousNotificationIds)) {
+                logger.warn("The notifications {} were not marked as processed. They will be processed on the next notification event.", notificationIds);
+                return;
+            }
+
+            logger.info("Starting to process {} notifications.", notifications.size());
+            notificationProcessor.processNotifications(notifications, List.of(FrequencyType.REAL_TIME));
+            processedNotificationCount.addAndGet(notifications.size());
+            backlogDepth.set(notificationAccessor.countNotificationsNotProcessed());
+            logger.debug("{} notifications remain to be processed.", backlogDepth.get());
+
+            previousNotificationIds = notificationIds;
+            pageOfAlertNotificationModels = notificationAccessor.getFirstPageOfNotificationsNotProcessed(batchSize);
+        }
+        backlogDepth.set(0L);
+        logger.info("Finished processing notifications.");
+    }
+
+}
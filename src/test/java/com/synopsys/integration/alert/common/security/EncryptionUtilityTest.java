@@ -184,6 +184,21 @@ public class EncryptionUtilityTest {
         assertTrue(encryptionUtility.isInitialized());
     }
 
+    @Test
+    public void testEncryptorChangesWithVolumeDataFile() throws Exception {
+        final String sensitiveValue = "sensitiveDataText";
+        Mockito.when(alertProperties.getAlertEncryptionPassword()).thenReturn(Optional.empty());
+        Mockito.when(alertProperties.getAlertEncryptionGlobalSalt()).thenReturn(Optional.empty());
+        encryptionUtility.updateEncryptionFieldsInVolumeDataFile("firstPassword", "firstSalt");
+        String firstEncryptedValue = encryptionUtility.encrypt(sensitiveValue);
+        assertEquals(sensitiveValue, encryptionUtility.decrypt(firstEncryptedValue));
+
+        encryptionUtility.updateEncryptionFieldsInVolumeDataFile("secondPassword", "secondSalt");
+        assertTrue(StringUtils.isBlank(encryptionUtility.decrypt(firstEncryptedValue)));
+        String secondEncryptedValue = encryptionUtility.encrypt(sensitiveValue);
+        assertEquals(sensitiveValue, encryptionUtility.decrypt(secondEncryptedValue));
+    }
+
     @Test
     public void testSecretFileDataMissing() {
         Mockito.when(alertProperties.getAlertEncryptionPassword()).thenReturn(Optional.empty());
@@ -0,0 +1,104 @@
+package com.synopsys.integration.alert.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.jms.DefaultJmsListenerContainerFactoryConfigurer;
+import org.springframework.core.env.Environment;
+import org.springframework.jms.config.JmsListenerContainerFactory;
+import org.springframework.jms.config.JmsListenerEndpointRegistrar;
+import org.springframework.jms.config.JmsListenerEndpointRegistry;
+import org.springframework.jms.config.SimpleJmsListenerEndpoint;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+import com.synopsys.integration.alert.api.channel.DistributionEventReceiver;
+import com.synopsys.integration.alert.api.event.AlertEvent;
+import com.synopsys.integration.alert.api.event.AlertMessageListener;
+import com.synopsys.integration.alert.api.event.InMemoryEventBus;
+import com.synopsys.integration.alert.common.persistence.model.job.details.DistributionJobDetailsModel;
+import com.synopsys.integration.alert.descriptor.api.model.ChannelKey;
+
+public class EventListenerConfigurerTest {
+    private static final ChannelKey SCALED_CHANNEL_KEY = new ChannelKey("channel_scaled", "Scaled");
+    private static final ChannelKey SINGLE_CHANNEL_KEY = new ChannelKey("channel_single", "Single");
+
+    @Test
+    public void configureDistributionConcurrencyTest() {
+        DistributionEventReceiver<DistributionJobDetailsModel> scaledReceiver = new DistributionEventReceiver<>(null, SCALED_CHANNEL_KEY, null) {};
+        DistributionEventReceiver<DistributionJobDetailsModel> singleReceiver = new DistributionEventReceiver<>(null, SINGLE_CHANNEL_KEY, null) {};
+        AlertMessageListener<AlertEvent> otherListener = new AlertMessageListener<>(null, "other_destination", AlertEvent.class, null) {};
+
+        Environment environment = createEnvironment(Map.of(
+            "alert.distribution.listener.channel_scaled.concurrency", 2,
+            "alert.distribution.listener.channel_scaled.max.concurrency", 8
+        ));
+
+        EventListenerConfigurer eventListenerConfigurer = new EventListenerConfigurer(
+            List.of(scaledReceiver, singleReceiver, otherListener),
+            List.of(scaledReceiver, singleReceiver),
+            Mockito.mock(CachingConnectionFactory.class),
+            Mockito.mock(DefaultJmsListenerContainerFactoryConfigurer.class),
+            new EventListenerUtilizationMonitor(new JmsListenerEndpointRegistry()),
+            new InMemoryEventBus(false, 1, 1, 0L),
+            environment,
+            1,
+            1
+        );
+
+        JmsListenerEndpointRegistrar registrar = Mockito.mock(JmsListenerEndpointRegistrar.class);
+        eventListenerConfigurer.configureJmsListeners(registrar);
+
+        ArgumentCaptor<SimpleJmsListenerEndpoint> scaledEndpointCaptor = ArgumentCaptor.forClass(SimpleJmsListenerEndpoint.class);
+        Mockito.verify(registrar).registerEndpoint(scaledEndpointCaptor.capture(), Mockito.any(JmsListenerContainerFactory.class));
+        SimpleJmsListenerEndpoint scaledEndpoint = scaledEndpointCaptor.getValue();
+        assertEquals("channel_scaled" + EventListenerConfigurer.SCALED_DESTINATION_OPTIONS, scaledEndpoint.getDestination());
+        assertEquals("2-8", scaledEndpoint.getConcurrency());
+
+        ArgumentCaptor<SimpleJmsListenerEndpoint> endpointCaptor = ArgumentCaptor.forClass(SimpleJmsListenerEndpoint.class);
+        Mockito.verify(registrar, Mockito.times(2)).registerEndpoint(endpointCaptor.capture());
+        for (SimpleJmsListenerEndpoint endpoint : endpointCaptor.getAllValues()) {
+            assertNull(endpoint.getConcurrency());
+        }
+        assertEquals("channel_single", endpointCaptor.getAllValues().get(0).getDestination());
+        assertEquals("other_destination", endpointCaptor.getAllValues().get(1).getDestination());
+    }
+
+    @Test
+    public void configureInMemoryEventBusTest() {
+        AlertMessageListener<AlertEvent> listener = new AlertMessageListener<>(null, "destination", AlertEvent.class, null) {};
+        InMemoryEventBus inMemoryEventBus = Mockito.mock(InMemoryEventBus.class);
+        Mockito.when(inMemoryEventBus.isEnabled()).thenReturn(true);
+
+        EventListenerConfigurer eventListenerConfigurer = new EventListenerConfigurer(
+            List.of(listener),
+            List.of(),
+            Mockito.mock(CachingConnectionFactory.class),
+            Mockito.mock(DefaultJmsListenerContainerFactoryConfigurer.class),
+            new EventListenerUtilizationMonitor(new JmsListenerEndpointRegistry()),
+            inMemoryEventBus,
+            createEnvironment(Map.of()),
+            1,
+            1
+        );
+
+        JmsListenerEndpointRegistrar registrar = Mockito.mock(JmsListenerEndpointRegistrar.class);
+        eventListenerConfigurer.configureJmsListeners(registrar);
+
+        Mockito.verify(inMemoryEventBus).registerListener(listener);
+        Mockito.verify(registrar, Mockito.never()).registerEndpoint(Mockito.any());
+    }
+
+    private Environment createEnvironment(Map<String, Integer> properties) {
+        Environment environment = Mockito.mock(Environment.class);
+        Mockito.when(environment.getProperty(Mockito.anyString(), Mockito.eq(Integer.class), Mockito.anyInt()))
+            .thenAnswer(invocation -> properties.getOrDefault(invocation.getArgument(0, String.class), invocation.getArgument(2, Integer.class)));
+        return environment;
+    }
+
+}
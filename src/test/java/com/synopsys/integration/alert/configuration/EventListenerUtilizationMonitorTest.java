@@ -0,0 +1,53 @@
+package com.synopsys.integration.alert.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jms.config.JmsListenerEndpointRegistry;
+
+public class EventListenerUtilizationMonitorTest {
+    private static final String DESTINATION_NAME = "channel_test";
+
+    @Test
+    public void tracksInFlightAndProcessedMessagesTest() {
+        EventListenerUtilizationMonitor utilizationMonitor = new EventListenerUtilizationMonitor(new JmsListenerEndpointRegistry());
+        AtomicReference<EventListenerUtilization> utilizationWhileHandling = new AtomicReference<>();
+        MessageListener monitoredListener = utilizationMonitor.monitorListener("channel_testListener", DESTINATION_NAME, message ->
+            utilizationWhileHandling.set(utilizationMonitor.getUtilization(DESTINATION_NAME).orElseThrow())
+        );
+
+        monitoredListener.onMessage(Mockito.mock(Message.class));
+
+        assertEquals(1, utilizationWhileHandling.get().getInFlightMessages());
+        assertEquals(1.0, utilizationWhileHandling.get().getBusyConsumerRatio());
+
+        EventListenerUtilization utilization = utilizationMonitor.getUtilization(DESTINATION_NAME).orElseThrow();
+        assertEquals(0, utilization.getInFlightMessages());
+        assertEquals(1L, utilization.getProcessedMessages());
+        assertEquals(0.0, utilization.getBusyConsumerRatio());
+    }
+
+    @Test
+    public void countsFailedMessagesAsProcessedTest() {
+        EventListenerUtilizationMonitor utilizationMonitor = new EventListenerUtilizationMonitor(new JmsListenerEndpointRegistry());
+        MessageListener monitoredListener = utilizationMonitor.monitorListener("channel_testListener", DESTINATION_NAME, message -> {
+            throw new IllegalStateException("Test exception");
+        });
+
+        assertThrows(IllegalStateException.class, () -> monitoredListener.onMessage(Mockito.mock(Message.class)));
+
+        EventListenerUtilization utilization = utilizationMonitor.getUtilization(DESTINATION_NAME).orElseThrow();
+        assertEquals(0, utilization.getInFlightMessages());
+        assertEquals(1L, utilization.getProcessedMessages());
+        assertTrue(utilizationMonitor.getUtilization("unknown").isEmpty());
+    }
+
+}
@@ -1,9 +1,8 @@
 package com.synopsys.integration.alert.database.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -28,21 +27,15 @@ import com.synopsys.integration.alert.common.persistence.model.ConfigurationFiel
 import com.synopsys.integration.alert.common.persistence.model.job.BlackDuckProjectDetailsModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobModel;
 import com.synopsys.integration.alert.common.persistence.model.job.DistributionJobRequestModel;
-import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobRequestModel;
 import com.synopsys.integration.alert.common.persistence.model.job.FilteredDistributionJobResponseModel;
+import com.synopsys.integration.alert.common.persistence.model.job.NotificationFilterModel;
 import com.synopsys.integration.alert.common.persistence.model.job.details.SlackJobDetailsModel;
-import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
-import com.synopsys.integration.alert.common.rest.model.AlertPagedDetails;
 import com.synopsys.integration.alert.database.job.DistributionJobRepository;
 import com.synopsys.integration.alert.descriptor.api.BlackDuckProviderKey;
 import com.synopsys.integration.alert.descriptor.api.model.ChannelKeys;
-import com.synopsys.integration.alert.processor.api.detail.DetailedNotificationContent;
 import com.synopsys.integration.alert.provider.blackduck.descriptor.BlackDuckDescriptor;
-import com.synopsys.integration.alert.provider.blackduck.processor.model.VulnerabilityUniqueProjectNotificationContent;
 import com.synopsys.integration.alert.util.AlertIntegrationTest;
 import com.synopsys.integration.blackduck.api.generated.enumeration.VulnerabilitySeverityType;
-import com.synopsys.integration.blackduck.api.manual.component.AffectedProjectVersion;
-import com.synopsys.integration.blackduck.api.manual.component.VulnerabilityNotificationContent;
 import com.synopsys.integration.blackduck.api.manual.enumeration.NotificationType;
 
 @AlertIntegrationTest
@@ -87,9 +80,7 @@ public class ProcessingJobAccessorTestIT {
     }
 
     @Test
-    public void testMatchingEnabledJobsUniqueJobsPerPage() throws InterruptedException {
-        int expectedNumOfJobs = 1000;
-        Set<UUID> previousJobIdSet = new HashSet<>();
+    public void testMatchingEnabledJobsAreUnique() {
         createJobs(createDistributionJobModels(List.of(VulnerabilitySeverityType.LOW.name()), 100));
         createJobs(createDistributionJobModels(List.of(VulnerabilitySeverityType.LOW.name(), VulnerabilitySeverityType.HIGH.name()), 100));
         createJobs(createDistributionJobModels(List.of(VulnerabilitySeverityType.LOW.name()), 100));
@@ -101,62 +92,32 @@ public class ProcessingJobAccessorTestIT {
         createJobs(createDistributionJobModels(List.of(VulnerabilitySeverityType.LOW.name()), 100));
         createJobs(createDistributionJobModels(List.of(VulnerabilitySeverityType.LOW.name()), 100));
 
-        List<DetailedNotificationContent> notifications = new ArrayList<>();
-        notifications.addAll(createVulnerabilityNotificationWrappers(List.of(VulnerabilitySeverityType.LOW.name()), PROJECT_NAME_1));
-        notifications.addAll(createVulnerabilityNotificationWrappers(List.of(VulnerabilitySeverityType.HIGH.name()), PROJECT_NAME_2));
-
-        int currentPage = 0;
-        FilteredDistributionJobRequestModel filteredDistributionJobRequestModel = new FilteredDistributionJobRequestModel(providerConfigId, List.of(FrequencyType.REAL_TIME));
-        filteredDistributionJobRequestModel.addProjectName(PROJECT_NAME_1);
-        filteredDistributionJobRequestModel.addProjectName(PROJECT_NAME_2);
-        filteredDistributionJobRequestModel.addNotificationType(NotificationType.VULNERABILITY.name());
-        filteredDistributionJobRequestModel.addVulnerabilitySeverities(List.of(VulnerabilitySeverityType.LOW.name(), VulnerabilitySeverityType.HIGH.name()));
-        AlertPagedDetails<FilteredDistributionJobResponseModel> jobs = processingJobAccessor.getMatchingEnabledJobsByFilteredNotifications(filteredDistributionJobRequestModel, currentPage, 100);
-        while (currentPage < jobs.getTotalPages()) {
-            currentPage++;
-            for (FilteredDistributionJobResponseModel jobResponseModel : jobs.getModels()) {
-                // this will update the job id such that last updated time will change.
-                // need to make sure the subsequent page requests don't return duplicate jobs.
-                UUID jobId = jobResponseModel.getId();
-                // cannot find the same job id in subsequent page requests for jobs.
-                assertFalse(previousJobIdSet.contains(jobId), String.format("Job id: %s found in set of previously mapped job ids.", jobId));
-                previousJobIdSet.add(jobId);
-            }
-            jobs = processingJobAccessor.getMatchingEnabledJobsByFilteredNotifications(filteredDistributionJobRequestModel, currentPage, 100);
-        }
-
-        assertEquals(expectedNumOfJobs, previousJobIdSet.size());
-    }
-
-    private List<DetailedNotificationContent> createVulnerabilityNotificationWrappers(List<String> vulnerabilitySeverities, String projectName) {
-        AlertNotificationModel alertNotificationModel = createAlertNotificationModel(NotificationType.VULNERABILITY);
-        DetailedNotificationContent test_project = DetailedNotificationContent.vulnerability(
-            alertNotificationModel,
-            createVulnerabilityUniqueProjectNotificationContent(projectName),
-            projectName,
-            vulnerabilitySeverities
+        NotificationFilterModel lowSeverityFilter = NotificationFilterModel.vulnerability(
+            providerConfigId,
+            NotificationType.VULNERABILITY.name(),
+            PROJECT_NAME_1,
+            List.of(VulnerabilitySeverityType.LOW.name())
         );
-        return List.of(test_project);
-    }
+        List<FilteredDistributionJobResponseModel> lowSeverityJobs = processingJobAccessor.getMatchingEnabledJobsByNotification(lowSeverityFilter, List.of(FrequencyType.REAL_TIME));
+        assertUniqueJobs(1000, lowSeverityJobs);
 
-    private VulnerabilityUniqueProjectNotificationContent createVulnerabilityUniqueProjectNotificationContent(String projectName) {
-        AffectedProjectVersion affectedProjectVersion = new AffectedProjectVersion();
-        affectedProjectVersion.setProjectName(projectName);
-        return new VulnerabilityUniqueProjectNotificationContent(new VulnerabilityNotificationContent(), affectedProjectVersion);
+        NotificationFilterModel highSeverityFilter = NotificationFilterModel.vulnerability(
+            providerConfigId,
+            NotificationType.VULNERABILITY.name(),
+            PROJECT_NAME_2,
+            List.of(VulnerabilitySeverityType.HIGH.name())
+        );
+        List<FilteredDistributionJobResponseModel> highSeverityJobs = processingJobAccessor.getMatchingEnabledJobsByNotification(highSeverityFilter, List.of(FrequencyType.REAL_TIME));
+        assertUniqueJobs(100, highSeverityJobs);
     }
 
-    private AlertNotificationModel createAlertNotificationModel(NotificationType notificationType) {
-        return new AlertNotificationModel(
-            0L,
-            0L,
-            "provider",
-            "providerConfigName",
-            notificationType.name(),
-            "content",
-            OffsetDateTime.now(),
-            OffsetDateTime.now(),
-            false
-        );
+    private void assertUniqueJobs(int expectedNumOfJobs, List<FilteredDistributionJobResponseModel> jobs) {
+        Set<UUID> jobIds = new HashSet<>();
+        for (FilteredDistributionJobResponseModel jobResponseModel : jobs) {
+            UUID jobId = jobResponseModel.getId();
+            assertTrue(jobIds.add(jobId), String.format("Job id: %s was matched more than once.", jobId));
+        }
+        assertEquals(expectedNumOfJobs, jobIds.size());
     }
 
     private void createJobs(List<DistributionJobRequestModel> jobs) {
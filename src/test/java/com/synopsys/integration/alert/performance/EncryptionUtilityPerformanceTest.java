@@ -0,0 +1,67 @@
+package com.synopsys.integration.alert.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.Charsets;
+import org.apache.commons.codec.binary.Hex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.encrypt.Encryptors;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.alert.common.AlertProperties;
+import com.synopsys.integration.alert.common.persistence.util.FilePersistenceUtil;
+import com.synopsys.integration.alert.common.security.EncryptionUtility;
+import com.synopsys.integration.alert.test.common.TestTags;
+
+/**
+ * Compares how many values can be decrypted per second when the key is derived for every value, as EncryptionUtility used to do, with
+ * the cached encryptor it uses now.
+ */
+@Tag(TestTags.DEFAULT_PERFORMANCE)
+public class EncryptionUtilityPerformanceTest {
+    private static final String TEST_PASSWORD = "testPassword";
+    private static final String TEST_SALT = "testSalt";
+    private static final String SENSITIVE_VALUE = "sensitiveDataText";
+    private static final int DECRYPT_COUNT = 2000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Test
+    public void compareDecryptsPerSecondTest() {
+        AlertProperties alertProperties = Mockito.mock(AlertProperties.class);
+        Mockito.when(alertProperties.getAlertEncryptionPassword()).thenReturn(Optional.of(TEST_PASSWORD));
+        Mockito.when(alertProperties.getAlertEncryptionGlobalSalt()).thenReturn(Optional.of(TEST_SALT));
+        EncryptionUtility encryptionUtility = new EncryptionUtility(alertProperties, new FilePersistenceUtil(alertProperties, new Gson()));
+        String encryptedValue = encryptionUtility.encrypt(SENSITIVE_VALUE);
+        String encodedSalt = Hex.encodeHexString(TEST_SALT.getBytes(Charsets.UTF_8));
+
+        long uncachedStartTime = System.nanoTime();
+        for (int i = 0; i < DECRYPT_COUNT; i++) {
+            assertEquals(SENSITIVE_VALUE, Encryptors.delux(TEST_PASSWORD, encodedSalt).decrypt(encryptedValue));
+        }
+        double uncachedDecryptsPerSecond = computeOperationsPerSecond(uncachedStartTime);
+
+        long cachedStartTime = System.nanoTime();
+        for (int i = 0; i < DECRYPT_COUNT; i++) {
+            assertEquals(SENSITIVE_VALUE, encryptionUtility.decrypt(encryptedValue));
+        }
+        double cachedDecryptsPerSecond = computeOperationsPerSecond(cachedStartTime);
+
+        logger.info("Decrypts per second: derived key per value = {}, cached encryptor = {}", Math.round(uncachedDecryptsPerSecond), Math.round(cachedDecryptsPerSecond));
+        assertTrue(cachedDecryptsPerSecond > uncachedDecryptsPerSecond, "Decrypting with the cached encryptor should be faster than deriving the key for every value");
+    }
+
+    private double computeOperationsPerSecond(long startTimeNanos) {
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startTimeNanos);
+        return DECRYPT_COUNT * (double) TimeUnit.SECONDS.toNanos(1L) / elapsedNanos;
+    }
+
+}
@@ -41,6 +41,11 @@ public class MockNotificationAccessor implements NotificationAccessor {
         return null;
     }
 
+    @Override
+    public List<AlertNotificationModel> findPageByCreatedAtBetween(OffsetDateTime startDate, OffsetDateTime endDate, AlertNotificationModel previousNotification, int pageSize) {
+        return null;
+    }
+
     @Override
     public List<AlertNotificationModel> findByCreatedAtBefore(OffsetDateTime date) {
         return null;
@@ -68,6 +73,14 @@ public class MockNotificationAccessor implements NotificationAccessor {
         return new AlertPagedModel<>(pageOfNotifications.getTotalPages(), pageOfNotifications.getNumber(), pageOfNotifications.getSize(), pageOfNotifications.getContent());
     }
 
+    @Override
+    public long countNotificationsNotProcessed() {
+        return alertNotificationModels
+                   .stream()
+                   .filter(notification -> !notification.getProcessed())
+                   .count();
+    }
+
     @Override
     public void setNotificationsProcessed(List<AlertNotificationModel> notifications) {
         for (AlertNotificationModel notification : notifications) {
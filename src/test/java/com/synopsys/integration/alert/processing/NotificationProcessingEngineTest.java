@@ -0,0 +1,132 @@
+package com.synopsys.integration.alert.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
+import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
+import com.synopsys.integration.alert.common.rest.model.AlertPagedModel;
+import com.synopsys.integration.alert.common.util.DateUtils;
+import com.synopsys.integration.alert.processor.api.NotificationProcessor;
+
+public class NotificationProcessingEngineTest {
+    @Test
+    public void drainsBacklogInBatchesTest() throws Exception {
+        List<AlertNotificationModel> notifications = new ArrayList<>();
+        for (long id = 1L; id <= 25L; id++) {
+            notifications.add(createNotification(id));
+        }
+        NotificationAccessor notificationAccessor = new PagingMockNotificationAccessor(notifications);
+        NotificationProcessor notificationProcessor = mockNotificationProcessor(notificationAccessor, null);
+        NotificationProcessingEngine processingEngine = new NotificationProcessingEngine(notificationAccessor, notificationProcessor, 10);
+
+        try {
+            processingEngine.requestProcessing().get(10, TimeUnit.SECONDS);
+        } finally {
+            processingEngine.destroy();
+        }
+
+        Mockito.verify(notificationProcessor, Mockito.times(3)).processNotifications(Mockito.anyList(), Mockito.anyList());
+        assertEquals(25L, processingEngine.getProcessedNotificationCount());
+        assertEquals(0L, processingEngine.getBacklogDepth());
+        assertEquals(0L, notificationAccessor.countNotificationsNotProcessed());
+    }
+
+    @Test
+    public void coalescesRequestsWhileBusyTest() throws Exception {
+        NotificationAccessor notificationAccessor = new PagingMockNotificationAccessor(new ArrayList<>(List.of(createNotification(1L))));
+        CountDownLatch processingStarted = new CountDownLatch(1);
+        CountDownLatch releaseProcessing = new CountDownLatch(1);
+        NotificationProcessor notificationProcessor = mockNotificationProcessor(notificationAccessor, () -> {
+            processingStarted.countDown();
+            releaseProcessing.await(10, TimeUnit.SECONDS);
+        });
+        NotificationProcessingEngine processingEngine = new NotificationProcessingEngine(notificationAccessor, notificationProcessor, 10);
+
+        try {
+            CompletableFuture<Void> firstRun = processingEngine.requestProcessing();
+            assertTrue(processingStarted.await(10, TimeUnit.SECONDS));
+
+            CompletableFuture<Void> secondRun = processingEngine.requestProcessing();
+            assertSame(secondRun, processingEngine.requestProcessing());
+            assertSame(secondRun, processingEngine.requestProcessing());
+
+            releaseProcessing.countDown();
+            firstRun.get(10, TimeUnit.SECONDS);
+            secondRun.get(10, TimeUnit.SECONDS);
+        } finally {
+            processingEngine.destroy();
+        }
+
+        assertEquals(4L, processingEngine.getRequestCount());
+        assertEquals(2L, processingEngine.getCoalescedRequestCount());
+        Mockito.verify(notificationProcessor, Mockito.times(1)).processNotifications(Mockito.anyList(), Mockito.anyList());
+    }
+
+    @Test
+    public void stopsWhenNotificationsAreNotMarkedProcessedTest() throws Exception {
+        NotificationAccessor notificationAccessor = new PagingMockNotificationAccessor(new ArrayList<>(List.of(createNotification(1L))));
+        NotificationProcessor notificationProcessor = Mockito.mock(NotificationProcessor.class);
+        NotificationProcessingEngine processingEngine = new NotificationProcessingEngine(notificationAccessor, notificationProcessor, 10);
+
+        try {
+            processingEngine.requestProcessing().get(10, TimeUnit.SECONDS);
+        } finally {
+            processingEngine.destroy();
+        }
+
+        Mockito.verify(notificationProcessor, Mockito.times(1)).processNotifications(Mockito.anyList(), Mockito.anyList());
+        assertEquals(1L, processingEngine.getBacklogDepth());
+    }
+
+    private NotificationProcessor mockNotificationProcessor(NotificationAccessor notificationAccessor, ProcessingHook processingHook) {
+        NotificationProcessor notificationProcessor = Mockito.mock(NotificationProcessor.class);
+        Mockito.doAnswer(invocation -> {
+            if (null != processingHook) {
+                processingHook.run();
+            }
+            List<AlertNotificationModel> notifications = invocation.getArgument(0);
+            notificationAccessor.setNotificationsProcessed(notifications);
+            return null;
+        }).when(notificationProcessor).processNotifications(Mockito.anyList(), Mockito.anyList());
+        return notificationProcessor;
+    }
+
+    private AlertNotificationModel createNotification(Long id) {
+        return new AlertNotificationModel(id, 1L, "provider-test", "providerConfigName", "PROJECT", "{}", DateUtils.createCurrentDateTimestamp(), DateUtils.createCurrentDateTimestamp(), false);
+    }
+
+    private interface ProcessingHook {
+        void run() throws InterruptedException;
+
+    }
+
+    private static class PagingMockNotificationAccessor extends MockNotificationAccessor {
+        public PagingMockNotificationAccessor(List<AlertNotificationModel> alertNotificationModels) {
+            super(alertNotificationModels);
+        }
+
+        @Override
+        public AlertPagedModel<AlertNotificationModel> getFirstPageOfNotificationsNotProcessed(int pageSize) {
+            List<AlertNotificationModel> notificationsNotProcessed = alertNotificationModels
+                                                                         .stream()
+                                                                         .filter(notification -> !notification.getProcessed())
+                                                                         .limit(pageSize)
+                                                                         .collect(Collectors.toList());
+            return new AlertPagedModel<>(1, 0, pageSize, notificationsNotProcessed);
+        }
+
+    }
+
+}
@@ -1,23 +1,25 @@
 package com.synopsys.integration.alert.processing;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.jms.core.JmsTemplate;
 
 import com.google.gson.Gson;
-import com.synopsys.integration.alert.api.event.EventManager;
 import com.synopsys.integration.alert.api.event.NotificationReceivedEvent;
 import com.synopsys.integration.alert.common.persistence.accessor.NotificationAccessor;
 import com.synopsys.integration.alert.common.rest.model.AlertNotificationModel;
 import com.synopsys.integration.alert.common.rest.model.AlertPagedDetails;
 import com.synopsys.integration.alert.common.util.DateUtils;
+import com.synopsys.integration.alert.processor.api.JobProcessingExecutor;
 import com.synopsys.integration.alert.processor.api.NotificationProcessor;
 import com.synopsys.integration.alert.processor.api.detail.NotificationDetailExtractionDelegator;
 import com.synopsys.integration.alert.processor.api.filter.FilteredJobNotificationWrapper;
@@ -37,14 +39,18 @@ public class NotificationReceivedEventHandlerTest {
         List<AlertNotificationModel> alertNotificationModels = List.of(alertNotificationModel);
         NotificationAccessor notificationAccessor = new MockNotificationAccessor(alertNotificationModels);
         NotificationProcessor notificationProcessor = mockNotificationProcessor(notificationAccessor);
-        EventManager eventManager = mockEventManager();
-        NotificationReceivedEventHandler eventHandler = new NotificationReceivedEventHandler(notificationAccessor, notificationProcessor, eventManager);
+        NotificationProcessingEngine processingEngine = new NotificationProcessingEngine(notificationAccessor, notificationProcessor, NotificationProcessingEngine.DEFAULT_BATCH_SIZE);
+        NotificationReceivedEventHandler eventHandler = new NotificationReceivedEventHandler(processingEngine);
 
         try {
             eventHandler.handle(new NotificationReceivedEvent());
-        } catch (RuntimeException e) {
+            processingEngine.requestProcessing().get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
             fail("Unable to handle event", e);
+        } finally {
+            processingEngine.destroy();
         }
+        assertEquals(0L, notificationAccessor.countNotificationsNotProcessed());
     }
 
     @Test
@@ -54,14 +60,17 @@ public class NotificationReceivedEventHandlerTest {
             throw new InterruptedException("Test: exception for thread");
         }).when(notificationAccessor).getFirstPageOfNotificationsNotProcessed(Mockito.anyInt());
         NotificationProcessor notificationProcessor = mockNotificationProcessor(notificationAccessor);
-        EventManager eventManager = mockEventManager();
-        NotificationReceivedEventHandler eventHandler = new NotificationReceivedEventHandler(notificationAccessor, notificationProcessor, eventManager);
+        NotificationProcessingEngine processingEngine = new NotificationProcessingEngine(notificationAccessor, notificationProcessor, NotificationProcessingEngine.DEFAULT_BATCH_SIZE);
+        NotificationReceivedEventHandler eventHandler = new NotificationReceivedEventHandler(processingEngine);
 
         try {
             eventHandler.handle(new NotificationReceivedEvent());
         } catch (RuntimeException e) {
             fail("Unable to handle event", e);
         }
+        // The failure is reported by the processing engine rather than the event handler
+        assertThrows(ExecutionException.class, () -> processingEngine.requestProcessing().get(10, TimeUnit.SECONDS));
+        processingEngine.destroy();
     }
 
     @Test
@@ -71,14 +80,17 @@ public class NotificationReceivedEventHandlerTest {
             throw new ExecutionException(new RuntimeException("Test: exception for thread"));
         }).when(notificationAccessor).getFirstPageOfNotificationsNotProcessed(Mockito.anyInt());
         NotificationProcessor notificationProcessor = mockNotificationProcessor(notificationAccessor);
-        EventManager eventManager = mockEventManager();
-        NotificationReceivedEventHandler eventHandler = new NotificationReceivedEventHandler(notificationAccessor, notificationProcessor, eventManager);
+        NotificationProcessingEngine processingEngine = new NotificationProcessingEngine(notificationAccessor, notificationProcessor, NotificationProcessingEngine.DEFAULT_BATCH_SIZE);
+        NotificationReceivedEventHandler eventHandler = new NotificationReceivedEventHandler(processingEngine);
 
         try {
             eventHandler.handle(new NotificationReceivedEvent());
         } catch (RuntimeException e) {
             fail("Unable to handle event", e);
         }
+        // The failure is reported by the processing engine rather than the event handler
+        assertThrows(ExecutionException.class, () -> processingEngine.requestProcessing().get(10, TimeUnit.SECONDS));
+        processingEngine.destroy();
     }
 
     private AlertNotificationModel createAlertNotificationModel(Long id, boolean processed) throws IOException {
@@ -98,15 +110,7 @@ public class NotificationReceivedEventHandlerTest {
         Predicate<AlertPagedDetails> hasNextPage = page -> page.getCurrentPage() < (page.getTotalPages() - 1);
         StatefulAlertPage<FilteredJobNotificationWrapper, RuntimeException> statefulAlertPage = new StatefulAlertPage(AlertPagedDetails.emptyPage(), Mockito.mock(PageRetriever.class), hasNextPage);
         Mockito.when(jobNotificationMapper.mapJobsToNotifications(Mockito.anyList(), Mockito.anyList())).thenReturn(statefulAlertPage);
-        return new NotificationProcessor(detailExtractionDelegator, jobNotificationMapper, null, null, List.of(), notificationAccessor);
-    }
-
-    private EventManager mockEventManager() {
-        JmsTemplate jmsTemplate = Mockito.mock(JmsTemplate.class);
-        Mockito.doNothing().when(jmsTemplate).convertAndSend(Mockito.anyString(), Mockito.any(Object.class));
-        Gson gson = new Gson();
-
-        return new EventManager(gson, jmsTemplate);
+        return new NotificationProcessor(detailExtractionDelegator, jobNotificationMapper, null, null, List.of(), notificationAccessor, JobProcessingExecutor.sequential());
     }
 
 }
@@ -1,5 +1,6 @@
 package com.synopsys.integration.alert.processing;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -7,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +45,8 @@ public class NotificationReceivedEventHandlerTestIT {
     @Autowired
     private NotificationReceivedEventHandler notificationReceivedEventHandler;
     @Autowired
+    private NotificationProcessingEngine notificationProcessingEngine;
+    @Autowired
     private DefaultConfigurationModelConfigurationAccessor defaultConfigurationAccessor;
     @Autowired
     private BlackDuckProviderKey blackDuckProviderKey;
@@ -94,6 +98,7 @@ public class NotificationReceivedEventHandlerTestIT {
         List<AlertNotificationModel> savedModels = defaultNotificationAccessor.saveAllNotifications(notificationContent);
         assertNotNull(savedModels);
         notificationReceivedEventHandler.handle(new NotificationReceivedEvent());
+        awaitProcessing();
 
         testAlertNotificationModels(savedModels);
     }
@@ -109,6 +114,7 @@ public class NotificationReceivedEventHandlerTestIT {
         assertEquals(0, defaultNotificationAccessor.getFirstPageOfNotificationsNotProcessed(pageSize).getModels().size());
 
         notificationReceivedEventHandler.handle(new NotificationReceivedEvent());
+        awaitProcessing();
 
         testAlertNotificationModels(savedModels);
     }
@@ -123,10 +129,16 @@ public class NotificationReceivedEventHandlerTestIT {
         assertNotNull(savedModels);
 
         notificationReceivedEventHandler.handle(new NotificationReceivedEvent());
+        awaitProcessing();
 
         testAlertNotificationModels(savedModels);
     }
 
+    private void awaitProcessing() {
+        // The event handler only requests processing, so wait for a run that started after the event was handled
+        assertDoesNotThrow(() -> notificationProcessingEngine.requestProcessing().get(2, TimeUnit.MINUTES));
+    }
+
     private AlertNotificationModel createAlertNotificationModel(Long id, boolean processed) {
         String bomEditContent = "{"
             + "\"type\":\"" + NotificationType.BOM_EDIT.name() + "\","
@@ -37,7 +37,7 @@ public class BlackDuckAccumulatorTest {
         PageRetriever pageRetriever = Mockito.mock(PageRetriever.class);
         StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = createMockNotificationPage(pageRetriever);
         BlackDuckNotificationRetriever notificationRetriever = Mockito.mock(BlackDuckNotificationRetriever.class);
-        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList())).thenReturn(notificationPage);
+        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList(), Mockito.anyInt())).thenReturn(notificationPage);
         Mockito.when(pageRetriever.retrieveNextPage(Mockito.anyInt(), Mockito.anyInt())).thenReturn(AlertPagedDetails.emptyPage());
         BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = createBlackDuckNotificationRetrieverFactory(blackDuckProperties, notificationRetriever);
 
@@ -51,6 +51,69 @@ public class BlackDuckAccumulatorTest {
         accumulator.run();
 
         Mockito.verify(notificationAccessor, Mockito.times(1)).saveAllNotifications(Mockito.anyList());
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(NotificationReceivedEvent.class));
+    }
+
+    @Test
+    public void runPipelinedTest() throws Exception {
+        ProviderTaskPropertiesAccessor taskPropertiesAccessor = Mockito.mock(ProviderTaskPropertiesAccessor.class);
+        BlackDuckProperties blackDuckProperties = createBlackDuckProperties();
+        BlackDuckSystemValidator validator = createBlackDuckValidator(blackDuckProperties, true);
+
+        long now = System.currentTimeMillis();
+        PageRetriever pageRetriever = Mockito.mock(PageRetriever.class);
+        AlertPagedDetails<NotificationUserView> firstPage = new AlertPagedDetails<>(3, 0, 1, List.of(createMockNotificationView(new Date(now))));
+        AlertPagedDetails<NotificationUserView> secondPage = new AlertPagedDetails<>(3, 1, 1, List.of(createMockNotificationView(new Date(now + 2000L))));
+        // An older notification must not move the next search start backwards
+        AlertPagedDetails<NotificationUserView> thirdPage = new AlertPagedDetails<>(3, 2, 1, List.of(createMockNotificationView(new Date(now + 1000L))));
+        Mockito.when(pageRetriever.retrieveNextPage(0, 1)).thenReturn(secondPage);
+        Mockito.when(pageRetriever.retrieveNextPage(1, 1)).thenReturn(thirdPage);
+        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = new StatefulAlertPage<>(firstPage, pageRetriever, BlackDuckNotificationRetriever.HAS_NEXT_PAGE);
+
+        BlackDuckNotificationRetriever notificationRetriever = Mockito.mock(BlackDuckNotificationRetriever.class);
+        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList(), Mockito.eq(500))).thenReturn(notificationPage);
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = createBlackDuckNotificationRetrieverFactory(blackDuckProperties, notificationRetriever);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.saveAllNotifications(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        EventManager eventManager = Mockito.mock(EventManager.class);
+
+        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(
+            BLACK_DUCK_PROVIDER_KEY, null, notificationAccessor, taskPropertiesAccessor, blackDuckProperties, validator, eventManager, notificationRetrieverFactory, 500, 2);
+        accumulator.run();
+
+        Mockito.verify(notificationAccessor, Mockito.times(3)).saveAllNotifications(Mockito.anyList());
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(NotificationReceivedEvent.class));
+        Mockito.verify(taskPropertiesAccessor, Mockito.times(2))
+            .setTaskProperty(Mockito.anyLong(), Mockito.anyString(), Mockito.eq(BlackDuckAccumulatorSearchDateManager.TASK_PROPERTY_KEY_LAST_SEARCH_END_DATE), Mockito.anyString());
+    }
+
+    @Test
+    public void runPipelinedRetrievalFailureTest() throws Exception {
+        ProviderTaskPropertiesAccessor taskPropertiesAccessor = Mockito.mock(ProviderTaskPropertiesAccessor.class);
+        BlackDuckProperties blackDuckProperties = createBlackDuckProperties();
+        BlackDuckSystemValidator validator = createBlackDuckValidator(blackDuckProperties, true);
+
+        PageRetriever pageRetriever = Mockito.mock(PageRetriever.class);
+        AlertPagedDetails<NotificationUserView> firstPage = new AlertPagedDetails<>(2, 0, 1, List.of(createMockNotificationView()));
+        Mockito.when(pageRetriever.retrieveNextPage(0, 1)).thenThrow(new IntegrationException("Test Exception"));
+        StatefulAlertPage<NotificationUserView, IntegrationException> notificationPage = new StatefulAlertPage<>(firstPage, pageRetriever, BlackDuckNotificationRetriever.HAS_NEXT_PAGE);
+
+        BlackDuckNotificationRetriever notificationRetriever = Mockito.mock(BlackDuckNotificationRetriever.class);
+        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList(), Mockito.anyInt())).thenReturn(notificationPage);
+        BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = createBlackDuckNotificationRetrieverFactory(blackDuckProperties, notificationRetriever);
+
+        NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
+        Mockito.when(notificationAccessor.saveAllNotifications(Mockito.anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        EventManager eventManager = Mockito.mock(EventManager.class);
+
+        BlackDuckAccumulator accumulator = new BlackDuckAccumulator(
+            BLACK_DUCK_PROVIDER_KEY, null, notificationAccessor, taskPropertiesAccessor, blackDuckProperties, validator, eventManager, notificationRetrieverFactory, 100, 1);
+        accumulator.run();
+
+        // The page stored before the failure is still processed
+        Mockito.verify(notificationAccessor, Mockito.times(1)).saveAllNotifications(Mockito.anyList());
+        Mockito.verify(eventManager, Mockito.times(1)).sendEvent(Mockito.any(NotificationReceivedEvent.class));
     }
 
     @Test
@@ -85,7 +148,7 @@ public class BlackDuckAccumulatorTest {
         BlackDuckSystemValidator validator = createBlackDuckValidator(blackDuckProperties, true);
 
         BlackDuckNotificationRetriever notificationRetriever = Mockito.mock(BlackDuckNotificationRetriever.class);
-        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList())).thenThrow(new IntegrationException("Test Exception"));
+        Mockito.when(notificationRetriever.retrievePageOfFilteredNotifications(Mockito.any(), Mockito.anyList(), Mockito.anyInt())).thenThrow(new IntegrationException("Test Exception"));
         BlackDuckNotificationRetrieverFactory notificationRetrieverFactory = createBlackDuckNotificationRetrieverFactory(blackDuckProperties, notificationRetriever);
 
         NotificationAccessor notificationAccessor = Mockito.mock(NotificationAccessor.class);
@@ -121,8 +184,12 @@ public class BlackDuckAccumulatorTest {
     }
 
     private NotificationUserView createMockNotificationView() {
+        return createMockNotificationView(new Date());
+    }
+
+    private NotificationUserView createMockNotificationView(Date createdAt) {
         NotificationUserView notificationView = Mockito.mock(NotificationUserView.class);
-        Mockito.when(notificationView.getCreatedAt()).thenReturn(new Date());
+        Mockito.when(notificationView.getCreatedAt()).thenReturn(createdAt);
         Mockito.when(notificationView.getType()).thenReturn(NotificationType.PROJECT);
         Mockito.when(notificationView.getJson()).thenReturn("{}");
         return notificationView;